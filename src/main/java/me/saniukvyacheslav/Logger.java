@@ -1,11 +1,13 @@
 package me.saniukvyacheslav;
 
 import me.saniukvyacheslav.extension.FormattedLoggingExt;
+import me.saniukvyacheslav.extension.ParameterizedLoggingExt;
+import me.saniukvyacheslav.extension.StructuredLoggingExt;
 
 /**
  * Main interface which define methods to log messages.
  */
-public interface Logger extends FormattedLoggingExt {
+public interface Logger extends FormattedLoggingExt, ParameterizedLoggingExt, StructuredLoggingExt {
 
     /**
      * Log message with "TRACE" logging level.
@@ -43,4 +45,41 @@ public interface Logger extends FormattedLoggingExt {
      */
     void fatal(String aMessage);
 
+    /**
+     * Check if messages with "TRACE" logging level are logged.
+     * Use this method to skip building of expensive messages.
+     * @return - true, if level is enabled.
+     */
+    boolean isTraceEnabled();
+
+    /**
+     * Check if messages with "DEBUG" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    boolean isDebugEnabled();
+
+    /**
+     * Check if messages with "INFO" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    boolean isInfoEnabled();
+
+    /**
+     * Check if messages with "WARN" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    boolean isWarnEnabled();
+
+    /**
+     * Check if messages with "ERROR" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    boolean isErrorEnabled();
+
+    /**
+     * Check if messages with "FATAL" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    boolean isFatalEnabled();
+
 }
@@ -0,0 +1,140 @@
+package me.saniukvyacheslav.async;
+
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.conf.LoggingConfiguration;
+import me.saniukvyacheslav.message.LoggingEvent;
+import me.saniukvyacheslav.message.LoggingMessageRenderer;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous logging dispatcher.
+ * Logging threads only publish events to {@link LoggingRingBuffer} ring buffer.
+ * Single background consumer thread render published events by configuration
+ * logging message template and out them to all configuration outputs.
+ * Producers register themselves before checking running state, and consumer stops only when there are no registered
+ * producers and pending events, so events, which are published concurrently with closing, aren't lost.
+ */
+public final class AsyncLoggingDispatcher implements Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192; // Default ring buffer size;
+    private static final int SPIN_TRIES = 100; // Consumer idle tries before yield;
+    private static final int YIELD_TRIES = 100; // Consumer idle tries before park;
+    private static final long PARK_NANOS = 100_000L; // Consumer park time, when there are no events;
+
+    private final LoggersConfiguration configuration; // Dispatched configuration;
+    private final LoggingRingBuffer ringBuffer; // Events ring buffer;
+    private final Thread consumerThread; // Background consumer thread;
+    private final Consumer<LoggingEvent> eventHandler = this::handle; // Events handler;
+    private final AtomicInteger activeProducers = new AtomicInteger(); // Count of producers, which are publishing events now;
+    private LoggingMessageRenderer renderer; // Renderer of consumer thread;
+    private volatile boolean isRunning = true; // FLAG: Is consumer running;
+
+    /**
+     * Construct and start new dispatcher for specified configuration.
+     * @param aConfiguration - loggers configuration.
+     * @param aBufferSize - ring buffer size.
+     */
+    public AsyncLoggingDispatcher(LoggersConfiguration aConfiguration, int aBufferSize) {
+        Objects.requireNonNull(aConfiguration, "LoggersConfiguration [aConfiguration] must be not null.");
+        this.configuration = aConfiguration;
+        this.ringBuffer = new LoggingRingBuffer(aBufferSize);
+
+        this.consumerThread = new Thread(this::consume, "irene-l-async-" + aConfiguration.getName());
+        this.consumerThread.setDaemon(true);
+        this.consumerThread.start();
+    }
+
+    /**
+     * Publish logging event to consumer thread.
+     * Event data is copied to pre-allocated event of ring buffer, so specified event can be reused after publishing.
+     * If dispatcher is closed, event is skipped. If event is published by consumer thread itself
+     * (for example, when output log messages), it's handled immediately.
+     * @param anEvent - logging event.
+     */
+    public void publish(LoggingEvent anEvent) {
+        if (Thread.currentThread() == this.consumerThread) { // Avoid waiting for itself, when buffer is full;
+            this.handle(anEvent);
+            return;
+        }
+        this.activeProducers.incrementAndGet(); // Register before check, so consumer waits for this producer;
+        try {
+            if (!this.isRunning) return;
+            long sequence = this.ringBuffer.next();
+            if (sequence < 0L) return; // Consumer is stopped;
+            try {
+                this.ringBuffer.get(sequence).copyFrom(anEvent);
+            } finally {
+                this.ringBuffer.publish(sequence);
+            }
+        } finally {
+            this.activeProducers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Consumer thread loop.
+     */
+    private void consume() {
+        this.renderer = LoggingMessageRenderer.current();
+        try {
+            int idleCounter = 0;
+            while (this.isRunning) {
+                if (this.ringBuffer.drain(this.eventHandler) > 0) {
+                    idleCounter = 0;
+                } else if (idleCounter < SPIN_TRIES) {
+                    idleCounter++;
+                } else if (idleCounter < SPIN_TRIES + YIELD_TRIES) {
+                    idleCounter++;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+            }
+
+            // Drain events published before closing and events of producers, which passed running check:
+            while (this.activeProducers.get() > 0 || this.ringBuffer.hasPending()) {
+                if (this.ringBuffer.drain(this.eventHandler) == 0) Thread.yield();
+            }
+        } finally {
+            this.ringBuffer.close(); // Producers mustn't wait for stopped consumer;
+        }
+    }
+
+    /**
+     * Out event to all configuration outputs (see {@link LoggersConfiguration#out(LoggingEvent, LoggingMessageRenderer)}).
+     * @param anEvent - logging event.
+     */
+    private void handle(LoggingEvent anEvent) {
+        LoggingMessageRenderer renderer = this.renderer;
+        boolean isRendererAvailable = !renderer.isInUse(); // Renderer is already used, if outputs log messages by itself;
+        if (isRendererAvailable) renderer.acquire();
+        try {
+            this.configuration.out(anEvent, isRendererAvailable ? renderer : null);
+        } catch (RuntimeException e) {
+            // Output errors mustn't stop consumer thread:
+            LoggingConfiguration.reportError("Asynchronous logging event isn't written", e);
+        } finally {
+            if (isRendererAvailable) renderer.release();
+        }
+    }
+
+    /**
+     * Stop consumer thread. Events, which were published before closing, are dispatched.
+     */
+    @Override
+    public void close() {
+        if (!this.isRunning) return;
+        this.isRunning = false;
+        LockSupport.unpark(this.consumerThread);
+        try {
+            this.consumerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package me.saniukvyacheslav.async;
+
+import me.saniukvyacheslav.message.LoggingEvent;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer / single-consumer ring buffer of pre-allocated {@link LoggingEvent} events.
+ * Producers claim slot sequence with CAS operation, fill pre-allocated event and publish it. Single consumer
+ * read published events in order of sequences. No locks are used on both sides.
+ * If buffer is full, producers wait until consumer free slot or buffer is closed.
+ */
+public final class LoggingRingBuffer {
+
+    private final LoggingEvent[] entries; // Pre-allocated events;
+    private final int mask; // Index mask (capacity - 1);
+    private final int indexShift; // log2(capacity), used to calculate round number of sequence;
+    private final AtomicIntegerArray availableRounds; // Round number of last published event in each slot;
+    private final AtomicLong claimSequence = new AtomicLong(-1L); // Last claimed sequence (by producers);
+    private final AtomicLong consumerSequence = new AtomicLong(-1L); // Last consumed sequence (by consumer);
+    private volatile boolean isClosed = false; // FLAG: Is buffer closed (consumer doesn't consume events anymore);
+
+    /**
+     * Construct new ring buffer.
+     * @param aCapacity - buffer capacity, will be rounded up to power of two.
+     * @throws IllegalArgumentException - if capacity less than 1.
+     */
+    public LoggingRingBuffer(int aCapacity) {
+        if (aCapacity < 1) throw new IllegalArgumentException("Ring buffer capacity [aCapacity] must be greater than 0.");
+        int capacity = aCapacity == 1 ? 1 : Integer.highestOneBit(aCapacity - 1) << 1;
+
+        this.entries = new LoggingEvent[capacity];
+        for (int i = 0; i < capacity; i++) this.entries[i] = new LoggingEvent();
+        this.mask = capacity - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(capacity);
+        this.availableRounds = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) this.availableRounds.set(i, -1);
+    }
+
+    /**
+     * Get buffer capacity.
+     * @return - capacity.
+     */
+    public int getCapacity() {
+        return this.entries.length;
+    }
+
+    /**
+     * Claim next slot sequence. If buffer is full, wait until consumer free slot.
+     * After claiming, producer must fill event ({@link #get(long)}) and then {@link #publish(long)} it.
+     * @return - claimed sequence, or -1, if buffer is closed (also while waiting for free slot).
+     */
+    public long next() {
+        while (true) {
+            if (this.isClosed) return -1L;
+            long current = this.claimSequence.get();
+            long next = current + 1;
+            if (next - this.entries.length > this.consumerSequence.get()) { // Buffer is full;
+                LockSupport.parkNanos(1L);
+                continue;
+            }
+            if (this.claimSequence.compareAndSet(current, next)) return next;
+        }
+    }
+
+    /**
+     * Get pre-allocated event for specified sequence.
+     * @param aSequence - sequence.
+     * @return - event.
+     */
+    public LoggingEvent get(long aSequence) {
+        return this.entries[(int) aSequence & this.mask];
+    }
+
+    /**
+     * Publish event with specified sequence to consumer.
+     * @param aSequence - claimed sequence.
+     */
+    public void publish(long aSequence) {
+        this.availableRounds.lazySet((int) aSequence & this.mask, (int) (aSequence >>> this.indexShift));
+    }
+
+    /**
+     * Close buffer: producers don't claim new slots, waiting producers give up.
+     * Called by consumer, when it stops consuming events.
+     */
+    public void close() {
+        this.isClosed = true;
+    }
+
+    /**
+     * Check if there are claimed events, which not consumed yet.
+     * @return - true, if buffer has pending events.
+     */
+    public boolean hasPending() {
+        return this.claimSequence.get() > this.consumerSequence.get();
+    }
+
+    /**
+     * Consume all published events in order of sequences.
+     * Method must be called by single consumer thread only.
+     * Consumed events are cleared and returned to producers.
+     * @param aHandler - event handler.
+     * @return - number of consumed events.
+     */
+    public int drain(Consumer<LoggingEvent> aHandler) {
+        int consumed = 0;
+        long next = this.consumerSequence.get() + 1;
+        int index = (int) next & this.mask;
+        while (this.availableRounds.get(index) == (int) (next >>> this.indexShift)) {
+            LoggingEvent event = this.entries[index];
+            try {
+                aHandler.accept(event);
+            } finally {
+                event.clear();
+                this.consumerSequence.lazySet(next);
+            }
+            consumed++;
+            next++;
+            index = (int) next & this.mask;
+        }
+        return consumed;
+    }
+}
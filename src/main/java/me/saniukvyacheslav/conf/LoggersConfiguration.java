@@ -4,21 +4,34 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.async.AsyncLoggingDispatcher;
+import me.saniukvyacheslav.filter.RateLimit;
+import me.saniukvyacheslav.filter.TemplateRateLimiter;
 import me.saniukvyacheslav.util.file.FileUtils;
 import me.saniukvyacheslav.impl.LoggerImpl;
 import me.saniukvyacheslav.message.*;
+import me.saniukvyacheslav.metrics.LatencyHistogram;
+import me.saniukvyacheslav.metrics.LoggingMetrics;
+import me.saniukvyacheslav.output.LoggerBufferedConsoleOutput;
 import me.saniukvyacheslav.output.LoggerConsoleOutput;
 import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.LoggerFileOutputSupplier;
 import me.saniukvyacheslav.output.LoggerOutput;
+import me.saniukvyacheslav.output.LoggerOutputSupplier;
+import me.saniukvyacheslav.output.LoggingEventOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import me.saniukvyacheslav.output.OutputOverflowPolicy;
+import me.saniukvyacheslav.output.QueuedLoggerOutput;
 import me.saniukvyacheslav.util.string.StringUtils;
 import me.saniukvyacheslav.definition.pattern.Builder;
-import me.saniukvyacheslav.util.string.RegexUtils;
 
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Configuration for set of loggers.
@@ -26,15 +39,32 @@ import java.util.*;
  */
 public class LoggersConfiguration implements Closeable {
 
-    private boolean enableLoggers = false; // FLAG: Enable/Disable loggers in this configuration;
+    @Getter private final String name; // Configuration name;
     @Getter private boolean isEnabledConsoleOutput = true; // FLAG: Enable/Disable logging to console;
     @Getter private boolean isEnabledFileOutput = false; // FLAG: Enable/Disable logging to file;
-    @Getter private String logMessagePattern; // Logging message pattern;
+    private LoggerOutput consoleOutput; // Logging to console output (null, if logging to console is disabled);
+    private OutputFlushPolicy consoleFlushPolicy; // Flush policy of buffered console output (null, if console output isn't buffered);
+    private LoggerOutput fileOutput; // Logging to file output (null, if logging to file is disabled);
+    private File fileOutputFile; // File of logging to file output (null, if output isn't created for known file);
+    private LoggerFileOutputSupplier fileOutputSupplier = LoggerFileOutput::new; // Constructor of logging to file outputs of configured kind;
     @Getter private boolean isUseCanonicalNames = false; // FLAG: Usage of Canonical/Simple loggers names;
-    @Getter private LoggingMessageLevel minimalLevelOfMessages = LoggingMessageLevel.TRACE;
-    @Getter private final Map<String, LoggerImpl> loggers = new HashMap<>(); // This configuration loggers;
-    @Getter private final List<LoggerOutput> loggersOutputs = new ArrayList<>(); // List of loggers outputs;
-    @Getter private final List<PatternModifier> modifiers = new ArrayList<>(); // List of modifiers;
+    @Getter private volatile LoggersConfigurationSnapshot snapshot = LoggersConfigurationSnapshot.initial(); // Loggers flag, pattern, levels and outputs;
+    @Getter private final Map<String, LoggerImpl> loggers = new ConcurrentHashMap<>(); // This configuration loggers;
+    private final Function<String, LoggerImpl> loggerFactory = (loggerName) -> new LoggerImpl(this, loggerName); // Loggers factory;
+    private final ClassValue<Logger> classLoggers = new ClassValue<Logger>() { // Loggers of loggable classes;
+        @Override
+        protected Logger computeValue(Class<?> aLoggableClass) {
+            return LoggersConfiguration.this.getLogger(LoggersConfiguration.this.isUseCanonicalNames ? aLoggableClass.getCanonicalName() : aLoggableClass.getSimpleName());
+        }
+    };
+    private int outputQueueCapacity = 0; // Capacity of queues of console and file outputs (0, if outputs aren't queued);
+    private OutputOverflowPolicy outputOverflowPolicy = OutputOverflowPolicy.BLOCK; // Overflow policy of queues of console and file outputs;
+    @Getter private boolean isGarbageFreeLogging = false; // FLAG: Render messages into reusable thread buffers and out encoded messages;
+    @Getter private AsyncLoggingDispatcher asyncDispatcher; // Asynchronous logging dispatcher (null, if async logging is disabled);
+    @Getter private LoggingMetrics metrics; // Self-metrics (null, if metrics are disabled);
+    @Getter private RateLimit loggerRateLimit; // Rate limit of each logger (null, if disabled);
+    @Getter private TemplateRateLimiter templateRateLimiter; // Rate limiter of messages templates (null, if disabled);
+    @Getter private long duplicateSummaryIntervalMillis = -1L; // Interval of repeated messages summaries (negative, if duplicates aren't collapsed);
 
     /**
      * Construct new configuration with specified name.
@@ -43,44 +73,129 @@ public class LoggersConfiguration implements Closeable {
     private LoggersConfiguration(String aName) {
         StringUtils.checkString(aName, "aName");
         // Check if configuration with given name already exist:
-        if (LoggingConfiguration.getInstance().loggersConfigurations.containsKey(aName))
+        if (LoggingConfiguration.getInstance().loggersConfigurations.putIfAbsent(aName, this) != null)
             throw new IllegalArgumentException(String.format("Logger configuration with name [%s] already exist.", aName));
-        LoggingConfiguration.getInstance().loggersConfigurations.put(aName, this);
+        this.name = aName;
 
         // Initialize loggers outputs:
         try {
-            this.enableConsoleOutput(this.isEnabledConsoleOutput);
-            this.enableFileOutput(false, null, false);
+            this.enableConsoleOutput(this.isEnabledConsoleOutput, null);
+            this.enableFileOutput(false, null);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-
-        // Set default logging message pattern:
-        this.setLoggingMessagePattern(LoggingConfiguration.DEFAULT_LOG_MESSAGE_PATTERN);
     }
 
     /**
      * Get logger, configurable by this configuration by it name.
-     * If logger doesn't exist, method create it.
+     * If logger doesn't exist, method atomically create it, so concurrent callers always get the same logger instance.
      * @param aName - logger name.
      * @return - logger.
      */
     public Logger getLogger(String aName) {
-        if (!this.loggers.containsKey(aName)) {
-            this.loggers.put(aName, new LoggerImpl(this, aName));
-        }
-        return this.loggers.get(aName);
+        LoggerImpl logger = this.loggers.get(aName);
+        if (logger != null) return logger;
+        return this.loggers.computeIfAbsent(aName, this.loggerFactory);
     }
 
     /**
      * Get logger, configurable by this configuration by it name as same as specified class name.
      * If logger doesn't exist, method create it.
+     * Logger is cached per class, so repeated calls don't resolve class name.
      * @param aLoggableClass - logger name as class name.
      * @return - logger.
      */
     public Logger getLogger(Class<?> aLoggableClass) {
-        if (this.isUseCanonicalNames) return this.getLogger(aLoggableClass.getCanonicalName());
-        else return this.getLogger(aLoggableClass.getSimpleName());
+        Objects.requireNonNull(aLoggableClass, "Class [aLoggableClass] must be not null.");
+        return this.classLoggers.get(aLoggableClass);
+    }
+
+    /**
+     * Get level threshold of logger with specified name.
+     * @param aLoggerName - logger name.
+     * @return - effective level of logger (see {@link #getEffectiveLevel(String)}),
+     * or {@link LoggerImpl#DISABLED_THRESHOLD}, if logging or loggers are disabled.
+     */
+    public int getLevelThreshold(String aLoggerName) {
+        return this.getLevelThreshold(aLoggerName, this.snapshot);
+    }
+
+    /**
+     * Get level threshold of logger with specified name in specified snapshot of this configuration.
+     * @param aLoggerName - logger name.
+     * @param aSnapshot - snapshot.
+     * @return - effective level of logger in snapshot,
+     * or {@link LoggerImpl#DISABLED_THRESHOLD}, if logging or loggers of snapshot are disabled.
+     */
+    public int getLevelThreshold(String aLoggerName, LoggersConfigurationSnapshot aSnapshot) {
+        if (!LoggingConfiguration.getInstance().isLoggingEnabled() || !aSnapshot.isLoggersEnabled()) return LoggerImpl.DISABLED_THRESHOLD;
+        return aSnapshot.getEffectiveLevel(aLoggerName).getLevel();
+    }
+
+    /**
+     * Get effective level of logger with specified name (see {@link LoggersConfigurationSnapshot#getEffectiveLevel(String)}).
+     * @param aLoggerName - logger name.
+     * @return - effective level.
+     */
+    public LoggingMessageLevel getEffectiveLevel(String aLoggerName) {
+        return this.snapshot.getEffectiveLevel(aLoggerName);
+    }
+
+    /**
+     * Get levels overrides of loggers hierarchies.
+     * @return - unmodifiable map of loggers names (or names prefixes) and levels.
+     */
+    public Map<String, LoggingMessageLevel> getLoggersLevels() {
+        return this.snapshot.getLoggersLevels();
+    }
+
+    /**
+     * Set level override for logger with specified name and all its children in names hierarchy
+     * (for example, "com.shop.db" override is applied to "com.shop.db" and "com.shop.db.Orders" loggers).
+     * Effective levels of loggers are re-resolved.
+     * @param aLoggerName - logger name or name prefix.
+     * @param aLevel - minimal level of messages.
+     */
+    public synchronized void setLoggerLevel(String aLoggerName, LoggingMessageLevel aLevel) {
+        StringUtils.checkString(aLoggerName, "aLoggerName");
+        Objects.requireNonNull(aLevel, "LoggingMessageLevel [aLevel] must be not null.");
+        if (this.snapshot.getLoggersLevels().get(aLoggerName) == aLevel) return;
+        Map<String, LoggingMessageLevel> levels = new HashMap<>(this.snapshot.getLoggersLevels());
+        levels.put(aLoggerName, aLevel);
+        this.publish(this.snapshot.withLoggersLevels(levels));
+    }
+
+    /**
+     * Remove level override of logger with specified name.
+     * Effective levels of loggers are re-resolved.
+     * @param aLoggerName - logger name or name prefix.
+     */
+    public synchronized void removeLoggerLevel(String aLoggerName) {
+        StringUtils.checkString(aLoggerName, "aLoggerName");
+        if (!this.snapshot.getLoggersLevels().containsKey(aLoggerName)) return;
+        Map<String, LoggingMessageLevel> levels = new HashMap<>(this.snapshot.getLoggersLevels());
+        levels.remove(aLoggerName);
+        this.publish(this.snapshot.withLoggersLevels(levels));
+    }
+
+    /**
+     * Publish new snapshot of loggers flag, pattern, levels and outputs by single volatile write.
+     * Loggers cache their level thresholds together with snapshot, for which thresholds are computed,
+     * and recompute thresholds, when they read another snapshot, so one read of snapshot decides
+     * whether message is logged, and how and where it's out.
+     * Callers must hold lock of this configuration.
+     * @param aSnapshot - new snapshot.
+     */
+    void publish(LoggersConfigurationSnapshot aSnapshot) {
+        this.snapshot = aSnapshot;
+    }
+
+    /**
+     * Republish copy of current snapshot, so loggers recompute their level thresholds
+     * (used, when whole logging flag {@link LoggingConfiguration#isLoggingEnabled()} is changed).
+     */
+    synchronized void updateLevelThresholds() {
+        this.publish(this.snapshot.withLoggersEnabled(this.snapshot.isLoggersEnabled()));
     }
 
     /**
@@ -88,94 +203,440 @@ public class LoggersConfiguration implements Closeable {
      * @return - flag value.
      */
     public boolean isLoggersEnabled() {
-        return this.enableLoggers;
+        return this.snapshot.isLoggersEnabled();
     }
 
     /**
      * Enable/Disable logging to console.
      * @param isEnable - value.
+     * @param aFlushPolicy - flush policy of buffered console output ({@link LoggerBufferedConsoleOutput}),
+     *                     or null, if messages are printed by System.out ({@link LoggerConsoleOutput}).
+     * @throws IOException - If IO exceptions
      */
-    private void enableConsoleOutput(boolean isEnable) {
+    private void enableConsoleOutput(boolean isEnable, OutputFlushPolicy aFlushPolicy) throws IOException {
+        if (this.consoleOutput != null) {
+            this.removeFromOutputs(this.consoleOutput);
+            if (this.metrics != null) this.metrics.removeOutput(this.consoleOutput);
+            this.consoleOutput.close();
+            this.consoleOutput = null;
+        }
+        this.consoleFlushPolicy = aFlushPolicy;
         if (isEnable) {
-            if (!this.loggersOutputs.contains(LoggerConsoleOutput.getInstance()))
-                this.loggersOutputs.add(LoggerConsoleOutput.getInstance());
-        }else this.loggersOutputs.remove(LoggerConsoleOutput.getInstance());
+            this.consoleOutput = this.queueOutput(this.newConsoleOutput());
+            this.addToOutputs(this.consoleOutput);
+        }
 
         this.isEnabledConsoleOutput = isEnable;
     }
 
+    /**
+     * Create console output of configured kind.
+     * @return - buffered console output ({@link LoggerBufferedConsoleOutput}), if console flush policy is configured,
+     * otherwise console output, which prints messages by System.out ({@link LoggerConsoleOutput}).
+     */
+    private LoggerOutput newConsoleOutput() {
+        return this.consoleFlushPolicy == null ? LoggerConsoleOutput.getInstance() : new LoggerBufferedConsoleOutput(this.consoleFlushPolicy);
+    }
+
     /**
      * Enable / Disable logging to file.
      * @param isEnable - enable / disable flag.
-     * @param anOutputFile - log file.
-     * @param isAppend - is appends to end of file?
+     * @param aFileOutputSupplier - supplier of logging to file output.
      * @throws IOException - If IO exceptions
      */
-    private void enableFileOutput(boolean isEnable, File anOutputFile, boolean isAppend) throws IOException {
+    private void enableFileOutput(boolean isEnable, LoggerOutputSupplier aFileOutputSupplier) throws IOException {
+        if (this.fileOutput != null) {
+            this.removeFromOutputs(this.fileOutput);
+            if (this.metrics != null) this.metrics.removeOutput(this.fileOutput);
+            this.fileOutput.close();
+            this.fileOutput = null;
+            this.fileOutputFile = null;
+        }
         if (isEnable) {
-            this.loggersOutputs.add(new LoggerFileOutput(anOutputFile, isAppend));
-        }else {
-            this.loggersOutputs.forEach((loggerOutput -> {
-                if (loggerOutput instanceof LoggerFileOutput) this.loggersOutputs.remove(loggerOutput);
-            }));
+            this.fileOutput = this.queueOutput(aFileOutputSupplier.get());
+            this.addToOutputs(this.fileOutput);
         }
 
         this.isEnabledFileOutput = isEnable;
     }
 
+    /**
+     * Get outputs of this configuration.
+     * @return - unmodifiable list of outputs.
+     */
+    public List<LoggerOutput> getLoggersOutputs() {
+        return this.snapshot.getOutputs();
+    }
+
+    /**
+     * Add output to outputs and publish new snapshot.
+     * @param anOutput - output.
+     */
+    private synchronized void addToOutputs(LoggerOutput anOutput) {
+        if (this.metrics != null) this.metrics.addOutput(anOutput);
+        List<LoggerOutput> outputs = new ArrayList<>(this.snapshot.getOutputs());
+        outputs.add(anOutput);
+        this.publish(this.snapshot.withOutputs(outputs));
+    }
+
+    /**
+     * Remove output from outputs and publish new snapshot.
+     * @param anOutput - output.
+     * @return - true, if output is removed.
+     */
+    private synchronized boolean removeFromOutputs(LoggerOutput anOutput) {
+        List<LoggerOutput> outputs = new ArrayList<>(this.snapshot.getOutputs());
+        if (!outputs.remove(anOutput)) return false;
+        this.publish(this.snapshot.withOutputs(outputs));
+        return true;
+    }
+
+    /**
+     * Wrap console or file output into {@link QueuedLoggerOutput} output, if outputs queues are enabled.
+     * @param anOutput - output.
+     * @return - queued output, or specified output, if outputs queues are disabled.
+     */
+    private LoggerOutput queueOutput(LoggerOutput anOutput) {
+        if (this.outputQueueCapacity < 1) return anOutput;
+        return QueuedLoggerOutput.of(anOutput, this.outputQueueCapacity, this.outputOverflowPolicy);
+    }
+
+    /**
+     * Add output to this configuration at runtime.
+     * If outputs queues are enabled ({@link LoggerConfigurationBuilder#queueOutputs(int, OutputOverflowPolicy)}),
+     * output is wrapped into {@link QueuedLoggerOutput} output.
+     * @param anOutput - output.
+     * @return - added output (queued output, if outputs queues are enabled).
+     */
+    public LoggerOutput addOutput(LoggerOutput anOutput) {
+        Objects.requireNonNull(anOutput, "LoggerOutput [anOutput] must be not null.");
+        LoggerOutput output = this.queueOutput(anOutput);
+        this.addToOutputs(output);
+        return output;
+    }
+
+    /**
+     * Add output to this configuration at runtime with own queue and worker thread.
+     * @param anOutput - output.
+     * @param aCapacity - queue capacity.
+     * @param aPolicy - queue overflow policy.
+     * @return - added queued output.
+     */
+    public LoggerOutput addOutput(LoggerOutput anOutput, int aCapacity, OutputOverflowPolicy aPolicy) {
+        LoggerOutput output = QueuedLoggerOutput.of(anOutput, aCapacity, aPolicy);
+        this.addToOutputs(output);
+        return output;
+    }
+
+    /**
+     * Remove output (or queued output of it) from this configuration at runtime and close it.
+     * Messages, which are logged concurrently, are out to removed output or are dropped.
+     * @param anOutput - output.
+     * @return - true, if output is removed.
+     * @throws IOException - If IO exception occurs on closing.
+     */
+    public boolean removeOutput(LoggerOutput anOutput) throws IOException {
+        Objects.requireNonNull(anOutput, "LoggerOutput [anOutput] must be not null.");
+        for (LoggerOutput output : this.snapshot.outputs()) {
+            if (output != anOutput && !(output instanceof QueuedLoggerOutput && ((QueuedLoggerOutput) output).getDelegate() == anOutput)) continue;
+            if (!this.removeFromOutputs(output)) return false;
+            if (this.metrics != null) this.metrics.removeOutput(output);
+            if (output == this.consoleOutput) {
+                this.consoleOutput = null;
+                this.isEnabledConsoleOutput = false;
+            }
+            if (output == this.fileOutput) {
+                this.fileOutput = null;
+                this.fileOutputFile = null;
+                this.isEnabledFileOutput = false;
+            }
+            output.close();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reconfigure loggers flag, pattern, levels, console output and file output at once
+     * (used by {@link LoggersConfigurationFile} configuration files).
+     * New outputs are created and new values are validated before any change, so if method throws exception,
+     * configuration isn't changed. Then loggers flag, pattern, levels and outputs are published as single snapshot,
+     * and replaced outputs are closed. File output is recreated only if log file is changed. Recreated outputs
+     * have configured kind: console output keeps its flush policy, file output is constructed by the same
+     * constructor, which has created configured file output (for example, rolling file output or file output
+     * with specified flush policy). If file output is created by supplier of unknown file, new file output
+     * is {@link LoggerFileOutput} output.
+     * @param isLoggersEnabled - enable/disable loggers.
+     * @param aPattern - logging message pattern.
+     * @param aTimeFormat - format of "%TIME%" token (null - default format).
+     * @param aMinimalLevel - minimal level of messages.
+     * @param aLoggersLevels - levels overrides of loggers hierarchies.
+     * @param isConsoleEnabled - enable/disable logging to console.
+     * @param aFile - log file (null - disable logging to file).
+     * @param isAppend - is appends to end of file?
+     * @throws IOException - If file output can't be created.
+     */
+    synchronized void reconfigure(boolean isLoggersEnabled, String aPattern, String aTimeFormat, LoggingMessageLevel aMinimalLevel,
+                                  Map<String, LoggingMessageLevel> aLoggersLevels, boolean isConsoleEnabled, File aFile, boolean isAppend) throws IOException {
+        LoggersConfigurationSnapshot snapshot = this.snapshot.withLoggersEnabled(isLoggersEnabled)
+                .withLoggingMessagePattern(aPattern, aTimeFormat)
+                .withMinimalLevelOfMessages(aMinimalLevel)
+                .withLoggersLevels(aLoggersLevels);
+        List<LoggerOutput> outputs = new ArrayList<>(snapshot.getOutputs());
+        List<LoggerOutput> replacedOutputs = new ArrayList<>();
+
+        LoggerOutput fileOutput = this.fileOutput;
+        if (!Objects.equals(aFile, this.fileOutputFile) || (aFile == null && fileOutput != null)) {
+            fileOutput = aFile != null ? this.queueOutput(this.fileOutputSupplier.get(aFile, isAppend)) : null;
+            if (this.fileOutput != null) replacedOutputs.add(this.fileOutput);
+            if (fileOutput != null) outputs.add(fileOutput);
+        }
+        LoggerOutput consoleOutput = this.consoleOutput;
+        if (isConsoleEnabled != (consoleOutput != null)) {
+            consoleOutput = isConsoleEnabled ? this.queueOutput(this.newConsoleOutput()) : null;
+            if (this.consoleOutput != null) replacedOutputs.add(this.consoleOutput);
+            if (consoleOutput != null) outputs.add(consoleOutput);
+        }
+        outputs.removeAll(replacedOutputs);
+        if (this.metrics != null) outputs.forEach(this.metrics::addOutput);
+
+        // Publish:
+        this.consoleOutput = consoleOutput;
+        this.isEnabledConsoleOutput = consoleOutput != null;
+        this.fileOutput = fileOutput;
+        this.fileOutputFile = aFile;
+        this.isEnabledFileOutput = fileOutput != null;
+        this.publish(snapshot.withOutputs(outputs));
+
+        // Close replaced outputs:
+        for (LoggerOutput output : replacedOutputs) {
+            if (this.metrics != null) this.metrics.removeOutput(output);
+            output.close();
+        }
+    }
+
+    /**
+     * Out logging event to all outputs of this configuration in current thread.
+     * {@link LoggingEventOutput} outputs receive event itself, other outputs receive logging message,
+     * rendered by configuration template (message is rendered only once, and only if there are such outputs).
+     * If garbage-free logging is enabled and renderer is specified, message is rendered and encoded
+     * into reusable buffers of renderer.
+     * If metrics are enabled, passed bytes (bytes of messages in default charset or bytes of encoded events,
+     * without line separators) and errors of each output are counted (outputs, which are already removed, aren't counted),
+     * and latencies of sampled messages are measured. Output errors are rethrown, except errors of outputs, which are
+     * removed or replaced concurrently (see {@link #isRetired(LoggerOutput, LoggersConfigurationSnapshot)}):
+     * messages to such outputs are dropped.
+     * @param anEvent - logging event.
+     * @param aRenderer - renderer of current thread (null, if renderer is already used).
+     */
+    public void out(LoggingEvent anEvent, LoggingMessageRenderer aRenderer) {
+        this.out(anEvent, aRenderer, this.snapshot);
+    }
+
+    /**
+     * Out logging event to all outputs of specified snapshot of this configuration in current thread
+     * (see {@link #out(LoggingEvent, LoggingMessageRenderer)}).
+     * Loggers pass snapshot, by which they have checked message level, so message is out
+     * by pattern and outputs of the same configuration.
+     * @param anEvent - logging event.
+     * @param aRenderer - renderer of current thread (null, if renderer is already used).
+     * @param aSnapshot - snapshot.
+     */
+    public void out(LoggingEvent anEvent, LoggingMessageRenderer aRenderer, LoggersConfigurationSnapshot aSnapshot) {
+        LoggingMetrics metrics = this.metrics;
+        boolean isSampled = metrics != null && metrics.isSampled();
+        LoggingMessageLevel level = anEvent.getLevel();
+        boolean isEncoded = aRenderer != null && this.isGarbageFreeLogging;
+        String message = null;
+        ByteBuffer encodedMessage = null;
+        LoggingMessageTemplate template = aSnapshot.getLogMessageTemplate(); // Pattern and outputs are read from the same snapshot;
+        LoggerOutput[] outputs = aSnapshot.outputs();
+        for (int i = 0; i < outputs.length; i++) {
+            LoggerOutput output = outputs[i];
+            long startNanos = isSampled ? System.nanoTime() : 0L;
+            long length = 0L;
+            try {
+                if (output instanceof LoggingEventOutput) {
+                    length = ((LoggingEventOutput) output).out(anEvent);
+                } else {
+                    if (isEncoded) {
+                        if (encodedMessage == null) {
+                            encodedMessage = aRenderer.encode(template, anEvent);
+                            if (isSampled) startNanos = recordLatency(metrics.getFormatLatency(), startNanos);
+                        }
+                        length = encodedMessage.remaining();
+                        output.out(encodedMessage, level);
+                    } else {
+                        if (message == null) {
+                            message = aRenderer != null ? aRenderer.render(template, anEvent) : template.render(anEvent);
+                            if (isSampled) startNanos = recordLatency(metrics.getFormatLatency(), startNanos);
+                        }
+                        if (metrics != null) length = LoggingMetrics.encodedLength(message);
+                        output.out(message, level);
+                    }
+                }
+            } catch (RuntimeException e) {
+                if (this.isRetired(output, aSnapshot)) continue; // Output is closed concurrently, message is dropped;
+                LoggingMetrics.OutputCounters counters = metrics != null ? metrics.getOutputCounters(output) : null;
+                if (counters != null) counters.onError();
+                throw e;
+            }
+            if (metrics != null) {
+                if (isSampled) recordLatency(metrics.getWriteLatency(), startNanos);
+                LoggingMetrics.OutputCounters counters = length > 0L ? metrics.getOutputCounters(output) : null;
+                if (counters != null) counters.onWritten(length); // Counters of removed outputs aren't restored;
+            }
+        }
+    }
+
+    /**
+     * Check if output is removed from this configuration after specified snapshot was read.
+     * Removed and replaced outputs are closed without waiting for threads, which still write to them
+     * by outdated snapshot, so errors of writes to closed output mustn't be thrown to these threads.
+     * @param anOutput - output.
+     * @param aSnapshot - snapshot, which was read by logging thread.
+     * @return - true, if output isn't in current snapshot.
+     */
+    private boolean isRetired(LoggerOutput anOutput, LoggersConfigurationSnapshot aSnapshot) {
+        LoggersConfigurationSnapshot current = this.snapshot;
+        if (current == aSnapshot) return false;
+        for (LoggerOutput output : current.outputs()) {
+            if (output == anOutput) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record latency from specified start time to now.
+     * @param aHistogram - latency histogram.
+     * @param aStartNanos - start time.
+     * @return - current time, which can be used as start time of next measurement.
+     */
+    private static long recordLatency(LatencyHistogram aHistogram, long aStartNanos) {
+        long nowNanos = System.nanoTime();
+        aHistogram.record(nowNanos - aStartNanos);
+        return nowNanos;
+    }
+
+    /**
+     * Check if metrics are enabled.
+     * @return - true, if self-metrics are collected.
+     */
+    public boolean isMetricsEnabled() {
+        return this.metrics != null;
+    }
+
+    /**
+     * Enable/Disable self-metrics. Metrics are registered in platform MBean server.
+     * @param isEnable - value.
+     */
+    private void enableMetrics(boolean isEnable) {
+        if (this.metrics != null) this.metrics.unregister();
+        this.metrics = null;
+        if (isEnable) {
+            LoggingMetrics newMetrics = new LoggingMetrics(this.name);
+            this.snapshot.getOutputs().forEach(newMetrics::addOutput);
+            newMetrics.register();
+            this.metrics = newMetrics;
+        }
+    }
+
+    /**
+     * Check if asynchronous logging is enabled.
+     * @return - true, if messages are rendered and out in background thread.
+     */
+    public boolean isAsyncLoggingEnabled() {
+        return this.asyncDispatcher != null;
+    }
+
+    /**
+     * Enable/Disable asynchronous logging.
+     * @param isEnable - value.
+     * @param aBufferSize - ring buffer size.
+     */
+    private void enableAsyncLogging(boolean isEnable, int aBufferSize) {
+        if (this.asyncDispatcher != null) this.asyncDispatcher.close();
+        this.asyncDispatcher = isEnable ? new AsyncLoggingDispatcher(this, aBufferSize) : null;
+    }
+
     /**
      * Set "Enable/Disable loggers" flag value.
      * @param isEnable - flag value.
      */
-    public void enableLoggers(boolean isEnable) {
-        this.enableLoggers = isEnable;
+    public synchronized void enableLoggers(boolean isEnable) {
+        this.publish(this.snapshot.withLoggersEnabled(isEnable));
     }
 
     /**
-     * Set common logging message pattern for this configuration.
-     * Method construct modifiers instances, which will be used in pattern, and add it to modifiers list.
-     * @param aPattern - logging message pattern.
+     * Get minimal level of logged messages.
+     * @return - minimal level.
+     */
+    public LoggingMessageLevel getMinimalLevelOfMessages() {
+        return this.snapshot.getMinimalLevelOfMessages();
+    }
+
+    /**
+     * Set minimal level of logged messages.
+     * @param aLevel - minimal level.
+     */
+    public synchronized void setMinimalLevelOfMessages(LoggingMessageLevel aLevel) {
+        this.publish(this.snapshot.withMinimalLevelOfMessages(aLevel));
+    }
+
+    /**
+     * Get logging message pattern.
+     * @return - pattern.
      */
-    private void setLoggingMessagePattern(String aPattern) {
-        StringUtils.checkString(aPattern, "aPattern");
-        // Check for required "%MSG%" arguments:
-        if(RegexUtils.match(aPattern, "%MSG%") == null)
-            throw new IllegalArgumentException("Logging message pattern string must have required [%MSG%] chars sequence.");
+    public String getLogMessagePattern() {
+        return this.snapshot.getLogMessagePattern();
+    }
 
-        // Map:
-        this.logMessagePattern = aPattern;
+    /**
+     * Get compiled logging message pattern.
+     * @return - template.
+     */
+    public LoggingMessageTemplate getLogMessageTemplate() {
+        return this.snapshot.getLogMessageTemplate();
+    }
 
-        // Initialize modifiers:
-        if (RegexUtils.match(aPattern, PatternModifierTime.TIME_ARGUMENT_REGEX) != null) // Time modifier;
-            this.modifiers.add(new PatternModifierTime());
-        if (RegexUtils.match(aPattern, PatternModifierName.NAME_ARGUMENT_REGEX) != null) // Name modifier;
-            this.modifiers.add(new PatternModifierName());
-        if (RegexUtils.match(aPattern, PatternModifierLevel.LEVEl_ARGUMENT_REGEX) != null) // Level modifier;
-            this.modifiers.add(new PatternModifierLevel());
+    /**
+     * Get modifiers of logging message pattern.
+     * @return - unmodifiable list of modifiers.
+     */
+    public List<PatternModifier> getModifiers() {
+        return this.snapshot.getModifiers();
+    }
+
+    /**
+     * Set common logging message pattern for this configuration
+     * (see {@link LoggersConfigurationSnapshot#withLoggingMessagePattern(String, String)}).
+     * @param aPattern - logging message pattern.
+     */
+    private synchronized void setLoggingMessagePattern(String aPattern) {
+        this.publish(this.snapshot.withLoggingMessagePattern(aPattern, this.snapshot.getTimeFormat()));
     }
 
     /**
      * Set time format for {@link PatternModifierTime} modifier.
-     * If time modifier doesn't exist in "modifiers" list, do nothing.
+     * Format is used only if pattern contains "%TIME%" token.
      * @param aFormat - time format.
      */
-    private void setTimeFormat(String aFormat) {
+    private synchronized void setTimeFormat(String aFormat) {
         StringUtils.checkString(aFormat, "aFormat");
-
-        // Check if time modifier is enabled:
-        Optional<PatternModifier> timeModifierOpt = this.modifiers.stream().filter((patternModifier -> patternModifier instanceof PatternModifierTime)).findFirst();
-        if (!timeModifierOpt.isPresent()) return;
-
-        PatternModifierTime timeModifier = (PatternModifierTime) timeModifierOpt.get();
-        timeModifier.setTimeFormatter(DateTimeFormatter.ofPattern(aFormat));
+        this.publish(this.snapshot.withLoggingMessagePattern(this.snapshot.getLogMessagePattern(), aFormat));
     }
 
     /**
      * Close all {@link LoggerOutput} outputs of this configuration.
+     * Summaries of collapsed duplicate messages are logged and, if asynchronous logging is enabled,
+     * all pending messages are dispatched before closing.
      */
     @Override
     public void close() {
-        this.loggersOutputs.forEach((loggersOutput) -> {
+        this.loggers.values().forEach(LoggerImpl::flushRepeats);
+        if (this.asyncDispatcher != null) this.asyncDispatcher.close();
+        if (this.metrics != null) this.metrics.unregister();
+        this.snapshot.getOutputs().forEach((loggersOutput) -> {
             try {
                 loggersOutput.close();
             } catch (IOException e) {
@@ -193,13 +654,25 @@ public class LoggersConfiguration implements Closeable {
         private String confName; // Future configuration name;
         private boolean isLoggersEnabled = false;
         private boolean isEnabledConsoleOutput = true;
+        private OutputFlushPolicy consoleFlushPolicy = null;
         private boolean isEnabledFileOutput = false;
-        private File outputFile;
-        private boolean isAppendToEndOfOutputFile;
+        private LoggerOutputSupplier fileOutputSupplier;
+        private File fileOutputFile = null; // Log file (null, if file output is created by supplier of unknown file);
+        private LoggerFileOutputSupplier fileOutputKind = null; // Constructor of file outputs of configured kind;
         private String loggingMessagePattern = null;
         private String timeFormat = null;
         private boolean isUseCanonicalLoggersName = false;
         private LoggingMessageLevel minimalLevelOfMessages = LoggingMessageLevel.TRACE;
+        private final Map<String, LoggingMessageLevel> loggersLevels = new LinkedHashMap<>();
+        private boolean isAsyncLoggingEnabled = false;
+        private boolean isGarbageFreeLogging = false;
+        private int asyncBufferSize = AsyncLoggingDispatcher.DEFAULT_BUFFER_SIZE;
+        private boolean isMetricsEnabled = false;
+        private RateLimit loggerRateLimit = null;
+        private RateLimit templateRateLimit = null;
+        private long duplicateSummaryIntervalMillis = -1L;
+        private int outputQueueCapacity = 0;
+        private OutputOverflowPolicy outputOverflowPolicy = OutputOverflowPolicy.BLOCK;
 
         /**
          * Set future configuration name.
@@ -235,6 +708,28 @@ public class LoggersConfiguration implements Closeable {
             return this;
         }
 
+        /**
+         * Enable buffered logging to console ({@link LoggerBufferedConsoleOutput}) with default flush policy
+         * ({@link LoggerBufferedConsoleOutput#DEFAULT_FLUSH_POLICY}).
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder enableBufferedConsoleOutput() {
+            return this.enableBufferedConsoleOutput(LoggerBufferedConsoleOutput.DEFAULT_FLUSH_POLICY);
+        }
+
+        /**
+         * Enable buffered logging to console ({@link LoggerBufferedConsoleOutput}) with specified flush policy.
+         * Messages are written to standard output channel, bypassing System.out stream.
+         * @param aFlushPolicy - console flush policy.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder enableBufferedConsoleOutput(OutputFlushPolicy aFlushPolicy) {
+            Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+            this.isEnabledConsoleOutput = true;
+            this.consoleFlushPolicy = aFlushPolicy;
+            return this;
+        }
+
         /**
          * Enable logging to file.
          * @return - LoggerFileOutput factory instance.
@@ -250,10 +745,52 @@ public class LoggersConfiguration implements Closeable {
          * @return - this builder.
          */
         public LoggerConfigurationBuilder enableFileOutput(File anOutputFile, boolean isAppend) {
+            return this.enableFileOutput(anOutputFile, isAppend, OutputFlushPolicy.IMMEDIATE);
+        }
+
+        /**
+         * Enable logging to specified file with specified flush policy.
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @param aFlushPolicy - file flush policy.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder enableFileOutput(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy) {
             FileUtils.checkFile(anOutputFile);
+            Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+            return this.enableFileOutput(anOutputFile, isAppend, (file, isAppendToFile) -> new LoggerFileOutput(file, isAppendToFile, aFlushPolicy));
+        }
+
+        /**
+         * Enable logging to specified file by file output of specified kind.
+         * Output is constructed, when configuration is built. If log file is changed by reload of configuration file,
+         * output for new file is constructed by the same constructor.
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @param aFileOutputSupplier - constructor of logging to file outputs.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder enableFileOutput(File anOutputFile, boolean isAppend, LoggerFileOutputSupplier aFileOutputSupplier) {
+            FileUtils.checkFile(anOutputFile);
+            Objects.requireNonNull(aFileOutputSupplier, "LoggerFileOutputSupplier [aFileOutputSupplier] must be not null.");
+            this.enableFileOutput(() -> aFileOutputSupplier.get(anOutputFile, isAppend));
+            this.fileOutputFile = anOutputFile;
+            this.fileOutputKind = aFileOutputSupplier;
+            return this;
+        }
+
+        /**
+         * Enable logging to file by specified file output.
+         * Output is constructed, when configuration is built.
+         * @param aFileOutputSupplier - supplier of logging to file output.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder enableFileOutput(LoggerOutputSupplier aFileOutputSupplier) {
+            Objects.requireNonNull(aFileOutputSupplier, "LoggerOutputSupplier [aFileOutputSupplier] must be not null.");
             this.isEnabledFileOutput = true;
-            this.outputFile = anOutputFile;
-            this.isAppendToEndOfOutputFile = isAppend;
+            this.fileOutputSupplier = aFileOutputSupplier;
+            this.fileOutputFile = null;
+            this.fileOutputKind = null;
             return this;
         }
 
@@ -288,6 +825,117 @@ public class LoggersConfiguration implements Closeable {
             return this;
         }
 
+        /**
+         * Set level override for logger with specified name and all its children in names hierarchy.
+         * @param aLoggerName - logger name or name prefix (for example, "com.shop.db").
+         * @param aLevel - minimal level of messages.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder loggerLevel(String aLoggerName, LoggingMessageLevel aLevel) {
+            StringUtils.checkString(aLoggerName, "aLoggerName");
+            Objects.requireNonNull(aLevel, "LoggingMessageLevel [aLevel] must be not null.");
+            this.loggersLevels.put(aLoggerName, aLevel);
+            return this;
+        }
+
+        /**
+         * Enable/Disable asynchronous logging.
+         * If enabled, logging threads only publish messages to bounded ring buffer,
+         * and messages are rendered and out to outputs by single background thread.
+         * @param isEnable - value.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder enableAsyncLogging(boolean isEnable) {
+            this.isAsyncLoggingEnabled = isEnable;
+            return this;
+        }
+
+        /**
+         * Set size of asynchronous logging ring buffer (rounded up to power of two).
+         * @param aSize - buffer size.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder asyncBufferSize(int aSize) {
+            if (aSize < 1) throw new IllegalArgumentException("Async buffer size [aSize] must be greater than 0.");
+            this.asyncBufferSize = aSize;
+            return this;
+        }
+
+        /**
+         * Enable/Disable garbage-free logging.
+         * If enabled, messages are rendered into reusable per-thread builders and encoded into reusable
+         * byte buffers by cached charset encoders, and outputs receive encoded messages.
+         * @param isEnable - value.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder enableGarbageFreeLogging(boolean isEnable) {
+            this.isGarbageFreeLogging = isEnable;
+            return this;
+        }
+
+        /**
+         * Enable/Disable self-metrics of configuration (see {@link LoggingMetrics}).
+         * Metrics are exposed via JMX with "me.saniukvyacheslav.logging:type=LoggersConfiguration,name=&lt;name&gt;" object name.
+         * @param isEnable - value.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder enableMetrics(boolean isEnable) {
+            this.isMetricsEnabled = isEnable;
+            return this;
+        }
+
+        /**
+         * Limit rate of messages of each logger by token bucket.
+         * Messages, which exceed the limit, are dropped before formatting.
+         * @param aMessagesPerSecond - count of messages per second.
+         * @param aBurst - count of messages, which can be logged at once.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder rateLimitPerLogger(double aMessagesPerSecond, int aBurst) {
+            this.loggerRateLimit = new RateLimit(aMessagesPerSecond, aBurst);
+            return this;
+        }
+
+        /**
+         * Limit rate of messages with the same template (message before formatting) by token bucket.
+         * Messages, which exceed the limit, are dropped before formatting.
+         * @param aMessagesPerSecond - count of messages per second.
+         * @param aBurst - count of messages, which can be logged at once.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder rateLimitPerTemplate(double aMessagesPerSecond, int aBurst) {
+            this.templateRateLimit = new RateLimit(aMessagesPerSecond, aBurst);
+            return this;
+        }
+
+        /**
+         * Collapse consecutive identical messages (same level, template and arguments) of each logger.
+         * Collapsed messages are reported by "Previous message was repeated N times." message, which is logged
+         * when other message arrives, or every specified interval while identical messages keep coming.
+         * @param aSummaryIntervalMillis - interval of summaries in milliseconds (greater than 0).
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder suppressDuplicateMessages(long aSummaryIntervalMillis) {
+            if (aSummaryIntervalMillis <= 0L) throw new IllegalArgumentException("Summary interval [aSummaryIntervalMillis] must be greater than 0.");
+            this.duplicateSummaryIntervalMillis = aSummaryIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Out messages to console and file outputs in own worker threads through bounded queues,
+         * so slow output doesn't block logging threads and other outputs (see {@link QueuedLoggerOutput}).
+         * @param aCapacity - capacity of each output queue.
+         * @param aPolicy - policy, when output queue is full.
+         * @return - this builder.
+         */
+        public LoggerConfigurationBuilder queueOutputs(int aCapacity, OutputOverflowPolicy aPolicy) {
+            if (aCapacity < 1) throw new IllegalArgumentException("Queue capacity [aCapacity] must be greater than 0.");
+            Objects.requireNonNull(aPolicy, "OutputOverflowPolicy [aPolicy] must be not null.");
+            this.outputQueueCapacity = aCapacity;
+            this.outputOverflowPolicy = aPolicy;
+            return this;
+        }
+
         /**
          * Try to build new logger configuration.
          * @return - configuration instance.
@@ -299,13 +947,26 @@ public class LoggersConfiguration implements Closeable {
 
             // Set parameters:
             try {
-                configuration.enableLoggers = this.isLoggersEnabled;
-                configuration.enableConsoleOutput(this.isEnabledConsoleOutput);
-                configuration.enableFileOutput(this.isEnabledFileOutput, this.outputFile, this.isAppendToEndOfOutputFile);
+                configuration.enableLoggers(this.isLoggersEnabled);
+                configuration.outputQueueCapacity = this.outputQueueCapacity;
+                configuration.outputOverflowPolicy = this.outputOverflowPolicy;
+                configuration.enableConsoleOutput(this.isEnabledConsoleOutput, this.consoleFlushPolicy);
+                configuration.enableFileOutput(this.isEnabledFileOutput, this.fileOutputSupplier);
+                if (this.isEnabledFileOutput && this.fileOutputKind != null) {
+                    configuration.fileOutputFile = this.fileOutputFile;
+                    configuration.fileOutputSupplier = this.fileOutputKind;
+                }
                 if (this.loggingMessagePattern != null) configuration.setLoggingMessagePattern(this.loggingMessagePattern);
                 if (this.timeFormat != null) configuration.setTimeFormat(this.timeFormat);
                 configuration.isUseCanonicalNames = this.isUseCanonicalLoggersName;
-                configuration.minimalLevelOfMessages = this.minimalLevelOfMessages;
+                configuration.setMinimalLevelOfMessages(this.minimalLevelOfMessages);
+                this.loggersLevels.forEach(configuration::setLoggerLevel);
+                configuration.isGarbageFreeLogging = this.isGarbageFreeLogging;
+                configuration.enableMetrics(this.isMetricsEnabled);
+                configuration.loggerRateLimit = this.loggerRateLimit;
+                configuration.templateRateLimiter = this.templateRateLimit != null ? new TemplateRateLimiter(this.templateRateLimit) : null;
+                configuration.duplicateSummaryIntervalMillis = this.duplicateSummaryIntervalMillis;
+                configuration.enableAsyncLogging(this.isAsyncLoggingEnabled, this.asyncBufferSize);
             }catch (Exception e) {
                 throw new RuntimeException(e.getMessage());
             }
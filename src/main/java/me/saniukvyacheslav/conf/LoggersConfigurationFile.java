@@ -0,0 +1,137 @@
+package me.saniukvyacheslav.conf;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Loader of {@link LoggersConfiguration} configurations from properties files.
+ * Supported properties:
+ * <pre>
+ * name=app                                   # Configuration name (required, isn't reloaded);
+ * enabled=true                               # Enable/Disable loggers (default: true);
+ * pattern=%TIME% [%LEVEL%] %NAME%: %MSG%     # Logging message pattern (default: {@link LoggingConfiguration#DEFAULT_LOG_MESSAGE_PATTERN});
+ * time.format=HH:mm:ss.SSS                   # Format of "%TIME%" token;
+ * level=INFO                                 # Minimal level of messages (default: TRACE);
+ * level.com.shop.db=DEBUG                    # Level override of loggers hierarchy;
+ * console=true                               # Enable/Disable logging to console (default: true);
+ * file=/var/log/app.log                      # Log file (default: logging to file is disabled);
+ * file.append=true                           # Append to end of log file (default: true);
+ * async=false                                # Enable asynchronous logging (default: false, isn't reloaded);
+ * garbage.free=false                         # Enable garbage-free logging (default: false, isn't reloaded);
+ * metrics=false                              # Enable self-metrics (default: false, isn't reloaded);
+ * </pre>
+ * Configuration can be reloaded on file change by {@link LoggersConfigurationFileWatcher} watcher.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LoggersConfigurationFile {
+
+    public static final String NAME_PROPERTY = "name";
+    public static final String ENABLED_PROPERTY = "enabled";
+    public static final String PATTERN_PROPERTY = "pattern";
+    public static final String TIME_FORMAT_PROPERTY = "time.format";
+    public static final String LEVEL_PROPERTY = "level";
+    public static final String LEVEL_OVERRIDE_PREFIX = "level.";
+    public static final String CONSOLE_PROPERTY = "console";
+    public static final String FILE_PROPERTY = "file";
+    public static final String FILE_APPEND_PROPERTY = "file.append";
+    public static final String ASYNC_PROPERTY = "async";
+    public static final String GARBAGE_FREE_PROPERTY = "garbage.free";
+    public static final String METRICS_PROPERTY = "metrics";
+
+    /**
+     * Load new configuration from properties file.
+     * @param aFile - properties file.
+     * @return - configuration.
+     * @throws IOException - If IO exception occurs.
+     */
+    public static LoggersConfiguration load(File aFile) throws IOException {
+        Properties properties = read(aFile);
+        String name = properties.getProperty(NAME_PROPERTY);
+        if (name == null || name.trim().isEmpty())
+            throw new IllegalArgumentException(String.format("Configuration file [%s] must have [%s] property.", aFile.getPath(), NAME_PROPERTY));
+
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName(name.trim())
+                .enableConsoleOutput(false)
+                .enableAsyncLogging(getBoolean(properties, ASYNC_PROPERTY, false))
+                .enableGarbageFreeLogging(getBoolean(properties, GARBAGE_FREE_PROPERTY, false))
+                .enableMetrics(getBoolean(properties, METRICS_PROPERTY, false))
+                .build();
+        try {
+            apply(configuration, properties);
+        } catch (IOException | RuntimeException e) {
+            configuration.close();
+            LoggingConfiguration.getInstance().loggersConfigurations.remove(configuration.getName(), configuration);
+            throw e;
+        }
+        return configuration;
+    }
+
+    /**
+     * Read properties file.
+     * @param aFile - properties file.
+     * @return - properties.
+     * @throws IOException - If IO exception occurs.
+     */
+    static Properties read(File aFile) throws IOException {
+        Objects.requireNonNull(aFile, "File [aFile] must be not null.");
+        Properties properties = new Properties();
+        try (InputStream stream = new FileInputStream(aFile)) {
+            properties.load(stream);
+        }
+        return properties;
+    }
+
+    /**
+     * Apply reloadable properties to configuration (see {@link LoggersConfiguration#reconfigure}).
+     * If properties are invalid, configuration isn't changed.
+     * @param aConfiguration - configuration.
+     * @param aProperties - properties.
+     * @throws IOException - If file output can't be created.
+     */
+    static void apply(LoggersConfiguration aConfiguration, Properties aProperties) throws IOException {
+        Map<String, LoggingMessageLevel> loggersLevels = new HashMap<>();
+        for (String key : aProperties.stringPropertyNames()) {
+            if (key.startsWith(LEVEL_OVERRIDE_PREFIX)) loggersLevels.put(key.substring(LEVEL_OVERRIDE_PREFIX.length()), getLevel(aProperties, key, null));
+        }
+        String file = aProperties.getProperty(FILE_PROPERTY);
+        String timeFormat = aProperties.getProperty(TIME_FORMAT_PROPERTY);
+        aConfiguration.reconfigure(
+                getBoolean(aProperties, ENABLED_PROPERTY, true),
+                aProperties.getProperty(PATTERN_PROPERTY, LoggingConfiguration.DEFAULT_LOG_MESSAGE_PATTERN),
+                timeFormat == null || timeFormat.trim().isEmpty() ? null : timeFormat,
+                getLevel(aProperties, LEVEL_PROPERTY, LoggingMessageLevel.TRACE),
+                loggersLevels,
+                getBoolean(aProperties, CONSOLE_PROPERTY, true),
+                file == null || file.trim().isEmpty() ? null : new File(file.trim()),
+                getBoolean(aProperties, FILE_APPEND_PROPERTY, true));
+    }
+
+    private static boolean getBoolean(Properties aProperties, String aKey, boolean aDefault) {
+        String value = aProperties.getProperty(aKey);
+        if (value == null) return aDefault;
+        value = value.trim();
+        if ("true".equalsIgnoreCase(value)) return true;
+        if ("false".equalsIgnoreCase(value)) return false;
+        throw new IllegalArgumentException(String.format("Property [%s] must be [true] or [false], but was [%s].", aKey, value));
+    }
+
+    private static LoggingMessageLevel getLevel(Properties aProperties, String aKey, LoggingMessageLevel aDefault) {
+        String value = aProperties.getProperty(aKey);
+        if (value == null) return aDefault;
+        value = value.trim();
+        for (LoggingMessageLevel level : LoggingMessageLevel.values()) {
+            if (level.getLevelName().equalsIgnoreCase(value)) return level;
+        }
+        throw new IllegalArgumentException(String.format("Property [%s] has unknown level [%s].", aKey, value));
+    }
+}
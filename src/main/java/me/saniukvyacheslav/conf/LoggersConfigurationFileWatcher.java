@@ -0,0 +1,157 @@
+package me.saniukvyacheslav.conf;
+
+import me.saniukvyacheslav.output.LoggingThreads;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watcher of {@link LoggersConfigurationFile} configuration file.
+ * Watcher watches directory of file by {@link WatchService} in background thread and, when file is changed,
+ * reapplies its properties to configuration: new pattern, levels and outputs are published as single
+ * {@link LoggersConfigurationSnapshot} snapshot. Events of file are debounced (editors write files by several operations),
+ * and file isn't reapplied, if its properties aren't changed. If file is invalid, error is printed and configuration isn't changed.
+ */
+public final class LoggersConfigurationFileWatcher implements Closeable {
+
+    private static final long DEBOUNCE_MILLIS = 100L; // Quiet time after last event of file before reload;
+
+    private final LoggersConfiguration configuration; // Reloaded configuration;
+    private final Path file; // Watched file;
+    private final WatchService watchService; // Watch service of file directory;
+    private final Thread watcherThread; // Background thread;
+    private final AtomicLong reloadsCount = new AtomicLong(); // Count of applied reloads;
+    private final AtomicLong errorsCount = new AtomicLong(); // Count of failed reloads;
+    private Properties appliedProperties; // Last applied properties (watcher thread only);
+
+    /**
+     * Start watching configuration file.
+     * @param aConfiguration - configuration, which is reloaded.
+     * @param aFile - configuration file.
+     * @throws IOException - If directory of file can't be watched.
+     */
+    public LoggersConfigurationFileWatcher(LoggersConfiguration aConfiguration, File aFile) throws IOException {
+        Objects.requireNonNull(aConfiguration, "LoggersConfiguration [aConfiguration] must be not null.");
+        Objects.requireNonNull(aFile, "File [aFile] must be not null.");
+        this.configuration = aConfiguration;
+        this.file = aFile.toPath().toAbsolutePath();
+        this.appliedProperties = LoggersConfigurationFile.read(aFile);
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        this.watcherThread = LoggingThreads.newThread("irene-l-config-watcher-" +aConfiguration.getName(), this::watch);
+        this.watcherThread.start();
+    }
+
+    /**
+     * Load configuration from file and start watching it.
+     * @param aFile - configuration file.
+     * @return - watcher (configuration is available by {@link #getConfiguration()} method).
+     * @throws IOException - If IO exception occurs.
+     */
+    public static LoggersConfigurationFileWatcher loadAndWatch(File aFile) throws IOException {
+        return new LoggersConfigurationFileWatcher(LoggersConfigurationFile.load(aFile), aFile);
+    }
+
+    /**
+     * Watcher thread loop.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                if (!this.isFileChanged(this.watchService.take())) continue;
+                // Wait, until file isn't changed for debounce time (events of other files in directory are ignored):
+                long quietDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEBOUNCE_MILLIS);
+                long remaining;
+                while ((remaining = quietDeadline - System.nanoTime()) > 0L) {
+                    WatchKey key = this.watchService.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (key != null && this.isFileChanged(key))
+                        quietDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEBOUNCE_MILLIS);
+                }
+                this.reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Watcher is closed;
+        }
+    }
+
+    /**
+     * Check if events of key are events of watched file. Key is reset.
+     * @param aKey - watch key.
+     * @return - true, if watched file is changed.
+     */
+    private boolean isFileChanged(WatchKey aKey) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : aKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || this.file.getFileName().equals(event.context())) isChanged = true;
+        }
+        aKey.reset();
+        return isChanged;
+    }
+
+    /**
+     * Reapply configuration file, if its properties are changed.
+     */
+    private void reload() {
+        try {
+            Properties properties = LoggersConfigurationFile.read(this.file.toFile());
+            if (properties.equals(this.appliedProperties)) return;
+            LoggersConfigurationFile.apply(this.configuration, properties);
+            this.appliedProperties = properties;
+            this.reloadsCount.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            this.errorsCount.incrementAndGet();
+            LoggingConfiguration.reportError(String.format("Configuration file [%s] isn't reloaded", this.file), e);
+        }
+    }
+
+    /**
+     * Get reloaded configuration.
+     * @return - configuration.
+     */
+    public LoggersConfiguration getConfiguration() {
+        return this.configuration;
+    }
+
+    /**
+     * Get count of applied reloads.
+     * @return - count.
+     */
+    public long getReloadsCount() {
+        return this.reloadsCount.get();
+    }
+
+    /**
+     * Get count of failed reloads.
+     * @return - count.
+     */
+    public long getErrorsCount() {
+        return this.errorsCount.get();
+    }
+
+    /**
+     * Stop watching file. Configuration isn't closed.
+     * @throws IOException - If IO exception occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        this.watchService.close();
+        try {
+            this.watcherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package me.saniukvyacheslav.conf;
+
+import lombok.Getter;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.message.LoggingMessageTemplate;
+import me.saniukvyacheslav.message.PatternModifier;
+import me.saniukvyacheslav.message.PatternModifierCaller;
+import me.saniukvyacheslav.message.PatternModifierLevel;
+import me.saniukvyacheslav.message.PatternModifierName;
+import me.saniukvyacheslav.message.PatternModifierTime;
+import me.saniukvyacheslav.output.LoggerOutput;
+import me.saniukvyacheslav.util.string.RegexUtils;
+import me.saniukvyacheslav.util.string.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of reconfigurable part of {@link LoggersConfiguration} configuration:
+ * loggers enable flag, logging message pattern, levels and outputs.
+ * Configuration publishes each change as new snapshot by single volatile write, so logging threads read
+ * enable flag, pattern, levels and outputs without locks and never see half-applied configuration.
+ */
+public final class LoggersConfigurationSnapshot {
+
+    @Getter private final boolean isLoggersEnabled; // FLAG: Are loggers enabled;
+    @Getter private final String logMessagePattern; // Logging message pattern;
+    @Getter private final String timeFormat; // Format of "%TIME%" token (null, if default format is used);
+    @Getter private final List<PatternModifier> modifiers; // Unmodifiable list of modifiers;
+    @Getter private final LoggingMessageTemplate logMessageTemplate; // Compiled logging message pattern;
+    @Getter private final LoggingMessageLevel minimalLevelOfMessages; // Minimal level of logged messages;
+    private final Map<String, LoggingMessageLevel> loggersLevels; // Levels overrides of loggers hierarchies;
+    private final LoggerOutput[] outputs; // Loggers outputs;
+
+    private LoggersConfigurationSnapshot(boolean isLoggersEnabled, String aPattern, String aTimeFormat, List<PatternModifier> aModifiers, LoggingMessageTemplate aTemplate,
+                                         LoggingMessageLevel aMinimalLevel, Map<String, LoggingMessageLevel> aLoggersLevels, LoggerOutput[] anOutputs) {
+        this.isLoggersEnabled = isLoggersEnabled;
+        this.logMessagePattern = aPattern;
+        this.timeFormat = aTimeFormat;
+        this.modifiers = aModifiers;
+        this.logMessageTemplate = aTemplate;
+        this.minimalLevelOfMessages = aMinimalLevel;
+        this.loggersLevels = aLoggersLevels;
+        this.outputs = anOutputs;
+    }
+
+    /**
+     * Create snapshot with disabled loggers, default pattern, "TRACE" minimal level and without outputs.
+     * @return - snapshot.
+     */
+    static LoggersConfigurationSnapshot initial() {
+        return new LoggersConfigurationSnapshot(false, null, null, Collections.emptyList(), null, LoggingMessageLevel.TRACE,
+                Collections.emptyMap(), new LoggerOutput[0]).withLoggingMessagePattern(LoggingConfiguration.DEFAULT_LOG_MESSAGE_PATTERN, null);
+    }
+
+    /**
+     * Create copy of this snapshot with new loggers enable flag.
+     * Copy is always new instance, so loggers recompute their cached levels thresholds for it.
+     * @param isEnabled - loggers enable flag.
+     * @return - new snapshot.
+     */
+    public LoggersConfigurationSnapshot withLoggersEnabled(boolean isEnabled) {
+        return new LoggersConfigurationSnapshot(isEnabled, this.logMessagePattern, this.timeFormat, this.modifiers, this.logMessageTemplate,
+                this.minimalLevelOfMessages, this.loggersLevels, this.outputs);
+    }
+
+    /**
+     * Create copy of this snapshot with new logging message pattern.
+     * Method construct modifiers instances, which will be used in pattern, and compile pattern into {@link LoggingMessageTemplate} template.
+     * @param aPattern - logging message pattern.
+     * @param aTimeFormat - format of "%TIME%" token (null - default format).
+     * @return - new snapshot.
+     */
+    public LoggersConfigurationSnapshot withLoggingMessagePattern(String aPattern, String aTimeFormat) {
+        StringUtils.checkString(aPattern, "aPattern");
+        // Check for required "%MSG%" arguments:
+        if(RegexUtils.match(aPattern, LoggingMessageTemplate.MESSAGE_TOKEN) == null)
+            throw new IllegalArgumentException("Logging message pattern string must have required [%MSG%] chars sequence.");
+
+        // Initialize modifiers:
+        List<PatternModifier> modifiers = new ArrayList<>();
+        if (RegexUtils.match(aPattern, PatternModifierTime.TIME_ARGUMENT_REGEX) != null) { // Time modifier;
+            PatternModifierTime timeModifier = new PatternModifierTime();
+            if (aTimeFormat != null) timeModifier.setTimeFormat(aTimeFormat);
+            modifiers.add(timeModifier);
+        }
+        if (RegexUtils.match(aPattern, PatternModifierTime.EPOCH_MILLIS_ARGUMENT_REGEX) != null) // Epoch millis modifier;
+            modifiers.add(PatternModifierTime.ofEpochMillis());
+        if (RegexUtils.match(aPattern, PatternModifierTime.ISO_DATETIME_ARGUMENT_REGEX) != null) // ISO date-time modifier;
+            modifiers.add(PatternModifierTime.ofIsoDateTime());
+        if (RegexUtils.match(aPattern, PatternModifierName.NAME_ARGUMENT_REGEX) != null) // Name modifier;
+            modifiers.add(new PatternModifierName());
+        if (RegexUtils.match(aPattern, PatternModifierLevel.LEVEl_ARGUMENT_REGEX) != null) // Level modifier;
+            modifiers.add(new PatternModifierLevel());
+        if (RegexUtils.match(aPattern, PatternModifierCaller.CALLER_ARGUMENT_REGEX) != null) // Caller modifier;
+            modifiers.add(new PatternModifierCaller());
+
+        // Compile pattern:
+        LoggingMessageTemplate template = LoggingMessageTemplate.compile(aPattern, modifiers);
+        return new LoggersConfigurationSnapshot(this.isLoggersEnabled, aPattern, aTimeFormat, Collections.unmodifiableList(modifiers), template,
+                this.minimalLevelOfMessages, this.loggersLevels, this.outputs);
+    }
+
+    /**
+     * Create copy of this snapshot with new minimal level of messages.
+     * @param aLevel - minimal level.
+     * @return - new snapshot.
+     */
+    public LoggersConfigurationSnapshot withMinimalLevelOfMessages(LoggingMessageLevel aLevel) {
+        Objects.requireNonNull(aLevel, "LoggingMessageLevel [aLevel] must be not null.");
+        return new LoggersConfigurationSnapshot(this.isLoggersEnabled, this.logMessagePattern, this.timeFormat, this.modifiers, this.logMessageTemplate,
+                aLevel, this.loggersLevels, this.outputs);
+    }
+
+    /**
+     * Create copy of this snapshot with new levels overrides.
+     * @param aLoggersLevels - map of loggers names (or names prefixes) and levels.
+     * @return - new snapshot.
+     */
+    public LoggersConfigurationSnapshot withLoggersLevels(Map<String, LoggingMessageLevel> aLoggersLevels) {
+        Objects.requireNonNull(aLoggersLevels, "Map [aLoggersLevels] must be not null.");
+        Map<String, LoggingMessageLevel> levels = new HashMap<>(aLoggersLevels.size() * 2);
+        aLoggersLevels.forEach((loggerName, level) -> {
+            StringUtils.checkString(loggerName, "aLoggerName");
+            Objects.requireNonNull(level, "LoggingMessageLevel [aLevel] must be not null.");
+            levels.put(loggerName, level);
+        });
+        return new LoggersConfigurationSnapshot(this.isLoggersEnabled, this.logMessagePattern, this.timeFormat, this.modifiers, this.logMessageTemplate,
+                this.minimalLevelOfMessages, Collections.unmodifiableMap(levels), this.outputs);
+    }
+
+    /**
+     * Create copy of this snapshot with new outputs.
+     * @param anOutputs - outputs.
+     * @return - new snapshot.
+     */
+    public LoggersConfigurationSnapshot withOutputs(List<LoggerOutput> anOutputs) {
+        Objects.requireNonNull(anOutputs, "List [anOutputs] must be not null.");
+        return new LoggersConfigurationSnapshot(this.isLoggersEnabled, this.logMessagePattern, this.timeFormat, this.modifiers, this.logMessageTemplate,
+                this.minimalLevelOfMessages, this.loggersLevels, anOutputs.toArray(new LoggerOutput[0]));
+    }
+
+    /**
+     * Get effective level of logger with specified name.
+     * Level override of the logger name is used, then overrides of its parents in names hierarchy
+     * (for "com.shop.db.Orders": "com.shop.db", "com.shop", "com"), then minimal level of messages.
+     * @param aLoggerName - logger name.
+     * @return - effective level.
+     */
+    public LoggingMessageLevel getEffectiveLevel(String aLoggerName) {
+        StringUtils.checkForNull(aLoggerName, "aLoggerName");
+        if (!this.loggersLevels.isEmpty()) {
+            String name = aLoggerName;
+            while (true) {
+                LoggingMessageLevel level = this.loggersLevels.get(name);
+                if (level != null) return level;
+                int separatorIndex = name.lastIndexOf('.');
+                if (separatorIndex < 0) break;
+                name = name.substring(0, separatorIndex);
+            }
+        }
+        return this.minimalLevelOfMessages;
+    }
+
+    /**
+     * Get levels overrides of loggers hierarchies.
+     * @return - unmodifiable map of loggers names (or names prefixes) and levels.
+     */
+    public Map<String, LoggingMessageLevel> getLoggersLevels() {
+        return this.loggersLevels;
+    }
+
+    /**
+     * Get outputs.
+     * @return - unmodifiable list of outputs.
+     */
+    public List<LoggerOutput> getOutputs() {
+        return Collections.unmodifiableList(Arrays.asList(this.outputs));
+    }
+
+    /**
+     * Get outputs array, which is iterated by loggers. Array mustn't be changed.
+     * @return - outputs.
+     */
+    LoggerOutput[] outputs() {
+        return this.outputs;
+    }
+}
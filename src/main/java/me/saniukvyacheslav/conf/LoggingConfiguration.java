@@ -5,8 +5,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import me.saniukvyacheslav.annotation.pattern.Singleton;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Main configuration for all loggers and inner loggers configurations.
@@ -18,25 +19,56 @@ public final class LoggingConfiguration {
     // Constants:
     public static final String DEFAULT_LOG_MESSAGE_PATTERN = "%MSG%";
 
-    private static LoggingConfiguration INSTANCE; // Singleton instance;
-    final Map<String, LoggersConfiguration> loggersConfigurations = new HashMap<>(); // All loggers configurations;
+    final Map<String, LoggersConfiguration> loggersConfigurations = new ConcurrentHashMap<>(); // All loggers configurations;
     // Configuration parameters:
-    @Getter private boolean isLoggingEnabled = true; // "enable/disable logging" flag;
+    @Getter private volatile boolean isLoggingEnabled = true; // "enable/disable logging" flag;
+    @Getter private volatile LoggingErrorHandler errorHandler = LoggingErrorHandler.STDERR; // Handler of internal errors of loggers;
 
     /**
      * Get current singleton instance if this configuration.
+     * Instance is lazily and safely initialized by class loading of {@link InstanceHolder} holder.
      * @return - singleton instance.
      */
     public static LoggingConfiguration getInstance() {
-        if (LoggingConfiguration.INSTANCE == null) LoggingConfiguration.INSTANCE = new LoggingConfiguration();
-        return LoggingConfiguration.INSTANCE;
+        return InstanceHolder.INSTANCE;
     }
 
     /**
      * Enable/disable logging.
+     * Level thresholds of all loggers are republished.
      * @param isEnable - flag.
      */
-    public void enableLogging(boolean isEnable) {
+    public synchronized void enableLogging(boolean isEnable) {
         this.isLoggingEnabled = isEnable;
+        this.loggersConfigurations.values().forEach(LoggersConfiguration::updateLevelThresholds);
+    }
+
+    /**
+     * Set handler of internal errors of loggers.
+     * @param aHandler - error handler.
+     */
+    public void setErrorHandler(LoggingErrorHandler aHandler) {
+        Objects.requireNonNull(aHandler, "LoggingErrorHandler [aHandler] must be not null.");
+        this.errorHandler = aHandler;
+    }
+
+    /**
+     * Report internal error of loggers to current error handler. Errors of handler itself are ignored.
+     * @param aMessage - description of failed operation.
+     * @param anError - error (may be null).
+     */
+    public static void reportError(String aMessage, Throwable anError) {
+        try {
+            getInstance().errorHandler.onError(aMessage, anError);
+        } catch (RuntimeException e) {
+            // Errors of handler mustn't break loggers;
+        }
+    }
+
+    /**
+     * Holder of singleton instance.
+     */
+    private static final class InstanceHolder {
+        private static final LoggingConfiguration INSTANCE = new LoggingConfiguration(); // Singleton instance;
     }
 }
@@ -0,0 +1,23 @@
+package me.saniukvyacheslav.conf;
+
+/**
+ * Handler of internal errors of loggers (for example, errors of outputs in background threads or errors of configuration reloading),
+ * which can't be thrown to logging threads. Handler is set by {@link LoggingConfiguration#setErrorHandler(LoggingErrorHandler)} method.
+ * Handler is called by background threads of loggers, so it must be thread-safe and must not log to the same loggers.
+ */
+@FunctionalInterface
+public interface LoggingErrorHandler {
+
+    /**
+     * Default handler: print single line with error message to standard error stream.
+     */
+    LoggingErrorHandler STDERR = (aMessage, anError) ->
+            System.err.println("irene-l: " + aMessage + (anError != null ? ": " + anError : ""));
+
+    /**
+     * Handle internal error.
+     * @param aMessage - description of failed operation.
+     * @param anError - error (may be null).
+     */
+    void onError(String aMessage, Throwable anError);
+}
@@ -0,0 +1,50 @@
+package me.saniukvyacheslav.extension;
+
+/**
+ * Builder of structured logging event with key-value fields.
+ * Builder is obtained by {@link StructuredLoggingExt} methods (for example, logger.atInfo()),
+ * and event is logged by {@link #log(String)} method:
+ * logger.atInfo().with("orderId", id).with("ms", 12).log("Order is placed.").
+ * Values of primitive fields aren't boxed. If field with the same key is added twice, the last value wins.
+ * Builders are reused, so builder must not be used after logging.
+ */
+public interface LoggingEventBuilder {
+
+    /**
+     * Add integer field (byte, short, int, long values).
+     * @param aKey - field key.
+     * @param aValue - field value.
+     * @return - this builder.
+     */
+    LoggingEventBuilder with(String aKey, long aValue);
+
+    /**
+     * Add floating-point field (float, double values).
+     * @param aKey - field key.
+     * @param aValue - field value.
+     * @return - this builder.
+     */
+    LoggingEventBuilder with(String aKey, double aValue);
+
+    /**
+     * Add boolean field.
+     * @param aKey - field key.
+     * @param aValue - field value.
+     * @return - this builder.
+     */
+    LoggingEventBuilder with(String aKey, boolean aValue);
+
+    /**
+     * Add object field.
+     * @param aKey - field key.
+     * @param aValue - field value.
+     * @return - this builder.
+     */
+    LoggingEventBuilder with(String aKey, Object aValue);
+
+    /**
+     * Log event with specified message.
+     * @param aMessage - message to log.
+     */
+    void log(String aMessage);
+}
@@ -0,0 +1,198 @@
+package me.saniukvyacheslav.extension;
+
+/**
+ * Logger extension.
+ * This extension define methods for logging parameterized messages with "{}" placeholders
+ * (formatted via {@link me.saniukvyacheslav.message.ParameterizedMessageFormatter}).
+ * Message is formatted only if message level is enabled. Methods with one, two and three arguments
+ * don't allocate arguments array.
+ */
+public interface ParameterizedLoggingExt {
+
+    /**
+     * Log parameterized message with "TRACE" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    void trace(String aTemplate, Object anArg);
+
+    /**
+     * Log parameterized message with "TRACE" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    void trace(String aTemplate, Object anArg0, Object anArg1);
+
+    /**
+     * Log parameterized message with "TRACE" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    void trace(String aTemplate, Object anArg0, Object anArg1, Object anArg2);
+
+    /**
+     * Log parameterized message with "TRACE" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    void trace(String aTemplate, Object... args);
+
+    /**
+     * Log parameterized message with "DEBUG" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    void debug(String aTemplate, Object anArg);
+
+    /**
+     * Log parameterized message with "DEBUG" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    void debug(String aTemplate, Object anArg0, Object anArg1);
+
+    /**
+     * Log parameterized message with "DEBUG" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    void debug(String aTemplate, Object anArg0, Object anArg1, Object anArg2);
+
+    /**
+     * Log parameterized message with "DEBUG" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    void debug(String aTemplate, Object... args);
+
+    /**
+     * Log parameterized message with "INFO" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    void info(String aTemplate, Object anArg);
+
+    /**
+     * Log parameterized message with "INFO" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    void info(String aTemplate, Object anArg0, Object anArg1);
+
+    /**
+     * Log parameterized message with "INFO" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    void info(String aTemplate, Object anArg0, Object anArg1, Object anArg2);
+
+    /**
+     * Log parameterized message with "INFO" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    void info(String aTemplate, Object... args);
+
+    /**
+     * Log parameterized message with "WARN" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    void warn(String aTemplate, Object anArg);
+
+    /**
+     * Log parameterized message with "WARN" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    void warn(String aTemplate, Object anArg0, Object anArg1);
+
+    /**
+     * Log parameterized message with "WARN" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    void warn(String aTemplate, Object anArg0, Object anArg1, Object anArg2);
+
+    /**
+     * Log parameterized message with "WARN" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    void warn(String aTemplate, Object... args);
+
+    /**
+     * Log parameterized message with "ERROR" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    void error(String aTemplate, Object anArg);
+
+    /**
+     * Log parameterized message with "ERROR" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    void error(String aTemplate, Object anArg0, Object anArg1);
+
+    /**
+     * Log parameterized message with "ERROR" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    void error(String aTemplate, Object anArg0, Object anArg1, Object anArg2);
+
+    /**
+     * Log parameterized message with "ERROR" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    void error(String aTemplate, Object... args);
+
+    /**
+     * Log parameterized message with "FATAL" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    void fatal(String aTemplate, Object anArg);
+
+    /**
+     * Log parameterized message with "FATAL" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    void fatal(String aTemplate, Object anArg0, Object anArg1);
+
+    /**
+     * Log parameterized message with "FATAL" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    void fatal(String aTemplate, Object anArg0, Object anArg1, Object anArg2);
+
+    /**
+     * Log parameterized message with "FATAL" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    void fatal(String aTemplate, Object... args);
+
+}
@@ -0,0 +1,45 @@
+package me.saniukvyacheslav.extension;
+
+/**
+ * Logger extension.
+ * This extension define methods for structured logging of events with key-value fields.
+ * If message level is disabled, methods return builder, which ignores all fields, so disabled events cost nothing.
+ */
+public interface StructuredLoggingExt {
+
+    /**
+     * Start structured event with "TRACE" logging level.
+     * @return - event builder.
+     */
+    LoggingEventBuilder atTrace();
+
+    /**
+     * Start structured event with "DEBUG" logging level.
+     * @return - event builder.
+     */
+    LoggingEventBuilder atDebug();
+
+    /**
+     * Start structured event with "INFO" logging level.
+     * @return - event builder.
+     */
+    LoggingEventBuilder atInfo();
+
+    /**
+     * Start structured event with "WARN" logging level.
+     * @return - event builder.
+     */
+    LoggingEventBuilder atWarn();
+
+    /**
+     * Start structured event with "ERROR" logging level.
+     * @return - event builder.
+     */
+    LoggingEventBuilder atError();
+
+    /**
+     * Start structured event with "FATAL" logging level.
+     * @return - event builder.
+     */
+    LoggingEventBuilder atFatal();
+}
@@ -0,0 +1,33 @@
+package me.saniukvyacheslav.filter;
+
+import lombok.Getter;
+
+/**
+ * Immutable rate limit: count of messages per second and burst (count of messages, which can be logged at once).
+ */
+@Getter
+public final class RateLimit {
+
+    private final double messagesPerSecond; // Sustained rate;
+    private final int burst; // Bucket capacity;
+
+    /**
+     * Construct new rate limit.
+     * @param aMessagesPerSecond - count of messages per second.
+     * @param aBurst - count of messages, which can be logged at once.
+     */
+    public RateLimit(double aMessagesPerSecond, int aBurst) {
+        if (!(aMessagesPerSecond > 0.0D)) throw new IllegalArgumentException("Rate [aMessagesPerSecond] must be greater than 0.");
+        if (aBurst < 1) throw new IllegalArgumentException("Burst [aBurst] must be greater than 0.");
+        this.messagesPerSecond = aMessagesPerSecond;
+        this.burst = aBurst;
+    }
+
+    /**
+     * Create new full token bucket of this limit.
+     * @return - token bucket.
+     */
+    public TokenBucket newBucket() {
+        return new TokenBucket(this.messagesPerSecond, this.burst);
+    }
+}
@@ -0,0 +1,45 @@
+package me.saniukvyacheslav.filter;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate limiter of messages templates.
+ * Each message template (message before formatting) has own {@link TokenBucket} token bucket.
+ * Count of buckets is bounded: when it reaches {@link #MAX_TEMPLATES}, new templates aren't limited,
+ * so messages built by concatenation don't leak memory.
+ */
+public final class TemplateRateLimiter {
+
+    public static final int MAX_TEMPLATES = 10_000; // Maximal count of limited templates;
+    @Getter private final RateLimit rateLimit; // Limit of each template;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>(); // Buckets of templates;
+
+    /**
+     * Construct new limiter.
+     * @param aRateLimit - limit of each template.
+     */
+    public TemplateRateLimiter(RateLimit aRateLimit) {
+        Objects.requireNonNull(aRateLimit, "RateLimit [aRateLimit] must be not null.");
+        this.rateLimit = aRateLimit;
+    }
+
+    /**
+     * Try to take token of template.
+     * @param aTemplate - message template.
+     * @param aNanoTime - current time of {@link System#nanoTime()}.
+     * @return - true, if message can be logged.
+     */
+    public boolean tryAcquire(String aTemplate, long aNanoTime) {
+        if (aTemplate == null) return true;
+        TokenBucket bucket = this.buckets.get(aTemplate);
+        if (bucket == null) {
+            if (this.buckets.size() >= MAX_TEMPLATES) return true;
+            bucket = this.buckets.computeIfAbsent(aTemplate, (template) -> this.rateLimit.newBucket());
+        }
+        return bucket.tryAcquire(aNanoTime);
+    }
+}
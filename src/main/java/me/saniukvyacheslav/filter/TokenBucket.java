@@ -0,0 +1,46 @@
+package me.saniukvyacheslav.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * Bucket holds up to "burst" tokens and is refilled with "rate" tokens per second; each message takes one token.
+ * Bucket is implemented as virtual scheduling (GCRA): its whole state is single theoretical arrival time
+ * of next message, which is advanced by CAS, so concurrent callers never block each other,
+ * and rejected calls only read this time.
+ * Bucket works with monotonic time of {@link System#nanoTime()}, so changes of wall clock neither refill nor freeze it.
+ */
+public final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0D;
+
+    private final long intervalNanos; // Emission interval of single token;
+    private final long toleranceNanos; // Burst tolerance;
+    private final AtomicLong arrivalNanos = new AtomicLong(Long.MIN_VALUE / 2); // Theoretical arrival time of next message;
+
+    /**
+     * Construct new full bucket.
+     * @param aRate - count of tokens per second.
+     * @param aBurst - bucket capacity.
+     */
+    public TokenBucket(double aRate, int aBurst) {
+        if (!(aRate > 0.0D)) throw new IllegalArgumentException("Rate [aRate] must be greater than 0.");
+        if (aBurst < 1) throw new IllegalArgumentException("Burst [aBurst] must be greater than 0.");
+        this.intervalNanos = Math.max(1L, (long) (NANOS_PER_SECOND / aRate));
+        this.toleranceNanos = this.intervalNanos * aBurst;
+    }
+
+    /**
+     * Try to take one token.
+     * @param aNanoTime - current time of {@link System#nanoTime()}.
+     * @return - true, if token is taken; false, if bucket is empty.
+     */
+    public boolean tryAcquire(long aNanoTime) {
+        while (true) {
+            long arrival = this.arrivalNanos.get();
+            long nextArrival = (arrival - aNanoTime > 0L ? arrival : aNanoTime) + this.intervalNanos; // Overflow-safe max;
+            if (nextArrival - aNanoTime > this.toleranceNanos) return false;
+            if (this.arrivalNanos.compareAndSet(arrival, nextArrival)) return true;
+        }
+    }
+}
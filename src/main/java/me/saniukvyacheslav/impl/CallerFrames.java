@@ -0,0 +1,46 @@
+package me.saniukvyacheslav.impl;
+
+/**
+ * Common part of Java 8 and Java 9 versions of {@link CallerLocator} locator:
+ * detection of loggers implementation frames and rendering of caller location
+ * (for example "com.shop.OrdersService.place(OrdersService.java:42)").
+ */
+final class CallerFrames {
+
+    private static final String[] LOGGER_PACKAGES = {"me.saniukvyacheslav.impl.", "me.saniukvyacheslav.extension."}; // Packages of loggers implementation;
+    private static final String LOGGER_CLASS = "me.saniukvyacheslav.Logger"; // Logger interface;
+
+    private CallerFrames() {}
+
+    /**
+     * Check if stack frame of specified class belongs to loggers implementation (such frames are skipped by locator).
+     * @param aClassName - class name of stack frame.
+     * @return - true, if frame is frame of loggers implementation.
+     */
+    static boolean isLoggerFrame(String aClassName) {
+        if (aClassName.equals(LOGGER_CLASS)) return true;
+        for (String loggerPackage : LOGGER_PACKAGES) {
+            if (aClassName.startsWith(loggerPackage)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Render location of caller frame.
+     * @param aClassName - class name.
+     * @param aMethodName - method name.
+     * @param aFileName - source file name (null, if unknown).
+     * @param aLineNumber - line number (negative, if unknown).
+     * @return - rendered location.
+     */
+    static String render(String aClassName, String aMethodName, String aFileName, int aLineNumber) {
+        StringBuilder builder = new StringBuilder(aClassName.length() + aMethodName.length() + 32)
+                .append(aClassName).append('.').append(aMethodName).append('(');
+        if (aFileName == null) builder.append("Unknown Source");
+        else {
+            builder.append(aFileName);
+            if (aLineNumber >= 0) builder.append(':').append(aLineNumber);
+        }
+        return builder.append(')').toString();
+    }
+}
@@ -0,0 +1,23 @@
+package me.saniukvyacheslav.impl;
+
+/**
+ * Locator of code, which calls logger. Used only if logging message pattern has "%CALLER%" token.
+ * This version (used on Java 8) captures full stack trace of {@link Throwable} on each call (StackWalker isn't available on Java 8).
+ * Multi-release JAR contains Java 9 version (src/main/java9), which walks only top frames of stack by StackWalker.
+ */
+final class CallerLocator {
+
+    private CallerLocator() {}
+
+    /**
+     * Locate first stack frame, which doesn't belong to loggers implementation.
+     * @return - rendered caller location, or null, if caller isn't found.
+     */
+    static String locate() {
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            if (CallerFrames.isLoggerFrame(element.getClassName())) continue;
+            return CallerFrames.render(element.getClassName(), element.getMethodName(), element.getFileName(), element.getLineNumber());
+        }
+        return null;
+    }
+}
@@ -1,11 +1,15 @@
 package me.saniukvyacheslav.impl;
 
 import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.async.AsyncLoggingDispatcher;
 import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.conf.LoggersConfigurationSnapshot;
 import me.saniukvyacheslav.conf.LoggingConfiguration;
+import me.saniukvyacheslav.extension.LoggingEventBuilder;
+import me.saniukvyacheslav.message.LoggingEvent;
 import me.saniukvyacheslav.message.LoggingMessageLevel;
-import me.saniukvyacheslav.message.PatternModifier;
-import me.saniukvyacheslav.util.string.RegexUtils;
+import me.saniukvyacheslav.message.LoggingMessageRenderer;
+import me.saniukvyacheslav.metrics.LoggingMetrics;
 import me.saniukvyacheslav.util.string.StringUtils;
 
 import java.util.Objects;
@@ -15,8 +19,13 @@ import java.util.Objects;
  */
 public class LoggerImpl implements Logger {
 
+    public static final int DISABLED_THRESHOLD = Integer.MAX_VALUE; // Threshold of disabled logger;
     private final LoggersConfiguration loggersConfiguration; // Link on loggers configuration instance;
     private final String loggerName; // This logger name;
+    private LevelThreshold levelThreshold; // Cached level threshold (validated by snapshot, so it may be read without synchronization);
+    private final LoggingMetrics metrics; // Configuration metrics (null, if metrics are disabled);
+    private final LoggingMessageFilter filter; // Filter stage (null, if rate limits and duplicates suppression are disabled);
+
     /**
      * Construct new logger instance with name for specified configuration.
      * @param aConfiguration - loggers configuration.
@@ -27,41 +36,295 @@ public class LoggerImpl implements Logger {
         StringUtils.checkString(aName, "aName");
         this.loggersConfiguration = aConfiguration;
         this.loggerName = aName;
+        this.metrics = aConfiguration.getMetrics();
+        this.filter = LoggingMessageFilter.of(aConfiguration);
+    }
+
+    /**
+     * Get level threshold of this logger in specified configuration snapshot.
+     * Threshold is computed from whole logging flag ({@link LoggingConfiguration#isLoggingEnabled()}),
+     * loggers flag and effective level of this logger in snapshot (minimal level of messages or level override),
+     * and is cached with snapshot, for which it's computed. Cached threshold is recomputed, when configuration
+     * publishes another snapshot, so level check, pattern and outputs of message are taken from one snapshot.
+     * @param aSnapshot - configuration snapshot.
+     * @return - minimal level of logged messages ({@link #DISABLED_THRESHOLD}, if logging is disabled).
+     */
+    private int getLevelThreshold(LoggersConfigurationSnapshot aSnapshot) {
+        LevelThreshold threshold = this.levelThreshold;
+        if (threshold == null || threshold.snapshot != aSnapshot) {
+            threshold = new LevelThreshold(aSnapshot, this.loggersConfiguration.getLevelThreshold(this.loggerName, aSnapshot));
+            this.levelThreshold = threshold;
+        }
+        return threshold.level;
+    }
+
+    /**
+     * Log summary of not reported repeats of collapsed duplicate messages.
+     * Configuration calls this method before it's closed.
+     */
+    public void flushRepeats() {
+        if (this.filter != null) this.filter.flushRepeats(this);
+    }
+
+    /**
+     * Read current configuration snapshot and check whether is log enabled in it.
+     * If log is disabled and metrics are enabled, suppressed message is counted.
+     * @param aLevel - message level.
+     * @return - snapshot, by which message must be logged, or null, if log is disabled.
+     */
+    private LoggersConfigurationSnapshot enabledSnapshot(LoggingMessageLevel aLevel) {
+        LoggersConfigurationSnapshot snapshot = this.loggersConfiguration.getSnapshot();
+        if (aLevel.getLevel() >= this.getLevelThreshold(snapshot)) return snapshot;
+        if (this.metrics != null) this.metrics.onSuppressed(aLevel);
+        return null;
     }
 
     /**
-     * Check whether is log disabled.
-     * Check if whole logging is enabled ({@link LoggingConfiguration#isLoggingEnabled()}), then check if loggers are enabled in LoggersConfiguration.
+     * Check whether is level enabled.
      * @param aLevel - message level.
-     * @return - true, if log is disabled.
+     * @return - true, if messages with this level are logged.
+     */
+    private boolean isLevelEnabled(LoggingMessageLevel aLevel) {
+        return aLevel.getLevel() >= this.getLevelThreshold(this.loggersConfiguration.getSnapshot());
+    }
+
+    /**
+     * Check if messages with "TRACE" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    @Override
+    public boolean isTraceEnabled() {
+        return this.isLevelEnabled(LoggingMessageLevel.TRACE);
+    }
+
+    /**
+     * Check if messages with "DEBUG" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    @Override
+    public boolean isDebugEnabled() {
+        return this.isLevelEnabled(LoggingMessageLevel.DEBUG);
+    }
+
+    /**
+     * Check if messages with "INFO" logging level are logged.
+     * @return - true, if level is enabled.
      */
-    private boolean isLogDisabled(LoggingMessageLevel aLevel) {
-        if (!LoggingConfiguration.getInstance().isLoggingEnabled()) return true;
-        if (!this.loggersConfiguration.isLoggersEnabled()) return true;
-        return aLevel.getLevel() < this.loggersConfiguration.getMinimalLevelOfMessages().getLevel();
+    @Override
+    public boolean isInfoEnabled() {
+        return this.isLevelEnabled(LoggingMessageLevel.INFO);
+    }
+
+    /**
+     * Check if messages with "WARN" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return this.isLevelEnabled(LoggingMessageLevel.WARN);
     }
 
     /**
-     * Out message to all available LoggersOutput outputs.
-     * @param aMessage - message to out.
+     * Check if messages with "ERROR" logging level are logged.
+     * @return - true, if level is enabled.
      */
-    private void out(String aMessage) {
-        this.loggersConfiguration.getLoggersOutputs().forEach((loggerOutput) -> loggerOutput.out(aMessage));
+    @Override
+    public boolean isErrorEnabled() {
+        return this.isLevelEnabled(LoggingMessageLevel.ERROR);
     }
 
-    private String modifyByModifiers(Object... aModifierArguments) {
-        String usedPattern = this.loggersConfiguration.getLogMessagePattern();
-        // Modify be modifiers:
-        for (PatternModifier modifier : this.loggersConfiguration.getModifiers()) {
-            usedPattern = modifier.modify(usedPattern, aModifierArguments);
+    /**
+     * Check if messages with "FATAL" logging level are logged.
+     * @return - true, if level is enabled.
+     */
+    @Override
+    public boolean isFatalEnabled() {
+        return this.isLevelEnabled(LoggingMessageLevel.FATAL);
+    }
+
+    /**
+     * Dispatch logging event.
+     * If asynchronous logging is enabled, publish event to background dispatcher, otherwise out event to all
+     * outputs of specified snapshot in current thread
+     * (see {@link LoggersConfiguration#out(LoggingEvent, LoggingMessageRenderer, LoggersConfigurationSnapshot)}).
+     * Background dispatcher outs events by snapshot, which is current, when event is out.
+     * Caller location is captured in current thread only if logging message pattern has "%CALLER%" token.
+     * @param aSnapshot - configuration snapshot, by which message level is checked.
+     * @param anEvent - logging event.
+     * @param aRenderer - renderer of current thread (null, if renderer is already used).
+     */
+    private void dispatch(LoggersConfigurationSnapshot aSnapshot, LoggingEvent anEvent, LoggingMessageRenderer aRenderer) {
+        if (this.metrics != null) this.metrics.onLogged(anEvent.getLevel());
+        if (aSnapshot.getLogMessageTemplate().isCallerRequired()) anEvent.setCaller(CallerLocator.locate());
+        AsyncLoggingDispatcher dispatcher = this.loggersConfiguration.getAsyncDispatcher();
+        if (dispatcher != null) dispatcher.publish(anEvent);
+        else this.loggersConfiguration.out(anEvent, aRenderer, aSnapshot);
+    }
+
+    /**
+     * Log message with specified level.
+     * @param aSnapshot - configuration snapshot, by which message level is checked.
+     * @param aLevel - message level.
+     * @param aMessage - original message.
+     */
+    private void log(LoggersConfigurationSnapshot aSnapshot, LoggingMessageLevel aLevel, String aMessage) {
+        this.log(aSnapshot, aLevel, aMessage, 0, null, null, null, null);
+    }
+
+    /**
+     * Log parameterized message with specified level.
+     * Message is checked by filter stage (rate limits and duplicates suppression) before formatting.
+     * If asynchronous logging is enabled, message is formatted in background thread.
+     * @param aSnapshot - configuration snapshot, by which message level is checked.
+     * @param aLevel - message level.
+     * @param aMessage - original message or message template.
+     * @param anArgumentsCount - count of arguments.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     * @param anArguments - all arguments (null, if there are three or fewer arguments).
+     */
+    private void log(LoggersConfigurationSnapshot aSnapshot, LoggingMessageLevel aLevel, String aMessage, int anArgumentsCount,
+                     Object anArg0, Object anArg1, Object anArg2, Object[] anArguments) {
+        long timeMillis = System.currentTimeMillis();
+        if (this.filter != null && this.filter.isFiltered(this, aLevel, aMessage, anArgumentsCount, anArg0, anArg1, anArg2, anArguments, timeMillis)) {
+            if (this.metrics != null) this.metrics.onFiltered(aLevel);
+            return;
         }
+        this.logUnfiltered(aSnapshot, aLevel, aMessage, anArgumentsCount, anArg0, anArg1, anArg2, anArguments, timeMillis);
+    }
 
-        return usedPattern;
+    /**
+     * Log parameterized message with specified level by current configuration snapshot, bypassing filter stage
+     * (used for summaries of filter stage).
+     * @param aLevel - message level.
+     * @param aMessage - original message or message template.
+     * @param anArgumentsCount - count of arguments.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     * @param anArguments - all arguments (null, if there are three or fewer arguments).
+     * @param aTimeMillis - message time.
+     */
+    void logUnfiltered(LoggingMessageLevel aLevel, String aMessage, int anArgumentsCount, Object anArg0, Object anArg1, Object anArg2, Object[] anArguments, long aTimeMillis) {
+        this.logUnfiltered(this.loggersConfiguration.getSnapshot(), aLevel, aMessage, anArgumentsCount, anArg0, anArg1, anArg2, anArguments, aTimeMillis);
     }
 
-    private String formLogMessage(String anOrigMessage, Object... aModifierArguments) {
-        String messageServicePart = this.modifyByModifiers(aModifierArguments);
-        return Objects.requireNonNull(RegexUtils.match(messageServicePart, "%MSG%")).replaceFirst(anOrigMessage);
+    /**
+     * Log parameterized message with specified level, bypassing filter stage.
+     * @param aSnapshot - configuration snapshot, by which message level is checked.
+     * @param aLevel - message level.
+     * @param aMessage - original message or message template.
+     * @param anArgumentsCount - count of arguments.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     * @param anArguments - all arguments (null, if there are three or fewer arguments).
+     * @param aTimeMillis - message time.
+     */
+    private void logUnfiltered(LoggersConfigurationSnapshot aSnapshot, LoggingMessageLevel aLevel, String aMessage, int anArgumentsCount,
+                               Object anArg0, Object anArg1, Object anArg2, Object[] anArguments, long aTimeMillis) {
+        LoggingMessageRenderer renderer = LoggingMessageRenderer.current();
+        boolean isRendererAvailable = !renderer.isInUse(); // Renderer is already used, if outputs log messages by itself;
+        LoggingEvent event = isRendererAvailable ? renderer.acquireEvent() : new LoggingEvent();
+        try {
+            event.set(this.loggerName, aLevel, aMessage, aTimeMillis)
+                    .setArguments(anArgumentsCount, anArg0, anArg1, anArg2, anArguments);
+            this.dispatch(aSnapshot, event, isRendererAvailable ? renderer : null);
+        } finally {
+            if (isRendererAvailable) renderer.release();
+        }
+    }
+
+    /**
+     * Log structured event with specified level.
+     * Event is checked by rate limits of filter stage (structured events aren't collapsed as duplicates).
+     * Level is checked again, because configuration may be changed after event was started.
+     * @param anEvent - event with fields.
+     * @param aLevel - message level.
+     * @param aMessage - message.
+     */
+    void log(LoggingEvent anEvent, LoggingMessageLevel aLevel, String aMessage) {
+        LoggersConfigurationSnapshot snapshot = this.loggersConfiguration.getSnapshot();
+        if (aLevel.getLevel() < this.getLevelThreshold(snapshot)) return;
+        long timeMillis = System.currentTimeMillis();
+        if (this.filter != null && this.filter.isFiltered(this, aLevel, aMessage, -1, null, null, null, null, timeMillis)) {
+            if (this.metrics != null) this.metrics.onFiltered(aLevel);
+            return;
+        }
+        LoggingMessageRenderer renderer = LoggingMessageRenderer.current();
+        boolean isRendererAvailable = !renderer.isInUse(); // Renderer is already used, if outputs log messages by itself;
+        if (isRendererAvailable) renderer.acquire();
+        try {
+            anEvent.set(this.loggerName, aLevel, aMessage, timeMillis);
+            this.dispatch(snapshot, anEvent, isRendererAvailable ? renderer : null);
+        } finally {
+            if (isRendererAvailable) renderer.release();
+        }
+    }
+
+    /**
+     * Start structured event with specified level.
+     * @param aLevel - message level.
+     * @return - event builder (builder, which ignores all fields, if level is disabled).
+     */
+    private LoggingEventBuilder at(LoggingMessageLevel aLevel) {
+        if (this.enabledSnapshot(aLevel) == null) return LoggingEventBuilderImpl.NO_OP;
+        return LoggingEventBuilderImpl.start(this, aLevel);
+    }
+
+    /**
+     * Start structured event with "TRACE" logging level.
+     * @return - event builder.
+     */
+    @Override
+    public LoggingEventBuilder atTrace() {
+        return this.at(LoggingMessageLevel.TRACE);
+    }
+
+    /**
+     * Start structured event with "DEBUG" logging level.
+     * @return - event builder.
+     */
+    @Override
+    public LoggingEventBuilder atDebug() {
+        return this.at(LoggingMessageLevel.DEBUG);
+    }
+
+    /**
+     * Start structured event with "INFO" logging level.
+     * @return - event builder.
+     */
+    @Override
+    public LoggingEventBuilder atInfo() {
+        return this.at(LoggingMessageLevel.INFO);
+    }
+
+    /**
+     * Start structured event with "WARN" logging level.
+     * @return - event builder.
+     */
+    @Override
+    public LoggingEventBuilder atWarn() {
+        return this.at(LoggingMessageLevel.WARN);
+    }
+
+    /**
+     * Start structured event with "ERROR" logging level.
+     * @return - event builder.
+     */
+    @Override
+    public LoggingEventBuilder atError() {
+        return this.at(LoggingMessageLevel.ERROR);
+    }
+
+    /**
+     * Start structured event with "FATAL" logging level.
+     * @return - event builder.
+     */
+    @Override
+    public LoggingEventBuilder atFatal() {
+        return this.at(LoggingMessageLevel.FATAL);
     }
 
     /**
@@ -70,8 +333,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void trace(String aMessage) {
-        if (this.isLogDisabled(LoggingMessageLevel.TRACE)) return;
-        this.out(this.formLogMessage(aMessage, this.loggerName, LoggingMessageLevel.TRACE));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.TRACE);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.TRACE, aMessage);
     }
 
     /**
@@ -80,8 +343,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void debug(String aMessage) {
-        if (this.isLogDisabled(LoggingMessageLevel.DEBUG)) return;
-        this.out(this.formLogMessage(aMessage, this.loggerName, LoggingMessageLevel.DEBUG));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.DEBUG);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.DEBUG, aMessage);
     }
 
     /**
@@ -90,8 +353,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void info(String aMessage) {
-        if (this.isLogDisabled(LoggingMessageLevel.INFO)) return;
-        this.out(this.formLogMessage(aMessage, this.loggerName, LoggingMessageLevel.INFO));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.INFO);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.INFO, aMessage);
     }
 
     /**
@@ -100,8 +363,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void warn(String aMessage) {
-        if (this.isLogDisabled(LoggingMessageLevel.WARN)) return;
-        this.out(this.formLogMessage(aMessage, this.loggerName, LoggingMessageLevel.WARN));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.WARN);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.WARN, aMessage);
     }
 
     /**
@@ -110,8 +373,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void error(String aMessage) {
-        if (this.isLogDisabled(LoggingMessageLevel.ERROR)) return;
-        this.out(this.formLogMessage(aMessage, this.loggerName, LoggingMessageLevel.ERROR));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.ERROR);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.ERROR, aMessage);
     }
 
     /**
@@ -120,8 +383,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void fatal(String aMessage) {
-        if (this.isLogDisabled(LoggingMessageLevel.FATAL)) return;
-        this.out(this.formLogMessage(aMessage, this.loggerName, LoggingMessageLevel.FATAL));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.FATAL);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.FATAL, aMessage);
     }
 
     /**
@@ -131,8 +394,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void tracef(String aMessage, Object... args) {
-        if (this.isLogDisabled(LoggingMessageLevel.TRACE)) return;
-        this.out(this.formLogMessage(String.format(aMessage, args), this.loggerName, LoggingMessageLevel.TRACE));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.TRACE);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.TRACE, String.format(aMessage, args));
     }
 
     /**
@@ -142,8 +405,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void debugf(String aMessage, Object... args) {
-        if (this.isLogDisabled(LoggingMessageLevel.DEBUG)) return;
-        this.out(this.formLogMessage(String.format(aMessage, args), this.loggerName, LoggingMessageLevel.DEBUG));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.DEBUG);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.DEBUG, String.format(aMessage, args));
     }
 
     /**
@@ -153,8 +416,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void infof(String aMessage, Object... args) {
-        if (this.isLogDisabled(LoggingMessageLevel.INFO)) return;
-        this.out(this.formLogMessage(String.format(aMessage, args), this.loggerName, LoggingMessageLevel.INFO));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.INFO);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.INFO, String.format(aMessage, args));
     }
 
     /**
@@ -164,8 +427,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void warnf(String aMessage, Object... args) {
-        if (this.isLogDisabled(LoggingMessageLevel.WARN)) return;
-        this.out(this.formLogMessage(String.format(aMessage, args), this.loggerName, LoggingMessageLevel.WARN));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.WARN);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.WARN, String.format(aMessage, args));
     }
 
     /**
@@ -175,8 +438,8 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void errorf(String aMessage, Object... args) {
-        if (this.isLogDisabled(LoggingMessageLevel.ERROR)) return;
-        this.out(this.formLogMessage(String.format(aMessage, args), this.loggerName, LoggingMessageLevel.ERROR));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.ERROR);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.ERROR, String.format(aMessage, args));
     }
 
     /**
@@ -186,9 +449,305 @@ public class LoggerImpl implements Logger {
      */
     @Override
     public void fatalf(String aMessage, Object... args) {
-        if (this.isLogDisabled(LoggingMessageLevel.FATAL)) return;
-        this.out(this.formLogMessage(String.format(aMessage, args), this.loggerName, LoggingMessageLevel.FATAL));
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.FATAL);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.FATAL, String.format(aMessage, args));
+    }
+
+    /**
+     * Log parameterized message with "TRACE" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    @Override
+    public void trace(String aTemplate, Object anArg) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.TRACE);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.TRACE, aTemplate, 1, anArg, null, null, null);
     }
 
+    /**
+     * Log parameterized message with "TRACE" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    @Override
+    public void trace(String aTemplate, Object anArg0, Object anArg1) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.TRACE);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.TRACE, aTemplate, 2, anArg0, anArg1, null, null);
+    }
+
+    /**
+     * Log parameterized message with "TRACE" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    @Override
+    public void trace(String aTemplate, Object anArg0, Object anArg1, Object anArg2) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.TRACE);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.TRACE, aTemplate, 3, anArg0, anArg1, anArg2, null);
+    }
+
+    /**
+     * Log parameterized message with "TRACE" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    @Override
+    public void trace(String aTemplate, Object... args) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.TRACE);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.TRACE, aTemplate, args == null ? 0 : args.length, null, null, null, args);
+    }
+
+    /**
+     * Log parameterized message with "DEBUG" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    @Override
+    public void debug(String aTemplate, Object anArg) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.DEBUG);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.DEBUG, aTemplate, 1, anArg, null, null, null);
+    }
+
+    /**
+     * Log parameterized message with "DEBUG" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    @Override
+    public void debug(String aTemplate, Object anArg0, Object anArg1) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.DEBUG);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.DEBUG, aTemplate, 2, anArg0, anArg1, null, null);
+    }
+
+    /**
+     * Log parameterized message with "DEBUG" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    @Override
+    public void debug(String aTemplate, Object anArg0, Object anArg1, Object anArg2) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.DEBUG);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.DEBUG, aTemplate, 3, anArg0, anArg1, anArg2, null);
+    }
+
+    /**
+     * Log parameterized message with "DEBUG" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    @Override
+    public void debug(String aTemplate, Object... args) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.DEBUG);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.DEBUG, aTemplate, args == null ? 0 : args.length, null, null, null, args);
+    }
+
+    /**
+     * Log parameterized message with "INFO" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    @Override
+    public void info(String aTemplate, Object anArg) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.INFO);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.INFO, aTemplate, 1, anArg, null, null, null);
+    }
+
+    /**
+     * Log parameterized message with "INFO" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    @Override
+    public void info(String aTemplate, Object anArg0, Object anArg1) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.INFO);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.INFO, aTemplate, 2, anArg0, anArg1, null, null);
+    }
+
+    /**
+     * Log parameterized message with "INFO" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    @Override
+    public void info(String aTemplate, Object anArg0, Object anArg1, Object anArg2) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.INFO);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.INFO, aTemplate, 3, anArg0, anArg1, anArg2, null);
+    }
+
+    /**
+     * Log parameterized message with "INFO" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    @Override
+    public void info(String aTemplate, Object... args) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.INFO);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.INFO, aTemplate, args == null ? 0 : args.length, null, null, null, args);
+    }
+
+    /**
+     * Log parameterized message with "WARN" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    @Override
+    public void warn(String aTemplate, Object anArg) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.WARN);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.WARN, aTemplate, 1, anArg, null, null, null);
+    }
+
+    /**
+     * Log parameterized message with "WARN" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    @Override
+    public void warn(String aTemplate, Object anArg0, Object anArg1) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.WARN);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.WARN, aTemplate, 2, anArg0, anArg1, null, null);
+    }
+
+    /**
+     * Log parameterized message with "WARN" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    @Override
+    public void warn(String aTemplate, Object anArg0, Object anArg1, Object anArg2) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.WARN);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.WARN, aTemplate, 3, anArg0, anArg1, anArg2, null);
+    }
+
+    /**
+     * Log parameterized message with "WARN" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    @Override
+    public void warn(String aTemplate, Object... args) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.WARN);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.WARN, aTemplate, args == null ? 0 : args.length, null, null, null, args);
+    }
+
+    /**
+     * Log parameterized message with "ERROR" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    @Override
+    public void error(String aTemplate, Object anArg) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.ERROR);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.ERROR, aTemplate, 1, anArg, null, null, null);
+    }
+
+    /**
+     * Log parameterized message with "ERROR" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    @Override
+    public void error(String aTemplate, Object anArg0, Object anArg1) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.ERROR);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.ERROR, aTemplate, 2, anArg0, anArg1, null, null);
+    }
+
+    /**
+     * Log parameterized message with "ERROR" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    @Override
+    public void error(String aTemplate, Object anArg0, Object anArg1, Object anArg2) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.ERROR);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.ERROR, aTemplate, 3, anArg0, anArg1, anArg2, null);
+    }
+
+    /**
+     * Log parameterized message with "ERROR" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    @Override
+    public void error(String aTemplate, Object... args) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.ERROR);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.ERROR, aTemplate, args == null ? 0 : args.length, null, null, null, args);
+    }
+
+    /**
+     * Log parameterized message with "FATAL" logging level.
+     * @param aTemplate - message template.
+     * @param anArg - argument.
+     */
+    @Override
+    public void fatal(String aTemplate, Object anArg) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.FATAL);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.FATAL, aTemplate, 1, anArg, null, null, null);
+    }
+
+    /**
+     * Log parameterized message with "FATAL" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     */
+    @Override
+    public void fatal(String aTemplate, Object anArg0, Object anArg1) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.FATAL);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.FATAL, aTemplate, 2, anArg0, anArg1, null, null);
+    }
+
+    /**
+     * Log parameterized message with "FATAL" logging level.
+     * @param aTemplate - message template.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     */
+    @Override
+    public void fatal(String aTemplate, Object anArg0, Object anArg1, Object anArg2) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.FATAL);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.FATAL, aTemplate, 3, anArg0, anArg1, anArg2, null);
+    }
+
+    /**
+     * Log parameterized message with "FATAL" logging level.
+     * @param aTemplate - message template.
+     * @param args - arguments.
+     */
+    @Override
+    public void fatal(String aTemplate, Object... args) {
+        LoggersConfigurationSnapshot snapshot = this.enabledSnapshot(LoggingMessageLevel.FATAL);
+        if (snapshot != null) this.log(snapshot, LoggingMessageLevel.FATAL, aTemplate, args == null ? 0 : args.length, null, null, null, args);
+    }
+
+    /**
+     * Level threshold of logger, computed for configuration snapshot.
+     * Threshold is immutable, so thread, which reads it without synchronization, sees it fully constructed.
+     */
+    private static final class LevelThreshold {
+
+        private final LoggersConfigurationSnapshot snapshot; // Snapshot, for which threshold is computed;
+        private final int level; // Minimal level of logged messages (DISABLED_THRESHOLD, if logging is disabled);
+
+        private LevelThreshold(LoggersConfigurationSnapshot aSnapshot, int aLevel) {
+            this.snapshot = aSnapshot;
+            this.level = aLevel;
+        }
+    }
 
 }
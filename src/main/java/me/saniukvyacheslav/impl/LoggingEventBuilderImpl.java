@@ -0,0 +1,108 @@
+package me.saniukvyacheslav.impl;
+
+import me.saniukvyacheslav.extension.LoggingEventBuilder;
+import me.saniukvyacheslav.message.LoggingEvent;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+/**
+ * Implementation of {@link LoggingEventBuilder} builder.
+ * Each thread has own reusable builder with reusable event, so structured logging doesn't allocate objects in steady state.
+ * If thread starts new event, while its builder is used (for example, when field value is computed by method,
+ * which logs by itself, or when previous event was never logged), new builder is created and replaces
+ * reusable builder of thread, so abandoned builder costs only one allocation.
+ */
+final class LoggingEventBuilderImpl implements LoggingEventBuilder {
+
+    static final LoggingEventBuilder NO_OP = new NoOpLoggingEventBuilder(); // Builder of disabled events;
+    private static final ThreadLocal<LoggingEventBuilderImpl> BUILDERS = ThreadLocal.withInitial(LoggingEventBuilderImpl::new);
+
+    private final LoggingEvent event = new LoggingEvent(); // Reusable event;
+    private LoggerImpl logger; // Logger of current event;
+    private LoggingMessageLevel level; // Level of current event;
+    private boolean isInUse = false; // FLAG: Is builder used now;
+
+    /**
+     * Start new event with reusable builder of current thread.
+     * @param aLogger - logger.
+     * @param aLevel - message level.
+     * @return - builder.
+     */
+    static LoggingEventBuilderImpl start(LoggerImpl aLogger, LoggingMessageLevel aLevel) {
+        LoggingEventBuilderImpl builder = BUILDERS.get();
+        if (builder.isInUse) {
+            builder = new LoggingEventBuilderImpl();
+            BUILDERS.set(builder);
+        }
+        builder.event.clear();
+        builder.logger = aLogger;
+        builder.level = aLevel;
+        builder.isInUse = true;
+        return builder;
+    }
+
+    @Override
+    public LoggingEventBuilder with(String aKey, long aValue) {
+        this.event.addField(aKey, aValue);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder with(String aKey, double aValue) {
+        this.event.addField(aKey, aValue);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder with(String aKey, boolean aValue) {
+        this.event.addField(aKey, aValue);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder with(String aKey, Object aValue) {
+        this.event.addField(aKey, aValue);
+        return this;
+    }
+
+    @Override
+    public void log(String aMessage) {
+        try {
+            this.logger.log(this.event, this.level, aMessage);
+        } finally {
+            this.event.clear();
+            this.logger = null;
+            this.isInUse = false;
+        }
+    }
+
+    /**
+     * Builder, which ignores all fields and doesn't log events.
+     */
+    private static final class NoOpLoggingEventBuilder implements LoggingEventBuilder {
+
+        @Override
+        public LoggingEventBuilder with(String aKey, long aValue) {
+            return this;
+        }
+
+        @Override
+        public LoggingEventBuilder with(String aKey, double aValue) {
+            return this;
+        }
+
+        @Override
+        public LoggingEventBuilder with(String aKey, boolean aValue) {
+            return this;
+        }
+
+        @Override
+        public LoggingEventBuilder with(String aKey, Object aValue) {
+            return this;
+        }
+
+        @Override
+        public void log(String aMessage) {
+            // Do nothing.
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package me.saniukvyacheslav.impl;
+
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.conf.LoggingConfiguration;
+import me.saniukvyacheslav.filter.TemplateRateLimiter;
+import me.saniukvyacheslav.filter.TokenBucket;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggingThreads;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Filter stage of logger, which is applied before message formatting.
+ * Filter limits rate of messages of logger and of each message template by {@link TokenBucket} token buckets,
+ * then collapses consecutive identical messages (same level, template and arguments), which pass rate limits.
+ * Only emitted messages become last message, so repeats are counted only for messages, which are written.
+ * Collapsed messages are reported by "Previous message was repeated N times." summary, which is logged
+ * when other message arrives, periodically while identical messages keep coming, by background thread
+ * when summary interval elapses after last repeat, and when configuration is closed.
+ * Intervals and rate limits are measured by monotonic {@link System#nanoTime()} time.
+ * All decisions are lock-free: last message is published as immutable state by atomic swap, and counters
+ * of repeats are atomic. Concurrent threads may report single repeat in next summary or lose it.
+ */
+final class LoggingMessageFilter {
+
+    static final String REPEATED_MESSAGE = "Previous message was repeated {} times."; // Summary template;
+
+    private final TokenBucket loggerBucket; // Rate limit of logger (null, if disabled);
+    private final TemplateRateLimiter templateRateLimiter; // Rate limits of templates (null, if disabled);
+    private final long summaryIntervalMillis; // Interval of repeats summaries (negative, if duplicates aren't collapsed);
+    private final long summaryIntervalNanos; // Interval of repeats summaries in nanoseconds;
+    private final AtomicReference<LastMessage> lastMessage = new AtomicReference<>(); // Last logged message;
+
+    private LoggingMessageFilter(LoggersConfiguration aConfiguration) {
+        this.loggerBucket = aConfiguration.getLoggerRateLimit() != null ? aConfiguration.getLoggerRateLimit().newBucket() : null;
+        this.templateRateLimiter = aConfiguration.getTemplateRateLimiter();
+        this.summaryIntervalMillis = aConfiguration.getDuplicateSummaryIntervalMillis();
+        this.summaryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, this.summaryIntervalMillis));
+    }
+
+    /**
+     * Lazy holder of executor of delayed repeats summaries.
+     */
+    private static final class ExecutorHolder {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+                LoggingThreads.newThreadFactory("irene-l-repeats"));
+    }
+
+    /**
+     * Create filter of logger.
+     * @param aConfiguration - loggers configuration.
+     * @return - filter, or null, if rate limits and duplicates suppression are disabled.
+     */
+    static LoggingMessageFilter of(LoggersConfiguration aConfiguration) {
+        if (aConfiguration.getLoggerRateLimit() == null && aConfiguration.getTemplateRateLimiter() == null
+                && aConfiguration.getDuplicateSummaryIntervalMillis() < 0L) return null;
+        return new LoggingMessageFilter(aConfiguration);
+    }
+
+    /**
+     * Check if message must be suppressed. Repeats summaries are logged by specified logger.
+     * @param aLogger - logger.
+     * @param aLevel - message level.
+     * @param aMessage - message template.
+     * @param anArgumentsCount - count of arguments (negative for structured events, which are never collapsed).
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     * @param anArguments - all arguments (null, if there are three or fewer arguments).
+     * @param aTimeMillis - message time.
+     * @return - true, if message must be suppressed.
+     */
+    boolean isFiltered(LoggerImpl aLogger, LoggingMessageLevel aLevel, String aMessage, int anArgumentsCount,
+                       Object anArg0, Object anArg1, Object anArg2, Object[] anArguments, long aTimeMillis) {
+        long nowNanos = System.nanoTime();
+        if (this.loggerBucket != null && !this.loggerBucket.tryAcquire(nowNanos)) return true;
+        if (this.templateRateLimiter != null && !this.templateRateLimiter.tryAcquire(aMessage, nowNanos)) return true;
+        if (this.summaryIntervalMillis < 0L || anArgumentsCount < 0) return false;
+
+        LastMessage last = this.lastMessage.get();
+        if (last != null && last.isSame(aLevel, aMessage, anArgumentsCount, anArg0, anArg1, anArg2, anArguments)) {
+            last.repeats.incrementAndGet();
+            long summaryTime = last.summaryNanos.get();
+            if (nowNanos - summaryTime >= this.summaryIntervalNanos && last.summaryNanos.compareAndSet(summaryTime, nowNanos))
+                this.logRepeats(aLogger, last, aTimeMillis);
+            else if (last.isSummaryScheduled.compareAndSet(false, true))
+                this.scheduleSummary(aLogger, last, summaryTime + this.summaryIntervalNanos - nowNanos);
+            return true;
+        }
+        LastMessage previous = this.lastMessage.getAndSet(new LastMessage(aLevel, aMessage, anArgumentsCount, anArg0, anArg1, anArg2, anArguments, nowNanos));
+        if (previous != null) this.logRepeats(aLogger, previous, aTimeMillis);
+        return false;
+    }
+
+    /**
+     * Schedule summary of repeats of message, which is logged, if identical messages stop coming.
+     * @param aLogger - logger.
+     * @param aMessage - repeated message.
+     * @param aDelayNanos - delay of summary.
+     */
+    private void scheduleSummary(LoggerImpl aLogger, LastMessage aMessage, long aDelayNanos) {
+        ExecutorHolder.EXECUTOR.schedule(() -> {
+            aMessage.isSummaryScheduled.set(false);
+            aMessage.summaryNanos.set(System.nanoTime());
+            try {
+                this.logRepeats(aLogger, aMessage, System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                LoggingConfiguration.reportError("Summary of repeated messages isn't logged", e);
+            }
+        }, Math.max(0L, aDelayNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Log summary of not reported repeats of last message (for example, before configuration is closed).
+     * @param aLogger - logger.
+     */
+    void flushRepeats(LoggerImpl aLogger) {
+        LastMessage last = this.lastMessage.get();
+        if (last != null) this.logRepeats(aLogger, last, System.currentTimeMillis());
+    }
+
+    private void logRepeats(LoggerImpl aLogger, LastMessage aMessage, long aTimeMillis) {
+        long repeats = aMessage.repeats.getAndSet(0L);
+        if (repeats > 0L) aLogger.logUnfiltered(aMessage.level, REPEATED_MESSAGE, 1, repeats, null, null, null, aTimeMillis);
+    }
+
+    /**
+     * Immutable last message with its repeats counter.
+     */
+    private static final class LastMessage {
+
+        private final LoggingMessageLevel level; // Message level;
+        private final String message; // Message template;
+        private final int argumentsCount; // Count of arguments;
+        private final Object arg0; // First argument;
+        private final Object arg1; // Second argument;
+        private final Object arg2; // Third argument;
+        private final Object[] arguments; // All arguments (null, if there are three or fewer arguments);
+        private final AtomicLong repeats = new AtomicLong(); // Count of not reported repeats;
+        private final AtomicLong summaryNanos; // Time of last summary (System.nanoTime());
+        private final AtomicBoolean isSummaryScheduled = new AtomicBoolean(); // FLAG: Is delayed summary scheduled;
+
+        private LastMessage(LoggingMessageLevel aLevel, String aMessage, int anArgumentsCount,
+                            Object anArg0, Object anArg1, Object anArg2, Object[] anArguments, long aNanoTime) {
+            this.level = aLevel;
+            this.message = aMessage;
+            this.argumentsCount = anArgumentsCount;
+            this.arg0 = anArg0;
+            this.arg1 = anArg1;
+            this.arg2 = anArg2;
+            this.arguments = anArguments;
+            this.summaryNanos = new AtomicLong(aNanoTime);
+        }
+
+        private boolean isSame(LoggingMessageLevel aLevel, String aMessage, int anArgumentsCount,
+                               Object anArg0, Object anArg1, Object anArg2, Object[] anArguments) {
+            if (this.level != aLevel || this.argumentsCount != anArgumentsCount || !Objects.equals(this.message, aMessage)) return false;
+            if (anArguments != null || this.arguments != null) return Arrays.equals(this.arguments, anArguments);
+            return Objects.equals(this.arg0, anArg0) && Objects.equals(this.arg1, anArg1) && Objects.equals(this.arg2, anArg2);
+        }
+    }
+}
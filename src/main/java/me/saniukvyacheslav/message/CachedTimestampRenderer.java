@@ -0,0 +1,125 @@
+package me.saniukvyacheslav.message;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Renderer of timestamps with cached text.
+ * Rendered text is cached for time window (one second, or one millisecond, if format contains fractions of second)
+ * and is re-rendered only when timestamp moves out of cached window. So, at high message rates
+ * the most of timestamps are rendered by single append of cached string.
+ * Renderer is thread-safe: cached text and its window are published as single immutable object.
+ */
+public final class CachedTimestampRenderer {
+
+    private static final long SECOND_WINDOW = 1000L; // Window of formats without fractions of second;
+    private static final long MILLISECOND_WINDOW = 1L; // Window of formats with fractions of second and epoch millis;
+
+    private final DateTimeFormatter formatter; // Time formatter (null - render epoch millis);
+    private final long windowMillis; // Cache window;
+    private volatile CachedText cachedText = new CachedText(Long.MIN_VALUE, Long.MIN_VALUE, ""); // Cached text;
+
+    /**
+     * Construct new renderer.
+     * @param aFormatter - time formatter (null - render epoch millis).
+     * @param aWindowMillis - cache window.
+     */
+    private CachedTimestampRenderer(DateTimeFormatter aFormatter, long aWindowMillis) {
+        this.formatter = aFormatter;
+        this.windowMillis = aWindowMillis;
+    }
+
+    /**
+     * Create renderer of time in specified format (see {@link DateTimeFormatter#ofPattern(String)}) in system time zone.
+     * Cache window depends on format: if format contains fractions of second, text is cached per millisecond, otherwise per second.
+     * @param aFormat - time format.
+     * @return - renderer.
+     */
+    public static CachedTimestampRenderer ofPattern(String aFormat) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(aFormat).withZone(ZoneId.systemDefault());
+        return new CachedTimestampRenderer(formatter, isSubSecondPattern(aFormat) ? MILLISECOND_WINDOW : SECOND_WINDOW);
+    }
+
+    /**
+     * Create renderer of time in specified format.
+     * Because precision of formatter is unknown, text is cached per millisecond.
+     * @param aFormatter - time formatter (if formatter hasn't time zone, system time zone is used).
+     * @return - renderer.
+     */
+    public static CachedTimestampRenderer ofFormatter(DateTimeFormatter aFormatter) {
+        DateTimeFormatter formatter = aFormatter.getZone() == null ? aFormatter.withZone(ZoneId.systemDefault()) : aFormatter;
+        return new CachedTimestampRenderer(formatter, MILLISECOND_WINDOW);
+    }
+
+    /**
+     * Create renderer of milliseconds since epoch.
+     * @return - renderer.
+     */
+    public static CachedTimestampRenderer ofEpochMillis() {
+        return new CachedTimestampRenderer(null, MILLISECOND_WINDOW);
+    }
+
+    /**
+     * Check if time format contains fields with fractions of second.
+     * @param aFormat - time format.
+     * @return - true, if format must be rendered per millisecond.
+     */
+    private static boolean isSubSecondPattern(String aFormat) {
+        boolean isQuoted = false;
+        for (int i = 0; i < aFormat.length(); i++) {
+            char symbol = aFormat.charAt(i);
+            if (symbol == '\'') isQuoted = !isQuoted;
+            else if (!isQuoted && (symbol == 'S' || symbol == 'n' || symbol == 'N' || symbol == 'A')) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get cache window.
+     * @return - window in milliseconds.
+     */
+    public long getWindowMillis() {
+        return this.windowMillis;
+    }
+
+    /**
+     * Render timestamp into builder.
+     * @param aBuilder - builder.
+     * @param aTimeMillis - timestamp in milliseconds since epoch.
+     */
+    public void render(StringBuilder aBuilder, long aTimeMillis) {
+        aBuilder.append(this.getText(aTimeMillis));
+    }
+
+    /**
+     * Get rendered timestamp.
+     * @param aTimeMillis - timestamp in milliseconds since epoch.
+     * @return - rendered text.
+     */
+    public String getText(long aTimeMillis) {
+        CachedText cached = this.cachedText;
+        if (aTimeMillis >= cached.windowStart && aTimeMillis < cached.windowEnd) return cached.text;
+
+        long windowStart = aTimeMillis - Math.floorMod(aTimeMillis, this.windowMillis);
+        String text = this.formatter == null ? Long.toString(aTimeMillis) : this.formatter.format(Instant.ofEpochMilli(aTimeMillis));
+        this.cachedText = new CachedText(windowStart, windowStart + this.windowMillis, text);
+        return text;
+    }
+
+    /**
+     * Cached text with its time window.
+     */
+    private static final class CachedText {
+
+        private final long windowStart; // Window start (inclusive);
+        private final long windowEnd; // Window end (exclusive);
+        private final String text; // Rendered text;
+
+        private CachedText(long aWindowStart, long aWindowEnd, String aText) {
+            this.windowStart = aWindowStart;
+            this.windowEnd = aWindowEnd;
+            this.text = aText;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package me.saniukvyacheslav.message;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Single logging event.
+ * Hold all data which is needed to render logging message by {@link LoggingMessageTemplate} template.
+ * If event has arguments, message is a parameterized template ({@link ParameterizedMessageFormatter}),
+ * which is formatted only when message is rendered.
+ * Structured events also have key-value fields. Fields are stored in reusable arrays,
+ * so values of primitive fields aren't boxed.
+ * Instances of this class are mutable and can be reused for many events.
+ */
+@Getter
+public class LoggingEvent {
+
+    private static final int INITIAL_FIELDS_CAPACITY = 8; // Initial capacity of fields arrays;
+
+    private String loggerName; // Logger name;
+    private LoggingMessageLevel level; // Message level;
+    private String message; // Original message (or message template, if event has arguments);
+    private long timeMillis; // Event time in milliseconds since epoch;
+    private String caller; // Rendered location of code, which logs event (null, if location isn't captured);
+    private int argumentsCount; // Count of message arguments;
+    private Object argument0; // First message argument;
+    private Object argument1; // Second message argument;
+    private Object argument2; // Third message argument;
+    private Object[] arguments; // All message arguments (if there are more than three arguments);
+    private int fieldsCount; // Count of key-value fields;
+    @Getter(AccessLevel.NONE) private String[] fieldsKeys = new String[INITIAL_FIELDS_CAPACITY]; // Keys of fields;
+    @Getter(AccessLevel.NONE) private LoggingEventFieldType[] fieldsTypes = new LoggingEventFieldType[INITIAL_FIELDS_CAPACITY]; // Types of fields;
+    @Getter(AccessLevel.NONE) private long[] fieldsLongs = new long[INITIAL_FIELDS_CAPACITY]; // Values of integer and boolean fields;
+    @Getter(AccessLevel.NONE) private double[] fieldsDoubles = new double[INITIAL_FIELDS_CAPACITY]; // Values of floating-point fields;
+    @Getter(AccessLevel.NONE) private Object[] fieldsObjects = new Object[INITIAL_FIELDS_CAPACITY]; // Values of object fields;
+
+    /**
+     * Set all event data. Event arguments and caller location are reset, event fields aren't changed.
+     * @param aLoggerName - logger name.
+     * @param aLevel - message level.
+     * @param aMessage - original message.
+     * @param aTimeMillis - event time in milliseconds since epoch.
+     * @return - this event.
+     */
+    public LoggingEvent set(String aLoggerName, LoggingMessageLevel aLevel, String aMessage, long aTimeMillis) {
+        this.loggerName = aLoggerName;
+        this.level = aLevel;
+        this.message = aMessage;
+        this.timeMillis = aTimeMillis;
+        this.caller = null;
+        return this.setArguments(0, null, null, null, null);
+    }
+
+    /**
+     * Set location of code, which logs event (see {@link PatternModifierCaller}).
+     * @param aCaller - rendered caller location.
+     * @return - this event.
+     */
+    public LoggingEvent setCaller(String aCaller) {
+        this.caller = aCaller;
+        return this;
+    }
+
+    /**
+     * Set message arguments.
+     * @param anArgumentsCount - count of arguments.
+     * @param anArg0 - first argument.
+     * @param anArg1 - second argument.
+     * @param anArg2 - third argument.
+     * @param anArguments - all arguments (null, if there are three or fewer arguments).
+     * @return - this event.
+     */
+    public LoggingEvent setArguments(int anArgumentsCount, Object anArg0, Object anArg1, Object anArg2, Object[] anArguments) {
+        this.argumentsCount = anArgumentsCount;
+        this.argument0 = anArg0;
+        this.argument1 = anArg1;
+        this.argument2 = anArg2;
+        this.arguments = anArguments;
+        return this;
+    }
+
+    /**
+     * Get message argument.
+     * @param anIndex - argument index.
+     * @return - argument.
+     */
+    public Object getArgument(int anIndex) {
+        if (this.arguments != null) return this.arguments[anIndex];
+        if (anIndex == 0) return this.argument0;
+        if (anIndex == 1) return this.argument1;
+        return this.argument2;
+    }
+
+    /**
+     * Add integer field.
+     * @param aKey - field key.
+     * @param aValue - field value.
+     * @return - this event.
+     */
+    public LoggingEvent addField(String aKey, long aValue) {
+        int index = this.nextField(aKey, LoggingEventFieldType.LONG);
+        this.fieldsLongs[index] = aValue;
+        return this;
+    }
+
+    /**
+     * Add floating-point field.
+     * @param aKey - field key.
+     * @param aValue - field value.
+     * @return - this event.
+     */
+    public LoggingEvent addField(String aKey, double aValue) {
+        int index = this.nextField(aKey, LoggingEventFieldType.DOUBLE);
+        this.fieldsDoubles[index] = aValue;
+        return this;
+    }
+
+    /**
+     * Add boolean field.
+     * @param aKey - field key.
+     * @param aValue - field value.
+     * @return - this event.
+     */
+    public LoggingEvent addField(String aKey, boolean aValue) {
+        int index = this.nextField(aKey, LoggingEventFieldType.BOOLEAN);
+        this.fieldsLongs[index] = aValue ? 1L : 0L;
+        return this;
+    }
+
+    /**
+     * Add object field.
+     * @param aKey - field key.
+     * @param aValue - field value.
+     * @return - this event.
+     */
+    public LoggingEvent addField(String aKey, Object aValue) {
+        int index = this.nextField(aKey, LoggingEventFieldType.OBJECT);
+        this.fieldsObjects[index] = aValue;
+        return this;
+    }
+
+    /**
+     * Reserve next field, grow fields arrays if needed.
+     * If event already has field with the same key, this field is replaced (the last value wins).
+     * @param aKey - field key.
+     * @param aType - field type.
+     * @return - field index.
+     */
+    private int nextField(String aKey, LoggingEventFieldType aType) {
+        for (int i = 0; i < this.fieldsCount; i++) {
+            if (Objects.equals(this.fieldsKeys[i], aKey)) {
+                this.fieldsTypes[i] = aType;
+                this.fieldsObjects[i] = null;
+                return i;
+            }
+        }
+        int index = this.fieldsCount;
+        if (index == this.fieldsKeys.length) {
+            int capacity = index * 2;
+            this.fieldsKeys = Arrays.copyOf(this.fieldsKeys, capacity);
+            this.fieldsTypes = Arrays.copyOf(this.fieldsTypes, capacity);
+            this.fieldsLongs = Arrays.copyOf(this.fieldsLongs, capacity);
+            this.fieldsDoubles = Arrays.copyOf(this.fieldsDoubles, capacity);
+            this.fieldsObjects = Arrays.copyOf(this.fieldsObjects, capacity);
+        }
+        this.fieldsKeys[index] = aKey;
+        this.fieldsTypes[index] = aType;
+        this.fieldsCount = index + 1;
+        return index;
+    }
+
+    /**
+     * Get field key.
+     * @param anIndex - field index.
+     * @return - field key.
+     */
+    public String getFieldKey(int anIndex) {
+        return this.fieldsKeys[anIndex];
+    }
+
+    /**
+     * Get field type.
+     * @param anIndex - field index.
+     * @return - field type.
+     */
+    public LoggingEventFieldType getFieldType(int anIndex) {
+        return this.fieldsTypes[anIndex];
+    }
+
+    /**
+     * Get value of integer field.
+     * @param anIndex - field index.
+     * @return - field value.
+     */
+    public long getFieldLong(int anIndex) {
+        return this.fieldsLongs[anIndex];
+    }
+
+    /**
+     * Get value of floating-point field.
+     * @param anIndex - field index.
+     * @return - field value.
+     */
+    public double getFieldDouble(int anIndex) {
+        return this.fieldsDoubles[anIndex];
+    }
+
+    /**
+     * Get value of boolean field.
+     * @param anIndex - field index.
+     * @return - field value.
+     */
+    public boolean getFieldBoolean(int anIndex) {
+        return this.fieldsLongs[anIndex] != 0L;
+    }
+
+    /**
+     * Get value of object field.
+     * @param anIndex - field index.
+     * @return - field value.
+     */
+    public Object getFieldObject(int anIndex) {
+        return this.fieldsObjects[anIndex];
+    }
+
+    /**
+     * Remove all fields of this event.
+     * @return - this event.
+     */
+    public LoggingEvent clearFields() {
+        if (this.fieldsCount > 0) Arrays.fill(this.fieldsObjects, 0, this.fieldsCount, null);
+        this.fieldsCount = 0;
+        return this;
+    }
+
+    /**
+     * Copy all data of specified event to this event.
+     * @param anEvent - source event.
+     * @return - this event.
+     */
+    public LoggingEvent copyFrom(LoggingEvent anEvent) {
+        this.set(anEvent.loggerName, anEvent.level, anEvent.message, anEvent.timeMillis);
+        this.caller = anEvent.caller;
+        this.clearFields();
+        for (int i = 0; i < anEvent.fieldsCount; i++) {
+            int index = this.nextField(anEvent.fieldsKeys[i], anEvent.fieldsTypes[i]);
+            this.fieldsLongs[index] = anEvent.fieldsLongs[i];
+            this.fieldsDoubles[index] = anEvent.fieldsDoubles[i];
+            this.fieldsObjects[index] = anEvent.fieldsObjects[i];
+        }
+        return this.setArguments(anEvent.argumentsCount, anEvent.argument0, anEvent.argument1, anEvent.argument2, anEvent.arguments);
+    }
+
+    /**
+     * Append message and fields to builder (for example, "Order is placed. orderId=42 ms=12").
+     * If event has arguments, message template is formatted with them.
+     * @param aBuilder - message builder.
+     */
+    public void appendMessage(StringBuilder aBuilder) {
+        this.appendFormattedMessage(aBuilder);
+        for (int i = 0; i < this.fieldsCount; i++) {
+            aBuilder.append(' ').append(this.fieldsKeys[i]).append('=');
+            switch (this.fieldsTypes[i]) {
+                case LONG: aBuilder.append(this.fieldsLongs[i]); break;
+                case DOUBLE: aBuilder.append(this.fieldsDoubles[i]); break;
+                case BOOLEAN: aBuilder.append(this.fieldsLongs[i] != 0L); break;
+                default: aBuilder.append(this.fieldsObjects[i]);
+            }
+        }
+    }
+
+    /**
+     * Append message without fields to builder. If event has arguments, message template is formatted with them.
+     * @param aBuilder - message builder.
+     */
+    public void appendFormattedMessage(StringBuilder aBuilder) {
+        if (this.argumentsCount == 0) aBuilder.append(this.message);
+        else ParameterizedMessageFormatter.format(aBuilder, this.message, this.argumentsCount, this.argument0, this.argument1, this.argument2, this.arguments);
+    }
+
+    /**
+     * Get message (without fields), formatted with arguments.
+     * @return - formatted message.
+     */
+    public String getFormattedMessage() {
+        if (this.argumentsCount == 0) return this.message;
+        StringBuilder builder = new StringBuilder(this.message.length() + 32);
+        this.appendFormattedMessage(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Clear event data and fields, so event doesn't hold references on logged objects.
+     */
+    public void clear() {
+        this.set(null, null, null, 0L);
+        this.clearFields();
+    }
+}
@@ -0,0 +1,25 @@
+package me.saniukvyacheslav.message;
+
+/**
+ * Types of key-value fields of structured logging events ({@link LoggingEvent}).
+ * Primitive fields are stored unboxed.
+ */
+public enum LoggingEventFieldType {
+
+    /**
+     * Integer number field (byte, short, int, long).
+     */
+    LONG,
+    /**
+     * Floating-point number field (float, double).
+     */
+    DOUBLE,
+    /**
+     * Boolean field.
+     */
+    BOOLEAN,
+    /**
+     * Object field (strings and all other objects).
+     */
+    OBJECT
+}
@@ -0,0 +1,132 @@
+package me.saniukvyacheslav.message;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Reusable renderer of logging messages.
+ * Renderer render logging event by {@link LoggingMessageTemplate} template into reusable builder and
+ * encode it into reusable byte buffer by cached charset encoder (default charset), so in steady state
+ * rendering of logging message doesn't allocate any objects.
+ * Each thread has own renderer instance ({@link #current()}).
+ */
+public final class LoggingMessageRenderer {
+
+    private static final int INITIAL_CAPACITY = 512; // Initial capacity of buffers;
+    private static final ThreadLocal<LoggingMessageRenderer> RENDERERS = ThreadLocal.withInitial(LoggingMessageRenderer::new);
+
+    private final LoggingEvent event = new LoggingEvent(); // Reusable event;
+    private final StringBuilder builder = new StringBuilder(INITIAL_CAPACITY); // Reusable message builder;
+    private final CharsetEncoder encoder; // Cached encoder;
+    private char[] chars = new char[INITIAL_CAPACITY]; // Copy of message chars;
+    private CharBuffer charBuffer = CharBuffer.wrap(this.chars); // Encoder input;
+    private ByteBuffer byteBuffer; // Encoder output;
+    private boolean isInUse = false; // FLAG: Is renderer used now (guard against recursive logging);
+
+    /**
+     * Construct new renderer.
+     */
+    private LoggingMessageRenderer() {
+        this.encoder = Charset.defaultCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.byteBuffer = ByteBuffer.allocate((int) (INITIAL_CAPACITY * this.encoder.maxBytesPerChar()));
+    }
+
+    /**
+     * Get renderer of current thread.
+     * @return - renderer.
+     */
+    public static LoggingMessageRenderer current() {
+        return RENDERERS.get();
+    }
+
+    /**
+     * Check if renderer is used now by current thread (for example, when output log message by itself).
+     * In this case caller must not use this renderer.
+     * @return - true, if renderer is used now.
+     */
+    public boolean isInUse() {
+        return this.isInUse;
+    }
+
+    /**
+     * Get reusable event of this renderer and mark renderer as used.
+     * Renderer must be released by {@link #release()} method.
+     * @return - reusable event.
+     */
+    public LoggingEvent acquireEvent() {
+        this.isInUse = true;
+        return this.event;
+    }
+
+    /**
+     * Mark renderer as used without using its reusable event.
+     * Renderer must be released by {@link #release()} method.
+     */
+    public void acquire() {
+        this.isInUse = true;
+    }
+
+    /**
+     * Release renderer: clear reusable event and mark renderer as unused.
+     */
+    public void release() {
+        this.event.clear();
+        this.isInUse = false;
+    }
+
+    /**
+     * Render logging event by template into reusable builder.
+     * @param aTemplate - logging message template.
+     * @param anEvent - logging event.
+     * @return - rendered message.
+     */
+    public String render(LoggingMessageTemplate aTemplate, LoggingEvent anEvent) {
+        this.builder.setLength(0);
+        aTemplate.render(this.builder, anEvent);
+        return this.builder.toString();
+    }
+
+    /**
+     * Render logging event by template and encode rendered message.
+     * Returned buffer is reused by next calls.
+     * @param aTemplate - logging message template.
+     * @param anEvent - logging event.
+     * @return - buffer with encoded message (without line separator), ready for reading.
+     */
+    public ByteBuffer encode(LoggingMessageTemplate aTemplate, LoggingEvent anEvent) {
+        this.builder.setLength(0);
+        aTemplate.render(this.builder, anEvent);
+        return this.encode(this.builder);
+    }
+
+    /**
+     * Encode chars sequence.
+     * Returned buffer is reused by next calls.
+     * @param aChars - chars to encode.
+     * @return - buffer with encoded chars, ready for reading.
+     */
+    public ByteBuffer encode(StringBuilder aChars) {
+        int length = aChars.length();
+        if (this.chars.length < length) {
+            this.chars = new char[Math.max(length, this.chars.length * 2)];
+            this.charBuffer = CharBuffer.wrap(this.chars);
+        }
+        int maxBytes = (int) Math.ceil(length * (double) this.encoder.maxBytesPerChar());
+        if (this.byteBuffer.capacity() < maxBytes) this.byteBuffer = ByteBuffer.allocate(Math.max(maxBytes, this.byteBuffer.capacity() * 2));
+
+        aChars.getChars(0, length, this.chars, 0);
+        this.charBuffer.clear();
+        this.charBuffer.limit(length);
+        this.byteBuffer.clear();
+        this.encoder.reset();
+        this.encoder.encode(this.charBuffer, this.byteBuffer, true);
+        this.encoder.flush(this.byteBuffer);
+        this.byteBuffer.flip();
+        return this.byteBuffer;
+    }
+}
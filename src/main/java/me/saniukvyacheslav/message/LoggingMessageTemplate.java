@@ -0,0 +1,159 @@
+package me.saniukvyacheslav.message;
+
+import lombok.Getter;
+import me.saniukvyacheslav.util.string.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled logging message pattern.
+ * Pattern is parsed once into immutable list of literal and token segments,
+ * so logging message is rendered with single pass into single builder without regex replacements.
+ */
+public final class LoggingMessageTemplate {
+
+    public static final String MESSAGE_TOKEN = "%MSG%";
+    @Getter private final String pattern; // Original pattern;
+    @Getter private final List<PatternSegment> segments; // Compiled segments;
+    private final PatternSegment[] segmentsArray; // Compiled segments (for iteration without iterator);
+    private final boolean isCallerRequired; // FLAG: Is caller location rendered by template;
+
+    /**
+     * Construct new template.
+     * @param aPattern - original pattern.
+     * @param aSegments - compiled segments.
+     */
+    private LoggingMessageTemplate(String aPattern, List<PatternSegment> aSegments) {
+        this.pattern = aPattern;
+        this.segments = Collections.unmodifiableList(aSegments);
+        this.segmentsArray = aSegments.toArray(new PatternSegment[0]);
+        boolean isCallerRequired = false;
+        for (PatternSegment segment : this.segmentsArray) isCallerRequired |= segment instanceof PatternModifierCaller;
+        this.isCallerRequired = isCallerRequired;
+    }
+
+    /**
+     * Compile logging message pattern with all standard modifiers ({@link PatternModifierTime} with default time format,
+     * epoch millis and ISO date-time modifiers, {@link PatternModifierName}, {@link PatternModifierLevel} and {@link PatternModifierCaller}).
+     * @param aPattern - logging message pattern.
+     * @return - compiled template.
+     * @throws IllegalArgumentException - if pattern hasn't required "%MSG%" token.
+     */
+    public static LoggingMessageTemplate compile(String aPattern) {
+        return compile(aPattern, Arrays.asList(new PatternModifierTime(), PatternModifierTime.ofEpochMillis(),
+                PatternModifierTime.ofIsoDateTime(), new PatternModifierName(), new PatternModifierLevel(), new PatternModifierCaller()));
+    }
+
+    /**
+     * Compile logging message pattern.
+     * Each occurrence of modifier token is replaced with modifier segment, each occurrence of "%MSG%" token is replaced with message segment,
+     * all other chars sequences become literal segments.
+     * @param aPattern - logging message pattern.
+     * @param aModifiers - modifiers which can be used in pattern.
+     * @return - compiled template.
+     * @throws IllegalArgumentException - if pattern hasn't required "%MSG%" token.
+     */
+    public static LoggingMessageTemplate compile(String aPattern, List<? extends PatternModifier> aModifiers) {
+        StringUtils.checkString(aPattern, "aPattern");
+        if (!aPattern.contains(MESSAGE_TOKEN))
+            throw new IllegalArgumentException("Logging message pattern string must have required [%MSG%] chars sequence.");
+
+        List<PatternSegment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < aPattern.length()) {
+            PatternSegment tokenSegment = null;
+            int tokenLength = 0;
+            if (aPattern.startsWith(MESSAGE_TOKEN, index)) {
+                tokenSegment = MessageSegment.INSTANCE;
+                tokenLength = MESSAGE_TOKEN.length();
+            } else {
+                for (PatternModifier modifier : aModifiers) {
+                    if (aPattern.startsWith(modifier.getToken(), index)) {
+                        tokenSegment = modifier;
+                        tokenLength = modifier.getToken().length();
+                        break;
+                    }
+                }
+            }
+
+            if (tokenSegment == null) { // Literal char;
+                literal.append(aPattern.charAt(index));
+                index++;
+                continue;
+            }
+
+            // Token:
+            if (literal.length() > 0) {
+                segments.add(new LiteralSegment(literal.toString()));
+                literal.setLength(0);
+            }
+            segments.add(tokenSegment);
+            index += tokenLength;
+        }
+        if (literal.length() > 0) segments.add(new LiteralSegment(literal.toString()));
+
+        return new LoggingMessageTemplate(aPattern, segments);
+    }
+
+    /**
+     * Check if template renders caller location ("%CALLER%" token). Only in this case loggers capture locations of their callers.
+     * @return - true, if caller location is required.
+     */
+    public boolean isCallerRequired() {
+        return this.isCallerRequired;
+    }
+
+    /**
+     * Render logging message for specified event into builder.
+     * @param aBuilder - logging message builder.
+     * @param anEvent - logging event.
+     */
+    public void render(StringBuilder aBuilder, LoggingEvent anEvent) {
+        for (PatternSegment segment : this.segmentsArray) segment.render(aBuilder, anEvent);
+    }
+
+    /**
+     * Render logging message for specified event.
+     * @param anEvent - logging event.
+     * @return - logging message.
+     */
+    public String render(LoggingEvent anEvent) {
+        StringBuilder builder = new StringBuilder(this.pattern.length() + 64);
+        this.render(builder, anEvent);
+        return builder.toString();
+    }
+
+    /**
+     * Literal text segment.
+     */
+    private static final class LiteralSegment implements PatternSegment {
+
+        private final String text; // Literal text;
+
+        private LiteralSegment(String aText) {
+            this.text = aText;
+        }
+
+        @Override
+        public void render(StringBuilder aBuilder, LoggingEvent anEvent) {
+            aBuilder.append(this.text);
+        }
+    }
+
+    /**
+     * Original message segment ("%MSG%" token).
+     */
+    private static final class MessageSegment implements PatternSegment {
+
+        private static final MessageSegment INSTANCE = new MessageSegment();
+
+        @Override
+        public void render(StringBuilder aBuilder, LoggingEvent anEvent) {
+            anEvent.appendMessage(aBuilder);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package me.saniukvyacheslav.message;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Formatter of parameterized messages with "{}" placeholders (for example, "Order [{}] is placed by {}.").
+ * Each placeholder is replaced with next argument. If there are fewer arguments than placeholders,
+ * remaining placeholders are kept as is; extra arguments are ignored.
+ * Positions of placeholders are parsed once per message template and cached.
+ * Cache is bounded: when it's full, templates, which weren't used since last sweep, are evicted by CLOCK algorithm,
+ * so frequently used templates stay cached, while rarely used (for example, dynamically built) templates are replaced.
+ */
+public final class ParameterizedMessageFormatter {
+
+    public static final String PLACEHOLDER = "{}";
+    private static final int MAX_CACHED_TEMPLATES = 4096; // Max count of cached templates;
+    private static final int[] NO_PLACEHOLDERS = new int[0];
+    private static final Map<String, CachedTemplate> PLACEHOLDERS_CACHE = new ConcurrentHashMap<>(); // Cached placeholders positions;
+    private static final String[] CLOCK = new String[MAX_CACHED_TEMPLATES]; // Cached templates in order of CLOCK sweep (guarded by CLOCK_LOCK);
+    private static final ReentrantLock CLOCK_LOCK = new ReentrantLock(); // Lock of cache updates;
+    private static int clockHand = 0; // Current position of CLOCK sweep (guarded by CLOCK_LOCK);
+    private static int clockSize = 0; // Count of cached templates (guarded by CLOCK_LOCK);
+
+    private ParameterizedMessageFormatter() {}
+
+    /**
+     * Get positions of placeholders in message template.
+     * Positions are cached. If cache is full, least recently used template is evicted (approximately).
+     * @param aTemplate - message template.
+     * @return - positions of placeholders.
+     */
+    public static int[] getPlaceholders(String aTemplate) {
+        CachedTemplate cached = PLACEHOLDERS_CACHE.get(aTemplate);
+        if (cached != null) {
+            // Avoid writing shared memory on every hit:
+            if (!cached.isReferenced) cached.isReferenced = true;
+            return cached.placeholders;
+        }
+
+        int[] placeholders = parse(aTemplate);
+        cache(aTemplate, placeholders);
+        return placeholders;
+    }
+
+    /**
+     * Put template into cache. If cache is full, evict first template, which isn't referenced since last sweep.
+     * @param aTemplate - message template.
+     * @param aPlaceholders - positions of placeholders.
+     */
+    private static void cache(String aTemplate, int[] aPlaceholders) {
+        CLOCK_LOCK.lock();
+        try {
+            if (PLACEHOLDERS_CACHE.containsKey(aTemplate)) return;
+            if (clockSize < MAX_CACHED_TEMPLATES) {
+                CLOCK[clockSize++] = aTemplate;
+            } else {
+                while (true) {
+                    CachedTemplate candidate = PLACEHOLDERS_CACHE.get(CLOCK[clockHand]);
+                    if (candidate == null || !candidate.isReferenced) break;
+                    candidate.isReferenced = false;
+                    clockHand = (clockHand + 1) % MAX_CACHED_TEMPLATES;
+                }
+                PLACEHOLDERS_CACHE.remove(CLOCK[clockHand]);
+                CLOCK[clockHand] = aTemplate;
+                clockHand = (clockHand + 1) % MAX_CACHED_TEMPLATES;
+            }
+            PLACEHOLDERS_CACHE.put(aTemplate, new CachedTemplate(aPlaceholders));
+        } finally {
+            CLOCK_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Parse positions of placeholders in message template.
+     * @param aTemplate - message template.
+     * @return - positions of placeholders.
+     */
+    private static int[] parse(String aTemplate) {
+        int count = 0;
+        int index = aTemplate.indexOf(PLACEHOLDER);
+        while (index >= 0) {
+            count++;
+            index = aTemplate.indexOf(PLACEHOLDER, index + PLACEHOLDER.length());
+        }
+        if (count == 0) return NO_PLACEHOLDERS;
+
+        int[] placeholders = new int[count];
+        index = aTemplate.indexOf(PLACEHOLDER);
+        for (int i = 0; i < count; i++) {
+            placeholders[i] = index;
+            index = aTemplate.indexOf(PLACEHOLDER, index + PLACEHOLDER.length());
+        }
+        return placeholders;
+    }
+
+    /**
+     * Format message template with arguments into builder.
+     * First three arguments are passed as separate parameters, so callers with up to three arguments don't allocate arrays.
+     * @param aBuilder - message builder.
+     * @param aTemplate - message template.
+     * @param anArgumentsCount - count of arguments.
+     * @param anArg0 - first argument (if arguments array is null).
+     * @param anArg1 - second argument (if arguments array is null).
+     * @param anArg2 - third argument (if arguments array is null).
+     * @param anArguments - all arguments (may be null).
+     */
+    public static void format(StringBuilder aBuilder, String aTemplate, int anArgumentsCount, Object anArg0, Object anArg1, Object anArg2, Object[] anArguments) {
+        if (aTemplate == null) {
+            aBuilder.append((String) null);
+            return;
+        }
+        int[] placeholders = getPlaceholders(aTemplate);
+        int textStart = 0;
+        int count = Math.min(placeholders.length, anArgumentsCount);
+        for (int i = 0; i < count; i++) {
+            aBuilder.append(aTemplate, textStart, placeholders[i]);
+            Object argument;
+            if (anArguments != null) argument = anArguments[i];
+            else if (i == 0) argument = anArg0;
+            else if (i == 1) argument = anArg1;
+            else argument = anArg2;
+            appendArgument(aBuilder, argument);
+            textStart = placeholders[i] + PLACEHOLDER.length();
+        }
+        aBuilder.append(aTemplate, textStart, aTemplate.length());
+    }
+
+    /**
+     * Format message template with arguments.
+     * @param aTemplate - message template.
+     * @param anArguments - arguments.
+     * @return - formatted message.
+     */
+    public static String format(String aTemplate, Object... anArguments) {
+        StringBuilder builder = new StringBuilder();
+        format(builder, aTemplate, anArguments.length, null, null, null, anArguments);
+        return builder.toString();
+    }
+
+    /**
+     * Append argument to builder. Primitive wrappers and chars sequences are appended without intermediate strings.
+     * @param aBuilder - message builder.
+     * @param anArgument - argument.
+     */
+    public static void appendArgument(StringBuilder aBuilder, Object anArgument) {
+        if (anArgument == null) aBuilder.append("null");
+        else if (anArgument instanceof CharSequence) aBuilder.append((CharSequence) anArgument);
+        else if (anArgument instanceof Integer || anArgument instanceof Long || anArgument instanceof Short || anArgument instanceof Byte)
+            aBuilder.append(((Number) anArgument).longValue());
+        else if (anArgument instanceof Boolean) aBuilder.append(((Boolean) anArgument).booleanValue());
+        else if (anArgument instanceof Character) aBuilder.append(((Character) anArgument).charValue());
+        else if (anArgument instanceof Object[]) aBuilder.append(Arrays.deepToString((Object[]) anArgument));
+        else if (anArgument.getClass().isArray()) appendPrimitiveArray(aBuilder, anArgument);
+        else aBuilder.append(anArgument);
+    }
+
+    /**
+     * Append array of primitives to builder.
+     * @param aBuilder - message builder.
+     * @param anArray - array of primitives.
+     */
+    private static void appendPrimitiveArray(StringBuilder aBuilder, Object anArray) {
+        if (anArray instanceof int[]) aBuilder.append(Arrays.toString((int[]) anArray));
+        else if (anArray instanceof long[]) aBuilder.append(Arrays.toString((long[]) anArray));
+        else if (anArray instanceof byte[]) aBuilder.append(Arrays.toString((byte[]) anArray));
+        else if (anArray instanceof short[]) aBuilder.append(Arrays.toString((short[]) anArray));
+        else if (anArray instanceof char[]) aBuilder.append(Arrays.toString((char[]) anArray));
+        else if (anArray instanceof boolean[]) aBuilder.append(Arrays.toString((boolean[]) anArray));
+        else if (anArray instanceof float[]) aBuilder.append(Arrays.toString((float[]) anArray));
+        else aBuilder.append(Arrays.toString((double[]) anArray));
+    }
+
+    /**
+     * Cached positions of placeholders of message template.
+     */
+    private static final class CachedTemplate {
+
+        private final int[] placeholders; // Positions of placeholders;
+        private volatile boolean isReferenced = false; // FLAG: Is template used since last CLOCK sweep;
+
+        private CachedTemplate(int[] aPlaceholders) {
+            this.placeholders = aPlaceholders;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package me.saniukvyacheslav.message;
 /**
  * Base interface for all logging messages modifiers.
  * Used for modify logging message before log.
+ * Each modifier is also a {@link PatternSegment} segment, which {@link LoggingMessageTemplate} template
+ * use in place of modifier token.
  */
-public interface PatternModifier {
+public interface PatternModifier extends PatternSegment {
 
     /**
      * Modify logging message pattern.
@@ -14,4 +16,10 @@ public interface PatternModifier {
      */
     String modify(String aPattern, Object... anArguments);
 
+    /**
+     * Get token chars sequence which this modifier replace in logging message pattern (for example "%TIME%").
+     * @return - token.
+     */
+    String getToken();
+
 }
@@ -0,0 +1,60 @@
+package me.saniukvyacheslav.message;
+
+import lombok.NoArgsConstructor;
+import me.saniukvyacheslav.util.string.RegexUtils;
+import me.saniukvyacheslav.util.string.StringUtils;
+
+import java.util.regex.Matcher;
+
+/**
+ * This class used for adding caller location to logging messages.
+ * if logging message pattern has "%CALLER%" chars sequence, this instance replace it with location of code,
+ * which calls logger (for example "com.shop.OrdersService.place(OrdersService.java:42)").
+ * Caller location is captured by logger only if pattern of configuration has "%CALLER%" token
+ * ({@link LoggingMessageTemplate#isCallerRequired()}), and is passed to modifier by {@link LoggingEvent#getCaller()} event.
+ */
+@NoArgsConstructor
+public class PatternModifierCaller implements PatternModifier {
+
+    public static final String CALLER_ARGUMENT_REGEX = "%CALLER%";
+    public static final String UNKNOWN_CALLER = "?"; // Rendered location, if event hasn't caller location;
+
+    /**
+     * Modify logging message pattern.
+     * Replace "%CALLER%" chars sequence with caller location.
+     * @param aPattern - logging message pattern.
+     * @param anArguments - modifier arguments (1-st [0] - caller location).
+     * @return - modified pattern.
+     */
+    @Override
+    public String modify(String aPattern, Object... anArguments) {
+        StringUtils.checkForNull(aPattern, "aPattern");
+        // Get caller location:
+        String caller = (String) anArguments[0];
+        StringUtils.checkString(caller, "anArguments[0]");
+
+        Matcher matcher = RegexUtils.match(aPattern, CALLER_ARGUMENT_REGEX);
+        if (matcher != null) return matcher.replaceFirst(Matcher.quoteReplacement(caller));
+        else return aPattern;
+    }
+
+    /**
+     * Get "%CALLER%" token.
+     * @return - token.
+     */
+    @Override
+    public String getToken() {
+        return CALLER_ARGUMENT_REGEX;
+    }
+
+    /**
+     * Render caller location.
+     * @param aBuilder - logging message builder.
+     * @param anEvent - logging event.
+     */
+    @Override
+    public void render(StringBuilder aBuilder, LoggingEvent anEvent) {
+        String caller = anEvent.getCaller();
+        aBuilder.append(caller != null ? caller : UNKNOWN_CALLER);
+    }
+}
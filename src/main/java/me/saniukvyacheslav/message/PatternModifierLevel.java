@@ -34,4 +34,23 @@ public class PatternModifierLevel implements PatternModifier {
         if (matcher != null) return matcher.replaceFirst(messageLevel.getLevelName());
         else return aPattern;
     }
+
+    /**
+     * Get "%LEVEL%" token.
+     * @return - token.
+     */
+    @Override
+    public String getToken() {
+        return LEVEl_ARGUMENT_REGEX;
+    }
+
+    /**
+     * Render message level name.
+     * @param aBuilder - logging message builder.
+     * @param anEvent - logging event.
+     */
+    @Override
+    public void render(StringBuilder aBuilder, LoggingEvent anEvent) {
+        aBuilder.append(anEvent.getLevel().getLevelName());
+    }
 }
@@ -34,4 +34,23 @@ public class PatternModifierName implements PatternModifier {
         if (matcher != null) return matcher.replaceFirst(loggerName);
         else return aPattern;
     }
+
+    /**
+     * Get "%NAME%" token.
+     * @return - token.
+     */
+    @Override
+    public String getToken() {
+        return NAME_ARGUMENT_REGEX;
+    }
+
+    /**
+     * Render logger name.
+     * @param aBuilder - logging message builder.
+     * @param anEvent - logging event.
+     */
+    @Override
+    public void render(StringBuilder aBuilder, LoggingEvent anEvent) {
+        aBuilder.append(anEvent.getLoggerName());
+    }
 }
@@ -1,11 +1,11 @@
 package me.saniukvyacheslav.message;
 
-import lombok.Setter;
+import lombok.Getter;
 import me.saniukvyacheslav.util.string.RegexUtils;
 import me.saniukvyacheslav.util.string.StringUtils;
 
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 import java.util.regex.Matcher;
 
 /**
@@ -14,18 +14,68 @@ import java.util.regex.Matcher;
  * Developers can set different time formats via
  * {@link me.saniukvyacheslav.logging.conf.LoggersConfiguration.LoggerConfigurationBuilder#setTimeFormat(String)} method
  * for different loggers configurations. By default, time format is "HH:mm:ss".
+ * Also, "%EPOCH_MILLIS%" (milliseconds since epoch) and "%ISO_DATETIME%" (ISO-8601 date-time with offset) tokens are supported.
+ * Rendered time is cached by {@link CachedTimestampRenderer} renderer.
  */
 public class PatternModifierTime implements PatternModifier {
 
     public static final String TIME_ARGUMENT_REGEX = "%TIME%";
+    public static final String EPOCH_MILLIS_ARGUMENT_REGEX = "%EPOCH_MILLIS%";
+    public static final String ISO_DATETIME_ARGUMENT_REGEX = "%ISO_DATETIME%";
     public static final String DEFAULT_TIME_FORMAT = "HH:mm:ss"; // Default time format;
-    @Setter private DateTimeFormatter timeFormatter; // Time to string formatter;
+    public static final String ISO_DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX"; // ISO-8601 date-time format;
+    @Getter private final String token; // Replaced token;
+    private CachedTimestampRenderer renderer; // Time renderer;
 
     /**
      * Construct new instance of this class.
      */
     public PatternModifierTime() {
-        this.timeFormatter = DateTimeFormatter.ofPattern(DEFAULT_TIME_FORMAT);
+        this(TIME_ARGUMENT_REGEX, CachedTimestampRenderer.ofPattern(DEFAULT_TIME_FORMAT));
+    }
+
+    /**
+     * Construct new instance of this class for specified token.
+     * @param aToken - replaced token.
+     * @param aRenderer - time renderer.
+     */
+    private PatternModifierTime(String aToken, CachedTimestampRenderer aRenderer) {
+        this.token = aToken;
+        this.renderer = aRenderer;
+    }
+
+    /**
+     * Construct new modifier of "%EPOCH_MILLIS%" token.
+     * @return - modifier.
+     */
+    public static PatternModifierTime ofEpochMillis() {
+        return new PatternModifierTime(EPOCH_MILLIS_ARGUMENT_REGEX, CachedTimestampRenderer.ofEpochMillis());
+    }
+
+    /**
+     * Construct new modifier of "%ISO_DATETIME%" token.
+     * @return - modifier.
+     */
+    public static PatternModifierTime ofIsoDateTime() {
+        return new PatternModifierTime(ISO_DATETIME_ARGUMENT_REGEX, CachedTimestampRenderer.ofPattern(ISO_DATETIME_FORMAT));
+    }
+
+    /**
+     * Set time formatter.
+     * @param aTimeFormatter - time formatter.
+     */
+    public void setTimeFormatter(DateTimeFormatter aTimeFormatter) {
+        Objects.requireNonNull(aTimeFormatter, "DateTimeFormatter [aTimeFormatter] must be not null.");
+        this.renderer = CachedTimestampRenderer.ofFormatter(aTimeFormatter);
+    }
+
+    /**
+     * Set time format (see {@link DateTimeFormatter#ofPattern(String)}).
+     * @param aFormat - time format.
+     */
+    public void setTimeFormat(String aFormat) {
+        StringUtils.checkString(aFormat, "aFormat");
+        this.renderer = CachedTimestampRenderer.ofPattern(aFormat);
     }
 
     /**
@@ -39,9 +89,19 @@ public class PatternModifierTime implements PatternModifier {
     public String modify(String aPattern, Object... anArguments) {
         StringUtils.checkForNull(aPattern, "aPattern");
 
-        Matcher matcher = RegexUtils.match(aPattern, TIME_ARGUMENT_REGEX);
+        Matcher matcher = RegexUtils.match(aPattern, this.token);
 
-        if (matcher != null) return matcher.replaceFirst(LocalTime.now().format(timeFormatter));
+        if (matcher != null) return matcher.replaceFirst(this.renderer.getText(System.currentTimeMillis()));
         else return aPattern;
     }
+
+    /**
+     * Render logging event time.
+     * @param aBuilder - logging message builder.
+     * @param anEvent - logging event.
+     */
+    @Override
+    public void render(StringBuilder aBuilder, LoggingEvent anEvent) {
+        this.renderer.render(aBuilder, anEvent.getTimeMillis());
+    }
 }
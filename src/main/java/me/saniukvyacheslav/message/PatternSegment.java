@@ -0,0 +1,16 @@
+package me.saniukvyacheslav.message;
+
+/**
+ * Single part of compiled {@link LoggingMessageTemplate} template.
+ * Segment can be a literal text or a token, which is rendered from logging event data.
+ */
+public interface PatternSegment {
+
+    /**
+     * Render this segment to logging message builder.
+     * @param aBuilder - logging message builder.
+     * @param anEvent - logging event.
+     */
+    void render(StringBuilder aBuilder, LoggingEvent anEvent);
+
+}
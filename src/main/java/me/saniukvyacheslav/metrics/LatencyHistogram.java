@@ -0,0 +1,103 @@
+package me.saniukvyacheslav.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds.
+ * Latencies are counted in power-of-two buckets: bucket N holds latencies from 2^N (inclusive) to 2^(N+1) (exclusive)
+ * nanoseconds, bucket 0 also holds zero latencies, and the last bucket holds all latencies larger than its lower bound.
+ * Each bucket is striped {@link LongAdder} counter, so concurrent records don't contend on same memory.
+ */
+public final class LatencyHistogram {
+
+    public static final int BUCKETS_COUNT = 40; // Count of buckets (last bucket starts from ~9 minutes);
+    private final LongAdder[] buckets = new LongAdder[BUCKETS_COUNT]; // Buckets counters;
+
+    /**
+     * Construct new empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS_COUNT; i++) this.buckets[i] = new LongAdder();
+    }
+
+    /**
+     * Record latency.
+     * @param aNanos - latency in nanoseconds (negative latencies are recorded as zero).
+     */
+    public void record(long aNanos) {
+        int bucket = aNanos <= 1L ? 0 : 63 - Long.numberOfLeadingZeros(aNanos);
+        this.buckets[Math.min(bucket, BUCKETS_COUNT - 1)].increment();
+    }
+
+    /**
+     * Get lower bound of bucket.
+     * @param aBucket - bucket index.
+     * @return - lower bound in nanoseconds.
+     */
+    public static long getBucketLowerBound(int aBucket) {
+        return aBucket == 0 ? 0L : 1L << aBucket;
+    }
+
+    /**
+     * Get snapshot of buckets counters.
+     * @return - counters of all buckets.
+     */
+    public long[] getCounts() {
+        long[] counts = new long[BUCKETS_COUNT];
+        for (int i = 0; i < BUCKETS_COUNT; i++) counts[i] = this.buckets[i].sum();
+        return counts;
+    }
+
+    /**
+     * Get count of recorded latencies.
+     * @return - count.
+     */
+    public long getCount() {
+        long count = 0L;
+        for (LongAdder bucket : this.buckets) count += bucket.sum();
+        return count;
+    }
+
+    /**
+     * Get approximate percentile of recorded latencies.
+     * @param aPercentile - percentile (from 0.0 to 100.0).
+     * @return - upper bound of bucket, which contains percentile, in nanoseconds (0, if there are no records).
+     */
+    public long getPercentile(double aPercentile) {
+        if (aPercentile < 0.0D || aPercentile > 100.0D)
+            throw new IllegalArgumentException(String.format("Percentile [%s] must be in range from 0.0 to 100.0.", aPercentile));
+        long[] counts = this.getCounts();
+        long total = 0L;
+        for (long count : counts) total += count;
+        if (total == 0L) return 0L;
+
+        long rank = Math.max(1L, (long) Math.ceil(total * aPercentile / 100.0D));
+        long accumulated = 0L;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            accumulated += counts[i];
+            if (accumulated >= rank) return i == BUCKETS_COUNT - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1L;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Get non-empty buckets.
+     * @return - map of buckets lower bounds ("&gt;=N ns") and counters.
+     */
+    public Map<String, Long> toMap() {
+        long[] counts = this.getCounts();
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS_COUNT; i++)
+            if (counts[i] > 0L) result.put(">=" + getBucketLowerBound(i) + " ns", counts[i]);
+        return result;
+    }
+
+    /**
+     * Reset all buckets.
+     */
+    public void reset() {
+        for (LongAdder bucket : this.buckets) bucket.reset();
+    }
+}
@@ -0,0 +1,343 @@
+package me.saniukvyacheslav.metrics;
+
+import lombok.Getter;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerOutput;
+import me.saniukvyacheslav.util.string.StringUtils;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Self-metrics of loggers configuration.
+ * Metrics count logged, suppressed and filtered messages per level, bytes and errors per output,
+ * and latencies of messages format and outputs writes. All counters are striped {@link LongAdder} counters,
+ * so logging threads don't contend on them. Latencies are measured only for sampled messages
+ * (one of {@link #SAMPLING_INTERVAL} messages in average), because each latency measurement costs
+ * two reads of {@link System#nanoTime()}.
+ * Metrics are exposed via JMX as {@link LoggingMetricsMXBean} MBean.
+ */
+public final class LoggingMetrics implements LoggingMetricsMXBean {
+
+    public static final String OBJECT_NAME_DOMAIN = "me.saniukvyacheslav.logging"; // Domain of metrics MBeans;
+    public static final int SAMPLING_INTERVAL = 64; // Latency is measured for one of N messages (power of two);
+    private static final LoggingMessageLevel[] LEVELS = LoggingMessageLevel.values();
+    private static final Charset CHARSET = Charset.defaultCharset(); // Charset of messages, written by outputs;
+    private static final boolean IS_UTF8_CHARSET = StandardCharsets.UTF_8.equals(CHARSET); // FLAG: Is default charset UTF-8;
+    private static final boolean IS_SINGLE_BYTE_CHARSET = CHARSET.newEncoder().maxBytesPerChar() == 1.0f; // FLAG: Is each char encoded to single byte;
+
+    private final LongAdder[] loggedMessages = newCounters(LEVELS.length); // Logged messages per level;
+    private final LongAdder[] suppressedMessages = newCounters(LEVELS.length); // Suppressed messages per level;
+    private final LongAdder[] filteredMessages = newCounters(LEVELS.length); // Messages, dropped by rate limits or collapsed as duplicates;
+    private final Map<LoggerOutput, OutputCounters> outputsCounters = new ConcurrentHashMap<>(); // Counters of outputs;
+    @Getter private final LatencyHistogram formatLatency = new LatencyHistogram(); // Format latencies;
+    @Getter private final LatencyHistogram writeLatency = new LatencyHistogram(); // Write latencies;
+    @Getter private final ObjectName objectName; // JMX object name;
+
+    /**
+     * Construct new metrics of loggers configuration with specified name.
+     * @param aConfigurationName - loggers configuration name.
+     */
+    public LoggingMetrics(String aConfigurationName) {
+        StringUtils.checkString(aConfigurationName, "aConfigurationName");
+        this.objectName = objectName(aConfigurationName);
+    }
+
+    /**
+     * Get count of bytes of message, encoded in default charset (charset of text outputs).
+     * Length is computed without encoding for UTF-8 and single byte charsets.
+     * @param aMessage - message.
+     * @return - count of bytes.
+     */
+    public static long encodedLength(String aMessage) {
+        if (!IS_UTF8_CHARSET && !IS_SINGLE_BYTE_CHARSET) return aMessage.getBytes(CHARSET).length;
+        long length = 0L;
+        for (int i = 0; i < aMessage.length(); i++) {
+            char c = aMessage.charAt(i);
+            boolean isSurrogatePair = Character.isHighSurrogate(c) && i + 1 < aMessage.length() && Character.isLowSurrogate(aMessage.charAt(i + 1));
+            if (isSurrogatePair) i++;
+            if (IS_SINGLE_BYTE_CHARSET || c < 0x80) length += 1; // Unmappable chars and surrogate pairs are replaced with single byte;
+            else if (c < 0x800) length += 2;
+            else if (isSurrogatePair) length += 4;
+            else if (Character.isSurrogate(c)) length += 1; // Malformed surrogate is replaced with '?';
+            else length += 3;
+        }
+        return length;
+    }
+
+    /**
+     * Get JMX object name of metrics of loggers configuration.
+     * @param aConfigurationName - loggers configuration name.
+     * @return - object name.
+     */
+    public static ObjectName objectName(String aConfigurationName) {
+        try {
+            return new ObjectName(String.format("%s:type=LoggersConfiguration,name=%s", OBJECT_NAME_DOMAIN, ObjectName.quote(aConfigurationName)));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static LongAdder[] newCounters(int aCount) {
+        LongAdder[] counters = new LongAdder[aCount];
+        for (int i = 0; i < aCount; i++) counters[i] = new LongAdder();
+        return counters;
+    }
+
+    /**
+     * Register this metrics in platform MBean server.
+     * Metrics, which were registered with the same name before, are replaced.
+     */
+    public void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            try {
+                server.registerMBean(this, this.objectName);
+            } catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(this.objectName);
+                server.registerMBean(this, this.objectName);
+            }
+        } catch (JMException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Unregister this metrics from platform MBean server.
+     */
+    public void unregister() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+        } catch (InstanceNotFoundException e) {
+            // Already unregistered;
+        } catch (JMException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Count logged message.
+     * @param aLevel - message level.
+     */
+    public void onLogged(LoggingMessageLevel aLevel) {
+        this.loggedMessages[aLevel.ordinal()].increment();
+    }
+
+    /**
+     * Count message, which was suppressed by level threshold.
+     * @param aLevel - message level.
+     */
+    public void onSuppressed(LoggingMessageLevel aLevel) {
+        this.suppressedMessages[aLevel.ordinal()].increment();
+    }
+
+    /**
+     * Count message, which was dropped by rate limit or collapsed as duplicate.
+     * @param aLevel - message level.
+     */
+    public void onFiltered(LoggingMessageLevel aLevel) {
+        this.filteredMessages[aLevel.ordinal()].increment();
+    }
+
+    /**
+     * Check if latencies of current message must be measured.
+     * @return - true, if message is sampled.
+     */
+    public boolean isSampled() {
+        return (ThreadLocalRandom.current().nextInt() & (SAMPLING_INTERVAL - 1)) == 0;
+    }
+
+    /**
+     * Add counters of output (when output is added to configuration).
+     * @param anOutput - output.
+     */
+    public void addOutput(LoggerOutput anOutput) {
+        Objects.requireNonNull(anOutput, "LoggerOutput [anOutput] must be not null.");
+        this.outputsCounters.computeIfAbsent(anOutput, OutputCounters::new);
+    }
+
+    /**
+     * Get counters of output. Counters aren't created by this method, so threads, which still write
+     * to removed output, don't restore its counters.
+     * @param anOutput - output.
+     * @return - counters, or null, if output isn't added or is already removed.
+     */
+    public OutputCounters getOutputCounters(LoggerOutput anOutput) {
+        return this.outputsCounters.get(anOutput);
+    }
+
+    /**
+     * Remove counters of output (for example, when output is closed).
+     * @param anOutput - output.
+     */
+    public void removeOutput(LoggerOutput anOutput) {
+        Objects.requireNonNull(anOutput, "LoggerOutput [anOutput] must be not null.");
+        this.outputsCounters.remove(anOutput);
+    }
+
+    private static Map<String, Long> levelsMap(LongAdder[] aCounters) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (LoggingMessageLevel level : LEVELS) result.put(level.getLevelName(), aCounters[level.ordinal()].sum());
+        return result;
+    }
+
+    private static long sum(LongAdder[] aCounters) {
+        long sum = 0L;
+        for (LongAdder counter : aCounters) sum += counter.sum();
+        return sum;
+    }
+
+    @Override
+    public Map<String, Long> getLoggedMessages() {
+        return levelsMap(this.loggedMessages);
+    }
+
+    @Override
+    public Map<String, Long> getSuppressedMessages() {
+        return levelsMap(this.suppressedMessages);
+    }
+
+    @Override
+    public Map<String, Long> getFilteredMessages() {
+        return levelsMap(this.filteredMessages);
+    }
+
+    @Override
+    public long getFilteredMessagesCount() {
+        return sum(this.filteredMessages);
+    }
+
+    @Override
+    public long getLoggedMessagesCount() {
+        return sum(this.loggedMessages);
+    }
+
+    @Override
+    public long getSuppressedMessagesCount() {
+        return sum(this.suppressedMessages);
+    }
+
+    @Override
+    public Map<String, Long> getOutputsBytes() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        this.outputsCounters.values().forEach((counters) -> result.put(counters.getName(), counters.bytes.sum()));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getOutputsErrors() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        this.outputsCounters.values().forEach((counters) -> result.put(counters.getName(), counters.errors.sum()));
+        return result;
+    }
+
+    @Override
+    public long getOutputErrorsCount() {
+        long sum = 0L;
+        for (OutputCounters counters : this.outputsCounters.values()) sum += counters.errors.sum();
+        return sum;
+    }
+
+    @Override
+    public Map<String, Long> getFormatLatencyHistogram() {
+        return this.formatLatency.toMap();
+    }
+
+    @Override
+    public Map<String, Long> getWriteLatencyHistogram() {
+        return this.writeLatency.toMap();
+    }
+
+    @Override
+    public long getFormatLatencyP50Nanos() {
+        return this.formatLatency.getPercentile(50.0D);
+    }
+
+    @Override
+    public long getFormatLatencyP99Nanos() {
+        return this.formatLatency.getPercentile(99.0D);
+    }
+
+    @Override
+    public long getWriteLatencyP50Nanos() {
+        return this.writeLatency.getPercentile(50.0D);
+    }
+
+    @Override
+    public long getWriteLatencyP99Nanos() {
+        return this.writeLatency.getPercentile(99.0D);
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder counter : this.loggedMessages) counter.reset();
+        for (LongAdder counter : this.suppressedMessages) counter.reset();
+        for (LongAdder counter : this.filteredMessages) counter.reset();
+        this.outputsCounters.values().forEach(OutputCounters::reset);
+        this.formatLatency.reset();
+        this.writeLatency.reset();
+    }
+
+    /**
+     * Counters of single output.
+     */
+    public static final class OutputCounters {
+
+        @Getter private final String name; // Output name (class name and identity hash code);
+        private final LongAdder bytes = new LongAdder(); // Passed bytes;
+        private final LongAdder errors = new LongAdder(); // Errors;
+
+        private OutputCounters(LoggerOutput anOutput) {
+            this.name = anOutput.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(anOutput));
+        }
+
+        /**
+         * Count bytes, passed to output.
+         * @param aCount - count of bytes.
+         */
+        public void onWritten(long aCount) {
+            this.bytes.add(aCount);
+        }
+
+        /**
+         * Count output error.
+         */
+        public void onError() {
+            this.errors.increment();
+        }
+
+        /**
+         * Get count of passed bytes.
+         * @return - count.
+         */
+        public long getBytes() {
+            return this.bytes.sum();
+        }
+
+        /**
+         * Get count of errors.
+         * @return - count.
+         */
+        public long getErrors() {
+            return this.errors.sum();
+        }
+
+        private void reset() {
+            this.bytes.reset();
+            this.errors.reset();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package me.saniukvyacheslav.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX management interface of {@link LoggingMetrics} metrics.
+ * Metrics of each loggers configuration are registered in platform MBean server with
+ * "me.saniukvyacheslav.logging:type=LoggersConfiguration,name=&lt;configuration name&gt;" object name.
+ */
+public interface LoggingMetricsMXBean {
+
+    /**
+     * Get count of logged messages per level.
+     * @return - map of levels names and counters.
+     */
+    Map<String, Long> getLoggedMessages();
+
+    /**
+     * Get count of messages, which were suppressed by level threshold (or disabled loggers), per level.
+     * @return - map of levels names and counters.
+     */
+    Map<String, Long> getSuppressedMessages();
+
+    /**
+     * Get count of messages, which were dropped by rate limits or collapsed as duplicates, per level.
+     * @return - map of levels names and counters.
+     */
+    Map<String, Long> getFilteredMessages();
+
+    /**
+     * Get total count of filtered messages.
+     * @return - count.
+     */
+    long getFilteredMessagesCount();
+
+    /**
+     * Get total count of logged messages.
+     * @return - count.
+     */
+    long getLoggedMessagesCount();
+
+    /**
+     * Get total count of suppressed messages.
+     * @return - count.
+     */
+    long getSuppressedMessagesCount();
+
+    /**
+     * Get count of bytes, which were passed to each output: bytes of messages in default charset
+     * or bytes of events, encoded by outputs (JSON, binary), without line separators.
+     * Events, queued to asynchronous outputs of encoded events, aren't counted.
+     * @return - map of outputs names and counters.
+     */
+    Map<String, Long> getOutputsBytes();
+
+    /**
+     * Get count of errors of each output.
+     * @return - map of outputs names and counters.
+     */
+    Map<String, Long> getOutputsErrors();
+
+    /**
+     * Get total count of outputs errors.
+     * @return - count.
+     */
+    long getOutputErrorsCount();
+
+    /**
+     * Get histogram of messages format (render and encode) latencies.
+     * @return - map of buckets and counters.
+     */
+    Map<String, Long> getFormatLatencyHistogram();
+
+    /**
+     * Get histogram of outputs write latencies.
+     * @return - map of buckets and counters.
+     */
+    Map<String, Long> getWriteLatencyHistogram();
+
+    /**
+     * Get approximate median of format latency.
+     * @return - latency in nanoseconds.
+     */
+    long getFormatLatencyP50Nanos();
+
+    /**
+     * Get approximate 99th percentile of format latency.
+     * @return - latency in nanoseconds.
+     */
+    long getFormatLatencyP99Nanos();
+
+    /**
+     * Get approximate median of write latency.
+     * @return - latency in nanoseconds.
+     */
+    long getWriteLatencyP50Nanos();
+
+    /**
+     * Get approximate 99th percentile of write latency.
+     * @return - latency in nanoseconds.
+     */
+    long getWriteLatencyP99Nanos();
+
+    /**
+     * Reset all counters.
+     */
+    void reset();
+}
@@ -0,0 +1,394 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingEvent;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.message.ParameterizedMessageFormatter;
+import me.saniukvyacheslav.util.file.FileUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Implementation of {@link LoggingEventOutput} output.
+ * Write logging events to file in compact binary format, which is read by {@link LoggerBinaryReader} reader.
+ * Messages aren't rendered: each event record holds timestamp delta, level, dictionary ids of logger name and message template
+ * and raw values of arguments and fields. Logger names, templates and fields keys are written to file once, as dictionary records.
+ *
+ * File format: file starts with {@link #MAGIC} bytes, followed by records. Each record is prefixed by its length (unsigned varint)
+ * and starts with record type byte:
+ * - {@link #RECORD_SESSION}: start of writing session (output is opened); reader resets dictionary and timestamp base;
+ * - {@link #RECORD_DICTIONARY}: varint id, string;
+ * - {@link #RECORD_EVENT}: zigzag varint timestamp delta (from previous event of session), level byte, varint logger name id,
+ * varint template id, varint count of arguments, arguments values, varint count of fields, fields (varint key id, value);
+ * - {@link #RECORD_TEXT}: level byte, string (messages, which are rendered before out).
+ * Dictionary id 0 means, that string is written inline (dictionary is full). Strings are written as varint length and UTF-8 bytes.
+ * Values are written as type byte ({@link #VALUE_NULL} etc.) and value.
+ */
+public class LoggerBinaryOutput implements LoggingEventOutput, Flushable {
+
+    public static final byte[] MAGIC = {'I', 'L', 'B', '1'}; // File header;
+    public static final byte RECORD_SESSION = 1;
+    public static final byte RECORD_DICTIONARY = 2;
+    public static final byte RECORD_EVENT = 3;
+    public static final byte RECORD_TEXT = 4;
+    public static final byte VALUE_NULL = 0;
+    public static final byte VALUE_LONG = 1; // Zigzag varint;
+    public static final byte VALUE_DOUBLE = 2; // 8 bytes (big-endian bits);
+    public static final byte VALUE_TRUE = 3;
+    public static final byte VALUE_FALSE = 4;
+    public static final byte VALUE_STRING = 5;
+    public static final byte NO_LEVEL = -1; // Level byte of messages without level;
+    public static final int DEFAULT_DICTIONARY_SIZE = 4096; // Default max count of dictionary entries;
+
+    private final OutputStream stream; // Buffered output stream;
+    private final OutputFlushPolicy flushPolicy; // Flush policy;
+    private final ScheduledFuture<?> flushTask; // Background flush task (null, if periodic flush is disabled);
+    private final int maxDictionarySize; // Max count of dictionary entries;
+    private final Map<String, Integer> dictionary = new HashMap<>(); // Ids of written strings;
+    private final BinaryBuffer record = new BinaryBuffer(); // Encoded records of current call;
+    private final BinaryBuffer body = new BinaryBuffer(); // Encoded body of current record;
+    private final StringBuilder scratch = new StringBuilder(64); // Reusable builder of objects strings;
+    private long previousTimeMillis = 0L; // Timestamp of previous event;
+    private long pendingBytes = 0L; // Count of not flushed bytes;
+
+    /**
+     * Construct new instance of this class for specified file with specified flush policy.
+     * @param anOutputFile - output file.
+     * @param isAppend - is appends records to end of file?.
+     * @param aFlushPolicy - flush policy.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerBinaryOutput(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy) throws IOException {
+        this(anOutputFile, isAppend, aFlushPolicy, DEFAULT_DICTIONARY_SIZE);
+    }
+
+    /**
+     * Construct new instance of this class for specified file with specified flush policy and dictionary size.
+     * @param anOutputFile - output file.
+     * @param isAppend - is appends records to end of file?.
+     * @param aFlushPolicy - flush policy.
+     * @param aMaxDictionarySize - max count of dictionary entries (strings, which don't fit, are written inline).
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerBinaryOutput(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy, int aMaxDictionarySize) throws IOException {
+        FileUtils.checkFile(anOutputFile);
+        Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+        if (aMaxDictionarySize < 0) throw new IllegalArgumentException("Dictionary size [aMaxDictionarySize] must be not negative.");
+        this.flushPolicy = aFlushPolicy;
+        this.maxDictionarySize = aMaxDictionarySize;
+        boolean isNewFile = !isAppend || anOutputFile.length() == 0L;
+        int bufferSize = Math.max(8192, Math.min(aFlushPolicy.getFlushBytes(), 1024 * 1024));
+        this.stream = new BufferedOutputStream(new FileOutputStream(anOutputFile, isAppend), bufferSize);
+
+        // Start session:
+        if (isNewFile) this.stream.write(MAGIC);
+        this.body.clear();
+        this.body.writeByte(RECORD_SESSION);
+        this.record.clear();
+        this.appendRecord();
+        this.stream.write(this.record.bytes, 0, this.record.length);
+        this.stream.flush();
+
+        this.flushTask = aFlushPolicy.isPeriodicFlushEnabled() ? OutputFlushScheduler.schedule(this, aFlushPolicy.getFlushIntervalMillis()) : null;
+    }
+
+    /**
+     * Write logging event record (and dictionary records of new strings). Flush file according to flush policy.
+     * @param anEvent - logging event.
+     * @return - count of bytes of written records.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized int out(LoggingEvent anEvent) {
+        this.record.clear();
+        int loggerId = this.dictionaryId(anEvent.getLoggerName());
+        int templateId = this.dictionaryId(anEvent.getMessage());
+        for (int i = 0; i < anEvent.getFieldsCount(); i++) this.dictionaryId(anEvent.getFieldKey(i));
+
+        BinaryBuffer buffer = this.body;
+        buffer.clear();
+        buffer.writeByte(RECORD_EVENT);
+        buffer.writeZigZag(anEvent.getTimeMillis() - this.previousTimeMillis);
+        this.previousTimeMillis = anEvent.getTimeMillis();
+        buffer.writeByte(levelByte(anEvent.getLevel()));
+        this.writeString(loggerId, anEvent.getLoggerName());
+        this.writeString(templateId, anEvent.getMessage());
+        buffer.writeVarint(anEvent.getArgumentsCount());
+        for (int i = 0; i < anEvent.getArgumentsCount(); i++) this.writeValue(anEvent.getArgument(i));
+        buffer.writeVarint(anEvent.getFieldsCount());
+        for (int i = 0; i < anEvent.getFieldsCount(); i++) {
+            String key = anEvent.getFieldKey(i);
+            this.writeString(this.dictionaryId(key), key);
+            switch (anEvent.getFieldType(i)) {
+                case LONG:
+                    buffer.writeByte(VALUE_LONG);
+                    buffer.writeZigZag(anEvent.getFieldLong(i));
+                    break;
+                case DOUBLE:
+                    buffer.writeByte(VALUE_DOUBLE);
+                    buffer.writeLong(Double.doubleToRawLongBits(anEvent.getFieldDouble(i)));
+                    break;
+                case BOOLEAN:
+                    buffer.writeByte(anEvent.getFieldBoolean(i) ? VALUE_TRUE : VALUE_FALSE);
+                    break;
+                default: this.writeValue(anEvent.getFieldObject(i));
+            }
+        }
+        this.appendRecord();
+        this.write(anEvent.getLevel());
+        return this.record.length;
+    }
+
+    /**
+     * Write already rendered message as text record.
+     * @param aMessage - message to out.
+     */
+    @Override
+    public void out(String aMessage) {
+        this.out(aMessage, null);
+    }
+
+    /**
+     * Write already rendered message as text record. Flush file according to flush policy.
+     * @param aMessage - message to out.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(String aMessage, LoggingMessageLevel aLevel) {
+        this.record.clear();
+        this.body.clear();
+        this.body.writeByte(RECORD_TEXT);
+        this.body.writeByte(levelByte(aLevel));
+        this.body.writeString(aMessage);
+        this.appendRecord();
+        this.write(aLevel);
+    }
+
+    /**
+     * Get level byte.
+     * @param aLevel - message level.
+     * @return - level byte.
+     */
+    private static byte levelByte(LoggingMessageLevel aLevel) {
+        return aLevel == null ? NO_LEVEL : (byte) aLevel.getLevel();
+    }
+
+    /**
+     * Get dictionary id of string. If string isn't written yet and dictionary isn't full, append dictionary record.
+     * @param aString - string.
+     * @return - dictionary id (0, if string must be written inline).
+     */
+    private int dictionaryId(String aString) {
+        if (aString == null) return 0;
+        Integer id = this.dictionary.get(aString);
+        if (id != null) return id;
+        if (this.dictionary.size() >= this.maxDictionarySize) return 0;
+
+        int newId = this.dictionary.size() + 1;
+        this.dictionary.put(aString, newId);
+        BinaryBuffer dictionaryRecord = this.body;
+        dictionaryRecord.clear();
+        dictionaryRecord.writeByte(RECORD_DICTIONARY);
+        dictionaryRecord.writeVarint(newId);
+        dictionaryRecord.writeString(aString);
+        this.appendRecord();
+        return newId;
+    }
+
+    /**
+     * Write string reference to record body: dictionary id, or 0 and string itself.
+     * @param anId - dictionary id.
+     * @param aString - string.
+     */
+    private void writeString(int anId, String aString) {
+        this.body.writeVarint(anId);
+        if (anId == 0) this.body.writeString(aString);
+    }
+
+    /**
+     * Write value of argument or object field to record body.
+     * Integer numbers, doubles and booleans are written as raw values, all other objects (including floats,
+     * whose strings differ from strings of same double values) are written as strings (as they are formatted in messages).
+     * @param aValue - value.
+     */
+    private void writeValue(Object aValue) {
+        BinaryBuffer buffer = this.body;
+        if (aValue == null) {
+            buffer.writeByte(VALUE_NULL);
+        } else if (aValue instanceof Integer || aValue instanceof Long || aValue instanceof Short || aValue instanceof Byte) {
+            buffer.writeByte(VALUE_LONG);
+            buffer.writeZigZag(((Number) aValue).longValue());
+        } else if (aValue instanceof Double) {
+            buffer.writeByte(VALUE_DOUBLE);
+            buffer.writeLong(Double.doubleToRawLongBits(((Number) aValue).doubleValue()));
+        } else if (aValue instanceof Boolean) {
+            buffer.writeByte((Boolean) aValue ? VALUE_TRUE : VALUE_FALSE);
+        } else {
+            buffer.writeByte(VALUE_STRING);
+            if (aValue instanceof String) {
+                buffer.writeString((String) aValue);
+            } else {
+                this.scratch.setLength(0);
+                ParameterizedMessageFormatter.appendArgument(this.scratch, aValue);
+                buffer.writeString(this.scratch);
+            }
+        }
+    }
+
+    /**
+     * Append current record body with length prefix to records of current call.
+     */
+    private void appendRecord() {
+        this.record.writeVarint(this.body.length);
+        this.record.writeBytes(this.body.bytes, this.body.length);
+    }
+
+    /**
+     * Write records of current call to file. Flush file according to flush policy.
+     * @param aLevel - message level.
+     */
+    private void write(LoggingMessageLevel aLevel) {
+        try {
+            this.stream.write(this.record.bytes, 0, this.record.length);
+            this.pendingBytes += this.record.length;
+            if (this.flushPolicy.isFlushRequired(this.pendingBytes, aLevel)) this.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Flush all buffered records to file.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (this.pendingBytes == 0L) return;
+        this.stream.flush();
+        this.pendingBytes = 0L;
+    }
+
+    /**
+     * Flush and close inner output stream.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.flushTask != null) this.flushTask.cancel(false);
+        this.stream.close();
+        this.pendingBytes = 0L;
+    }
+
+    /**
+     * Growable bytes buffer with binary encoders.
+     */
+    private static final class BinaryBuffer {
+
+        private byte[] bytes = new byte[256]; // Buffer bytes;
+        private int length = 0; // Count of written bytes;
+
+        private void clear() {
+            this.length = 0;
+        }
+
+        private void ensureCapacity(int aCount) {
+            if (this.length + aCount <= this.bytes.length) return;
+            byte[] newBytes = new byte[Math.max(this.length + aCount, this.bytes.length * 2)];
+            System.arraycopy(this.bytes, 0, newBytes, 0, this.length);
+            this.bytes = newBytes;
+        }
+
+        private void writeByte(byte aByte) {
+            this.ensureCapacity(1);
+            this.bytes[this.length++] = aByte;
+        }
+
+        private void writeBytes(byte[] aBytes, int aLength) {
+            this.ensureCapacity(aLength);
+            System.arraycopy(aBytes, 0, this.bytes, this.length, aLength);
+            this.length += aLength;
+        }
+
+        private void writeVarint(long aValue) {
+            this.ensureCapacity(10);
+            long value = aValue;
+            while ((value & ~0x7FL) != 0L) {
+                this.bytes[this.length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            this.bytes[this.length++] = (byte) value;
+        }
+
+        private void writeZigZag(long aValue) {
+            this.writeVarint((aValue << 1) ^ (aValue >> 63));
+        }
+
+        private void writeLong(long aValue) {
+            this.ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) this.bytes[this.length++] = (byte) (aValue >>> shift);
+        }
+
+        /**
+         * Write string as varint length of UTF-8 bytes and bytes. Unpaired surrogates are written as '?'.
+         * @param aString - string (null is written as empty string).
+         */
+        private void writeString(CharSequence aString) {
+            if (aString == null) {
+                this.writeVarint(0);
+                return;
+            }
+            int charsCount = aString.length();
+            int utfLength = 0;
+            for (int i = 0; i < charsCount; i++) {
+                char symbol = aString.charAt(i);
+                if (symbol < 0x80) utfLength++;
+                else if (symbol < 0x800) utfLength += 2;
+                else if (!Character.isSurrogate(symbol)) utfLength += 3;
+                else if (isSurrogatePair(aString, i)) {
+                    utfLength += 4;
+                    i++;
+                } else utfLength++;
+            }
+            this.writeVarint(utfLength);
+            this.ensureCapacity(utfLength);
+            byte[] target = this.bytes;
+            int position = this.length;
+            for (int i = 0; i < charsCount; i++) {
+                char symbol = aString.charAt(i);
+                if (symbol < 0x80) {
+                    target[position++] = (byte) symbol;
+                } else if (symbol < 0x800) {
+                    target[position++] = (byte) (0xC0 | (symbol >> 6));
+                    target[position++] = (byte) (0x80 | (symbol & 0x3F));
+                } else if (!Character.isSurrogate(symbol)) {
+                    target[position++] = (byte) (0xE0 | (symbol >> 12));
+                    target[position++] = (byte) (0x80 | ((symbol >> 6) & 0x3F));
+                    target[position++] = (byte) (0x80 | (symbol & 0x3F));
+                } else if (isSurrogatePair(aString, i)) {
+                    int codePoint = Character.toCodePoint(symbol, aString.charAt(++i));
+                    target[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    target[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    target[position++] = '?';
+                }
+            }
+            this.length = position;
+        }
+
+        private static boolean isSurrogatePair(CharSequence aString, int anIndex) {
+            return Character.isHighSurrogate(aString.charAt(anIndex)) && anIndex + 1 < aString.length()
+                    && Character.isLowSurrogate(aString.charAt(anIndex + 1));
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingEvent;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.message.LoggingMessageTemplate;
+import me.saniukvyacheslav.util.file.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reader of logs, written by {@link LoggerBinaryOutput} output.
+ * Reader decode records into {@link LoggingEvent} events, which can be rendered back to text by logging message template
+ * ({@link #render(Appendable, LoggingMessageTemplate)} method or command line:
+ * java me.saniukvyacheslav.output.LoggerBinaryReader &lt;file&gt; [pattern]).
+ */
+public class LoggerBinaryReader implements Closeable {
+
+    public static final String DEFAULT_PATTERN = "%ISO_DATETIME% [%LEVEL%] %NAME%: %MSG%"; // Default pattern of command line tool;
+    private static final LoggingMessageLevel[] LEVELS = LoggingMessageLevel.values();
+
+    private final InputStream stream; // Buffered input stream;
+    private final List<String> dictionary = new ArrayList<>(); // Dictionary of current session (id - 1 is index);
+    private byte[] record = new byte[256]; // Current record bytes;
+    private int recordLength = 0; // Current record length;
+    private int position = 0; // Read position in current record;
+    private long previousTimeMillis = 0L; // Timestamp of previous event;
+
+    /**
+     * Construct new reader of specified file.
+     * @param aFile - binary log file.
+     * @throws IOException - If IO exception occurs, or file isn't binary log file.
+     */
+    public LoggerBinaryReader(File aFile) throws IOException {
+        FileUtils.checkFile(aFile);
+        this.stream = new BufferedInputStream(new FileInputStream(aFile), 64 * 1024);
+        byte[] magic = new byte[LoggerBinaryOutput.MAGIC.length];
+        if (this.readFully(magic, magic.length) < magic.length || !Arrays.equals(magic, LoggerBinaryOutput.MAGIC)) {
+            this.stream.close();
+            throw new IOException(String.format("File [%s] isn't binary log file.", aFile.getPath()));
+        }
+    }
+
+    /**
+     * Read next logging event.
+     * Dictionary and session records are applied silently. Text records are read as events without logger name.
+     * @param anEvent - event to fill.
+     * @return - true, if event is read; false, if end of file is reached.
+     * @throws IOException - If IO exception occurs, or file is corrupted.
+     */
+    public boolean next(LoggingEvent anEvent) throws IOException {
+        while (this.readRecord()) {
+            byte type = this.readByte();
+            switch (type) {
+                case LoggerBinaryOutput.RECORD_SESSION:
+                    this.dictionary.clear();
+                    this.previousTimeMillis = 0L;
+                    break;
+                case LoggerBinaryOutput.RECORD_DICTIONARY:
+                    int id = (int) this.readVarint();
+                    String value = this.readString();
+                    while (this.dictionary.size() < id) this.dictionary.add(null);
+                    this.dictionary.set(id - 1, value);
+                    break;
+                case LoggerBinaryOutput.RECORD_EVENT:
+                    this.readEvent(anEvent);
+                    return true;
+                case LoggerBinaryOutput.RECORD_TEXT:
+                    LoggingMessageLevel level = this.readLevel();
+                    anEvent.clear();
+                    anEvent.set(null, level, this.readString(), this.previousTimeMillis);
+                    return true;
+                default:
+                    // Unknown record type: skip record;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Decode event record.
+     * @param anEvent - event to fill.
+     * @throws IOException - If file is corrupted.
+     */
+    private void readEvent(LoggingEvent anEvent) throws IOException {
+        anEvent.clear();
+        long timeMillis = this.previousTimeMillis + zigZag(this.readVarint());
+        this.previousTimeMillis = timeMillis;
+        LoggingMessageLevel level = this.readLevel();
+        String loggerName = this.readStringReference();
+        String template = this.readStringReference();
+        anEvent.set(loggerName, level, template, timeMillis);
+
+        int argumentsCount = (int) this.readVarint();
+        if (argumentsCount > 0) {
+            Object[] arguments = new Object[argumentsCount];
+            for (int i = 0; i < argumentsCount; i++) arguments[i] = this.readValue(this.readByte());
+            anEvent.setArguments(argumentsCount, null, null, null, arguments);
+        }
+
+        int fieldsCount = (int) this.readVarint();
+        for (int i = 0; i < fieldsCount; i++) {
+            String key = this.readStringReference();
+            byte valueType = this.readByte();
+            switch (valueType) {
+                case LoggerBinaryOutput.VALUE_LONG: anEvent.addField(key, zigZag(this.readVarint())); break;
+                case LoggerBinaryOutput.VALUE_DOUBLE: anEvent.addField(key, Double.longBitsToDouble(this.readLong())); break;
+                case LoggerBinaryOutput.VALUE_TRUE: anEvent.addField(key, true); break;
+                case LoggerBinaryOutput.VALUE_FALSE: anEvent.addField(key, false); break;
+                default: anEvent.addField(key, this.readValue(valueType));
+            }
+        }
+    }
+
+    /**
+     * Read all events and render them by template, each event on new line.
+     * @param anAppendable - target of rendered messages.
+     * @param aTemplate - logging message template.
+     * @throws IOException - If IO exception occurs, or file is corrupted.
+     */
+    public void render(Appendable anAppendable, LoggingMessageTemplate aTemplate) throws IOException {
+        LoggingEvent event = new LoggingEvent();
+        StringBuilder builder = new StringBuilder(256);
+        while (this.next(event)) {
+            builder.setLength(0);
+            aTemplate.render(builder, event);
+            anAppendable.append(builder).append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Render binary log file to standard output.
+     * Arguments: binary log file path, logging message pattern (optional, default - {@link #DEFAULT_PATTERN}).
+     * @param args - command line arguments.
+     * @throws IOException - If IO exception occurs, or file is corrupted.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: LoggerBinaryReader <file> [pattern]");
+            System.exit(1);
+        }
+        LoggingMessageTemplate template = LoggingMessageTemplate.compile(args.length > 1 ? args[1] : DEFAULT_PATTERN);
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()));
+        try (LoggerBinaryReader reader = new LoggerBinaryReader(new File(args[0]))) {
+            reader.render(writer, template);
+        } finally {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Read next record into record buffer.
+     * @return - true, if record is read; false, if end of file is reached.
+     * @throws IOException - If IO exception occurs, or file is corrupted.
+     */
+    private boolean readRecord() throws IOException {
+        int first = this.stream.read();
+        if (first < 0) return false;
+        long length = first & 0x7F;
+        int shift = 7;
+        int next = first;
+        while ((next & 0x80) != 0) {
+            next = this.stream.read();
+            if (next < 0) throw new EOFException("Unexpected end of binary log file.");
+            length |= (long) (next & 0x7F) << shift;
+            shift += 7;
+        }
+        if (length > Integer.MAX_VALUE) throw new IOException("Binary log record is too long.");
+        if (this.record.length < length) this.record = new byte[Math.max((int) length, this.record.length * 2)];
+        if (this.readFully(this.record, (int) length) < length) throw new EOFException("Unexpected end of binary log file.");
+        this.recordLength = (int) length;
+        this.position = 0;
+        return true;
+    }
+
+    private int readFully(byte[] aBuffer, int aLength) throws IOException {
+        int total = 0;
+        while (total < aLength) {
+            int count = this.stream.read(aBuffer, total, aLength - total);
+            if (count < 0) break;
+            total += count;
+        }
+        return total;
+    }
+
+    private byte readByte() throws IOException {
+        if (this.position >= this.recordLength) throw new EOFException("Unexpected end of binary log record.");
+        return this.record[this.position++];
+    }
+
+    private long readVarint() throws IOException {
+        long result = 0L;
+        int shift = 0;
+        byte next;
+        do {
+            next = this.readByte();
+            result |= (long) (next & 0x7F) << shift;
+            shift += 7;
+        } while ((next & 0x80) != 0);
+        return result;
+    }
+
+    private static long zigZag(long aValue) {
+        return (aValue >>> 1) ^ -(aValue & 1L);
+    }
+
+    private long readLong() throws IOException {
+        long result = 0L;
+        for (int i = 0; i < 8; i++) result = (result << 8) | (this.readByte() & 0xFFL);
+        return result;
+    }
+
+    private LoggingMessageLevel readLevel() throws IOException {
+        byte level = this.readByte();
+        return level >= 0 && level < LEVELS.length ? LEVELS[level] : null;
+    }
+
+    private String readString() throws IOException {
+        int length = (int) this.readVarint();
+        if (length > this.recordLength - this.position) throw new EOFException("Unexpected end of binary log record.");
+        String result = new String(this.record, this.position, length, StandardCharsets.UTF_8);
+        this.position += length;
+        return result;
+    }
+
+    /**
+     * Read dictionary id or inline string.
+     * @return - string.
+     * @throws IOException - If file is corrupted.
+     */
+    private String readStringReference() throws IOException {
+        int id = (int) this.readVarint();
+        if (id == 0) return this.readString();
+        if (id > this.dictionary.size()) throw new IOException(String.format("Unknown dictionary id [%d] in binary log file.", id));
+        return this.dictionary.get(id - 1);
+    }
+
+    /**
+     * Read value of argument or object field.
+     * @param aType - value type.
+     * @return - value (Long, Double, Boolean or String).
+     * @throws IOException - If file is corrupted.
+     */
+    private Object readValue(byte aType) throws IOException {
+        switch (aType) {
+            case LoggerBinaryOutput.VALUE_NULL: return null;
+            case LoggerBinaryOutput.VALUE_LONG: return zigZag(this.readVarint());
+            case LoggerBinaryOutput.VALUE_DOUBLE: return Double.longBitsToDouble(this.readLong());
+            case LoggerBinaryOutput.VALUE_TRUE: return Boolean.TRUE;
+            case LoggerBinaryOutput.VALUE_FALSE: return Boolean.FALSE;
+            case LoggerBinaryOutput.VALUE_STRING: return this.readString();
+            default: throw new IOException(String.format("Unknown value type [%d] in binary log file.", aType));
+        }
+    }
+
+    /**
+     * Close inner input stream.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        this.stream.close();
+    }
+}
@@ -0,0 +1,181 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Implementation of {@link LoggerOutput} interface.
+ * Out messages to console (standard output) through channel of {@link FileDescriptor#out} descriptor, bypassing
+ * synchronized and autoflushed System.out stream. Messages are encoded into own buffer and written
+ * to channel according to {@link OutputFlushPolicy} flush policy.
+ * Each message is appended to buffer with its line separator under lock, and buffer is written to channel only as whole,
+ * so lines of different threads are never mixed. Messages, which don't fit into buffer, are written directly.
+ * Pay attention! Order of these messages relative to messages printed by System.out isn't guaranteed.
+ * Buffered messages are flushed on JVM shutdown.
+ */
+public class LoggerBufferedConsoleOutput implements LoggerOutput, Flushable {
+
+    public static final OutputFlushPolicy DEFAULT_FLUSH_POLICY = OutputFlushPolicy.OutputFlushPolicyBuilder.create()
+            .flushEveryBytes(64 * 1024)
+            .flushEveryMillis(100L)
+            .flushImmediatelyAt(LoggingMessageLevel.ERROR)
+            .build(); // Default flush policy;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(Charset.defaultCharset());
+    private static final Object CHANNEL_LOCK = new Object(); // Lock of channel writes (outputs of same channel don't mix buffers);
+
+    private final WritableByteChannel channel; // Output channel;
+    private final OutputFlushPolicy flushPolicy; // Flush policy;
+    private final ByteBuffer buffer; // Messages buffer;
+    private final ScheduledFuture<?> flushTask; // Background flush task (null, if periodic flush is disabled);
+    private final Thread shutdownHook; // Flush on JVM shutdown;
+
+    /**
+     * Construct new instance of this class, which out messages to standard output.
+     * @param aFlushPolicy - flush policy.
+     */
+    public LoggerBufferedConsoleOutput(OutputFlushPolicy aFlushPolicy) {
+        this(new FileOutputStream(FileDescriptor.out).getChannel(), aFlushPolicy);
+    }
+
+    /**
+     * Construct new instance of this class, which out messages to specified channel (for example, channel of standard error).
+     * @param aChannel - output channel.
+     * @param aFlushPolicy - flush policy.
+     */
+    public LoggerBufferedConsoleOutput(WritableByteChannel aChannel, OutputFlushPolicy aFlushPolicy) {
+        Objects.requireNonNull(aChannel, "WritableByteChannel [aChannel] must be not null.");
+        Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+        this.channel = aChannel;
+        this.flushPolicy = aFlushPolicy;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(8192, Math.min(aFlushPolicy.getFlushBytes(), 1024 * 1024)));
+        this.flushTask = aFlushPolicy.isPeriodicFlushEnabled() ? OutputFlushScheduler.schedule(this, aFlushPolicy.getFlushIntervalMillis()) : null;
+        this.shutdownHook = new Thread(() -> {
+            try {
+                this.flush();
+            } catch (IOException e) {
+                // Do nothing;
+            }
+        }, "irene-l-console-flusher");
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+    }
+
+    /**
+     * Out message to console.
+     * @param aMessage - message to out.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public void out(String aMessage) {
+        this.out(aMessage, null);
+    }
+
+    /**
+     * Out message to console. Flush buffer according to flush policy.
+     * @param aMessage - message to out.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public void out(String aMessage, LoggingMessageLevel aLevel) {
+        byte[] messageBytes = String.valueOf(aMessage).getBytes(Charset.defaultCharset());
+        this.write(ByteBuffer.wrap(messageBytes), aLevel);
+    }
+
+    /**
+     * Out encoded message to console. Flush buffer according to flush policy.
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        this.write(aMessage, aLevel);
+    }
+
+    /**
+     * Append message and line separator to buffer. If message doesn't fit into buffer,
+     * write buffered messages and message itself to channel.
+     * Position and limit of message buffer aren't changed.
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    private synchronized void write(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        int position = aMessage.position();
+        try {
+            int length = aMessage.remaining() + LINE_SEPARATOR.length;
+            if (this.buffer.remaining() < length) this.drain();
+            if (this.buffer.remaining() < length) { // Message is larger than buffer;
+                synchronized (CHANNEL_LOCK) {
+                    this.writeFully(aMessage);
+                    this.writeFully(ByteBuffer.wrap(LINE_SEPARATOR));
+                }
+                return;
+            }
+            this.buffer.put(aMessage).put(LINE_SEPARATOR);
+            if (this.flushPolicy.isFlushRequired(this.buffer.position(), aLevel)) this.drain();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            aMessage.position(position);
+        }
+    }
+
+    /**
+     * Write all buffered messages to channel.
+     * @throws IOException - If IO Exception occurs.
+     */
+    private void drain() throws IOException {
+        if (this.buffer.position() == 0) return;
+        this.buffer.flip();
+        try {
+            synchronized (CHANNEL_LOCK) {
+                this.writeFully(this.buffer);
+            }
+        } finally {
+            this.buffer.clear();
+        }
+    }
+
+    /**
+     * Write all remaining bytes of buffer to channel.
+     * @param aBuffer - buffer.
+     * @throws IOException - If IO Exception occurs.
+     */
+    private void writeFully(ByteBuffer aBuffer) throws IOException {
+        while (aBuffer.hasRemaining()) this.channel.write(aBuffer);
+    }
+
+    /**
+     * Write all buffered messages to console.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        this.drain();
+    }
+
+    /**
+     * Flush buffered messages. Console channel isn't closed.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.flushTask != null) this.flushTask.cancel(false);
+        try {
+            Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM is shutting down;
+        }
+        this.drain();
+    }
+}
@@ -0,0 +1,257 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.util.file.FileUtils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Implementation of {@link LoggerOutput} interface.
+ * Write messages to file, compressed by deflate algorithm into independently decodable blocks, which are read by
+ * {@link LoggerCompressedFileReader} reader. Messages (with line separators) are collected in block buffer, and block is compressed
+ * and written to file by single write, when output is flushed according to {@link OutputFlushPolicy} flush policy.
+ * Compression state isn't shared between blocks, so crash loses only not written block, and reading can be started at any block.
+ *
+ * File format: sequence of blocks. Each block starts with {@link #BLOCK_MAGIC} bytes, followed by uncompressed length,
+ * compressed length and CRC32 of uncompressed bytes (big-endian 4 bytes integers) and raw deflate data of block lines.
+ * Block holds only whole lines. When output appends to existing file, incomplete last block (for example, after crash
+ * of writer) is truncated, so new blocks follow the last complete block.
+ */
+public class LoggerCompressedFileOutput implements LoggerOutput, Flushable {
+
+    public static final byte[] BLOCK_MAGIC = {'I', 'L', 'Z', '1'}; // Block header;
+    public static final int BLOCK_HEADER_SIZE = BLOCK_MAGIC.length + 12; // Magic, uncompressed length, compressed length, CRC32;
+    public static final OutputFlushPolicy DEFAULT_FLUSH_POLICY = OutputFlushPolicy.OutputFlushPolicyBuilder.create()
+            .flushEveryBytes(64 * 1024)
+            .flushEveryMillis(1000L)
+            .build(); // Default flush policy (64 KB blocks, at least one block per second);
+    private static final int MAX_INITIAL_BLOCK_SIZE = 4 * 1024 * 1024; // Max initial size of block buffer;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(Charset.defaultCharset());
+
+    private final OutputStream stream; // File output stream (not buffered: each block is written by single write);
+    private final OutputFlushPolicy flushPolicy; // Flush policy;
+    private final ScheduledFuture<?> flushTask; // Background flush task (null, if periodic flush is disabled);
+    private final Deflater deflater; // Reusable compressor;
+    private final CRC32 checksum = new CRC32(); // Reusable checksum;
+    private byte[] block; // Uncompressed lines of current block;
+    private int blockLength = 0; // Length of current block;
+    private byte[] compressed; // Header and compressed data of current block;
+    private long uncompressedBytes = 0L; // Count of written uncompressed bytes;
+    private long compressedBytes = 0L; // Count of written bytes (with headers);
+
+    /**
+     * Truncate incomplete last block of compressed log file.
+     * Headers of blocks are scanned from start of file. If file ends inside of block, file is truncated to end of
+     * the last complete block. Files, which aren't compressed log files (or are corrupted not at the end), aren't changed.
+     * @param aFile - compressed log file.
+     * @return - count of truncated bytes.
+     * @throws IOException - If IO exception occurs.
+     */
+    static long truncateIncompleteBlock(File aFile) throws IOException {
+        if (!aFile.exists() || aFile.length() == 0L) return 0L;
+        try (FileChannel channel = FileChannel.open(aFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE);
+            long offset = 0L;
+            while (offset < size) {
+                header.clear();
+                int read;
+                do {
+                    read = channel.read(header, offset + header.position());
+                } while (read > 0 && header.hasRemaining());
+                for (int i = 0; i < header.position() && i < BLOCK_MAGIC.length; i++) {
+                    if (header.get(i) != BLOCK_MAGIC[i]) return 0L; // Not a block;
+                }
+                if (header.hasRemaining()) break; // Incomplete header;
+                int uncompressedLength = header.getInt(BLOCK_MAGIC.length);
+                int compressedLength = header.getInt(BLOCK_MAGIC.length + 4);
+                if (uncompressedLength < 0 || compressedLength < 0) return 0L; // Corrupted header;
+                long nextOffset = offset + BLOCK_HEADER_SIZE + compressedLength;
+                if (nextOffset > size) break; // Incomplete data;
+                offset = nextOffset;
+            }
+            if (offset == size) return 0L;
+            channel.truncate(offset);
+            return size - offset;
+        }
+    }
+
+    /**
+     * Construct new instance of this class for specified file with default flush policy and compression level.
+     * @param anOutputFile - output file.
+     * @param isAppend - is appends blocks to end of file?.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerCompressedFileOutput(File anOutputFile, boolean isAppend) throws IOException {
+        this(anOutputFile, isAppend, DEFAULT_FLUSH_POLICY, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Construct new instance of this class for specified file.
+     * @param anOutputFile - output file.
+     * @param isAppend - is appends blocks to end of file?.
+     * @param aFlushPolicy - flush policy (each flush writes block, so small blocks compress worse).
+     * @param aCompressionLevel - deflate compression level (from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}).
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerCompressedFileOutput(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy, int aCompressionLevel) throws IOException {
+        FileUtils.checkFile(anOutputFile);
+        Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+        if (aCompressionLevel < Deflater.BEST_SPEED || aCompressionLevel > Deflater.BEST_COMPRESSION)
+            throw new IllegalArgumentException("Compression level [aCompressionLevel] must be in range from 1 to 9.");
+        this.flushPolicy = aFlushPolicy;
+        this.deflater = new Deflater(aCompressionLevel, true);
+        this.block = new byte[Math.max(1024, Math.min(aFlushPolicy.getFlushBytes(), MAX_INITIAL_BLOCK_SIZE))];
+        this.compressed = new byte[BLOCK_HEADER_SIZE + this.block.length];
+        if (isAppend) truncateIncompleteBlock(anOutputFile);
+        this.stream = new FileOutputStream(anOutputFile, isAppend);
+        this.flushTask = aFlushPolicy.isPeriodicFlushEnabled() ? OutputFlushScheduler.schedule(this, aFlushPolicy.getFlushIntervalMillis()) : null;
+    }
+
+    /**
+     * Out message to compressed file.
+     * @param aMessage - message to out.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public void out(String aMessage) {
+        this.out(aMessage, null);
+    }
+
+    /**
+     * Out message to compressed file. Write block according to flush policy.
+     * @param aMessage - message to out.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(String aMessage, LoggingMessageLevel aLevel) {
+        if (aMessage == null) return;
+        byte[] messageBytes = aMessage.getBytes(Charset.defaultCharset());
+        this.write(messageBytes, 0, messageBytes.length, aLevel);
+    }
+
+    /**
+     * Out encoded message to compressed file. Write block according to flush policy.
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        if (!aMessage.hasArray()) {
+            LoggerOutput.super.out(aMessage, aLevel);
+            return;
+        }
+        this.write(aMessage.array(), aMessage.arrayOffset() + aMessage.position(), aMessage.remaining(), aLevel);
+    }
+
+    /**
+     * Append message bytes and line separator to current block. Write block according to flush policy.
+     * @param aBytes - message bytes.
+     * @param anOffset - message offset.
+     * @param aLength - message length.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    private void write(byte[] aBytes, int anOffset, int aLength, LoggingMessageLevel aLevel) {
+        try {
+            int length = aLength + LINE_SEPARATOR.length;
+            if (this.block.length - this.blockLength < length) this.writeBlock();
+            if (this.block.length < length) this.block = new byte[length]; // Line is larger than block buffer;
+            System.arraycopy(aBytes, anOffset, this.block, this.blockLength, aLength);
+            System.arraycopy(LINE_SEPARATOR, 0, this.block, this.blockLength + aLength, LINE_SEPARATOR.length);
+            this.blockLength += length;
+            if (this.flushPolicy.isFlushRequired(this.blockLength, aLevel)) this.writeBlock();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Compress current block and write it to file.
+     * @throws IOException - If IO Exception occurs.
+     */
+    private void writeBlock() throws IOException {
+        if (this.blockLength == 0) return;
+        this.checksum.reset();
+        this.checksum.update(this.block, 0, this.blockLength);
+        this.deflater.reset();
+        this.deflater.setInput(this.block, 0, this.blockLength);
+        this.deflater.finish();
+        int length = BLOCK_HEADER_SIZE;
+        while (!this.deflater.finished()) {
+            if (length == this.compressed.length) this.compressed = Arrays.copyOf(this.compressed, this.compressed.length * 2);
+            length += this.deflater.deflate(this.compressed, length, this.compressed.length - length);
+        }
+
+        System.arraycopy(BLOCK_MAGIC, 0, this.compressed, 0, BLOCK_MAGIC.length);
+        putInt(this.compressed, BLOCK_MAGIC.length, this.blockLength);
+        putInt(this.compressed, BLOCK_MAGIC.length + 4, length - BLOCK_HEADER_SIZE);
+        putInt(this.compressed, BLOCK_MAGIC.length + 8, (int) this.checksum.getValue());
+        this.uncompressedBytes += this.blockLength;
+        this.blockLength = 0;
+        this.stream.write(this.compressed, 0, length);
+        this.compressedBytes += length;
+    }
+
+    private static void putInt(byte[] aBytes, int anOffset, int aValue) {
+        aBytes[anOffset] = (byte) (aValue >>> 24);
+        aBytes[anOffset + 1] = (byte) (aValue >>> 16);
+        aBytes[anOffset + 2] = (byte) (aValue >>> 8);
+        aBytes[anOffset + 3] = (byte) aValue;
+    }
+
+    /**
+     * Get count of uncompressed bytes of written blocks.
+     * @return - count of bytes.
+     */
+    public synchronized long getUncompressedBytes() {
+        return this.uncompressedBytes;
+    }
+
+    /**
+     * Get count of bytes, which were written to file (compressed blocks with headers).
+     * @return - count of bytes.
+     */
+    public synchronized long getCompressedBytes() {
+        return this.compressedBytes;
+    }
+
+    /**
+     * Compress buffered messages and write them to file as block.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        this.writeBlock();
+    }
+
+    /**
+     * Write buffered messages and close file.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.flushTask != null) this.flushTask.cancel(false);
+        try {
+            this.writeBlock();
+        } finally {
+            this.stream.close();
+            this.deflater.end();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.util.file.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reader of logs, written by {@link LoggerCompressedFileOutput} output.
+ * Reader decompress blocks one by one and returns their lines. Reading can be started at any block offset
+ * (see {@link #getBlockOffset()}). Incomplete last block (for example, after crash of writer) is treated as end of file.
+ * Logs can be decompressed to standard output by command line: java me.saniukvyacheslav.output.LoggerCompressedFileReader &lt;file&gt;.
+ */
+public class LoggerCompressedFileReader implements Closeable {
+
+    private final InputStream stream; // Buffered input stream;
+    private final Inflater inflater = new Inflater(true); // Reusable decompressor;
+    private final CRC32 checksum = new CRC32(); // Reusable checksum;
+    private final byte[] header = new byte[LoggerCompressedFileOutput.BLOCK_HEADER_SIZE]; // Header of current block;
+    private byte[] compressed = new byte[64 * 1024]; // Compressed data of current block;
+    private byte[] block = new byte[64 * 1024]; // Decompressed lines of current block;
+    private int blockLength = 0; // Length of current block;
+    private int position = 0; // Read position in current block;
+    private long blockOffset; // Offset of current block in file;
+    private long nextBlockOffset; // Offset of next block in file;
+    private boolean isTruncated = false; // Is last block incomplete?;
+
+    /**
+     * Construct new reader of specified file.
+     * @param aFile - compressed log file.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerCompressedFileReader(File aFile) throws IOException {
+        this(aFile, 0L);
+    }
+
+    /**
+     * Construct new reader of specified file, which starts reading at specified block.
+     * @param aFile - compressed log file.
+     * @param aBlockOffset - offset of block in file.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerCompressedFileReader(File aFile, long aBlockOffset) throws IOException {
+        FileUtils.checkFile(aFile);
+        if (aBlockOffset < 0L) throw new IllegalArgumentException("Block offset [aBlockOffset] must be not negative.");
+        FileInputStream fileStream = new FileInputStream(aFile);
+        try {
+            fileStream.getChannel().position(aBlockOffset);
+        } catch (IOException e) {
+            fileStream.close();
+            throw e;
+        }
+        this.stream = new BufferedInputStream(fileStream, 64 * 1024);
+        this.blockOffset = aBlockOffset;
+        this.nextBlockOffset = aBlockOffset;
+    }
+
+    /**
+     * Read next line.
+     * @return - line without line separator, or null, if end of file is reached.
+     * @throws IOException - If IO exception occurs, or file is corrupted.
+     */
+    public String readLine() throws IOException {
+        while (this.position >= this.blockLength) {
+            if (!this.readBlock()) return null;
+        }
+        int end = this.position;
+        while (end < this.blockLength && this.block[end] != '\n') end++;
+        int lineEnd = end > this.position && this.block[end - 1] == '\r' ? end - 1 : end;
+        String line = new String(this.block, this.position, lineEnd - this.position, Charset.defaultCharset());
+        this.position = end + 1;
+        return line;
+    }
+
+    /**
+     * Read and decompress next block.
+     * @return - true, if block is read; false, if end of file (or incomplete last block) is reached.
+     * @throws IOException - If IO exception occurs, or file is corrupted.
+     */
+    private boolean readBlock() throws IOException {
+        this.blockOffset = this.nextBlockOffset;
+        int headerLength = this.readFully(this.header, this.header.length);
+        if (headerLength == 0) return false;
+        if (headerLength < this.header.length) return this.truncated();
+        for (int i = 0; i < LoggerCompressedFileOutput.BLOCK_MAGIC.length; i++) {
+            if (this.header[i] != LoggerCompressedFileOutput.BLOCK_MAGIC[i])
+                throw new IOException(String.format("No block of compressed log file at offset [%d].", this.blockOffset));
+        }
+        int uncompressedLength = getInt(this.header, LoggerCompressedFileOutput.BLOCK_MAGIC.length);
+        int compressedLength = getInt(this.header, LoggerCompressedFileOutput.BLOCK_MAGIC.length + 4);
+        int expectedChecksum = getInt(this.header, LoggerCompressedFileOutput.BLOCK_MAGIC.length + 8);
+        if (uncompressedLength < 0 || compressedLength < 0)
+            throw new IOException(String.format("Corrupted block of compressed log file at offset [%d].", this.blockOffset));
+
+        if (this.compressed.length < compressedLength + 1) this.compressed = new byte[compressedLength + 1];
+        if (this.readFully(this.compressed, compressedLength) < compressedLength) return this.truncated();
+        this.compressed[compressedLength] = 0; // Raw inflater may require extra dummy byte;
+        if (this.block.length < uncompressedLength) this.block = new byte[uncompressedLength];
+
+        this.inflater.reset();
+        this.inflater.setInput(this.compressed, 0, compressedLength + 1);
+        try {
+            int length = 0;
+            while (length < uncompressedLength && !this.inflater.finished()) {
+                int count = this.inflater.inflate(this.block, length, uncompressedLength - length);
+                if (count == 0 && (this.inflater.needsInput() || this.inflater.needsDictionary())) break;
+                length += count;
+            }
+            this.checksum.reset();
+            this.checksum.update(this.block, 0, length);
+            if (length != uncompressedLength || (int) this.checksum.getValue() != expectedChecksum)
+                throw new IOException(String.format("Corrupted block of compressed log file at offset [%d].", this.blockOffset));
+        } catch (DataFormatException e) {
+            throw new IOException(String.format("Corrupted block of compressed log file at offset [%d].", this.blockOffset), e);
+        }
+        this.blockLength = uncompressedLength;
+        this.position = 0;
+        this.nextBlockOffset = this.blockOffset + LoggerCompressedFileOutput.BLOCK_HEADER_SIZE + compressedLength;
+        return true;
+    }
+
+    private boolean truncated() {
+        this.isTruncated = true;
+        return false;
+    }
+
+    /**
+     * Get offset of current block (block of last read line) in file.
+     * Reader, which is constructed with this offset, starts reading at this block.
+     * @return - offset.
+     */
+    public long getBlockOffset() {
+        return this.blockOffset;
+    }
+
+    /**
+     * Check if last block of file is incomplete (it's ignored by reader).
+     * @return - true, if last block is incomplete.
+     */
+    public boolean isTruncated() {
+        return this.isTruncated;
+    }
+
+    /**
+     * Decompress compressed log file to standard output.
+     * Arguments: compressed log file path.
+     * @param args - command line arguments.
+     * @throws IOException - If IO exception occurs, or file is corrupted.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: LoggerCompressedFileReader <file>");
+            System.exit(1);
+        }
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()));
+        try (LoggerCompressedFileReader reader = new LoggerCompressedFileReader(new File(args[0]))) {
+            String line;
+            while ((line = reader.readLine()) != null) writer.println(line);
+        } finally {
+            writer.flush();
+        }
+    }
+
+    private int readFully(byte[] aBuffer, int aLength) throws IOException {
+        int total = 0;
+        while (total < aLength) {
+            int count = this.stream.read(aBuffer, total, aLength - total);
+            if (count < 0) break;
+            total += count;
+        }
+        return total;
+    }
+
+    private static int getInt(byte[] aBytes, int anOffset) {
+        return (aBytes[anOffset] & 0xFF) << 24 | (aBytes[anOffset + 1] & 0xFF) << 16 | (aBytes[anOffset + 2] & 0xFF) << 8 | aBytes[anOffset + 3] & 0xFF;
+    }
+
+    /**
+     * Close inner input stream.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        this.stream.close();
+        this.inflater.end();
+    }
+}
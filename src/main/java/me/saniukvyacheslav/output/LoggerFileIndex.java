@@ -0,0 +1,218 @@
+package me.saniukvyacheslav.output;
+
+import lombok.Getter;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.util.file.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Sparse sidecar index of log file, which is written by {@link LoggerFileOutput} output with enabled index.
+ * Index file ("&lt;log file&gt;.idx") starts with {@link #MAGIC} bytes, followed by fixed size entries of blocks of records:
+ * offset of block start, offset of block end, time of first record, time of last record (big-endian 8 bytes integers) and
+ * bitmap of records levels (bit per level ordinal, {@link #NO_LEVEL_BIT} bit for records without level).
+ * Records times are times of writing records to output.
+ *
+ * Index is used to find regions of log file, which may contain records of time range with specified minimal level, so
+ * only these regions are read. Parts of log file, which aren't covered by index (for example, last block after crash),
+ * are always included in found regions. Records in found regions must still be filtered by caller.
+ */
+public final class LoggerFileIndex {
+
+    public static final String INDEX_FILE_SUFFIX = ".idx"; // Suffix of index file name;
+    public static final byte[] MAGIC = {'I', 'L', 'X', '1'}; // Index file header;
+    public static final int ENTRY_SIZE = 33; // Size of index entry in bytes;
+    public static final int NO_LEVEL_BIT = 1 << 7; // Level bit of records without level;
+
+    private final File logFile; // Log file;
+    private final long logLength; // Length of log file, when index was loaded;
+    private final long[] starts; // Offsets of blocks starts;
+    private final long[] ends; // Offsets of blocks ends;
+    private final long[] firstTimes; // Times of first records of blocks;
+    private final long[] lastTimes; // Times of last records of blocks;
+    private final int[] levels; // Bitmaps of levels of blocks;
+
+    private LoggerFileIndex(File aLogFile, long aLogLength, int aCount) {
+        this.logFile = aLogFile;
+        this.logLength = aLogLength;
+        this.starts = new long[aCount];
+        this.ends = new long[aCount];
+        this.firstTimes = new long[aCount];
+        this.lastTimes = new long[aCount];
+        this.levels = new int[aCount];
+    }
+
+    /**
+     * Get index file of log file.
+     * @param aLogFile - log file.
+     * @return - index file.
+     */
+    public static File indexFileOf(File aLogFile) {
+        Objects.requireNonNull(aLogFile, "File [aLogFile] must be not null.");
+        return new File(aLogFile.getPath() + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Get level bit of index entry bitmap.
+     * @param aLevel - level (may be null).
+     * @return - level bit.
+     */
+    static int levelBit(LoggingMessageLevel aLevel) {
+        return aLevel != null ? 1 << aLevel.ordinal() : NO_LEVEL_BIT;
+    }
+
+    /**
+     * Load index of log file. If index file doesn't exist, whole log file is treated as not indexed.
+     * Incomplete last entry of index file is ignored.
+     * @param aLogFile - log file.
+     * @return - index.
+     * @throws IOException - If IO exception occurs, or index file is corrupted.
+     */
+    public static LoggerFileIndex load(File aLogFile) throws IOException {
+        FileUtils.checkFile(aLogFile);
+        File indexFile = indexFileOf(aLogFile);
+        long logLength = aLogFile.length();
+        if (!indexFile.exists() || indexFile.length() < MAGIC.length) return new LoggerFileIndex(aLogFile, logLength, 0);
+
+        int count = (int) Math.min(Integer.MAX_VALUE, (indexFile.length() - MAGIC.length) / ENTRY_SIZE);
+        LoggerFileIndex index = new LoggerFileIndex(aLogFile, logLength, count);
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile), 64 * 1024))) {
+            byte[] magic = new byte[MAGIC.length];
+            stream.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) throw new IOException(String.format("File [%s] isn't log index file.", indexFile.getPath()));
+            for (int i = 0; i < count; i++) {
+                index.starts[i] = stream.readLong();
+                index.ends[i] = stream.readLong();
+                index.firstTimes[i] = stream.readLong();
+                index.lastTimes[i] = stream.readLong();
+                index.levels[i] = stream.readUnsignedByte();
+            }
+        } catch (EOFException e) {
+            throw new IOException(String.format("Log index file [%s] is changed while loading.", indexFile.getPath()), e);
+        }
+        return index;
+    }
+
+    /**
+     * Get count of index entries.
+     * @return - count of entries.
+     */
+    public int getEntriesCount() {
+        return this.starts.length;
+    }
+
+    /**
+     * Find regions of log file, which may contain records of specified time range with specified or higher level.
+     * Adjacent regions are merged. Not indexed parts of log file are always included.
+     * @param aFromMillis - start of time range (inclusive).
+     * @param aToMillis - end of time range (inclusive).
+     * @param aMinimalLevel - minimal level of records (null - records of all levels).
+     * @return - regions of log file in order of offsets.
+     */
+    public List<Region> find(long aFromMillis, long aToMillis, LoggingMessageLevel aMinimalLevel) {
+        int levelsMask = NO_LEVEL_BIT;
+        for (LoggingMessageLevel level : LoggingMessageLevel.values()) {
+            if (aMinimalLevel == null || level.getLevel() >= aMinimalLevel.getLevel()) levelsMask |= levelBit(level);
+        }
+
+        List<Region> regions = new ArrayList<>();
+        long covered = 0L; // End of indexed or included part of log file;
+        for (int i = 0; i < this.starts.length; i++) {
+            long start = Math.min(this.starts[i], this.logLength);
+            long end = Math.min(this.ends[i], this.logLength);
+            if (start > covered) addRegion(regions, covered, start); // Not indexed gap;
+            if (this.lastTimes[i] >= aFromMillis && this.firstTimes[i] <= aToMillis && (this.levels[i] & levelsMask) != 0)
+                addRegion(regions, Math.max(start, covered), end);
+            covered = Math.max(covered, end);
+        }
+        if (covered < this.logLength) addRegion(regions, covered, this.logLength); // Not indexed tail;
+        return Collections.unmodifiableList(regions);
+    }
+
+    private static void addRegion(List<Region> aRegions, long aStart, long anEnd) {
+        if (anEnd <= aStart) return;
+        Region last = aRegions.isEmpty() ? null : aRegions.get(aRegions.size() - 1);
+        if (last != null && last.end == aStart) aRegions.set(aRegions.size() - 1, new Region(last.start, anEnd));
+        else aRegions.add(new Region(aStart, anEnd));
+    }
+
+    /**
+     * Read lines of regions of log file, which may contain records of specified time range with specified or higher level.
+     * @param aFromMillis - start of time range (inclusive).
+     * @param aToMillis - end of time range (inclusive).
+     * @param aMinimalLevel - minimal level of records (null - records of all levels).
+     * @param aConsumer - consumer of lines (without line separators).
+     * @throws IOException - If IO exception occurs.
+     */
+    public void forEachLine(long aFromMillis, long aToMillis, LoggingMessageLevel aMinimalLevel, Consumer<String> aConsumer) throws IOException {
+        Objects.requireNonNull(aConsumer, "Consumer [aConsumer] must be not null.");
+        List<Region> regions = this.find(aFromMillis, aToMillis, aMinimalLevel);
+        if (regions.isEmpty()) return;
+        ByteBuffer chunk = ByteBuffer.allocate(64 * 1024);
+        byte[] line = new byte[256];
+        try (FileChannel channel = FileChannel.open(this.logFile.toPath(), StandardOpenOption.READ)) {
+            for (Region region : regions) {
+                int length = 0;
+                long position = region.start;
+                while (position < region.end) {
+                    chunk.clear();
+                    chunk.limit((int) Math.min(chunk.capacity(), region.end - position));
+                    int count = channel.read(chunk, position);
+                    if (count < 0) break;
+                    position += count;
+                    byte[] bytes = chunk.array();
+                    for (int i = 0; i < count; i++) {
+                        if (bytes[i] == '\n') {
+                            aConsumer.accept(toLine(line, length));
+                            length = 0;
+                            continue;
+                        }
+                        if (length == line.length) line = Arrays.copyOf(line, line.length * 2);
+                        line[length++] = bytes[i];
+                    }
+                }
+                if (length > 0) aConsumer.accept(toLine(line, length));
+            }
+        }
+    }
+
+    private static String toLine(byte[] aLine, int aLength) {
+        int length = aLength > 0 && aLine[aLength - 1] == '\r' ? aLength - 1 : aLength;
+        return new String(aLine, 0, length, Charset.defaultCharset());
+    }
+
+    /**
+     * Region of log file.
+     */
+    @Getter
+    public static final class Region {
+
+        private final long start; // Offset of region start (inclusive);
+        private final long end; // Offset of region end (exclusive);
+
+        private Region(long aStart, long anEnd) {
+            this.start = aStart;
+            this.end = anEnd;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%d, %d)", this.start, this.end);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writer of sparse sidecar index of log file (see {@link LoggerFileIndex}).
+ * Records of log file are grouped into blocks of specified count of records or time interval. When block is complete,
+ * index entry with byte range of block, time of its first and last records and bitmap of its levels is appended to index file.
+ * Entry of incomplete block is written on {@link #close()}, so after crash last block isn't indexed (it's scanned by queries as is).
+ */
+final class LoggerFileIndexWriter implements Flushable, Closeable {
+
+    private final OutputStream stream; // Buffered index file stream;
+    private final int recordsPerEntry; // Max count of records in block;
+    private final long millisPerEntry; // Max time interval of block;
+    private final byte[] entry = new byte[LoggerFileIndex.ENTRY_SIZE]; // Reusable entry bytes;
+    private long blockStart; // Offset of first record of block;
+    private long blockEnd; // Offset after last record of block;
+    private long firstTimeMillis; // Time of first record of block;
+    private long lastTimeMillis; // Time of last record of block;
+    private int levels; // Bitmap of levels of block records;
+    private int count = 0; // Count of records in block;
+
+    /**
+     * Construct new index writer.
+     * @param aLogFile - log file (index is written to sidecar file {@link LoggerFileIndex#indexFileOf(File)}).
+     * @param isAppend - is appends entries to end of index file?.
+     * @param aRecordsPerEntry - max count of records in indexed block.
+     * @param aMillisPerEntry - max time interval of indexed block.
+     * @throws IOException - If IO exception occurs.
+     */
+    LoggerFileIndexWriter(File aLogFile, boolean isAppend, int aRecordsPerEntry, long aMillisPerEntry) throws IOException {
+        if (aRecordsPerEntry <= 0) throw new IllegalArgumentException("Count of records per index entry [aRecordsPerEntry] must be greater than 0.");
+        if (aMillisPerEntry <= 0L) throw new IllegalArgumentException("Interval of index entry [aMillisPerEntry] must be greater than 0.");
+        this.recordsPerEntry = aRecordsPerEntry;
+        this.millisPerEntry = aMillisPerEntry;
+        File indexFile = LoggerFileIndex.indexFileOf(aLogFile);
+        boolean isNew = !isAppend || indexFile.length() == 0L;
+        this.stream = new BufferedOutputStream(new FileOutputStream(indexFile, isAppend), 8192);
+        if (isNew) this.stream.write(LoggerFileIndex.MAGIC);
+    }
+
+    /**
+     * Add record of log file to current block. If block is complete, its entry is written before record is added.
+     * @param anOffset - offset of record in log file.
+     * @param aLength - length of record (with line separator).
+     * @param aLevel - record level (may be null).
+     * @param aTimeMillis - record time.
+     * @throws IOException - If IO exception occurs.
+     */
+    void onRecord(long anOffset, int aLength, LoggingMessageLevel aLevel, long aTimeMillis) throws IOException {
+        if (this.count > 0 && (this.count >= this.recordsPerEntry || aTimeMillis - this.firstTimeMillis >= this.millisPerEntry)) this.writeEntry();
+        if (this.count == 0) {
+            this.blockStart = anOffset;
+            this.firstTimeMillis = aTimeMillis;
+            this.lastTimeMillis = aTimeMillis;
+        }
+        this.blockEnd = anOffset + aLength;
+        this.lastTimeMillis = Math.max(this.lastTimeMillis, aTimeMillis);
+        this.levels |= LoggerFileIndex.levelBit(aLevel);
+        this.count++;
+    }
+
+    /**
+     * Write entry of current block.
+     * @throws IOException - If IO exception occurs.
+     */
+    private void writeEntry() throws IOException {
+        putLong(this.entry, 0, this.blockStart);
+        putLong(this.entry, 8, this.blockEnd);
+        putLong(this.entry, 16, this.firstTimeMillis);
+        putLong(this.entry, 24, this.lastTimeMillis);
+        this.entry[32] = (byte) this.levels;
+        this.stream.write(this.entry);
+        this.count = 0;
+        this.levels = 0;
+    }
+
+    private static void putLong(byte[] aBytes, int anOffset, long aValue) {
+        for (int i = 7; i >= 0; i--) {
+            aBytes[anOffset + i] = (byte) aValue;
+            aValue >>>= 8;
+        }
+    }
+
+    /**
+     * Flush written entries (entry of incomplete block isn't written).
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public void flush() throws IOException {
+        this.stream.flush();
+    }
+
+    /**
+     * Write entry of incomplete block and close index file.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.count > 0) this.writeEntry();
+        } finally {
+            this.stream.close();
+        }
+    }
+}
@@ -1,28 +1,74 @@
 package me.saniukvyacheslav.output;
 
+import me.saniukvyacheslav.message.LoggingMessageLevel;
 import me.saniukvyacheslav.util.file.FileUtils;
 import me.saniukvyacheslav.conf.LoggersConfiguration;
 
-import java.io.BufferedWriter;
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
+import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
 
-public class LoggerFileOutput implements LoggerOutput {
+public class LoggerFileOutput implements LoggerOutput, Flushable {
 
-    private final BufferedWriter writer; // Writer;
+    private static final int DEFAULT_BUFFER_SIZE = 8192; // Default size of stream buffer;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(Charset.defaultCharset());
+
+    private final OutputStream stream; // Buffered output stream;
+    private final OutputFlushPolicy flushPolicy; // Flush policy;
+    private final ScheduledFuture<?> flushTask; // Background flush task (null, if periodic flush is disabled);
+    private final LoggerFileIndexWriter indexWriter; // Writer of sidecar index (null, if index is disabled);
+    private long pendingBytes = 0L; // Count of not flushed bytes;
+    private long position; // Offset of next message in file;
 
     /**
      * Construct new instance of this class for specified file.
+     * Each message is flushed immediately.
      * @param anOutputFile - output file.
      * @param isAppend - is appends messages to end of file?.
      * @throws IOException - If IO exception occurs.
      */
     public LoggerFileOutput(File anOutputFile, boolean isAppend) throws IOException {
-        FileUtils.checkFile(anOutputFile);
-        this.writer = new BufferedWriter(new FileWriter(anOutputFile, isAppend)); // Initialize buffered writer;
+        this(anOutputFile, isAppend, OutputFlushPolicy.IMMEDIATE);
+    }
 
+    /**
+     * Construct new instance of this class for specified file with specified flush policy.
+     * @param anOutputFile - output file.
+     * @param isAppend - is appends messages to end of file?.
+     * @param aFlushPolicy - flush policy.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerFileOutput(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy) throws IOException {
+        this(anOutputFile, isAppend, aFlushPolicy, 0, 0L);
+    }
+
+    /**
+     * Construct new instance of this class for specified file with specified flush policy, which writes sparse sidecar index
+     * of file ({@link LoggerFileIndex}). Index entry is written for each block of specified count of messages or time interval.
+     * @param anOutputFile - output file.
+     * @param isAppend - is appends messages to end of file?.
+     * @param aFlushPolicy - flush policy.
+     * @param aRecordsPerIndexEntry - max count of messages in indexed block (0 - index is disabled).
+     * @param aMillisPerIndexEntry - max time interval of indexed block.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerFileOutput(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy, int aRecordsPerIndexEntry, long aMillisPerIndexEntry) throws IOException {
+        FileUtils.checkFile(anOutputFile);
+        Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+        this.flushPolicy = aFlushPolicy;
+        this.position = isAppend ? anOutputFile.length() : 0L;
+        this.indexWriter = aRecordsPerIndexEntry > 0 ? new LoggerFileIndexWriter(anOutputFile, isAppend, aRecordsPerIndexEntry, aMillisPerIndexEntry) : null;
+        // Initialize buffered stream (buffer must hold all bytes between flushes):
+        int bufferSize = Math.max(DEFAULT_BUFFER_SIZE, Math.min(aFlushPolicy.getFlushBytes(), 1024 * 1024));
+        this.stream = new BufferedOutputStream(new FileOutputStream(anOutputFile, isAppend), bufferSize);
+        this.flushTask = aFlushPolicy.isPeriodicFlushEnabled() ? OutputFlushScheduler.schedule(this, aFlushPolicy.getFlushIntervalMillis()) : null;
     }
 
     /**
@@ -32,23 +78,87 @@ public class LoggerFileOutput implements LoggerOutput {
      */
     @Override
     public void out(String aMessage) {
+        this.out(aMessage, null);
+    }
+
+    /**
+     * Out message to file. Flush file according to flush policy.
+     * @param aMessage - message to out.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(String aMessage, LoggingMessageLevel aLevel) {
         if (aMessage == null) return;
+        byte[] messageBytes = aMessage.getBytes(Charset.defaultCharset());
+        this.write(messageBytes, 0, messageBytes.length, aLevel);
+    }
+
+    /**
+     * Out encoded message to file. Flush file according to flush policy.
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        if (!aMessage.hasArray()) {
+            LoggerOutput.super.out(aMessage, aLevel);
+            return;
+        }
+        this.write(aMessage.array(), aMessage.arrayOffset() + aMessage.position(), aMessage.remaining(), aLevel);
+    }
+
+    /**
+     * Write message bytes and line separator to file. Flush file according to flush policy.
+     * @param aBytes - message bytes.
+     * @param anOffset - message offset.
+     * @param aLength - message length.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    private void write(byte[] aBytes, int anOffset, int aLength, LoggingMessageLevel aLevel) {
         try {
-            this.writer.write(aMessage +System.lineSeparator());
-            this.writer.flush();
+            int length = aLength + LINE_SEPARATOR.length;
+            long recordPosition = this.position;
+            this.stream.write(aBytes, anOffset, aLength);
+            this.stream.write(LINE_SEPARATOR);
+            this.pendingBytes += length;
+            this.position += length;
+            // Record is indexed only after its bytes are written, so index never covers bytes, which are not in file:
+            if (this.indexWriter != null) this.indexWriter.onRecord(recordPosition, length, aLevel, System.currentTimeMillis());
+            if (this.flushPolicy.isFlushRequired(this.pendingBytes, aLevel)) this.flush();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Close inner BufferedWriter writer.
+     * Flush all buffered messages to file.
      * @throws IOException - If IO Exception occurs.
      */
     @Override
-    public void close() throws IOException {
-        // Close this buffered writer:
-        this.writer.close();
+    public synchronized void flush() throws IOException {
+        if (this.pendingBytes == 0L) return;
+        this.stream.flush();
+        this.pendingBytes = 0L;
+        if (this.indexWriter != null) this.indexWriter.flush(); // Index entries are flushed after messages, which they refer;
+    }
+
+    /**
+     * Flush and close inner output stream.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.flushTask != null) this.flushTask.cancel(false);
+        // Close this buffered stream:
+        try {
+            this.stream.close();
+        } finally {
+            if (this.indexWriter != null) this.indexWriter.close();
+        }
+        this.pendingBytes = 0L;
     }
 
     public static final class LoggerFileOutputFactory {
@@ -64,6 +174,130 @@ public class LoggerFileOutput implements LoggerOutput {
             return this.configurationBuilder.enableFileOutput(anOutputFile, isAppend);
         }
 
+        /**
+         * Enable logging to specified file with specified flush policy.
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @param aFlushPolicy - flush policy.
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofFile(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy) {
+            // Check file:
+            FileUtils.checkFile(anOutputFile);
+            return this.configurationBuilder.enableFileOutput(anOutputFile, isAppend, aFlushPolicy);
+        }
+
+        /**
+         * Enable logging to specified file, which is rotated according to specified policy ({@link LoggerRollingFileOutput}).
+         * @param anOutputFile - log file.
+         * @param aPolicy - rotation policy.
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofRollingFile(File anOutputFile, RollingPolicy aPolicy) {
+            // Check file:
+            FileUtils.checkFile(anOutputFile);
+            Objects.requireNonNull(aPolicy, "RollingPolicy [aPolicy] must be not null.");
+            return this.configurationBuilder.enableFileOutput(anOutputFile, true, (file, isAppend) -> new LoggerRollingFileOutput(file, aPolicy));
+        }
+
+        /**
+         * Enable logging of events as JSON lines ({@link LoggerJsonOutput}) to specified file.
+         * Each event is flushed immediately.
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofJsonFile(File anOutputFile, boolean isAppend) {
+            return this.ofJsonFile(anOutputFile, isAppend, OutputFlushPolicy.IMMEDIATE);
+        }
+
+        /**
+         * Enable logging of events as JSON lines ({@link LoggerJsonOutput}) to specified file with specified flush policy.
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @param aFlushPolicy - flush policy.
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofJsonFile(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy) {
+            // Check file:
+            FileUtils.checkFile(anOutputFile);
+            Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+            return this.configurationBuilder.enableFileOutput(anOutputFile, isAppend,
+                    (file, isAppendToFile) -> new LoggerJsonOutput(new LoggerFileOutput(file, isAppendToFile, aFlushPolicy)));
+        }
+
+        /**
+         * Enable logging of events in compact binary format ({@link LoggerBinaryOutput}) to specified file.
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @param aFlushPolicy - flush policy.
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofBinaryFile(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy) {
+            // Check file:
+            FileUtils.checkFile(anOutputFile);
+            Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+            return this.configurationBuilder.enableFileOutput(anOutputFile, isAppend, (file, isAppendToFile) -> new LoggerBinaryOutput(file, isAppendToFile, aFlushPolicy));
+        }
+
+        /**
+         * Enable logging to specified memory-mapped file ({@link LoggerMappedFileOutput}).
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofMappedFile(File anOutputFile, boolean isAppend) {
+            return this.ofMappedFile(anOutputFile, isAppend, LoggerMappedFileOutput.DEFAULT_CHUNK_SIZE);
+        }
+
+        /**
+         * Enable logging to specified memory-mapped file ({@link LoggerMappedFileOutput}).
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @param aChunkSize - size of mapped region, on which file is extended.
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofMappedFile(File anOutputFile, boolean isAppend, int aChunkSize) {
+            // Check file:
+            FileUtils.checkFile(anOutputFile);
+            return this.configurationBuilder.enableFileOutput(anOutputFile, isAppend, (file, isAppendToFile) -> new LoggerMappedFileOutput(file, isAppendToFile, aChunkSize));
+        }
+
+        /**
+         * Enable logging to specified file with sparse sidecar index ({@link LoggerFileIndex}).
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @param aFlushPolicy - flush policy.
+         * @param aRecordsPerIndexEntry - max count of messages in indexed block.
+         * @param aMillisPerIndexEntry - max time interval of indexed block.
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofIndexedFile(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy,
+                                                                            int aRecordsPerIndexEntry, long aMillisPerIndexEntry) {
+            // Check file:
+            FileUtils.checkFile(anOutputFile);
+            Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+            if (aRecordsPerIndexEntry <= 0) throw new IllegalArgumentException("Count of records per index entry [aRecordsPerIndexEntry] must be greater than 0.");
+            return this.configurationBuilder.enableFileOutput(anOutputFile, isAppend,
+                    (file, isAppendToFile) -> new LoggerFileOutput(file, isAppendToFile, aFlushPolicy, aRecordsPerIndexEntry, aMillisPerIndexEntry));
+        }
+
+        /**
+         * Enable logging to specified file, compressed into deflate blocks ({@link LoggerCompressedFileOutput}).
+         * @param anOutputFile - log file.
+         * @param isAppend - is appends to end of file?
+         * @param aFlushPolicy - flush policy (each flush writes compressed block).
+         * @param aCompressionLevel - deflate compression level (from 1 to 9).
+         * @return - configuration builder.
+         */
+        public LoggersConfiguration.LoggerConfigurationBuilder ofCompressedFile(File anOutputFile, boolean isAppend, OutputFlushPolicy aFlushPolicy, int aCompressionLevel) {
+            // Check file:
+            FileUtils.checkFile(anOutputFile);
+            Objects.requireNonNull(aFlushPolicy, "OutputFlushPolicy [aFlushPolicy] must be not null.");
+            return this.configurationBuilder.enableFileOutput(anOutputFile, isAppend,
+                    (file, isAppendToFile) -> new LoggerCompressedFileOutput(file, isAppendToFile, aFlushPolicy, aCompressionLevel));
+        }
+
     }
 
 }
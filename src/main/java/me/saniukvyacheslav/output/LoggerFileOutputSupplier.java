@@ -0,0 +1,22 @@
+package me.saniukvyacheslav.output;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Constructor of logging to file outputs of one kind (for example, rolling file outputs with the same rotation policy).
+ * Used by configurations, which recreate file output of configured kind, when log file is changed by reload.
+ */
+@FunctionalInterface
+public interface LoggerFileOutputSupplier {
+
+    /**
+     * Construct new output, which logs to specified file.
+     * @param anOutputFile - log file.
+     * @param isAppend - is appends to end of file?
+     * @return - output.
+     * @throws IOException - If IO exception occurs.
+     */
+    LoggerOutput get(File anOutputFile, boolean isAppend) throws IOException;
+
+}
@@ -0,0 +1,217 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link LoggerOutput} interface.
+ * Flight recorder keeps last formatted messages in preallocated circular buffer (on heap or off heap) and doesn't write them anywhere,
+ * until message with level greater than or equal to dump level arrives (or {@link #dump()} method is called).
+ * Then all recorded messages are written to target output in order of arrival, followed by the message itself, and buffer is cleared.
+ * Each recorded message is only copied into buffer, so detailed messages (TRACE, DEBUG) cost no IO, until they are needed.
+ * Buffer keeps at most specified count of messages; when buffer is full, oldest messages are overwritten.
+ * Messages, which are larger than buffer, are truncated to buffer size.
+ */
+public class LoggerFlightRecorderOutput implements LoggerOutput, Flushable {
+
+    public static final LoggingMessageLevel DEFAULT_DUMP_LEVEL = LoggingMessageLevel.ERROR; // Default dump level;
+    private static final LoggingMessageLevel[] LEVELS = LoggingMessageLevel.values();
+
+    private final LoggerOutput target; // Output, to which recorded messages are dumped;
+    private final LoggingMessageLevel dumpLevel; // Minimal level of messages, which trigger dump (null - dump only by API);
+    private final ByteBuffer buffer; // Circular buffer of messages bytes;
+    private final ByteBuffer view; // Reusable view of recorded message in buffer;
+    private final int[] offsets; // Offsets of recorded messages in buffer;
+    private final int[] lengths; // Lengths of recorded messages;
+    private final byte[] levels; // Ordinals of levels of recorded messages (-1, if level is unknown);
+    private int first; // Index of oldest recorded message;
+    private int count; // Count of recorded messages;
+    private int writePosition; // Position in buffer, at which next message is copied;
+
+    /**
+     * Construct new instance of this class with default dump level.
+     * @param aTarget - output, to which recorded messages are dumped.
+     * @param aMaxMessages - maximum count of recorded messages.
+     * @param aBufferSize - size of buffer in bytes.
+     */
+    public LoggerFlightRecorderOutput(LoggerOutput aTarget, int aMaxMessages, int aBufferSize) {
+        this(aTarget, aMaxMessages, aBufferSize, DEFAULT_DUMP_LEVEL, false);
+    }
+
+    /**
+     * Construct new instance of this class.
+     * @param aTarget - output, to which recorded messages are dumped.
+     * @param aMaxMessages - maximum count of recorded messages.
+     * @param aBufferSize - size of buffer in bytes.
+     * @param aDumpLevel - minimal level of messages, which trigger dump (null - buffer is dumped only by {@link #dump()} method).
+     * @param isOffHeap - allocate buffer off heap?.
+     */
+    public LoggerFlightRecorderOutput(LoggerOutput aTarget, int aMaxMessages, int aBufferSize, LoggingMessageLevel aDumpLevel, boolean isOffHeap) {
+        Objects.requireNonNull(aTarget, "LoggerOutput [aTarget] must be not null.");
+        if (aMaxMessages <= 0) throw new IllegalArgumentException("Maximum count of messages [aMaxMessages] must be greater than 0.");
+        if (aBufferSize <= 0) throw new IllegalArgumentException("Buffer size [aBufferSize] must be greater than 0.");
+        this.target = aTarget;
+        this.dumpLevel = aDumpLevel;
+        this.buffer = isOffHeap ? ByteBuffer.allocateDirect(aBufferSize) : ByteBuffer.allocate(aBufferSize);
+        this.view = this.buffer.duplicate();
+        this.offsets = new int[aMaxMessages];
+        this.lengths = new int[aMaxMessages];
+        this.levels = new byte[aMaxMessages];
+    }
+
+    /**
+     * Record message without level.
+     * @param aMessage - message to out.
+     */
+    @Override
+    public void out(String aMessage) {
+        this.out(aMessage, null);
+    }
+
+    /**
+     * Record message, or dump recorded messages and message to target output, if message level is dump level or higher.
+     * @param aMessage - message to out.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public void out(String aMessage, LoggingMessageLevel aLevel) {
+        if (aMessage == null) return;
+        this.out(ByteBuffer.wrap(aMessage.getBytes(Charset.defaultCharset())), aLevel);
+    }
+
+    /**
+     * Record encoded message, or dump recorded messages and message to target output, if message level is dump level or higher.
+     * Position and limit of message buffer aren't changed.
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        if (aLevel != null && this.dumpLevel != null && aLevel.getLevel() >= this.dumpLevel.getLevel()) {
+            this.dumpRecorded();
+            this.target.out(aMessage, aLevel);
+            return;
+        }
+        this.record(aMessage, aLevel);
+    }
+
+    /**
+     * Copy message into buffer. Oldest messages are evicted, until there are free slot and contiguous free space for message.
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     */
+    private void record(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        int capacity = this.buffer.capacity();
+        int length = Math.min(aMessage.remaining(), capacity);
+        int space = Math.max(length, 1); // Empty message also takes one byte, so messages never share offset;
+        if (this.count == this.offsets.length) this.evict();
+
+        // Message is stored contiguously: if it doesn't fit into tail of buffer, it's stored from start of buffer:
+        // (oldest messages in skipped tail are evicted too, so messages always follow in buffer in order of arrival):
+        int offset = this.writePosition;
+        if (offset + space > capacity) {
+            while (this.count > 0 && this.offsets[this.first] >= this.writePosition) this.evict();
+            offset = 0;
+        }
+        while (this.count > 0 && this.isOverlapped(offset, space)) this.evict();
+
+        int position = aMessage.position();
+        int limit = aMessage.limit();
+        try {
+            aMessage.limit(position + length);
+            this.buffer.clear();
+            this.buffer.position(offset);
+            this.buffer.put(aMessage);
+        } finally {
+            aMessage.limit(limit);
+            aMessage.position(position);
+        }
+
+        int index = (this.first + this.count) % this.offsets.length;
+        this.offsets[index] = offset;
+        this.lengths[index] = length;
+        this.levels[index] = aLevel != null ? (byte) aLevel.ordinal() : -1;
+        this.count++;
+        this.writePosition = offset + space;
+    }
+
+    /**
+     * Check if region of buffer overlaps oldest recorded message.
+     * @param anOffset - region offset.
+     * @param aLength - region length (greater than 0).
+     * @return - true, if region overlaps oldest message.
+     */
+    private boolean isOverlapped(int anOffset, int aLength) {
+        int oldestOffset = this.offsets[this.first];
+        return anOffset < oldestOffset + Math.max(this.lengths[this.first], 1) && oldestOffset < anOffset + aLength;
+    }
+
+    /**
+     * Evict oldest recorded message.
+     */
+    private void evict() {
+        this.first = (this.first + 1) % this.offsets.length;
+        this.count--;
+        if (this.count == 0) this.writePosition = 0;
+    }
+
+    /**
+     * Write recorded messages to target output and clear buffer.
+     */
+    private void dumpRecorded() {
+        try {
+            while (this.count > 0) {
+                int index = this.first;
+                this.view.limit(this.offsets[index] + this.lengths[index]);
+                this.view.position(this.offsets[index]);
+                this.evict();
+                this.target.out(this.view, this.levels[index] >= 0 ? LEVELS[this.levels[index]] : null);
+            }
+        } finally {
+            this.view.clear();
+        }
+    }
+
+    /**
+     * Write all recorded messages to target output and clear buffer.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    public synchronized void dump() {
+        this.dumpRecorded();
+    }
+
+    /**
+     * Get count of recorded messages, which aren't dumped yet.
+     * @return - count of messages.
+     */
+    public synchronized int getRecordedCount() {
+        return this.count;
+    }
+
+    /**
+     * Flush target output (recorded messages aren't dumped).
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (this.target instanceof Flushable) ((Flushable) this.target).flush();
+    }
+
+    /**
+     * Discard recorded messages and close target output.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        this.count = 0;
+        this.writePosition = 0;
+        this.target.close();
+    }
+}
@@ -0,0 +1,283 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingEvent;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link LoggingEventOutput} output.
+ * Encode each logging event into single line JSON object
+ * ({"timestamp":1700000000123,"level":"INFO","logger":"Orders","message":"Order is placed.","orderId":42,"ms":12})
+ * and out it to delegate output as encoded message.
+ * Event is encoded straight into reusable byte buffer without intermediate strings and maps, values of primitive fields
+ * are written without boxing. All non-ASCII chars are escaped ("\\uXXXX"), so encoded bytes are valid in any
+ * ASCII compatible charset of delegate output.
+ * Fields with keys of standard properties ("timestamp", "level", "logger", "message") are written with "field." prefix
+ * (for example, "field.level"), so each encoded object has unique keys.
+ */
+public class LoggerJsonOutput implements LoggingEventOutput, Flushable {
+
+    private static final int INITIAL_CAPACITY = 512; // Initial capacity of buffer;
+    private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+    private static final byte[] TIMESTAMP_KEY = ascii("{\"timestamp\":");
+    private static final byte[] LEVEL_KEY = ascii(",\"level\":");
+    private static final byte[] LOGGER_KEY = ascii(",\"logger\":");
+    private static final byte[] MESSAGE_KEY = ascii(",\"message\":");
+    private static final byte[] MESSAGE_ONLY_KEY = ascii("{\"message\":");
+    private static final String RESERVED_KEY_PREFIX = "field."; // Prefix of fields keys, which are the same as keys of standard properties;
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+
+    private final LoggerOutput delegate; // Output of encoded events;
+    private final StringBuilder scratch = new StringBuilder(INITIAL_CAPACITY); // Reusable builder of formatted messages and numbers;
+    private byte[] bytes = new byte[INITIAL_CAPACITY]; // Encoded event;
+    private ByteBuffer buffer = ByteBuffer.wrap(this.bytes); // Encoded event buffer;
+    private int length = 0; // Length of encoded event;
+
+    /**
+     * Construct new instance of this class, which out encoded events to specified output.
+     * @param aDelegate - output of encoded events (for example, {@link LoggerFileOutput}).
+     */
+    public LoggerJsonOutput(LoggerOutput aDelegate) {
+        Objects.requireNonNull(aDelegate, "LoggerOutput [aDelegate] must be not null.");
+        this.delegate = aDelegate;
+    }
+
+    /**
+     * Get ASCII bytes of constant.
+     * @param aConstant - constant.
+     * @return - bytes.
+     */
+    private static byte[] ascii(String aConstant) {
+        byte[] result = new byte[aConstant.length()];
+        for (int i = 0; i < result.length; i++) result[i] = (byte) aConstant.charAt(i);
+        return result;
+    }
+
+    /**
+     * Encode logging event and out it to delegate output.
+     * @param anEvent - logging event.
+     * @return - count of bytes of encoded event.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized int out(LoggingEvent anEvent) {
+        this.length = 0;
+        this.writeBytes(TIMESTAMP_KEY);
+        this.writeLong(anEvent.getTimeMillis());
+        if (anEvent.getLevel() != null) {
+            this.writeBytes(LEVEL_KEY);
+            this.writeString(anEvent.getLevel().getLevelName());
+        }
+        this.writeBytes(LOGGER_KEY);
+        this.writeString(anEvent.getLoggerName());
+        this.writeBytes(MESSAGE_KEY);
+        if (anEvent.getArgumentsCount() == 0) {
+            this.writeString(anEvent.getMessage());
+        } else {
+            this.scratch.setLength(0);
+            anEvent.appendFormattedMessage(this.scratch);
+            this.writeString(this.scratch);
+        }
+        for (int i = 0; i < anEvent.getFieldsCount(); i++) {
+            this.writeByte((byte) ',');
+            this.writeFieldKey(anEvent.getFieldKey(i));
+            this.writeByte((byte) ':');
+            switch (anEvent.getFieldType(i)) {
+                case LONG: this.writeLong(anEvent.getFieldLong(i)); break;
+                case DOUBLE: this.writeDouble(anEvent.getFieldDouble(i)); break;
+                case BOOLEAN: this.writeBytes(anEvent.getFieldBoolean(i) ? TRUE : FALSE); break;
+                default: this.writeObject(anEvent.getFieldObject(i));
+            }
+        }
+        this.writeByte((byte) '}');
+        this.outEncoded(anEvent.getLevel());
+        return this.length;
+    }
+
+    /**
+     * Write field key. Keys of standard properties are written with {@link #RESERVED_KEY_PREFIX} prefix.
+     * @param aKey - field key.
+     */
+    private void writeFieldKey(String aKey) {
+        if (isReservedKey(aKey)) {
+            this.scratch.setLength(0);
+            this.scratch.append(RESERVED_KEY_PREFIX).append(aKey);
+            this.writeString(this.scratch);
+        } else {
+            this.writeString(aKey);
+        }
+    }
+
+    /**
+     * Check if field key is the same as key of standard property.
+     * @param aKey - field key.
+     * @return - true, if key is reserved.
+     */
+    private static boolean isReservedKey(String aKey) {
+        return "timestamp".equals(aKey) || "level".equals(aKey) || "logger".equals(aKey) || "message".equals(aKey);
+    }
+
+    /**
+     * Out already rendered message as JSON object with single "message" field.
+     * @param aMessage - message to out.
+     */
+    @Override
+    public void out(String aMessage) {
+        this.out(aMessage, null);
+    }
+
+    /**
+     * Out already rendered message as JSON object with single "message" field.
+     * @param aMessage - message to out.
+     * @param aLevel - message level.
+     */
+    @Override
+    public synchronized void out(String aMessage, LoggingMessageLevel aLevel) {
+        this.length = 0;
+        this.writeBytes(MESSAGE_ONLY_KEY);
+        this.writeString(aMessage);
+        this.writeByte((byte) '}');
+        this.outEncoded(aLevel);
+    }
+
+    /**
+     * Out encoded event to delegate output.
+     * @param aLevel - message level.
+     */
+    private void outEncoded(LoggingMessageLevel aLevel) {
+        this.buffer.limit(this.length).position(0);
+        this.delegate.out(this.buffer, aLevel);
+    }
+
+    /**
+     * Ensure, that buffer can hold specified count of additional bytes.
+     * @param aCount - count of bytes.
+     */
+    private void ensureCapacity(int aCount) {
+        if (this.length + aCount <= this.bytes.length) return;
+        byte[] newBytes = new byte[Math.max(this.length + aCount, this.bytes.length * 2)];
+        System.arraycopy(this.bytes, 0, newBytes, 0, this.length);
+        this.bytes = newBytes;
+        this.buffer = ByteBuffer.wrap(newBytes);
+    }
+
+    private void writeByte(byte aByte) {
+        this.ensureCapacity(1);
+        this.bytes[this.length++] = aByte;
+    }
+
+    private void writeBytes(byte[] aBytes) {
+        this.ensureCapacity(aBytes.length);
+        System.arraycopy(aBytes, 0, this.bytes, this.length, aBytes.length);
+        this.length += aBytes.length;
+    }
+
+    /**
+     * Write ASCII chars of scratch builder (numbers).
+     */
+    private void writeScratch() {
+        this.ensureCapacity(this.scratch.length());
+        for (int i = 0; i < this.scratch.length(); i++) this.bytes[this.length++] = (byte) this.scratch.charAt(i);
+    }
+
+    private void writeLong(long aValue) {
+        this.scratch.setLength(0);
+        this.scratch.append(aValue);
+        this.writeScratch();
+    }
+
+    /**
+     * Write floating-point number. JSON hasn't NaN and infinite numbers, so they are written as strings.
+     * @param aValue - number.
+     */
+    private void writeDouble(double aValue) {
+        this.scratch.setLength(0);
+        this.scratch.append(aValue);
+        if (Double.isNaN(aValue) || Double.isInfinite(aValue)) this.writeString(this.scratch);
+        else this.writeScratch();
+    }
+
+    /**
+     * Write object value: strings as JSON strings, numbers and booleans as JSON literals, other objects as their strings.
+     * @param aValue - value.
+     */
+    private void writeObject(Object aValue) {
+        if (aValue == null) this.writeBytes(NULL);
+        else if (aValue instanceof CharSequence) this.writeString((CharSequence) aValue);
+        else if (aValue instanceof Integer || aValue instanceof Long || aValue instanceof Short || aValue instanceof Byte)
+            this.writeLong(((Number) aValue).longValue());
+        else if (aValue instanceof Double || aValue instanceof Float) this.writeDouble(((Number) aValue).doubleValue());
+        else if (aValue instanceof Boolean) this.writeBytes((Boolean) aValue ? TRUE : FALSE);
+        else if (aValue instanceof BigInteger || aValue instanceof BigDecimal) {
+            this.scratch.setLength(0);
+            this.scratch.append(aValue);
+            this.writeScratch();
+        } else this.writeString(String.valueOf(aValue));
+    }
+
+    /**
+     * Write escaped JSON string.
+     * @param aValue - string (null is written as null literal).
+     */
+    private void writeString(CharSequence aValue) {
+        if (aValue == null) {
+            this.writeBytes(NULL);
+            return;
+        }
+        int valueLength = aValue.length();
+        this.ensureCapacity(valueLength * 6 + 2);
+        byte[] target = this.bytes;
+        int position = this.length;
+        target[position++] = '"';
+        for (int i = 0; i < valueLength; i++) {
+            char symbol = aValue.charAt(i);
+            if (symbol >= 0x20 && symbol < 0x7F) {
+                if (symbol == '"' || symbol == '\\') target[position++] = '\\';
+                target[position++] = (byte) symbol;
+                continue;
+            }
+            target[position++] = '\\';
+            switch (symbol) {
+                case '\n': target[position++] = 'n'; break;
+                case '\r': target[position++] = 'r'; break;
+                case '\t': target[position++] = 't'; break;
+                case '\b': target[position++] = 'b'; break;
+                case '\f': target[position++] = 'f'; break;
+                default:
+                    target[position++] = 'u';
+                    target[position++] = HEX_DIGITS[(symbol >> 12) & 0xF];
+                    target[position++] = HEX_DIGITS[(symbol >> 8) & 0xF];
+                    target[position++] = HEX_DIGITS[(symbol >> 4) & 0xF];
+                    target[position++] = HEX_DIGITS[symbol & 0xF];
+            }
+        }
+        target[position++] = '"';
+        this.length = position;
+    }
+
+    /**
+     * Flush delegate output, if it's flushable.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (this.delegate instanceof Flushable) ((Flushable) this.delegate).flush();
+    }
+
+    /**
+     * Close delegate output.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        this.delegate.close();
+    }
+}
@@ -0,0 +1,194 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.util.file.FileUtils;
+
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Implementation of {@link LoggerOutput} interface.
+ * Append messages to memory-mapped region of log file. When region is full, file is extended and
+ * next region is mapped, so messages are written without system calls per message.
+ * On {@link #close()} file is truncated to real length of written messages. Messages, which are written after closing
+ * (for example, by logging threads, which still use removed output), are dropped. If file wasn't closed (process was killed),
+ * it ends with zero-filled unwritten part of the last region: such tail is truncated, before messages are appended to file.
+ */
+public class LoggerMappedFileOutput implements LoggerOutput, Flushable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024; // Default size of mapped region;
+    private static final int SCAN_WINDOW_SIZE = 64 * 1024; // Size of window, by which zero-filled tail of file is scanned;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(Charset.defaultCharset());
+
+    private final RandomAccessFile file; // Log file;
+    private final FileChannel channel; // Log file channel;
+    private final int chunkSize; // Size of mapped region;
+    private MappedByteBuffer region; // Current mapped region;
+    private long regionStart; // Position of current region in file;
+    private boolean isClosed = false; // FLAG: Is output closed (guarded by monitor);
+
+    /**
+     * Construct new instance of this class for specified file with default chunk size.
+     * @param anOutputFile - output file.
+     * @param isAppend - is appends messages to end of file?.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerMappedFileOutput(File anOutputFile, boolean isAppend) throws IOException {
+        this(anOutputFile, isAppend, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Construct new instance of this class for specified file.
+     * @param anOutputFile - output file.
+     * @param isAppend - is appends messages to end of file?.
+     * @param aChunkSize - size of mapped region, on which file is extended.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerMappedFileOutput(File anOutputFile, boolean isAppend, int aChunkSize) throws IOException {
+        FileUtils.checkFile(anOutputFile);
+        if (aChunkSize <= 0) throw new IllegalArgumentException("Chunk size [aChunkSize] must be greater than 0.");
+        this.chunkSize = aChunkSize;
+
+        this.file = new RandomAccessFile(anOutputFile, "rw");
+        this.channel = this.file.getChannel();
+        if (!isAppend) this.channel.truncate(0L);
+        else truncateZeroTail(this.channel);
+        this.map(this.channel.size());
+    }
+
+    /**
+     * Truncate zero-filled tail of file (unwritten part of the last mapped region, which remains in file,
+     * if output wasn't closed). Each written message ends with line separator, so trailing zero bytes aren't messages bytes.
+     * @param aChannel - file channel.
+     * @return - count of truncated bytes.
+     * @throws IOException - If IO exception occurs.
+     */
+    private static long truncateZeroTail(FileChannel aChannel) throws IOException {
+        long size = aChannel.size();
+        long end = size;
+        ByteBuffer window = ByteBuffer.allocate((int) Math.min(SCAN_WINDOW_SIZE, Math.max(size, 1L)));
+        scan:
+        while (end > 0L) {
+            long start = Math.max(0L, end - window.capacity());
+            window.clear().limit((int) (end - start));
+            while (window.hasRemaining()) {
+                if (aChannel.read(window, start + window.position()) < 0) break;
+            }
+            for (int i = window.position() - 1; i >= 0; i--) {
+                if (window.get(i) != 0) {
+                    end = start + i + 1;
+                    break scan;
+                }
+            }
+            end = start;
+        }
+        if (end == size) return 0L;
+        aChannel.truncate(end);
+        return size - end;
+    }
+
+    /**
+     * Map new region of file, which start from specified position.
+     * @param aPosition - region start position.
+     * @throws IOException - If IO exception occurs.
+     */
+    private void map(long aPosition) throws IOException {
+        this.regionStart = aPosition;
+        this.region = this.channel.map(FileChannel.MapMode.READ_WRITE, aPosition, this.chunkSize); // Extend file;
+    }
+
+    /**
+     * Get real length of written messages.
+     * @return - length in bytes.
+     */
+    public synchronized long getLength() {
+        return this.regionStart + this.region.position();
+    }
+
+    /**
+     * Out message to memory-mapped file.
+     * @param aMessage - message to out.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(String aMessage) {
+        if (aMessage == null || this.isClosed) return;
+        try {
+            this.write(aMessage.getBytes(Charset.defaultCharset()));
+            this.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Out encoded message to memory-mapped file.
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        if (this.isClosed) return;
+        int position = aMessage.position();
+        int limit = aMessage.limit();
+        try {
+            while (aMessage.hasRemaining()) {
+                if (!this.region.hasRemaining()) this.map(this.regionStart + this.region.position());
+                aMessage.limit(Math.min(limit, aMessage.position() + this.region.remaining()));
+                this.region.put(aMessage);
+                aMessage.limit(limit);
+            }
+            this.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            aMessage.limit(limit);
+            aMessage.position(position);
+        }
+    }
+
+    /**
+     * Write bytes to mapped regions.
+     * @param aBytes - bytes to write.
+     * @throws IOException - If IO exception occurs.
+     */
+    private void write(byte[] aBytes) throws IOException {
+        int offset = 0;
+        while (offset < aBytes.length) {
+            if (!this.region.hasRemaining()) this.map(this.regionStart + this.region.position());
+            int length = Math.min(this.region.remaining(), aBytes.length - offset);
+            this.region.put(aBytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Force written messages to storage device.
+     */
+    @Override
+    public synchronized void flush() {
+        if (this.isClosed) return;
+        this.region.force();
+    }
+
+    /**
+     * Truncate file to real length of written messages and close it.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.isClosed) return;
+        this.isClosed = true;
+        long length = this.getLength();
+        this.region.force();
+        this.channel.truncate(length);
+        this.file.close();
+    }
+}
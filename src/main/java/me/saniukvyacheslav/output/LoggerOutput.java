@@ -1,6 +1,10 @@
 package me.saniukvyacheslav.output;
 
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
 import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
 /**
  * Define common method to print message to implemented output.
@@ -13,4 +17,29 @@ public interface LoggerOutput extends Closeable {
      * @param aMessage - message to out.
      */
     void out(String aMessage);
+
+    /**
+     * Out message with specified level to output.
+     * Outputs, which depend on message level (for example, to flush important messages immediately), override this method.
+     * By default, method call {@link #out(String)} method.
+     * @param aMessage - message to out.
+     * @param aLevel - message level.
+     */
+    default void out(String aMessage, LoggingMessageLevel aLevel) {
+        this.out(aMessage);
+    }
+
+    /**
+     * Out encoded message (in default charset) with specified level to output.
+     * Outputs, which write bytes, override this method to write message without decoding.
+     * By default, method decode message and call {@link #out(String, LoggingMessageLevel)} method.
+     * Implementations must not change position and limit of buffer and must not hold reference on it, because buffer is reused.
+     * @param aMessage - encoded message without line separator.
+     * @param aLevel - message level.
+     */
+    default void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        if (aMessage.hasArray())
+            this.out(new String(aMessage.array(), aMessage.arrayOffset() + aMessage.position(), aMessage.remaining(), Charset.defaultCharset()), aLevel);
+        else this.out(Charset.defaultCharset().decode(aMessage.duplicate()).toString(), aLevel);
+    }
 }
@@ -0,0 +1,19 @@
+package me.saniukvyacheslav.output;
+
+import java.io.IOException;
+
+/**
+ * Deferred constructor of {@link LoggerOutput} output.
+ * Used by configuration builders, which create outputs only when configuration is built.
+ */
+@FunctionalInterface
+public interface LoggerOutputSupplier {
+
+    /**
+     * Construct new output.
+     * @return - output.
+     * @throws IOException - If IO exception occurs.
+     */
+    LoggerOutput get() throws IOException;
+
+}
@@ -0,0 +1,307 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.conf.LoggingConfiguration;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.util.file.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implementation of {@link LoggerOutput} interface.
+ * Out messages to log file, which is rotated by size and/or by time according to {@link RollingPolicy} policy.
+ * Rollover only close current file, rename it to archive and open new file.
+ * Archives are compressed with gzip and old archives are deleted in background thread,
+ * so logging threads never wait for compression.
+ */
+public class LoggerRollingFileOutput implements LoggerOutput {
+
+    public static final String COMPRESSED_ARCHIVE_SUFFIX = ".gz";
+    private static final DateTimeFormatter ARCHIVE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(Charset.defaultCharset());
+
+    private final Path activeFile; // Current log file;
+    private final RollingPolicy policy; // Rotation policy;
+    private final ExecutorService archiver; // Background archives compressor;
+    private final Set<Path> pendingArchives = ConcurrentHashMap.newKeySet(); // Archives, which are waiting for compression;
+    private final Pattern archiveName; // Pattern of archive file names (groups: 1 - start time, 2 - archive counter);
+    private final ZoneId zone = ZoneId.systemDefault(); // Time zone of rolling intervals;
+    private FileChannel channel; // Current log file channel;
+    private long fileSize; // Current log file size;
+    private long segmentStartMillis; // Start time of current log file;
+    private long nextRolloverMillis; // Time of next rollover by time (Long.MAX_VALUE - disabled);
+    private int archiveCounter = 0; // Counter of archives, which make archive names unique;
+    private ByteBuffer writeBuffer = ByteBuffer.allocateDirect(8192); // Reusable write buffer;
+
+    /**
+     * Construct new instance of this class for specified file.
+     * Messages are appended to end of existing file. If existing file was written in previous rolling interval,
+     * it's rotated immediately.
+     * @param anOutputFile - log file.
+     * @param aPolicy - rotation policy.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerRollingFileOutput(File anOutputFile, RollingPolicy aPolicy) throws IOException {
+        FileUtils.checkFile(anOutputFile);
+        Objects.requireNonNull(aPolicy, "RollingPolicy [aPolicy] must be not null.");
+        this.activeFile = anOutputFile.toPath().toAbsolutePath();
+        this.policy = aPolicy;
+        this.archiveName = Pattern.compile(Pattern.quote(this.activeFile.getFileName().toString()) + "\\.(\\d{8}-\\d{6})\\.(\\d+)(?:" + Pattern.quote(COMPRESSED_ARCHIVE_SUFFIX) + ")?");
+        this.archiver = Executors.newSingleThreadExecutor(LoggingThreads.newThreadFactory("irene-l-archiver-" +this.activeFile.getFileName()));
+
+        long now = System.currentTimeMillis();
+        this.channel = this.openActiveFile();
+        this.fileSize = this.channel.size();
+        this.segmentStartMillis = this.fileSize > 0L ? Files.getLastModifiedTime(this.activeFile).toMillis() : now;
+        this.nextRolloverMillis = this.computeNextRollover(this.segmentStartMillis);
+        if (now >= this.nextRolloverMillis) this.rollover(now);
+    }
+
+    /**
+     * Open current log file for appending.
+     * @return - file channel.
+     * @throws IOException - If IO exception occurs.
+     */
+    private FileChannel openActiveFile() throws IOException {
+        return FileChannel.open(this.activeFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Compute time of next rollover by time for log file, started at specified time.
+     * @param aSegmentStartMillis - log file start time.
+     * @return - next rollover time (Long.MAX_VALUE, if rollover by time is disabled).
+     */
+    private long computeNextRollover(long aSegmentStartMillis) {
+        ZonedDateTime next = this.policy.getInterval().getNextIntervalStart(ZonedDateTime.ofInstant(Instant.ofEpochMilli(aSegmentStartMillis), this.zone));
+        return next == null ? Long.MAX_VALUE : next.toInstant().toEpochMilli();
+    }
+
+    /**
+     * Out message to current log file. Rotate log file, if it's required by policy.
+     * @param aMessage - message to out.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(String aMessage) {
+        if (aMessage == null) return;
+        this.out(ByteBuffer.wrap(aMessage.getBytes(Charset.defaultCharset())), null);
+    }
+
+    /**
+     * Out encoded message to current log file. Rotate log file, if it's required by policy.
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     * @throws RuntimeException - if IO exception occur.
+     */
+    @Override
+    public synchronized void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        int position = aMessage.position();
+        int length = aMessage.remaining() + LINE_SEPARATOR.length;
+        try {
+            long now = System.currentTimeMillis();
+            if (now >= this.nextRolloverMillis || this.isSizeExceeded(length)) this.rollover(now);
+
+            if (this.writeBuffer.capacity() < length) this.writeBuffer = ByteBuffer.allocateDirect(Math.max(length, this.writeBuffer.capacity() * 2));
+            this.writeBuffer.clear();
+            this.writeBuffer.put(aMessage).put(LINE_SEPARATOR);
+            this.writeBuffer.flip();
+            while (this.writeBuffer.hasRemaining()) this.channel.write(this.writeBuffer);
+            this.fileSize += length;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            aMessage.position(position);
+        }
+    }
+
+    /**
+     * Check if log file size will exceed max size after writing specified count of bytes.
+     * @param aLength - count of bytes to write.
+     * @return - true, if log file must be rotated.
+     */
+    private boolean isSizeExceeded(int aLength) {
+        return this.policy.getMaxFileSize() > 0L && this.fileSize > 0L && this.fileSize + aLength > this.policy.getMaxFileSize();
+    }
+
+    /**
+     * Rotate current log file: close it, rename to archive and open new log file.
+     * Compression and deletion of old archives are submitted to background thread.
+     * @param aNowMillis - current time.
+     * @throws IOException - If IO exception occurs.
+     */
+    private void rollover(long aNowMillis) throws IOException {
+        this.channel.close();
+        Path archive = this.nextArchivePath();
+        // Mark archive as pending before it appears, so archiver thread never deletes it before compression:
+        if (this.policy.isCompressArchives()) this.pendingArchives.add(archive);
+        try {
+            Files.move(this.activeFile, archive);
+        } catch (IOException e) {
+            this.pendingArchives.remove(archive);
+            throw e;
+        }
+        this.channel = this.openActiveFile();
+
+        this.fileSize = 0L;
+        this.segmentStartMillis = aNowMillis;
+        this.nextRolloverMillis = this.computeNextRollover(aNowMillis);
+        this.archiver.execute(() -> this.archive(archive));
+    }
+
+    /**
+     * Get unique path of next archive.
+     * Archive name is log file name + start time of archived log file + archive counter.
+     * @return - archive path.
+     */
+    private Path nextArchivePath() {
+        String time = ARCHIVE_TIME_FORMATTER.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(this.segmentStartMillis), this.zone));
+        Path archive;
+        do {
+            archive = this.activeFile.resolveSibling(this.activeFile.getFileName() + "." + time + "." + (++this.archiveCounter));
+        } while (Files.exists(archive) || Files.exists(archive.resolveSibling(archive.getFileName() + COMPRESSED_ARCHIVE_SUFFIX)));
+        return archive;
+    }
+
+    /**
+     * Compress archive (if compression is enabled) and delete the oldest archives.
+     * Executed in background thread. Errors are reported to {@link LoggingConfiguration#reportError(String, Throwable)}.
+     * @param anArchive - archive path.
+     */
+    private void archive(Path anArchive) {
+        try {
+            if (this.policy.isCompressArchives()) compress(anArchive);
+        } catch (IOException e) {
+            // Archiving errors mustn't stop archiver thread:
+            LoggingConfiguration.reportError("Archive [" + anArchive + "] isn't compressed", e);
+        } finally {
+            this.pendingArchives.remove(anArchive);
+        }
+        try {
+            this.deleteOldArchives();
+        } catch (IOException e) {
+            LoggingConfiguration.reportError("Old archives of [" + this.activeFile + "] aren't deleted", e);
+        }
+    }
+
+    /**
+     * Compress file with gzip and delete original file.
+     * @param aFile - file to compress.
+     * @throws IOException - If IO exception occurs.
+     */
+    private static void compress(Path aFile) throws IOException {
+        Path compressed = aFile.resolveSibling(aFile.getFileName() + COMPRESSED_ARCHIVE_SUFFIX);
+        try (InputStream in = Files.newInputStream(aFile);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressed), 64 * 1024)) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) out.write(buffer, 0, read);
+        }
+        Files.setLastModifiedTime(compressed, Files.getLastModifiedTime(aFile));
+        Files.delete(aFile);
+    }
+
+    /**
+     * Delete the oldest archives, which exceed max count of kept archives.
+     * Archives, which are waiting for compression, are counted, but never deleted.
+     * @throws IOException - If IO exception occurs.
+     */
+    private void deleteOldArchives() throws IOException {
+        List<Path> archives = this.listArchives();
+        int excess = archives.size() - this.policy.getMaxArchives();
+        for (int i = 0; i < archives.size() && excess > 0; i++) {
+            if (this.pendingArchives.contains(archives.get(i))) continue;
+            Files.deleteIfExists(archives.get(i));
+            excess--;
+        }
+    }
+
+    /**
+     * List all archives of this log file from the oldest to the newest.
+     * Archives are ordered by last modified time, then by start time and counter in archive name
+     * (counter is compared numerically, so archive ".10" is newer than archive ".9").
+     * @return - list of archives.
+     * @throws IOException - If IO exception occurs.
+     */
+    public List<Path> listArchives() throws IOException {
+        List<Path> archives = new ArrayList<>();
+        try (DirectoryStream<Path> directory = Files.newDirectoryStream(this.activeFile.getParent(), (path) -> this.archiveName.matcher(path.getFileName().toString()).matches())) {
+            directory.forEach(archives::add);
+        }
+        archives.sort(Comparator.comparing((Path path) -> {
+            try {
+                return Files.getLastModifiedTime(path);
+            } catch (IOException e) {
+                return FileTime.fromMillis(0L);
+            }
+        }).thenComparing(this::archiveStartTime).thenComparingLong(this::archiveCounter));
+        return archives;
+    }
+
+    /**
+     * Get start time of archived log file from archive name.
+     * @param anArchive - archive path.
+     * @return - start time in "yyyyMMdd-HHmmss" format.
+     */
+    private String archiveStartTime(Path anArchive) {
+        Matcher matcher = this.archiveName.matcher(anArchive.getFileName().toString());
+        return matcher.matches() ? matcher.group(1) : "";
+    }
+
+    /**
+     * Get archive counter from archive name.
+     * @param anArchive - archive path.
+     * @return - archive counter.
+     */
+    private long archiveCounter(Path anArchive) {
+        Matcher matcher = this.archiveName.matcher(anArchive.getFileName().toString());
+        if (!matcher.matches()) return 0L;
+        try {
+            return Long.parseLong(matcher.group(2));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Close current log file and wait for completion of background archiving.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            this.channel.close();
+        }
+        this.archiver.shutdown();
+        try {
+            this.archiver.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingEvent;
+
+/**
+ * Output, which encodes logging events by itself (for example, to JSON) instead of
+ * receiving messages, rendered by logging message pattern.
+ * Loggers and asynchronous dispatcher pass events to such outputs directly, so pattern isn't rendered for them.
+ */
+public interface LoggingEventOutput extends LoggerOutput {
+
+    /**
+     * Out logging event to output.
+     * Event is reused after this call, so implementations must not hold reference on it.
+     * @param anEvent - logging event.
+     * @return - count of bytes of encoded event (0, if event isn't encoded in this call, for example, when it's queued).
+     */
+    int out(LoggingEvent anEvent);
+}
@@ -0,0 +1,45 @@
+package me.saniukvyacheslav.output;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of background threads of loggers (flushers, output workers, archivers, configuration watchers).
+ * Threads of this version are daemon platform threads.
+ * Multi-release JAR contains Java 21 version of this class (src/main/java21), which creates virtual threads,
+ * so background output work doesn't hold platform threads, while it waits for IO or for messages.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LoggingThreads {
+
+    /**
+     * Create new not started background thread.
+     * @param aName - thread name.
+     * @param aTask - thread task.
+     * @return - daemon thread.
+     */
+    public static Thread newThread(String aName, Runnable aTask) {
+        Thread thread = new Thread(aTask, aName);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Create factory of background threads with specified name (for executors).
+     * @param aName - threads name.
+     * @return - factory of daemon threads.
+     */
+    public static ThreadFactory newThreadFactory(String aName) {
+        return (runnable) -> newThread(aName, runnable);
+    }
+
+    /**
+     * Check if background threads are virtual threads.
+     * @return - true, if background threads are virtual.
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+}
@@ -0,0 +1,111 @@
+package me.saniukvyacheslav.output;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.saniukvyacheslav.definition.pattern.Builder;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+/**
+ * Policy of flushing buffered {@link LoggerOutput} outputs.
+ * Output is flushed when one of the following conditions is met:
+ * - count of not flushed bytes reach "flushBytes" threshold;
+ * - "flushIntervalMillis" milliseconds are elapsed (flushed by background flusher);
+ * - message has level equal to or greater than "immediateFlushLevel" level.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OutputFlushPolicy {
+
+    /**
+     * Flush output after each message.
+     */
+    public static final OutputFlushPolicy IMMEDIATE = OutputFlushPolicyBuilder.create().flushEveryBytes(0).build();
+
+    private int flushBytes = Integer.MAX_VALUE; // Flush, when count of not flushed bytes reach this value;
+    private long flushIntervalMillis = 0L; // Flush interval of background flusher (0 - disabled);
+    private LoggingMessageLevel immediateFlushLevel = null; // Flush immediately messages with this or greater level (null - disabled);
+
+    /**
+     * Check if output must be flushed after writing message.
+     * @param aPendingBytes - count of not flushed bytes.
+     * @param aLevel - message level (may be null).
+     * @return - true, if output must be flushed.
+     */
+    public boolean isFlushRequired(long aPendingBytes, LoggingMessageLevel aLevel) {
+        if (aPendingBytes >= this.flushBytes) return true;
+        return aLevel != null && this.immediateFlushLevel != null && aLevel.getLevel() >= this.immediateFlushLevel.getLevel();
+    }
+
+    /**
+     * Check if output must be flushed by background flusher.
+     * @return - true, if flush interval is set.
+     */
+    public boolean isPeriodicFlushEnabled() {
+        return this.flushIntervalMillis > 0L;
+    }
+
+    /**
+     * Builder for {@link OutputFlushPolicy} policies.
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class OutputFlushPolicyBuilder implements Builder<OutputFlushPolicy> {
+
+        private int flushBytes = Integer.MAX_VALUE;
+        private long flushIntervalMillis = 0L;
+        private LoggingMessageLevel immediateFlushLevel = null;
+
+        /**
+         * Create new builder.
+         * @return - builder.
+         */
+        public static OutputFlushPolicyBuilder create() {
+            return new OutputFlushPolicyBuilder();
+        }
+
+        /**
+         * Flush output when count of not flushed bytes reach specified value.
+         * @param aBytes - bytes threshold (0 - flush after each message).
+         * @return - this builder.
+         */
+        public OutputFlushPolicyBuilder flushEveryBytes(int aBytes) {
+            if (aBytes < 0) throw new IllegalArgumentException("Bytes threshold [aBytes] must be not negative.");
+            this.flushBytes = aBytes;
+            return this;
+        }
+
+        /**
+         * Flush output by background flusher every specified count of milliseconds.
+         * @param aMillis - flush interval.
+         * @return - this builder.
+         */
+        public OutputFlushPolicyBuilder flushEveryMillis(long aMillis) {
+            if (aMillis <= 0L) throw new IllegalArgumentException("Flush interval [aMillis] must be greater than 0.");
+            this.flushIntervalMillis = aMillis;
+            return this;
+        }
+
+        /**
+         * Flush output immediately after messages with specified or greater level.
+         * @param aLevel - message level.
+         * @return - this builder.
+         */
+        public OutputFlushPolicyBuilder flushImmediatelyAt(LoggingMessageLevel aLevel) {
+            this.immediateFlushLevel = aLevel;
+            return this;
+        }
+
+        /**
+         * Build new flush policy.
+         * @return - flush policy.
+         */
+        @Override
+        public OutputFlushPolicy build() {
+            OutputFlushPolicy policy = new OutputFlushPolicy();
+            policy.flushBytes = this.flushBytes;
+            policy.flushIntervalMillis = this.flushIntervalMillis;
+            policy.immediateFlushLevel = this.immediateFlushLevel;
+            return policy;
+        }
+    }
+}
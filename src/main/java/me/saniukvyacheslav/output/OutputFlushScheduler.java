@@ -0,0 +1,41 @@
+package me.saniukvyacheslav.output;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background flusher of buffered {@link LoggerOutput} outputs.
+ * All outputs share single background thread ({@link LoggingThreads}), which is started on first usage.
+ */
+final class OutputFlushScheduler {
+
+    /**
+     * Lazy holder of flusher executor.
+     */
+    private static final class ExecutorHolder {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+                LoggingThreads.newThreadFactory("irene-l-flusher"));
+    }
+
+    private OutputFlushScheduler() {}
+
+    /**
+     * Schedule periodic flushing of specified output.
+     * @param anOutput - output to flush.
+     * @param anIntervalMillis - flush interval.
+     * @return - scheduled task, which must be cancelled when output is closed.
+     */
+    static ScheduledFuture<?> schedule(Flushable anOutput, long anIntervalMillis) {
+        return ExecutorHolder.EXECUTOR.scheduleWithFixedDelay(() -> {
+            try {
+                anOutput.flush();
+            } catch (IOException | RuntimeException e) {
+                // Flush errors mustn't stop flusher thread;
+            }
+        }, anIntervalMillis, anIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+}
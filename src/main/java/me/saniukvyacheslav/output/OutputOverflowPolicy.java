@@ -0,0 +1,20 @@
+package me.saniukvyacheslav.output;
+
+/**
+ * Policy of {@link QueuedLoggerOutput} output, when its queue is full.
+ */
+public enum OutputOverflowPolicy {
+
+    /**
+     * Logging thread waits for free space in queue (no messages are lost).
+     */
+    BLOCK,
+    /**
+     * New message is dropped.
+     */
+    DROP_NEWEST,
+    /**
+     * The oldest queued message is dropped to free space for new message.
+     */
+    DROP_OLDEST
+}
@@ -0,0 +1,343 @@
+package me.saniukvyacheslav.output;
+
+import lombok.Getter;
+import me.saniukvyacheslav.conf.LoggingConfiguration;
+import me.saniukvyacheslav.message.LoggingEvent;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link LoggerOutput} interface, which out messages to delegate output in own worker thread.
+ * Messages are put into bounded queue, so slow output (for example, file on slow disk) doesn't block logging threads
+ * and other outputs. When queue is full, {@link OutputOverflowPolicy} overflow policy is applied. Count of dropped
+ * messages is reported to delegate output by warning message.
+ * Flush requests are never dropped by overflow: if flush request is evicted from queue, delegate output is flushed
+ * by worker thread before next message. Errors of delegate output are reported to
+ * {@link LoggingConfiguration#reportError(String, Throwable)} and don't stop worker thread.
+ * Encoded messages are copied into queue, because their buffers are reused by loggers.
+ * Use {@link #of(LoggerOutput, int, OutputOverflowPolicy)} method to create queued output: outputs of
+ * {@link LoggingEventOutput} delegates receive copies of logging events.
+ */
+public class QueuedLoggerOutput implements LoggerOutput, Flushable {
+
+    public static final int DEFAULT_CAPACITY = 8192; // Default queue capacity;
+    static final String DROPPED_MESSAGE = "%d messages were dropped by overflow of output queue."; // Report of dropped messages;
+    private static final long POLL_MILLIS = 100L; // Worker poll timeout;
+    private static final Entry WAKE_UP = new Entry(null, null, null); // Entry, which only wakes up worker;
+
+    @Getter private final LoggerOutput delegate; // Delegate output;
+    @Getter private final OutputOverflowPolicy overflowPolicy; // Queue overflow policy;
+    private final BlockingQueue<Entry> queue; // Queued messages;
+    private final ConcurrentLinkedQueue<CountDownLatch> evictedFlushes = new ConcurrentLinkedQueue<>(); // Flush requests, evicted from queue by overflow;
+    private final Thread worker; // Worker thread;
+    private final LongAdder droppedMessages = new LongAdder(); // Dropped messages;
+    private final LongAdder errors = new LongAdder(); // Errors of delegate output;
+    private long reportedDroppedMessages = 0L; // Already reported dropped messages (worker thread only);
+    private volatile boolean isRunning = true; // FLAG: Is output accepting messages;
+
+    /**
+     * Construct new queued output and start its worker.
+     * @param aDelegate - delegate output.
+     * @param aCapacity - queue capacity.
+     * @param aPolicy - queue overflow policy.
+     */
+    protected QueuedLoggerOutput(LoggerOutput aDelegate, int aCapacity, OutputOverflowPolicy aPolicy) {
+        Objects.requireNonNull(aDelegate, "LoggerOutput [aDelegate] must be not null.");
+        Objects.requireNonNull(aPolicy, "OutputOverflowPolicy [aPolicy] must be not null.");
+        if (aCapacity < 1) throw new IllegalArgumentException("Queue capacity [aCapacity] must be greater than 0.");
+        this.delegate = aDelegate;
+        this.overflowPolicy = aPolicy;
+        this.queue = new ArrayBlockingQueue<>(aCapacity);
+        this.worker = LoggingThreads.newThread("irene-l-output-" + aDelegate.getClass().getSimpleName(), this::work);
+        this.worker.start();
+    }
+
+    /**
+     * Create queued output of delegate output.
+     * @param aDelegate - delegate output.
+     * @param aCapacity - queue capacity.
+     * @param aPolicy - queue overflow policy.
+     * @return - queued output ({@link LoggingEventOutput}, if delegate is event output).
+     */
+    public static QueuedLoggerOutput of(LoggerOutput aDelegate, int aCapacity, OutputOverflowPolicy aPolicy) {
+        if (aDelegate instanceof LoggingEventOutput) return new QueuedLoggingEventOutput((LoggingEventOutput) aDelegate, aCapacity, aPolicy);
+        return new QueuedLoggerOutput(aDelegate, aCapacity, aPolicy);
+    }
+
+    /**
+     * Queue message.
+     * @param aMessage - message to out.
+     */
+    @Override
+    public void out(String aMessage) {
+        this.enqueue(new Entry(null, aMessage, null));
+    }
+
+    /**
+     * Queue message with level.
+     * @param aMessage - message to out.
+     * @param aLevel - message level.
+     */
+    @Override
+    public void out(String aMessage, LoggingMessageLevel aLevel) {
+        this.enqueue(new Entry(aLevel, aMessage, null));
+    }
+
+    /**
+     * Queue copy of encoded message.
+     * @param aMessage - encoded message without line separator.
+     * @param aLevel - message level.
+     */
+    @Override
+    public void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        byte[] bytes = new byte[aMessage.remaining()];
+        aMessage.duplicate().get(bytes);
+        this.enqueue(new Entry(aLevel, bytes, null));
+    }
+
+    /**
+     * Put entry into queue according to overflow policy.
+     * If output is closed (even while entry is put into queue), entry is dropped.
+     * @param anEntry - entry.
+     */
+    void enqueue(Entry anEntry) {
+        if (!this.isRunning) {
+            this.droppedMessages.increment();
+            return;
+        }
+        switch (this.overflowPolicy) {
+            case BLOCK:
+                try {
+                    while (!this.queue.offer(anEntry, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        if (!this.isRunning) {
+                            this.droppedMessages.increment();
+                            return;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.droppedMessages.increment();
+                    return;
+                }
+                break;
+            case DROP_NEWEST:
+                if (!this.queue.offer(anEntry)) {
+                    this.droppedMessages.increment();
+                    return;
+                }
+                break;
+            case DROP_OLDEST:
+                while (!this.queue.offer(anEntry)) this.evictOldest();
+                break;
+        }
+        // Output may be closed, while entry was put into queue, and nobody will take entry after close:
+        if (!this.isRunning && this.queue.remove(anEntry)) this.droppedMessages.increment();
+    }
+
+    /**
+     * Remove the oldest entry from full queue. Flush requests aren't dropped: they are passed to worker thread,
+     * which flushes delegate output before next message. Wake up entries aren't counted as dropped messages.
+     */
+    private void evictOldest() {
+        Entry evicted = this.queue.poll();
+        if (evicted == null || evicted == WAKE_UP) return;
+        if (evicted.flushLatch != null) this.evictedFlushes.add(evicted.flushLatch);
+        else this.droppedMessages.increment();
+    }
+
+    /**
+     * Worker thread loop. Worker is stopped only by {@link #close()} method: interruption of worker
+     * doesn't lose queued messages.
+     */
+    private void work() {
+        while (this.isRunning || !this.queue.isEmpty()) {
+            try {
+                Entry entry = this.queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                while (entry != null) {
+                    if (!this.evictedFlushes.isEmpty()) this.flushEvicted();
+                    this.write(entry);
+                    entry = this.queue.poll();
+                }
+                if (!this.evictedFlushes.isEmpty()) this.flushEvicted();
+                this.reportDroppedMessages();
+            } catch (InterruptedException e) {
+                // Interruption is ignored, queued messages are out until output is closed;
+            }
+        }
+    }
+
+    /**
+     * Out all entries, which are left in queue after worker thread is stopped, and complete evicted flush requests.
+     */
+    private void drain() {
+        Entry entry;
+        while ((entry = this.queue.poll()) != null) this.write(entry);
+        this.flushEvicted();
+        this.reportDroppedMessages();
+    }
+
+    /**
+     * Flush delegate output and complete flush requests, which were evicted from queue by overflow.
+     * All messages, queued before evicted requests, are already out or dropped.
+     */
+    private void flushEvicted() {
+        CountDownLatch latch = this.evictedFlushes.poll();
+        if (latch == null) return;
+        try {
+            if (this.delegate instanceof Flushable) ((Flushable) this.delegate).flush();
+        } catch (RuntimeException | IOException e) {
+            this.errors.increment();
+            LoggingConfiguration.reportError("Queued output [" + this.delegate.getClass().getSimpleName() + "] isn't flushed", e);
+        } finally {
+            latch.countDown();
+            while ((latch = this.evictedFlushes.poll()) != null) latch.countDown();
+        }
+    }
+
+    /**
+     * Out entry to delegate output. Errors of delegate output don't stop worker.
+     * @param anEntry - entry.
+     */
+    private void write(Entry anEntry) {
+        if (anEntry == WAKE_UP) return;
+        try {
+            if (anEntry.flushLatch != null) {
+                try {
+                    if (this.delegate instanceof Flushable) ((Flushable) this.delegate).flush();
+                } finally {
+                    anEntry.flushLatch.countDown();
+                }
+            } else if (anEntry.message instanceof String) {
+                if (anEntry.level == null) this.delegate.out((String) anEntry.message);
+                else this.delegate.out((String) anEntry.message, anEntry.level);
+            } else if (anEntry.message instanceof byte[]) {
+                this.delegate.out(ByteBuffer.wrap((byte[]) anEntry.message), anEntry.level);
+            } else if (anEntry.message instanceof LoggingEvent) {
+                ((LoggingEventOutput) this.delegate).out((LoggingEvent) anEntry.message);
+            }
+        } catch (RuntimeException | IOException e) {
+            this.errors.increment();
+            LoggingConfiguration.reportError("Message isn't written to queued output [" + this.delegate.getClass().getSimpleName() + "]", e);
+        }
+    }
+
+    /**
+     * Out warning with count of messages, which were dropped since last report.
+     */
+    private void reportDroppedMessages() {
+        long dropped = this.droppedMessages.sum();
+        if (dropped == this.reportedDroppedMessages) return;
+        String message = String.format(DROPPED_MESSAGE, dropped - this.reportedDroppedMessages);
+        this.reportedDroppedMessages = dropped;
+        this.write(new Entry(LoggingMessageLevel.WARN, message, null));
+    }
+
+    /**
+     * Get count of messages, which were dropped by queue overflow.
+     * @return - count.
+     */
+    public long getDroppedMessagesCount() {
+        return this.droppedMessages.sum();
+    }
+
+    /**
+     * Get count of errors of delegate output.
+     * @return - count.
+     */
+    public long getErrorsCount() {
+        return this.errors.sum();
+    }
+
+    /**
+     * Get count of queued messages.
+     * @return - count.
+     */
+    public int getQueueSize() {
+        return this.queue.size();
+    }
+
+    /**
+     * Wait until all messages, queued before this call, are out, and flush delegate output.
+     * @throws IOException - If current thread is interrupted.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (!this.isRunning) return;
+        Entry entry = new Entry(null, null, new CountDownLatch(1));
+        try {
+            this.queue.put(entry);
+            while (!entry.flushLatch.await(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!this.worker.isAlive()) return; // Output is closed concurrently;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Flush of queued output is interrupted.", e);
+        }
+    }
+
+    /**
+     * Stop accepting messages, out all queued messages and close delegate output.
+     * Messages, which were put into queue concurrently with stop of worker thread, are out by this method.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.isRunning) return;
+        this.isRunning = false;
+        this.queue.offer(WAKE_UP); // Worker isn't interrupted, because interruption closes channels of delegate;
+        try {
+            this.worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!this.worker.isAlive()) this.drain();
+        this.delegate.close();
+    }
+
+    /**
+     * Queued message.
+     */
+    static final class Entry {
+
+        private final LoggingMessageLevel level; // Message level (may be null);
+        private final Object message; // Message: string, encoded bytes or logging event;
+        private final CountDownLatch flushLatch; // Flush request (null, if entry is message);
+
+        Entry(LoggingMessageLevel aLevel, Object aMessage, CountDownLatch aFlushLatch) {
+            this.level = aLevel;
+            this.message = aMessage;
+            this.flushLatch = aFlushLatch;
+        }
+    }
+
+    /**
+     * Queued output of {@link LoggingEventOutput} delegate: logging events are copied into queue.
+     */
+    static final class QueuedLoggingEventOutput extends QueuedLoggerOutput implements LoggingEventOutput {
+
+        private QueuedLoggingEventOutput(LoggingEventOutput aDelegate, int aCapacity, OutputOverflowPolicy aPolicy) {
+            super(aDelegate, aCapacity, aPolicy);
+        }
+
+        /**
+         * Queue copy of logging event.
+         * @param anEvent - logging event.
+         * @return - 0, because event is encoded later by background thread.
+         */
+        @Override
+        public int out(LoggingEvent anEvent) {
+            this.enqueue(new Entry(anEvent.getLevel(), new LoggingEvent().copyFrom(anEvent), null));
+            return 0;
+        }
+    }
+}
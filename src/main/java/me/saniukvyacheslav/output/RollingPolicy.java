@@ -0,0 +1,145 @@
+package me.saniukvyacheslav.output;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.saniukvyacheslav.definition.pattern.Builder;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Rotation policy of {@link LoggerRollingFileOutput} output.
+ * Log file is rotated when its size exceed "maxFileSize" value, or when rolling interval is elapsed.
+ * Only "maxArchives" newest archives are kept.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RollingPolicy {
+
+    private long maxFileSize = 0L; // Max size of log file in bytes (0 - disabled);
+    private RollingInterval interval = RollingInterval.NONE; // Rolling interval;
+    private int maxArchives = 7; // Max count of kept archives;
+    private boolean isCompressArchives = true; // FLAG: Compress archives with gzip;
+
+    /**
+     * Time intervals of log files rotation.
+     */
+    @AllArgsConstructor
+    public enum RollingInterval {
+
+        /**
+         * Don't rotate by time.
+         */
+        NONE(null),
+        /**
+         * Rotate every hour.
+         */
+        HOURLY(ChronoUnit.HOURS),
+        /**
+         * Rotate every day (at midnight).
+         */
+        DAILY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        /**
+         * Get start time of interval, which contains specified time.
+         * @param aTime - time.
+         * @return - interval start time.
+         */
+        public ZonedDateTime getIntervalStart(ZonedDateTime aTime) {
+            if (this.unit == null) return aTime;
+            return aTime.truncatedTo(this.unit);
+        }
+
+        /**
+         * Get start time of interval, which follows interval with specified time.
+         * @param aTime - time.
+         * @return - next interval start time (null, if interval is "NONE").
+         */
+        public ZonedDateTime getNextIntervalStart(ZonedDateTime aTime) {
+            if (this.unit == null) return null;
+            return aTime.truncatedTo(this.unit).plus(1, this.unit);
+        }
+    }
+
+    /**
+     * Builder for {@link RollingPolicy} policies.
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class RollingPolicyBuilder implements Builder<RollingPolicy> {
+
+        private long maxFileSize = 0L;
+        private RollingInterval interval = RollingInterval.NONE;
+        private int maxArchives = 7;
+        private boolean isCompressArchives = true;
+
+        /**
+         * Create new builder.
+         * @return - builder.
+         */
+        public static RollingPolicyBuilder create() {
+            return new RollingPolicyBuilder();
+        }
+
+        /**
+         * Rotate log file, when its size exceed specified value.
+         * @param aBytes - max file size.
+         * @return - this builder.
+         */
+        public RollingPolicyBuilder maxFileSize(long aBytes) {
+            if (aBytes <= 0L) throw new IllegalArgumentException("Max file size [aBytes] must be greater than 0.");
+            this.maxFileSize = aBytes;
+            return this;
+        }
+
+        /**
+         * Rotate log file every specified interval.
+         * @param anInterval - rolling interval.
+         * @return - this builder.
+         */
+        public RollingPolicyBuilder interval(RollingInterval anInterval) {
+            Objects.requireNonNull(anInterval, "RollingInterval [anInterval] must be not null.");
+            this.interval = anInterval;
+            return this;
+        }
+
+        /**
+         * Set max count of kept archives.
+         * @param aCount - archives count.
+         * @return - this builder.
+         */
+        public RollingPolicyBuilder maxArchives(int aCount) {
+            if (aCount < 0) throw new IllegalArgumentException("Archives count [aCount] must be not negative.");
+            this.maxArchives = aCount;
+            return this;
+        }
+
+        /**
+         * Enable/Disable gzip compression of archives.
+         * @param isCompress - value.
+         * @return - this builder.
+         */
+        public RollingPolicyBuilder compressArchives(boolean isCompress) {
+            this.isCompressArchives = isCompress;
+            return this;
+        }
+
+        /**
+         * Build new rolling policy.
+         * @return - rolling policy.
+         */
+        @Override
+        public RollingPolicy build() {
+            RollingPolicy policy = new RollingPolicy();
+            policy.maxFileSize = this.maxFileSize;
+            policy.interval = this.interval;
+            policy.maxArchives = this.maxArchives;
+            policy.isCompressArchives = this.isCompressArchives;
+            return policy;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package me.saniukvyacheslav.search;
+
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.util.file.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel searcher of log files, which are written by loggers with specified logging message pattern.
+ * Searcher memory-maps log file, splits it into chunks at lines boundaries and scans chunks in parallel on fork-join pool.
+ * Each line is parsed by logging message pattern (lines, which don't match pattern, for example lines of stack traces, are skipped)
+ * and is filtered by {@link LoggerSearchQuery} query. Found lines are returned in order of file by {@link LoggerSearchResult} iterator,
+ * which scans only limited count of chunks ahead of consumer.
+ */
+public final class LoggerFileSearcher {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024; // Default size of scanned chunk;
+
+    private final LoggerLineParser parser; // Parser of lines;
+    private final ForkJoinPool pool; // Pool of scan tasks;
+    private final int chunkSize; // Size of scanned chunk;
+
+    /**
+     * Construct new searcher of logs with specified pattern, which scans chunks of default size on common fork-join pool.
+     * @param aPattern - logging message pattern.
+     */
+    public LoggerFileSearcher(String aPattern) {
+        this(aPattern, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Construct new searcher of logs with specified pattern.
+     * @param aPattern - logging message pattern.
+     * @param aPool - pool of scan tasks.
+     * @param aChunkSize - size of scanned chunk.
+     */
+    public LoggerFileSearcher(String aPattern, ForkJoinPool aPool, int aChunkSize) {
+        Objects.requireNonNull(aPool, "ForkJoinPool [aPool] must be not null.");
+        if (aChunkSize <= 0) throw new IllegalArgumentException("Chunk size [aChunkSize] must be greater than 0.");
+        this.parser = new LoggerLineParser(aPattern);
+        this.pool = aPool;
+        this.chunkSize = aChunkSize;
+    }
+
+    /**
+     * Construct new searcher of logs, which are written by loggers of specified configuration (by its current logging message pattern).
+     * @param aConfiguration - loggers configuration.
+     * @return - searcher.
+     */
+    public static LoggerFileSearcher of(LoggersConfiguration aConfiguration) {
+        Objects.requireNonNull(aConfiguration, "LoggersConfiguration [aConfiguration] must be not null.");
+        return new LoggerFileSearcher(aConfiguration.getLogMessagePattern());
+    }
+
+    /**
+     * Search lines of log file. Result must be closed.
+     * @param aFile - log file.
+     * @param aQuery - query.
+     * @return - iterator of found lines in order of file.
+     * @throws IOException - If IO exception occurs.
+     */
+    public LoggerSearchResult search(File aFile, LoggerSearchQuery aQuery) throws IOException {
+        FileUtils.checkFile(aFile);
+        Objects.requireNonNull(aQuery, "LoggerSearchQuery [aQuery] must be not null.");
+        FileChannel channel = FileChannel.open(aFile.toPath(), StandardOpenOption.READ);
+        try {
+            return new LoggerSearchResult(channel, channel.size(), this.chunkSize, this.parser, aQuery, this.pool);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package me.saniukvyacheslav.search;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.message.LoggingMessageTemplate;
+import me.saniukvyacheslav.message.PatternModifierCaller;
+import me.saniukvyacheslav.message.PatternModifierLevel;
+import me.saniukvyacheslav.message.PatternModifierName;
+import me.saniukvyacheslav.message.PatternModifierTime;
+import me.saniukvyacheslav.util.string.StringUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parser of log lines, which are rendered by logging message pattern.
+ * Pattern is compiled into regular expression: literal parts must match exactly, "%LEVEL%" token matches level name,
+ * "%MSG%" token matches rest of message, and other tokens (time, logger name, caller location) match shortest text before next literal part.
+ * If token occurs in pattern several times, its first occurrence is used.
+ */
+final class LoggerLineParser {
+
+    private static final String[] TIME_TOKENS = {PatternModifierTime.TIME_ARGUMENT_REGEX,
+            PatternModifierTime.EPOCH_MILLIS_ARGUMENT_REGEX, PatternModifierTime.ISO_DATETIME_ARGUMENT_REGEX};
+
+    private final Pattern regex; // Compiled pattern;
+    private final int levelGroup; // Group of level (0, if pattern hasn't level);
+    private final int nameGroup; // Group of logger name (0, if pattern hasn't logger name);
+    private final int timeGroup; // Group of time (0, if pattern hasn't time);
+    private final int messageGroup; // Group of message;
+
+    /**
+     * Compile parser of specified logging message pattern.
+     * @param aPattern - logging message pattern.
+     * @throws IllegalArgumentException - if pattern hasn't required "%MSG%" token.
+     */
+    LoggerLineParser(String aPattern) {
+        StringUtils.checkString(aPattern, "aPattern");
+        if (!aPattern.contains(LoggingMessageTemplate.MESSAGE_TOKEN))
+            throw new IllegalArgumentException("Logging message pattern string must have required [%MSG%] chars sequence.");
+
+        StringBuilder levels = new StringBuilder();
+        for (LoggingMessageLevel level : LoggingMessageLevel.values()) {
+            if (levels.length() > 0) levels.append('|');
+            levels.append(Pattern.quote(level.getLevelName()));
+        }
+
+        StringBuilder regex = new StringBuilder("^");
+        StringBuilder literal = new StringBuilder();
+        int group = 0;
+        int levelGroup = 0, nameGroup = 0, timeGroup = 0, messageGroup = 0;
+        int index = 0;
+        while (index < aPattern.length()) {
+            String token = tokenAt(aPattern, index);
+            if (token == null) { // Literal char;
+                literal.append(aPattern.charAt(index));
+                index++;
+                continue;
+            }
+
+            if (literal.length() > 0) {
+                regex.append(Pattern.quote(literal.toString()));
+                literal.setLength(0);
+            }
+            group++;
+            if (token.equals(LoggingMessageTemplate.MESSAGE_TOKEN)) {
+                regex.append("(.*)");
+                if (messageGroup == 0) messageGroup = group;
+            } else if (token.equals(PatternModifierLevel.LEVEl_ARGUMENT_REGEX)) {
+                regex.append('(').append(levels).append(')');
+                if (levelGroup == 0) levelGroup = group;
+            } else {
+                regex.append("(.*?)");
+                if (token.equals(PatternModifierName.NAME_ARGUMENT_REGEX)) {
+                    if (nameGroup == 0) nameGroup = group;
+                } else if (timeGroup == 0 && !token.equals(PatternModifierCaller.CALLER_ARGUMENT_REGEX)) timeGroup = group;
+            }
+            index += token.length();
+        }
+        if (literal.length() > 0) regex.append(Pattern.quote(literal.toString()));
+        regex.append('$');
+
+        this.regex = Pattern.compile(regex.toString(), Pattern.DOTALL);
+        this.levelGroup = levelGroup;
+        this.nameGroup = nameGroup;
+        this.timeGroup = timeGroup;
+        this.messageGroup = messageGroup;
+    }
+
+    /**
+     * Get token, which starts at specified index of pattern.
+     * @param aPattern - logging message pattern.
+     * @param anIndex - index.
+     * @return - token, or null, if there is no token.
+     */
+    private static String tokenAt(String aPattern, int anIndex) {
+        if (aPattern.startsWith(LoggingMessageTemplate.MESSAGE_TOKEN, anIndex)) return LoggingMessageTemplate.MESSAGE_TOKEN;
+        if (aPattern.startsWith(PatternModifierLevel.LEVEl_ARGUMENT_REGEX, anIndex)) return PatternModifierLevel.LEVEl_ARGUMENT_REGEX;
+        if (aPattern.startsWith(PatternModifierName.NAME_ARGUMENT_REGEX, anIndex)) return PatternModifierName.NAME_ARGUMENT_REGEX;
+        if (aPattern.startsWith(PatternModifierCaller.CALLER_ARGUMENT_REGEX, anIndex)) return PatternModifierCaller.CALLER_ARGUMENT_REGEX;
+        for (String token : TIME_TOKENS) {
+            if (aPattern.startsWith(token, anIndex)) return token;
+        }
+        return null;
+    }
+
+    /**
+     * Create matcher, which is reused by single thread for parsing lines.
+     * @return - matcher.
+     */
+    Matcher matcher() {
+        return this.regex.matcher("");
+    }
+
+    /**
+     * Parse line by matcher of this parser.
+     * @param aMatcher - matcher, which was created by {@link #matcher()} method.
+     * @param aLine - line.
+     * @return - true, if line matches pattern (parsed fields are available by getters of this parser).
+     */
+    boolean parse(Matcher aMatcher, String aLine) {
+        return aMatcher.reset(aLine).matches();
+    }
+
+    /**
+     * Get level of parsed line.
+     * @param aMatcher - matcher of parsed line.
+     * @return - level, or null, if pattern hasn't "%LEVEL%" token.
+     */
+    LoggingMessageLevel getLevel(Matcher aMatcher) {
+        if (this.levelGroup == 0) return null;
+        String levelName = aMatcher.group(this.levelGroup);
+        for (LoggingMessageLevel level : LoggingMessageLevel.values()) {
+            if (level.getLevelName().equals(levelName)) return level;
+        }
+        return null;
+    }
+
+    /**
+     * Get logger name of parsed line.
+     * @param aMatcher - matcher of parsed line.
+     * @return - logger name, or null, if pattern hasn't "%NAME%" token.
+     */
+    String getLoggerName(Matcher aMatcher) {
+        return this.nameGroup != 0 ? aMatcher.group(this.nameGroup) : null;
+    }
+
+    /**
+     * Get time text of parsed line.
+     * @param aMatcher - matcher of parsed line.
+     * @return - time, or null, if pattern hasn't time token.
+     */
+    String getTime(Matcher aMatcher) {
+        return this.timeGroup != 0 ? aMatcher.group(this.timeGroup) : null;
+    }
+
+    /**
+     * Get message of parsed line.
+     * @param aMatcher - matcher of parsed line.
+     * @return - message.
+     */
+    String getMessage(Matcher aMatcher) {
+        return aMatcher.group(this.messageGroup);
+    }
+}
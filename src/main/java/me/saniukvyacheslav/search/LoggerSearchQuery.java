@@ -0,0 +1,126 @@
+package me.saniukvyacheslav.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.saniukvyacheslav.definition.pattern.Builder;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.util.string.StringUtils;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Query of {@link LoggerFileSearcher} searcher. Line is found, if it matches all specified conditions:
+ * - level is equal to or greater than minimal level;
+ * - logger name is equal to specified name or starts with it and "." (logger of names hierarchy);
+ * - message contains specified text;
+ * - message contains match of specified regular expression.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LoggerSearchQuery {
+
+    /**
+     * Query, which matches all lines of logging message pattern.
+     */
+    public static final LoggerSearchQuery ALL = LoggerSearchQueryBuilder.create().build();
+
+    private LoggingMessageLevel minimalLevel = null; // Minimal level of lines (null - any level);
+    private String loggerName = null; // Logger name or name of loggers hierarchy (null - any logger);
+    private String text = null; // Text, which message must contain (null - any message);
+    private Pattern regex = null; // Regular expression, which message must contain (null - any message);
+
+    /**
+     * Check if parsed line matches this query.
+     * @param aLevel - line level.
+     * @param aLoggerName - line logger name.
+     * @param aMessage - line message.
+     * @return - true, if line matches.
+     */
+    boolean matches(LoggingMessageLevel aLevel, String aLoggerName, String aMessage) {
+        if (this.minimalLevel != null && (aLevel == null || aLevel.getLevel() < this.minimalLevel.getLevel())) return false;
+        if (this.loggerName != null && (aLoggerName == null || !(aLoggerName.startsWith(this.loggerName)
+                && (aLoggerName.length() == this.loggerName.length() || aLoggerName.charAt(this.loggerName.length()) == '.')))) return false;
+        if (this.text != null && !aMessage.contains(this.text)) return false;
+        return this.regex == null || this.regex.matcher(aMessage).find();
+    }
+
+    /**
+     * Builder for {@link LoggerSearchQuery} queries.
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class LoggerSearchQueryBuilder implements Builder<LoggerSearchQuery> {
+
+        private LoggingMessageLevel minimalLevel = null;
+        private String loggerName = null;
+        private String text = null;
+        private Pattern regex = null;
+
+        /**
+         * Create new builder.
+         * @return - builder.
+         */
+        public static LoggerSearchQueryBuilder create() {
+            return new LoggerSearchQueryBuilder();
+        }
+
+        /**
+         * Find lines with specified or greater level.
+         * @param aLevel - minimal level.
+         * @return - this builder.
+         */
+        public LoggerSearchQueryBuilder minimalLevel(LoggingMessageLevel aLevel) {
+            Objects.requireNonNull(aLevel, "LoggingMessageLevel [aLevel] must be not null.");
+            this.minimalLevel = aLevel;
+            return this;
+        }
+
+        /**
+         * Find lines of logger with specified name, or of loggers of names hierarchy ("com.shop" finds lines of "com.shop.db.Orders" logger).
+         * @param aLoggerName - logger name or name prefix.
+         * @return - this builder.
+         */
+        public LoggerSearchQueryBuilder loggerName(String aLoggerName) {
+            StringUtils.checkString(aLoggerName, "aLoggerName");
+            this.loggerName = aLoggerName;
+            return this;
+        }
+
+        /**
+         * Find lines, which messages contain specified text.
+         * @param aText - text.
+         * @return - this builder.
+         */
+        public LoggerSearchQueryBuilder contains(String aText) {
+            StringUtils.checkString(aText, "aText");
+            this.text = aText;
+            return this;
+        }
+
+        /**
+         * Find lines, which messages contain match of specified regular expression.
+         * @param aRegex - regular expression.
+         * @return - this builder.
+         */
+        public LoggerSearchQueryBuilder matches(Pattern aRegex) {
+            Objects.requireNonNull(aRegex, "Pattern [aRegex] must be not null.");
+            this.regex = aRegex;
+            return this;
+        }
+
+        /**
+         * Build new query.
+         * @return - query.
+         */
+        @Override
+        public LoggerSearchQuery build() {
+            LoggerSearchQuery query = new LoggerSearchQuery();
+            query.minimalLevel = this.minimalLevel;
+            query.loggerName = this.loggerName;
+            query.text = this.text;
+            query.regex = this.regex;
+            return query;
+        }
+    }
+}
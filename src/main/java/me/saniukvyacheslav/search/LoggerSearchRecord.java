@@ -0,0 +1,32 @@
+package me.saniukvyacheslav.search;
+
+import lombok.Getter;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+/**
+ * Log line, which is found by {@link LoggerFileSearcher} searcher, with fields parsed by logging message pattern.
+ */
+@Getter
+public final class LoggerSearchRecord {
+
+    private final long offset; // Offset of line in log file;
+    private final String line; // Whole line;
+    private final LoggingMessageLevel level; // Level ("%LEVEL%" token; null, if pattern hasn't level);
+    private final String loggerName; // Logger name ("%NAME%" token; null, if pattern hasn't logger name);
+    private final String time; // Time text (first time token; null, if pattern hasn't time);
+    private final String message; // Message ("%MSG%" token);
+
+    LoggerSearchRecord(long anOffset, String aLine, LoggingMessageLevel aLevel, String aLoggerName, String aTime, String aMessage) {
+        this.offset = anOffset;
+        this.line = aLine;
+        this.level = aLevel;
+        this.loggerName = aLoggerName;
+        this.time = aTime;
+        this.message = aMessage;
+    }
+
+    @Override
+    public String toString() {
+        return this.line;
+    }
+}
@@ -0,0 +1,218 @@
+package me.saniukvyacheslav.search;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Matcher;
+
+/**
+ * Iterator of lines, which are found by {@link LoggerFileSearcher} searcher, in order of file.
+ * Chunks of file are scanned by tasks of fork-join pool; at most twice pool parallelism chunks are scanned ahead of consumer.
+ * Iterator isn't thread-safe. IO errors of scan tasks are thrown as {@link UncheckedIOException} exceptions.
+ * Result must be closed: close cancels not consumed tasks and closes log file.
+ */
+public final class LoggerSearchResult implements Iterator<LoggerSearchRecord>, Closeable {
+
+    private final FileChannel channel; // Log file channel;
+    private final long length; // Length of log file at search start;
+    private final int chunkSize; // Size of scanned chunk;
+    private final long chunksCount; // Count of chunks;
+    private final LoggerLineParser parser; // Parser of lines;
+    private final LoggerSearchQuery query; // Query;
+    private final ForkJoinPool pool; // Pool of scan tasks;
+    private final int maxTasksAhead; // Max count of submitted not consumed tasks;
+    private final Deque<ForkJoinTask<List<LoggerSearchRecord>>> tasks = new ArrayDeque<>(); // Submitted tasks in order of chunks;
+    private long nextChunk = 0L; // Index of next chunk to submit;
+    private Iterator<LoggerSearchRecord> current = Collections.emptyIterator(); // Found lines of current chunk;
+
+    LoggerSearchResult(FileChannel aChannel, long aLength, int aChunkSize, LoggerLineParser aParser, LoggerSearchQuery aQuery, ForkJoinPool aPool) {
+        this.channel = aChannel;
+        this.length = aLength;
+        this.chunkSize = aChunkSize;
+        this.chunksCount = (aLength + aChunkSize - 1) / aChunkSize;
+        this.parser = aParser;
+        this.query = aQuery;
+        this.pool = aPool;
+        this.maxTasksAhead = Math.max(2, aPool.getParallelism() * 2);
+        this.submitAhead();
+    }
+
+    /**
+     * Submit scan tasks of next chunks, until limit of tasks ahead is reached.
+     */
+    private void submitAhead() {
+        while (this.tasks.size() < this.maxTasksAhead && this.nextChunk < this.chunksCount) {
+            long start = this.nextChunk * this.chunkSize;
+            this.tasks.addLast(this.pool.submit(new ChunkScanTask(start, Math.min(start + this.chunkSize, this.length))));
+            this.nextChunk++;
+        }
+    }
+
+    /**
+     * Check if there are more found lines. Method waits for scan of next chunks.
+     * @return - true, if there are more found lines.
+     * @throws UncheckedIOException - if IO exception occurs.
+     */
+    @Override
+    public boolean hasNext() {
+        while (!this.current.hasNext()) {
+            ForkJoinTask<List<LoggerSearchRecord>> task = this.tasks.pollFirst();
+            if (task == null) return false;
+            this.submitAhead();
+            this.current = task.join().iterator();
+        }
+        return true;
+    }
+
+    /**
+     * Get next found line.
+     * @return - found line.
+     * @throws NoSuchElementException - if there are no more lines.
+     * @throws UncheckedIOException - if IO exception occurs.
+     */
+    @Override
+    public LoggerSearchRecord next() {
+        if (!this.hasNext()) throw new NoSuchElementException("There are no more found lines.");
+        return this.current.next();
+    }
+
+    /**
+     * Cancel not consumed tasks and close log file.
+     * @throws IOException - If IO Exception occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        for (ForkJoinTask<?> task : this.tasks) task.cancel(false);
+        this.tasks.clear();
+        this.current = Collections.emptyIterator();
+        this.nextChunk = this.chunksCount;
+        this.channel.close();
+    }
+
+    /**
+     * Scan task of single chunk. Task scans lines, which start in chunk (last line may end after chunk end).
+     * Task maps only its chunk (and previous byte); if last line ends after chunk end, following bytes of file
+     * are mapped by small windows until end of this line.
+     */
+    private final class ChunkScanTask extends RecursiveTask<List<LoggerSearchRecord>> {
+
+        private static final int TAIL_WINDOW_SIZE = 64 * 1024; // Size of windows, which are mapped to read end of last line;
+
+        private final long start; // Chunk start offset;
+        private final long end; // Chunk end offset;
+        private MappedByteBuffer window; // Mapped window of file;
+        private long windowStart; // Offset of mapped window;
+        private byte[] line = new byte[256]; // Bytes of current line;
+        private int lineLength; // Length of current line;
+
+        private ChunkScanTask(long aStart, long anEnd) {
+            this.start = aStart;
+            this.end = anEnd;
+        }
+
+        @Override
+        protected List<LoggerSearchRecord> compute() {
+            long mapStart = Math.max(0L, this.start - 1L); // Previous byte shows if chunk starts at line start;
+            this.map(mapStart, Math.min(this.end - mapStart, Integer.MAX_VALUE));
+
+            long position = mapStart;
+            if (this.start > 0L) position = this.readLine(position, false); // Skip line, which starts in previous chunk;
+
+            List<LoggerSearchRecord> records = new ArrayList<>();
+            Matcher matcher = LoggerSearchResult.this.parser.matcher();
+            while (position < this.end) {
+                long lineStart = position;
+                position = this.readLine(position, true);
+                int length = this.lineLength;
+                if (length > 0 && this.line[length - 1] == '\r') length--;
+                this.scanLine(records, matcher, lineStart, new String(this.line, 0, length, Charset.defaultCharset()));
+            }
+            return records;
+        }
+
+        /**
+         * Map window of file.
+         * @param anOffset - window offset.
+         * @param aSize - window size.
+         */
+        private void map(long anOffset, long aSize) {
+            try {
+                this.window = LoggerSearchResult.this.channel.map(FileChannel.MapMode.READ_ONLY, anOffset, aSize);
+                this.windowStart = anOffset;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Read line, which starts at specified offset. If line ends after mapped window, next windows are mapped.
+         * @param anOffset - line offset.
+         * @param isCollected - if true, line bytes are collected into line buffer; otherwise line is only skipped.
+         * @return - offset of next line (or length of file).
+         */
+        private long readLine(long anOffset, boolean isCollected) {
+            long fileLength = LoggerSearchResult.this.length;
+            long position = anOffset;
+            this.lineLength = 0;
+            while (position < fileLength) {
+                if (position >= this.windowStart + this.window.limit())
+                    this.map(position, Math.min(fileLength - position, TAIL_WINDOW_SIZE));
+                MappedByteBuffer buffer = this.window;
+                int index = (int) (position - this.windowStart);
+                int limit = buffer.limit();
+                while (index < limit) {
+                    byte next = buffer.get(index++);
+                    if (next == '\n') return this.windowStart + index;
+                    if (isCollected) this.append(next);
+                }
+                position = this.windowStart + index;
+            }
+            return fileLength;
+        }
+
+        /**
+         * Append byte to line buffer.
+         * @param aByte - byte.
+         */
+        private void append(byte aByte) {
+            if (this.lineLength == this.line.length) {
+                if (this.lineLength == Integer.MAX_VALUE - 8) throw new UncheckedIOException(new IOException("Line of log file is too long."));
+                this.line = Arrays.copyOf(this.line, (int) Math.min(Integer.MAX_VALUE - 8, this.line.length * 2L));
+            }
+            this.line[this.lineLength++] = aByte;
+        }
+
+        /**
+         * Parse line and add it to found lines, if it matches query.
+         * @param aRecords - found lines.
+         * @param aMatcher - reusable matcher of parser.
+         * @param anOffset - line offset.
+         * @param aLine - line.
+         */
+        private void scanLine(List<LoggerSearchRecord> aRecords, Matcher aMatcher, long anOffset, String aLine) {
+            LoggerLineParser parser = LoggerSearchResult.this.parser;
+            if (!parser.parse(aMatcher, aLine)) return;
+            LoggingMessageLevel level = parser.getLevel(aMatcher);
+            String loggerName = parser.getLoggerName(aMatcher);
+            String message = parser.getMessage(aMatcher);
+            if (LoggerSearchResult.this.query.matches(level, loggerName, message))
+                aRecords.add(new LoggerSearchRecord(anOffset, aLine, level, loggerName, parser.getTime(aMatcher), message));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package me.saniukvyacheslav.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of {@link LoggerOutput} interface.
+ * Out messages to console (System.out). Each message and line separator are written to System.out stream by single write,
+ * so lines of different threads aren't mixed.
+ * Java 21 version of class: line buffer is guarded by {@link ReentrantLock} lock instead of monitor, so virtual threads,
+ * which wait for console, are unmounted and don't keep their carrier threads (see CarrierAvailabilityBenchmark benchmark).
+ * Other outputs keep monitors: lock makes logging of many virtual threads to file noticeably slower.
+ */
+public class LoggerConsoleOutput implements LoggerOutput {
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(Charset.defaultCharset());
+    private static final int MAX_LINE_BUFFER_SIZE = 16 * 1024; // Max size of reusable line buffer (longer lines use temporary buffers);
+
+    private final ReentrantLock lock = new ReentrantLock(); // Lock of line buffer;
+    private byte[] line = new byte[1024]; // Reusable buffer of line (message and line separator);
+
+    private LoggerConsoleOutput() {}
+
+    /**
+     * Get current singleton instance of this class.
+     * Instance is lazily and safely initialized by class loading of {@link InstanceHolder} holder.
+     * @return - singleton instance.
+     */
+    public static LoggerConsoleOutput getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Out message to console (System.out).
+     * @param aMessage - message to out.
+     */
+    @Override
+    public void out(String aMessage) {
+        byte[] messageBytes = String.valueOf(aMessage).getBytes(Charset.defaultCharset());
+        this.write(messageBytes, 0, messageBytes.length);
+    }
+
+    /**
+     * Out encoded message to console (System.out).
+     * @param aMessage - encoded message.
+     * @param aLevel - message level.
+     */
+    @Override
+    public void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        if (!aMessage.hasArray()) {
+            LoggerOutput.super.out(aMessage, aLevel);
+            return;
+        }
+        this.write(aMessage.array(), aMessage.arrayOffset() + aMessage.position(), aMessage.remaining());
+    }
+
+    /**
+     * Copy message and line separator into line buffer and write them to System.out stream by single write.
+     * Lines, which are longer than {@link #MAX_LINE_BUFFER_SIZE}, are copied into temporary buffer,
+     * so reusable buffer doesn't retain the largest message.
+     * @param aBytes - message bytes.
+     * @param anOffset - message offset.
+     * @param aLength - message length.
+     */
+    private void write(byte[] aBytes, int anOffset, int aLength) {
+        int length = aLength + LINE_SEPARATOR.length;
+        PrintStream stream = System.out;
+        this.lock.lock();
+        try {
+            byte[] buffer = this.line;
+            if (buffer.length < length) {
+                if (length <= MAX_LINE_BUFFER_SIZE) buffer = this.line = Arrays.copyOf(buffer, Math.min(MAX_LINE_BUFFER_SIZE, Math.max(length, buffer.length * 2)));
+                else buffer = new byte[length];
+            }
+            System.arraycopy(aBytes, anOffset, buffer, 0, aLength);
+            System.arraycopy(LINE_SEPARATOR, 0, buffer, aLength, LINE_SEPARATOR.length);
+            stream.write(buffer, 0, length);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Close inner BufferedWriter instance.
+     */
+    @Override
+    public void close() {
+        // Do nothing.
+    }
+
+    /**
+     * Holder of singleton instance.
+     */
+    private static final class InstanceHolder {
+        private static final LoggerConsoleOutput INSTANCE = new LoggerConsoleOutput(); // Singleton instance;
+    }
+}
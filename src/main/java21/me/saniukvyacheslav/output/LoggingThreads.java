@@ -0,0 +1,39 @@
+package me.saniukvyacheslav.output;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory of background threads of loggers (flushers, output workers, archivers, configuration watchers).
+ * Java 21 version of class: threads are virtual threads (virtual threads are always daemon threads).
+ */
+public final class LoggingThreads {
+
+    private LoggingThreads() {}
+
+    /**
+     * Create new not started background thread.
+     * @param aName - thread name.
+     * @param aTask - thread task.
+     * @return - virtual thread.
+     */
+    public static Thread newThread(String aName, Runnable aTask) {
+        return Thread.ofVirtual().name(aName).unstarted(aTask);
+    }
+
+    /**
+     * Create factory of background threads with specified name (for executors).
+     * @param aName - threads name.
+     * @return - factory of virtual threads.
+     */
+    public static ThreadFactory newThreadFactory(String aName) {
+        return Thread.ofVirtual().name(aName).factory();
+    }
+
+    /**
+     * Check if background threads are virtual threads.
+     * @return - true, if background threads are virtual.
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package me.saniukvyacheslav.impl;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Locator of code, which calls logger. Used only if logging message pattern has "%CALLER%" token.
+ * Java 9 version of class (used on Java 9+): stack is walked lazily by {@link StackWalker}, so only top frames
+ * (logger frames and caller frame) are fetched, and stack trace elements aren't created for them.
+ * Location is rendered directly from caller frame.
+ */
+final class CallerLocator {
+
+    private static final StackWalker WALKER = StackWalker.getInstance(); // Walker of current thread stack;
+
+    private CallerLocator() {}
+
+    /**
+     * Locate first stack frame, which doesn't belong to loggers implementation.
+     * @return - rendered caller location, or null, if caller isn't found.
+     */
+    static String locate() {
+        return WALKER.walk(CallerLocator::locate);
+    }
+
+    /**
+     * Find caller frame in stack frames and get its location.
+     * @param aFrames - stack frames (top frame first).
+     * @return - rendered caller location, or null, if caller isn't found.
+     */
+    private static String locate(Stream<StackWalker.StackFrame> aFrames) {
+        Iterator<StackWalker.StackFrame> frames = aFrames.iterator();
+        while (frames.hasNext()) {
+            StackWalker.StackFrame frame = frames.next();
+            if (CallerFrames.isLoggerFrame(frame.getClassName())) continue;
+            return CallerFrames.render(frame.getClassName(), frame.getMethodName(), frame.getFileName(), frame.getLineNumber());
+        }
+        return null;
+    }
+}
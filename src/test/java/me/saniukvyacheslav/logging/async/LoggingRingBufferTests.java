@@ -0,0 +1,75 @@
+package me.saniukvyacheslav.logging.async;
+
+import me.saniukvyacheslav.async.LoggingRingBuffer;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class LoggingRingBufferTests {
+
+    @Test
+    void new_capacityNotPowerOfTwo_shouldRoundUpCapacity() {
+        Assertions.assertEquals(8, new LoggingRingBuffer(5).getCapacity());
+        Assertions.assertEquals(1, new LoggingRingBuffer(1).getCapacity());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LoggingRingBuffer(0));
+    }
+
+    @Test
+    void drain_manyProducers_shouldConsumeAllEventsInProducerOrder() throws InterruptedException {
+        final int producersCount = 4;
+        final int eventsPerProducer = 50_000;
+        LoggingRingBuffer ringBuffer = new LoggingRingBuffer(64);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producersCount; p++) {
+            final String producerName = "producer-" +p;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    long sequence = ringBuffer.next();
+                    ringBuffer.get(sequence).set(producerName, LoggingMessageLevel.INFO, String.valueOf(i), i);
+                    ringBuffer.publish(sequence);
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+
+        Map<String, Long> lastEvents = new HashMap<>();
+        int consumed = 0;
+        while (consumed < producersCount * eventsPerProducer) {
+            consumed += ringBuffer.drain((event) -> {
+                long previous = lastEvents.getOrDefault(event.getLoggerName(), -1L);
+                Assertions.assertEquals(previous + 1, event.getTimeMillis());
+                lastEvents.put(event.getLoggerName(), event.getTimeMillis());
+            });
+        }
+        for (Thread producer : producers) producer.join();
+
+        Assertions.assertFalse(ringBuffer.hasPending());
+        Assertions.assertEquals(producersCount, lastEvents.size());
+        lastEvents.values().forEach((last) -> Assertions.assertEquals(eventsPerProducer - 1, last));
+    }
+
+    @Test
+    void next_fullBufferClosed_shouldGiveUpWaiting() throws InterruptedException {
+        LoggingRingBuffer ringBuffer = new LoggingRingBuffer(1);
+        ringBuffer.publish(ringBuffer.next()); // Fill buffer;
+
+        long[] sequence = {0L};
+        Thread producer = new Thread(() -> sequence[0] = ringBuffer.next());
+        producer.start();
+        producer.join(100L);
+        Assertions.assertTrue(producer.isAlive()); // Waits for free slot;
+
+        ringBuffer.close();
+        producer.join(5000L);
+        Assertions.assertFalse(producer.isAlive());
+        Assertions.assertEquals(-1L, sequence[0]);
+        Assertions.assertEquals(-1L, ringBuffer.next());
+    }
+}
@@ -0,0 +1,46 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure latency of publishing messages to asynchronous logging dispatcher by several producer threads.
+ * Configuration hasn't outputs, so consumer thread only render messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class AsyncLoggingBenchmark {
+
+    private LoggersConfiguration configuration;
+    private Logger logger;
+
+    @Setup
+    public void setup() {
+        this.configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("async-benchmark")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableAsyncLogging(true)
+                .asyncBufferSize(64 * 1024)
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .build();
+        this.logger = this.configuration.getLogger(AsyncLoggingBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.configuration.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        this.logger.info("Order [42] is placed.");
+    }
+}
@@ -0,0 +1,61 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.output.LoggerBinaryOutput;
+import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare logging of parameterized message to text file ({@link LoggerFileOutput}) and binary file ({@link LoggerBinaryOutput}).
+ * Size of written file per message is reported as "bytesPerMessage" secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryOutputBenchmark {
+
+    @Param({"TEXT", "BINARY"})
+    public String format;
+
+    private File file;
+    private LoggersConfiguration configuration;
+    private Logger logger;
+    private long counter = 0L;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = File.createTempFile("binary-output-benchmark", ".log");
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(64 * 1024).build();
+        LoggersConfiguration.LoggerConfigurationBuilder builder = LoggersConfiguration.LoggerConfigurationBuilder
+                .ofName("binary-output-benchmark-" + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("%ISO_DATETIME% [%LEVEL%] %NAME%: %MSG%");
+        if ("BINARY".equals(this.format)) builder.enableFileOutput().ofBinaryFile(this.file, false, policy);
+        else builder.enableFileOutput().ofFile(this.file, false, policy);
+        this.configuration = builder.build();
+        this.logger = this.configuration.getLogger("com.shop.orders.OrdersService");
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.configuration.close();
+        System.out.printf("%n%s: %.1f bytes per message%n", this.format, (double) this.file.length() / Math.max(1L, this.counter));
+        if (!this.file.delete()) this.file.deleteOnExit();
+    }
+
+    @Benchmark
+    public void log() {
+        this.counter++;
+        this.logger.info("Order [{}] is placed by customer [{}] in {} ms.", this.counter, 4242L, 12L);
+    }
+}
@@ -0,0 +1,59 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.CachedTimestampRenderer;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare rendering of timestamps with and without cache at rate of 1M messages per second:
+ * timestamp of each benchmark invocation is advanced by 1 microsecond, so 1000 messages share each millisecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedTimestampBenchmark {
+
+    private static final int MESSAGES_PER_MILLISECOND = 1000; // 1M messages per second;
+
+    @Param({"HH:mm:ss", "HH:mm:ss.SSS"})
+    public String format;
+
+    private final StringBuilder builder = new StringBuilder(64);
+    private DateTimeFormatter formatter;
+    private CachedTimestampRenderer renderer;
+    private long startMillis;
+    private long counter;
+
+    @Setup
+    public void setup() {
+        this.formatter = DateTimeFormatter.ofPattern(this.format);
+        this.renderer = CachedTimestampRenderer.ofPattern(this.format);
+        this.startMillis = System.currentTimeMillis();
+    }
+
+    private long nextTimestamp() {
+        return this.startMillis + (this.counter++ / MESSAGES_PER_MILLISECOND);
+    }
+
+    @Benchmark
+    public StringBuilder uncached() {
+        this.builder.setLength(0);
+        this.formatter.formatTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(this.nextTimestamp()), ZoneId.systemDefault()), this.builder);
+        return this.builder;
+    }
+
+    @Benchmark
+    public StringBuilder cached() {
+        this.builder.setLength(0);
+        this.renderer.render(this.builder, this.nextTimestamp());
+        return this.builder;
+    }
+}
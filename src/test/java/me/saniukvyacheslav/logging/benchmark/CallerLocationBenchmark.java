@@ -0,0 +1,83 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare logging without caller location ("%NAME%" pattern) with logging with "%CALLER%" token
+ * (bounded stack walk, location rendered from caller frame), and with location taken from full {@link Throwable} stack trace
+ * on every call. Logger is called under additional stack frames (as in deep stacks of frameworks):
+ * cost of full stack trace grows with stack depth, while StackWalker version of locator walks only top frames.
+ * All messages are out to no-op output.
+ * Run on Java 9+ from multi-release JAR to measure StackWalker version of caller locator (Java 8 version captures full stack).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallerLocationBenchmark {
+
+    @Param({"0", "100"})
+    public int stackDepth;
+
+    private LoggersConfiguration nameConfiguration;
+    private LoggersConfiguration callerConfiguration;
+    private Logger nameLogger;
+    private Logger callerLogger;
+
+    @Setup
+    public void setup(Blackhole aBlackhole) {
+        this.nameConfiguration = this.configuration("caller-benchmark-name-", "[%LEVEL%] %NAME%: %MSG%", aBlackhole);
+        this.callerConfiguration = this.configuration("caller-benchmark-caller-", "[%LEVEL%] %CALLER%: %MSG%", aBlackhole);
+        this.nameLogger = this.nameConfiguration.getLogger(CallerLocationBenchmark.class);
+        this.callerLogger = this.callerConfiguration.getLogger(CallerLocationBenchmark.class);
+    }
+
+    private LoggersConfiguration configuration(String aName, String aPattern, Blackhole aBlackhole) {
+        return LoggersConfiguration.LoggerConfigurationBuilder.ofName(aName + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new NoOpLoggerOutput(aBlackhole))
+                .minimalLevelOfMessages(LoggingMessageLevel.INFO)
+                .loggingMessagePattern(aPattern)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.nameConfiguration.close();
+        this.callerConfiguration.close();
+    }
+
+    /**
+     * Run logger call under specified count of additional stack frames.
+     * @param aDepth - count of frames.
+     * @param aCall - logger call.
+     */
+    private static void callAtDepth(int aDepth, Runnable aCall) {
+        if (aDepth == 0) aCall.run();
+        else callAtDepth(aDepth - 1, aCall);
+    }
+
+    @Benchmark
+    public void noCaller() {
+        callAtDepth(this.stackDepth, () -> this.nameLogger.info("Order [42] is placed."));
+    }
+
+    @Benchmark
+    public void callerToken() {
+        callAtDepth(this.stackDepth, () -> this.callerLogger.info("Order [42] is placed."));
+    }
+
+    @Benchmark
+    public void throwableCaller() {
+        callAtDepth(this.stackDepth, () -> this.nameLogger.info(new Throwable().getStackTrace()[0].toString() + ": Order [42] is placed."));
+    }
+}
@@ -0,0 +1,63 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.output.LoggerCompressedFileOutput;
+import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Compare logging to plain text file ({@link LoggerFileOutput}) and to compressed file ({@link LoggerCompressedFileOutput})
+ * with fastest and default deflate levels. Size of written file per message is printed on tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressedFileOutputBenchmark {
+
+    @Param({"PLAIN", "DEFLATE_FAST", "DEFLATE_DEFAULT"})
+    public String format;
+
+    private File file;
+    private LoggersConfiguration configuration;
+    private Logger logger;
+    private long counter = 0L;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = File.createTempFile("compressed-output-benchmark", ".log");
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(64 * 1024).build();
+        LoggersConfiguration.LoggerConfigurationBuilder builder = LoggersConfiguration.LoggerConfigurationBuilder
+                .ofName("compressed-output-benchmark-" + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("%ISO_DATETIME% [%LEVEL%] %NAME%: %MSG%");
+        if ("DEFLATE_FAST".equals(this.format)) builder.enableFileOutput().ofCompressedFile(this.file, false, policy, Deflater.BEST_SPEED);
+        else if ("DEFLATE_DEFAULT".equals(this.format)) builder.enableFileOutput().ofCompressedFile(this.file, false, policy, 6);
+        else builder.enableFileOutput().ofFile(this.file, false, policy);
+        this.configuration = builder.build();
+        this.logger = this.configuration.getLogger("com.shop.orders.OrdersService");
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.configuration.close();
+        System.out.printf("%n%s: %.1f bytes per message%n", this.format, (double) this.file.length() / Math.max(1L, this.counter));
+        if (!this.file.delete()) this.file.deleteOnExit();
+    }
+
+    @Benchmark
+    public void log() {
+        this.counter++;
+        this.logger.info("Order [{}] is placed by customer [{}] in {} ms.", this.counter, 4242L, 12L);
+    }
+}
@@ -0,0 +1,56 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerBufferedConsoleOutput;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare console output by autoflushed {@link PrintStream} (as System.out) with {@link LoggerBufferedConsoleOutput} output.
+ * Both outputs write to "/dev/null", so benchmark doesn't flood console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConsoleOutputBenchmark {
+
+    private static final String MESSAGE = "12:00:00 [INFO] ConsoleOutputBenchmark: Order [42] is placed.";
+
+    private FileOutputStream printStreamTarget;
+    private FileOutputStream channelTarget;
+    private PrintStream printStream;
+    private LoggerBufferedConsoleOutput bufferedOutput;
+
+    @Setup
+    public void setup() throws IOException {
+        this.printStreamTarget = new FileOutputStream("/dev/null");
+        this.printStream = new PrintStream(this.printStreamTarget, true);
+        this.channelTarget = new FileOutputStream("/dev/null");
+        this.bufferedOutput = new LoggerBufferedConsoleOutput(this.channelTarget.getChannel(), LoggerBufferedConsoleOutput.DEFAULT_FLUSH_POLICY);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        this.printStream.close();
+        this.bufferedOutput.close();
+        this.channelTarget.close();
+    }
+
+    @Benchmark
+    public void printStream() {
+        this.printStream.println(MESSAGE);
+    }
+
+    @Benchmark
+    public void bufferedChannel() {
+        this.bufferedOutput.out(MESSAGE, LoggingMessageLevel.INFO);
+    }
+}
@@ -0,0 +1,61 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.LoggerFlightRecorderOutput;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare recording of DEBUG messages by {@link LoggerFlightRecorderOutput} flight recorder (memory copy only)
+ * with writing them to {@link LoggerFileOutput} file output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlightRecorderOutputBenchmark {
+
+    private static final ByteBuffer MESSAGE = ByteBuffer.wrap(
+            "12:00:00 [DEBUG] FlightRecorderOutputBenchmark: Order [42] is validated.".getBytes(Charset.defaultCharset()));
+
+    @Param({"heap", "offHeap"})
+    public String buffer;
+
+    private File logFile;
+    private LoggerFileOutput fileOutput;
+    private LoggerFlightRecorderOutput recorderOutput;
+
+    @Setup
+    public void setup(Blackhole aBlackhole) throws IOException {
+        this.logFile = File.createTempFile("flight-recorder-benchmark", ".log");
+        this.fileOutput = new LoggerFileOutput(this.logFile, false);
+        this.recorderOutput = new LoggerFlightRecorderOutput(new NoOpLoggerOutput(aBlackhole), 1024, 128 * 1024,
+                LoggingMessageLevel.ERROR, "offHeap".equals(this.buffer));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        this.fileOutput.close();
+        this.recorderOutput.close();
+        if (!this.logFile.delete()) this.logFile.deleteOnExit();
+    }
+
+    @Benchmark
+    public void fileOutput() {
+        this.fileOutput.out(MESSAGE, LoggingMessageLevel.DEBUG);
+    }
+
+    @Benchmark
+    public void flightRecorder() {
+        this.recorderOutput.out(MESSAGE, LoggingMessageLevel.DEBUG);
+    }
+}
@@ -0,0 +1,54 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure logging of several threads through shared loggers configuration to single buffered file output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LoggerContentionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean garbageFree;
+
+    private File file;
+    private LoggersConfiguration configuration;
+    private Logger logger;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = File.createTempFile("contention-benchmark", ".log");
+        this.configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("contention-benchmark-" + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(this.file, false, OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(64 * 1024).build())
+                .enableGarbageFreeLogging(this.garbageFree)
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .build();
+        this.logger = this.configuration.getLogger(LoggerContentionBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.configuration.close();
+        if (!this.file.delete()) this.file.deleteOnExit();
+    }
+
+    @Benchmark
+    public void log() {
+        this.logger.info("Order [{}] is placed.", 42);
+    }
+}
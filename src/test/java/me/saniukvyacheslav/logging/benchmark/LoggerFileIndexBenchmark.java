@@ -0,0 +1,71 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerFileIndex;
+import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare search of rare ERROR messages in log file by full scan and by {@link LoggerFileIndex} sidecar index.
+ * Log file has 1 000 000 messages with single ERROR message in each 100 000 messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerFileIndexBenchmark {
+
+    private static final int MESSAGES_COUNT = 1_000_000;
+
+    private File logFile;
+    private LoggerFileIndex index;
+    private int errorsCount;
+
+    @Setup
+    public void setup() throws IOException {
+        this.logFile = File.createTempFile("file-index-benchmark", ".log");
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(64 * 1024).build();
+        try (LoggerFileOutput output = new LoggerFileOutput(this.logFile, false, policy, 1000, 1000L)) {
+            for (int i = 0; i < MESSAGES_COUNT; i++) {
+                boolean isError = i % 100_000 == 50_000;
+                output.out((isError ? "12:00:00 [ERROR] " : "12:00:00 [INFO] ") + "LoggerFileIndexBenchmark: Order [" + i + "] is placed.",
+                        isError ? LoggingMessageLevel.ERROR : LoggingMessageLevel.INFO);
+            }
+        }
+        this.index = LoggerFileIndex.load(this.logFile);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (!this.logFile.delete()) this.logFile.deleteOnExit();
+        if (!LoggerFileIndex.indexFileOf(this.logFile).delete()) LoggerFileIndex.indexFileOf(this.logFile).deleteOnExit();
+    }
+
+    @Benchmark
+    public int fullScan() throws IOException {
+        int count = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(this.logFile), 64 * 1024)) {
+            String line;
+            while ((line = reader.readLine()) != null) if (line.contains("[ERROR]")) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int indexedScan() throws IOException {
+        this.errorsCount = 0;
+        this.index.forEachLine(Long.MIN_VALUE, Long.MAX_VALUE, LoggingMessageLevel.ERROR, (line) -> {
+            if (line.contains("[ERROR]")) this.errorsCount++;
+        });
+        return this.errorsCount;
+    }
+}
@@ -0,0 +1,58 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure writes of messages to {@link LoggerFileOutput} output with immediate and buffered flush policies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerFileOutputBenchmark {
+
+    private static final String MESSAGE = "12:00:00 [INFO] LoggerFileOutputBenchmark: Order [42] is placed.";
+
+    @Param({"IMMEDIATE", "BUFFERED"})
+    public String flushPolicy;
+
+    private File file;
+    private LoggerFileOutput output;
+    private ByteBuffer encodedMessage;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = File.createTempFile("file-output-benchmark", ".log");
+        OutputFlushPolicy policy = "IMMEDIATE".equals(this.flushPolicy) ? OutputFlushPolicy.IMMEDIATE
+                : OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(64 * 1024).build();
+        this.output = new LoggerFileOutput(this.file, false, policy);
+        this.encodedMessage = ByteBuffer.wrap(MESSAGE.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        this.output.close();
+        if (!this.file.delete()) this.file.deleteOnExit();
+    }
+
+    @Benchmark
+    public void outString() {
+        this.output.out(MESSAGE, LoggingMessageLevel.INFO);
+    }
+
+    @Benchmark
+    public void outEncoded() {
+        this.output.out(this.encodedMessage, LoggingMessageLevel.INFO);
+    }
+}
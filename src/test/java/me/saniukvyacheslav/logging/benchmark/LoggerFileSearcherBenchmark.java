@@ -0,0 +1,79 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import me.saniukvyacheslav.search.LoggerFileSearcher;
+import me.saniukvyacheslav.search.LoggerSearchQuery;
+import me.saniukvyacheslav.search.LoggerSearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compare search of ERROR messages of logger in log file by {@link LoggerFileSearcher} parallel searcher and by
+ * sequential {@link BufferedReader} scan with same regular expression. Log file has 1 000 000 messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerFileSearcherBenchmark {
+
+    private static final int MESSAGES_COUNT = 1_000_000;
+    private static final Pattern LINE_REGEX = Pattern.compile("^(.*?) \\[(ERROR|FATAL)] (com\\.shop\\.db(?:\\..*?)?): (.*)$");
+
+    private File logFile;
+    private LoggerFileSearcher searcher;
+    private LoggerSearchQuery query;
+
+    @Setup
+    public void setup() throws IOException {
+        this.logFile = File.createTempFile("file-searcher-benchmark", ".log");
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(64 * 1024).build();
+        try (LoggerFileOutput output = new LoggerFileOutput(this.logFile, false, policy)) {
+            for (int i = 0; i < MESSAGES_COUNT; i++) {
+                if (i % 1000 == 0) output.out("12:00:00 [ERROR] com.shop.db.Connection: Connection [" + i + "] is lost.", LoggingMessageLevel.ERROR);
+                else output.out("12:00:00 [INFO] com.shop.orders.OrdersService: Order [" + i + "] is placed.", LoggingMessageLevel.INFO);
+            }
+        }
+        this.searcher = new LoggerFileSearcher("%TIME% [%LEVEL%] %NAME%: %MSG%");
+        this.query = LoggerSearchQuery.LoggerSearchQueryBuilder.create().minimalLevel(LoggingMessageLevel.ERROR).loggerName("com.shop.db").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (!this.logFile.delete()) this.logFile.deleteOnExit();
+    }
+
+    @Benchmark
+    public int sequentialScan() throws IOException {
+        int count = 0;
+        Matcher matcher = LINE_REGEX.matcher("");
+        try (BufferedReader reader = new BufferedReader(new FileReader(this.logFile), 64 * 1024)) {
+            String line;
+            while ((line = reader.readLine()) != null) if (matcher.reset(line).matches()) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int parallelSearch() throws IOException {
+        int count = 0;
+        try (LoggerSearchResult result = this.searcher.search(this.logFile, this.query)) {
+            while (result.hasNext()) {
+                result.next();
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,62 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure logger calls in current thread: call of disabled level, call of enabled level with plain message,
+ * and {@link String#format(String, Object...)} based call, all out to no-op output.
+ * Run with "-prof gc" (default in "benchmark" maven profile) to get "gc.alloc.rate.norm".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerHotPathBenchmark {
+
+    private LoggersConfiguration configuration;
+    private Logger logger;
+
+    @Param({"false", "true"})
+    public boolean garbageFree;
+
+    @Setup
+    public void setup(Blackhole aBlackhole) {
+        this.configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("hot-path-benchmark-" + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new NoOpLoggerOutput(aBlackhole))
+                .enableGarbageFreeLogging(this.garbageFree)
+                .minimalLevelOfMessages(LoggingMessageLevel.INFO)
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .build();
+        this.logger = this.configuration.getLogger(LoggerHotPathBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.configuration.close();
+    }
+
+    @Benchmark
+    public void disabledLevel() {
+        this.logger.debug("Order [42] is placed.");
+    }
+
+    @Benchmark
+    public void enabledLevel() {
+        this.logger.info("Order [42] is placed.");
+    }
+
+    @Benchmark
+    public void formatted() {
+        this.logger.infof("Order [%d] is placed by %s.", 42, "customer");
+    }
+}
@@ -0,0 +1,50 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure cost of error flood, which is logged, dropped by rate limit or collapsed as duplicate (garbage-free logging to no-op output).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingFilterBenchmark {
+
+    @Param({"none", "rateLimit", "duplicates"})
+    public String filter;
+
+    private LoggersConfiguration configuration;
+    private Logger logger;
+
+    @Setup
+    public void setup(Blackhole aBlackhole) {
+        LoggersConfiguration.LoggerConfigurationBuilder builder = LoggersConfiguration.LoggerConfigurationBuilder.ofName("filter-benchmark-" + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new NoOpLoggerOutput(aBlackhole))
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .enableGarbageFreeLogging(true);
+        if ("rateLimit".equals(this.filter)) builder.rateLimitPerTemplate(10.0D, 10);
+        if ("duplicates".equals(this.filter)) builder.suppressDuplicateMessages(1000L);
+        this.configuration = builder.build();
+        this.logger = this.configuration.getLogger(LoggingFilterBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.configuration.close();
+    }
+
+    @Benchmark
+    public void errorFlood() {
+        this.logger.error("Connection to [{}] is refused.", "db");
+    }
+}
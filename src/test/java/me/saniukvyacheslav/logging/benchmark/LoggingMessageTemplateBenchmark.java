@@ -0,0 +1,53 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.*;
+import me.saniukvyacheslav.util.string.RegexUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare rendering of logging message by compiled {@link LoggingMessageTemplate} template
+ * with rendering by chain of {@link PatternModifier} modifiers and "%MSG%" regex replacement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingMessageTemplateBenchmark {
+
+    private static final String PATTERN = "%TIME% [%LEVEL%] %NAME%: %MSG%";
+    private static final String LOGGER_NAME = "LoggingMessageTemplateBenchmark";
+    private static final String MESSAGE = "Order [42] is placed.";
+
+    private List<PatternModifier> modifiers;
+    private LoggingMessageTemplate template;
+    private LoggingEvent event;
+
+    @Setup
+    public void setup() {
+        this.modifiers = Arrays.asList(new PatternModifierTime(), new PatternModifierName(), new PatternModifierLevel());
+        this.template = LoggingMessageTemplate.compile(PATTERN, this.modifiers);
+        this.event = new LoggingEvent();
+    }
+
+    @Benchmark
+    public String modifiersChain() {
+        String usedPattern = PATTERN;
+        for (PatternModifier modifier : this.modifiers) {
+            usedPattern = modifier.modify(usedPattern, LOGGER_NAME, LoggingMessageLevel.INFO);
+        }
+        return Objects.requireNonNull(RegexUtils.match(usedPattern, LoggingMessageTemplate.MESSAGE_TOKEN)).replaceFirst(MESSAGE);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return this.template.render(this.event.set(LOGGER_NAME, LoggingMessageLevel.INFO, MESSAGE, System.currentTimeMillis()));
+    }
+
+}
@@ -0,0 +1,59 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.metrics.LoggingMetrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure overhead of {@link LoggingMetrics} self-metrics on logged and suppressed messages
+ * (garbage-free logging to no-op output).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingMetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private LoggersConfiguration configuration;
+    private Logger logger;
+    private long orderId = 42L;
+
+    @Setup
+    public void setup(Blackhole aBlackhole) {
+        this.configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("metrics-benchmark-" + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new NoOpLoggerOutput(aBlackhole))
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .minimalLevelOfMessages(LoggingMessageLevel.INFO)
+                .enableGarbageFreeLogging(true)
+                .enableMetrics(this.metrics)
+                .build();
+        this.logger = this.configuration.getLogger(LoggingMetricsBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.configuration.close();
+    }
+
+    @Benchmark
+    public void logged() {
+        this.logger.info("Order [{}] is placed.", this.orderId);
+    }
+
+    @Benchmark
+    public void suppressed() {
+        this.logger.debug("Order [{}] is placed.", this.orderId);
+    }
+}
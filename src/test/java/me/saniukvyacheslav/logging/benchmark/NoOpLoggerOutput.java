@@ -0,0 +1,34 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerOutput;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Output which only consumes messages by {@link Blackhole} blackhole, so benchmarks measure logging path without IO.
+ */
+public class NoOpLoggerOutput implements LoggerOutput {
+
+    private final Blackhole blackhole; // Messages consumer;
+
+    public NoOpLoggerOutput(Blackhole aBlackhole) {
+        this.blackhole = aBlackhole;
+    }
+
+    @Override
+    public void out(String aMessage) {
+        this.blackhole.consume(aMessage);
+    }
+
+    @Override
+    public void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+        this.blackhole.consume(aMessage);
+    }
+
+    @Override
+    public void close() {
+        // Do nothing.
+    }
+}
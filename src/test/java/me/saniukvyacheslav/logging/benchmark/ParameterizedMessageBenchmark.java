@@ -0,0 +1,34 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.ParameterizedMessageFormatter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare formatting of message by String#format with formatting of "{}" parameterized message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterizedMessageBenchmark {
+
+    private final StringBuilder builder = new StringBuilder(256);
+    private Integer orderId = 42;
+    private String user = "admin";
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("Order [%d] is placed by %s.", this.orderId, this.user);
+    }
+
+    @Benchmark
+    public StringBuilder parameterized() {
+        this.builder.setLength(0);
+        ParameterizedMessageFormatter.format(this.builder, "Order [{}] is placed by {}.", 2, this.orderId, this.user, null, null);
+        return this.builder;
+    }
+}
@@ -0,0 +1,44 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.message.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure rendering of single {@link PatternModifier} token into logging message builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternModifierBenchmark {
+
+    @Param({"%TIME%", "%EPOCH_MILLIS%", "%ISO_DATETIME%", "%NAME%", "%LEVEL%"})
+    public String token;
+
+    private final StringBuilder builder = new StringBuilder(64);
+    private final LoggingEvent event = new LoggingEvent();
+    private PatternModifier modifier;
+
+    @Setup
+    public void setup() {
+        switch (this.token) {
+            case PatternModifierTime.TIME_ARGUMENT_REGEX: this.modifier = new PatternModifierTime(); break;
+            case PatternModifierTime.EPOCH_MILLIS_ARGUMENT_REGEX: this.modifier = PatternModifierTime.ofEpochMillis(); break;
+            case PatternModifierTime.ISO_DATETIME_ARGUMENT_REGEX: this.modifier = PatternModifierTime.ofIsoDateTime(); break;
+            case PatternModifierName.NAME_ARGUMENT_REGEX: this.modifier = new PatternModifierName(); break;
+            default: this.modifier = new PatternModifierLevel();
+        }
+    }
+
+    @Benchmark
+    public StringBuilder render() {
+        this.builder.setLength(0);
+        this.event.set("PatternModifierBenchmark", LoggingMessageLevel.INFO, "Order [42] is placed.", System.currentTimeMillis());
+        this.modifier.render(this.builder, this.event);
+        return this.builder;
+    }
+}
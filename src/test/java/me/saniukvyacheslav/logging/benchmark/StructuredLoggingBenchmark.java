@@ -0,0 +1,61 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.output.LoggerJsonOutput;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare logging of JSON, built by hand and rendered by logging message pattern,
+ * with structured logging to {@link LoggerJsonOutput} output (both out to no-op output).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructuredLoggingBenchmark {
+
+    private LoggersConfiguration textConfiguration;
+    private LoggersConfiguration jsonConfiguration;
+    private Logger textLogger;
+    private Logger jsonLogger;
+    private long orderId = 42L;
+
+    @Setup
+    public void setup(Blackhole aBlackhole) {
+        this.textConfiguration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("text-benchmark-" + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new NoOpLoggerOutput(aBlackhole))
+                .loggingMessagePattern("{\"timestamp\":%EPOCH_MILLIS%,\"level\":\"%LEVEL%\",\"logger\":\"%NAME%\",%MSG%}")
+                .build();
+        this.jsonConfiguration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("json-benchmark-" + System.identityHashCode(this))
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new LoggerJsonOutput(new NoOpLoggerOutput(aBlackhole)))
+                .build();
+        this.textLogger = this.textConfiguration.getLogger(StructuredLoggingBenchmark.class);
+        this.jsonLogger = this.jsonConfiguration.getLogger(StructuredLoggingBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.textConfiguration.close();
+        this.jsonConfiguration.close();
+    }
+
+    @Benchmark
+    public void handBuiltJson() {
+        this.textLogger.info("\"message\":\"Order is placed.\",\"orderId\":" + this.orderId + ",\"ms\":" + 12 + ",\"paid\":" + true);
+    }
+
+    @Benchmark
+    public void structuredJson() {
+        this.jsonLogger.atInfo().with("orderId", this.orderId).with("ms", 12).with("paid", true).log("Order is placed.");
+    }
+}
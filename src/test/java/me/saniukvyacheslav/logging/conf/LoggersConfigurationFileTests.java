@@ -0,0 +1,159 @@
+package me.saniukvyacheslav.logging.conf;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.conf.LoggersConfigurationFile;
+import me.saniukvyacheslav.conf.LoggersConfigurationFileWatcher;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerBufferedConsoleOutput;
+import me.saniukvyacheslav.output.LoggerOutput;
+import me.saniukvyacheslav.output.LoggerRollingFileOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import me.saniukvyacheslav.output.RollingPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+public class LoggersConfigurationFileTests {
+
+    @TempDir
+    Path tempDir;
+
+    private File write(String aFileName, String... aLines) throws IOException {
+        File file = this.tempDir.resolve(aFileName).toFile();
+        Files.write(file.toPath(), String.join("\n", aLines).getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+
+    private void await(BooleanSupplier aCondition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (!aCondition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "Condition isn't reached in time.");
+            Thread.sleep(20L);
+        }
+    }
+
+    @Test
+    void load_propertiesFile_shouldConfigureLoggers() throws IOException {
+        File logFile = this.tempDir.resolve("load.log").toFile();
+        File configFile = this.write("load.properties",
+                "name=file-load",
+                "pattern=[%LEVEL%] %NAME%: %MSG%",
+                "level=INFO",
+                "level.com.shop.db=DEBUG",
+                "console=false",
+                "file=" + logFile.getAbsolutePath().replace("\\", "/"));
+        LoggersConfiguration configuration = LoggersConfigurationFile.load(configFile);
+        Assertions.assertTrue(configuration.isLoggersEnabled());
+        Assertions.assertFalse(configuration.isEnabledConsoleOutput());
+        Assertions.assertEquals(LoggingMessageLevel.INFO, configuration.getMinimalLevelOfMessages());
+        configuration.getLogger("com.shop.db.Orders").debug("Query.");
+        configuration.getLogger("com.shop.web.Orders").debug("Skipped.");
+        configuration.close();
+
+        Assertions.assertEquals("[DEBUG] com.shop.db.Orders: Query.", Files.readAllLines(logFile.toPath()).get(0));
+        Assertions.assertEquals(1, Files.readAllLines(logFile.toPath()).size());
+    }
+
+    @Test
+    void load_invalidLevel_shouldThrowExc() throws IOException {
+        File configFile = this.write("invalid.properties", "name=file-invalid", "level=VERBOSE");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoggersConfigurationFile.load(configFile));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoggersConfigurationFile.load(this.write("unnamed.properties", "level=INFO")));
+    }
+
+    @Test
+    void watch_fileChanged_shouldPublishNewSnapshot() throws Exception {
+        File firstLog = this.tempDir.resolve("first.log").toFile();
+        File secondLog = this.tempDir.resolve("second.log").toFile();
+        File configFile = this.write("watch.properties", "name=file-watch", "pattern=A %MSG%", "console=false",
+                "file=" + firstLog.getAbsolutePath().replace("\\", "/"));
+        LoggersConfigurationFileWatcher watcher = LoggersConfigurationFileWatcher.loadAndWatch(configFile);
+        LoggersConfiguration configuration = watcher.getConfiguration();
+        Logger logger = configuration.getLogger("Orders");
+
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        AtomicReference<Throwable> loggingError = new AtomicReference<>();
+        Thread loggingThread = new Thread(() -> {
+            try {
+                while (isRunning.get()) logger.warn("Message."); // Logging thread keeps writing while outputs are replaced;
+            } catch (Throwable e) {
+                loggingError.set(e);
+            }
+        });
+        loggingThread.start();
+
+        this.write("watch.properties", "name=file-watch", "pattern=B %MSG%", "level=WARN", "console=false",
+                "file=" + secondLog.getAbsolutePath().replace("\\", "/"));
+        this.await(() -> watcher.getReloadsCount() == 1L);
+        Assertions.assertEquals(LoggingMessageLevel.WARN, configuration.getMinimalLevelOfMessages());
+        Assertions.assertFalse(logger.isInfoEnabled());
+        logger.warn("Message.");
+
+        this.write("watch.properties", "name=file-watch", "pattern=%MSG%", "level=LOUD"); // Invalid file isn't applied;
+        this.await(() -> watcher.getErrorsCount() == 1L);
+        Assertions.assertEquals("B %MSG%", configuration.getLogMessagePattern());
+
+        isRunning.set(false);
+        loggingThread.join();
+        watcher.close();
+        configuration.close();
+        Assertions.assertNull(loggingError.get(), () -> "Logging thread failed: " + loggingError.get());
+
+        // Each message is rendered by pattern, which was published with its output:
+        List<String> firstLines = Files.readAllLines(firstLog.toPath());
+        List<String> secondLines = Files.readAllLines(secondLog.toPath());
+        Assertions.assertFalse(firstLines.isEmpty());
+        Assertions.assertTrue(firstLines.stream().allMatch("A Message."::equals));
+        Assertions.assertTrue(secondLines.stream().allMatch("B Message."::equals));
+        Assertions.assertTrue(secondLines.size() >= 1);
+    }
+
+    @Test
+    void watch_fileChanged_shouldKeepConfiguredKindOfOutputs() throws Exception {
+        File firstLog = this.tempDir.resolve("kind-first.log").toFile();
+        File secondLog = this.tempDir.resolve("kind-second.log").toFile();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("file-kind")
+                .enableLoggers(true)
+                .enableBufferedConsoleOutput(OutputFlushPolicy.IMMEDIATE)
+                .enableFileOutput().ofRollingFile(firstLog, RollingPolicy.RollingPolicyBuilder.create().maxFileSize(1024L * 1024L).build())
+                .build();
+        File configFile = this.write("kind.properties", "name=file-kind", "console=false",
+                "file=" + firstLog.getAbsolutePath().replace("\\", "/"));
+        LoggersConfigurationFileWatcher watcher = new LoggersConfigurationFileWatcher(configuration, configFile);
+        LoggerOutput firstOutput = configuration.getLoggersOutputs().get(1);
+        Assertions.assertTrue(firstOutput instanceof LoggerRollingFileOutput);
+
+        // Console is disabled, log file is the same, so file output is kept:
+        this.write("kind.properties", "name=file-kind", "console=false", "pattern=A %MSG%",
+                "file=" + firstLog.getAbsolutePath().replace("\\", "/"));
+        this.await(() -> watcher.getReloadsCount() == 1L);
+        Assertions.assertEquals(Collections.singletonList(firstOutput), configuration.getLoggersOutputs());
+
+        // Console is enabled again as buffered console, log file is changed, so rolling file output is recreated for new file:
+        this.write("kind.properties", "name=file-kind", "console=true", "pattern=B %MSG%",
+                "file=" + secondLog.getAbsolutePath().replace("\\", "/"));
+        this.await(() -> watcher.getReloadsCount() == 2L);
+        List<LoggerOutput> outputs = configuration.getLoggersOutputs();
+        Assertions.assertEquals(2, outputs.size());
+        Assertions.assertTrue(outputs.stream().anyMatch(output -> output instanceof LoggerBufferedConsoleOutput));
+        Assertions.assertTrue(outputs.stream().anyMatch(output -> output instanceof LoggerRollingFileOutput && output != firstOutput));
+        configuration.getLogger("Orders").info("Message.");
+        watcher.close();
+        configuration.close();
+
+        Assertions.assertEquals("B Message.", Files.readAllLines(secondLog.toPath()).get(0));
+    }
+}
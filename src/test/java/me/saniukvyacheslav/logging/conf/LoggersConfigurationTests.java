@@ -3,9 +3,14 @@ package me.saniukvyacheslav.logging.conf;
 import me.saniukvyacheslav.conf.LoggersConfiguration;
 import me.saniukvyacheslav.Logger;
 import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerOutput;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
 public class LoggersConfigurationTests {
 
     @Test
@@ -31,6 +36,39 @@ public class LoggersConfigurationTests {
         configuration.close();
     }
 
+    @Test
+    void enableLoggers_existingLogger_shouldPublishFlagInSnapshot() {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("enable-snapshot")
+                .enableConsoleOutput(false)
+                .build();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        configuration.addOutput(new LoggerOutput() {
+            @Override
+            public void out(String aMessage) {
+                messages.add(aMessage);
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        Logger logger = configuration.getLogger("Orders");
+        logger.info("Skipped.");
+        Assertions.assertFalse(configuration.getSnapshot().isLoggersEnabled());
+
+        configuration.enableLoggers(true); // Cached threshold of logger is recomputed for new snapshot;
+        Assertions.assertTrue(configuration.getSnapshot().isLoggersEnabled());
+        Assertions.assertTrue(logger.isInfoEnabled());
+        logger.info("Logged.");
+
+        configuration.enableLoggers(false);
+        Assertions.assertFalse(logger.isInfoEnabled());
+        logger.info("Skipped.");
+        Assertions.assertEquals(1, messages.size());
+        Assertions.assertTrue(messages.get(0).contains("Logged."));
+        configuration.close();
+    }
+
     @Test
     void enableConsoleOutput_true_shouldPrintMessageToConsole() {
         LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder
@@ -108,4 +146,116 @@ public class LoggersConfigurationTests {
         configuration.close();
     }
 
+    @Test
+    void getLogger_concurrentCalls_shouldCreateSingleLoggerPerName() throws Exception {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder
+                .ofName("test8")
+                .enableConsoleOutput(false)
+                .build();
+        int threadsCount = 8;
+        int namesCount = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadsCount);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(threadsCount);
+            List<Future<Logger[]>> futures = new ArrayList<>();
+            for (int i = 0; i < threadsCount; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    Logger[] loggers = new Logger[namesCount + 1];
+                    for (int j = 0; j < namesCount; j++) loggers[j] = configuration.getLogger("logger-" + j);
+                    loggers[namesCount] = configuration.getLogger(LoggersConfigurationTests.class);
+                    return loggers;
+                }));
+            }
+
+            Logger[] expected = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Logger[]> future : futures) {
+                Logger[] loggers = future.get(10, TimeUnit.SECONDS);
+                for (int j = 0; j <= namesCount; j++) Assertions.assertSame(expected[j], loggers[j]);
+            }
+            Assertions.assertEquals(namesCount + 1, configuration.getLoggers().size());
+            Assertions.assertSame(expected[namesCount], configuration.getLogger(LoggersConfigurationTests.class.getSimpleName()));
+        } finally {
+            executor.shutdownNow();
+            configuration.close();
+        }
+    }
+
+    @Test
+    void loggerLevel_hierarchicalOverrides_shouldResolveNearestOverride() {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder
+                .ofName("test9")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .minimalLevelOfMessages(LoggingMessageLevel.WARN)
+                .loggerLevel("com.shop.db", LoggingMessageLevel.DEBUG)
+                .build();
+        Logger dbLogger = configuration.getLogger("com.shop.db.Orders");
+        Logger webLogger = configuration.getLogger("com.shop.web.Controller");
+        Logger prefixLogger = configuration.getLogger("com.shop.dbx");
+        Assertions.assertTrue(dbLogger.isDebugEnabled());
+        Assertions.assertFalse(dbLogger.isTraceEnabled());
+        Assertions.assertFalse(webLogger.isInfoEnabled());
+        Assertions.assertFalse(prefixLogger.isInfoEnabled());
+
+        configuration.setLoggerLevel("com.shop", LoggingMessageLevel.INFO);
+        Assertions.assertTrue(webLogger.isInfoEnabled());
+        Assertions.assertTrue(prefixLogger.isInfoEnabled());
+        Assertions.assertTrue(dbLogger.isDebugEnabled());
+
+        configuration.removeLoggerLevel("com.shop.db");
+        Assertions.assertFalse(dbLogger.isDebugEnabled());
+        Assertions.assertEquals(LoggingMessageLevel.INFO, configuration.getEffectiveLevel("com.shop.db.Orders"));
+        configuration.close();
+    }
+
+    @Test
+    void removeOutput_concurrentWriteToClosedOutput_shouldNotThrowToLoggingThread() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch isRemoved = new CountDownLatch(1);
+        LoggerOutput closingOutput = new LoggerOutput() {
+            private volatile boolean isClosed = false;
+
+            @Override
+            public void out(String aMessage) {
+                isWriting.countDown();
+                try {
+                    isRemoved.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (this.isClosed) throw new IllegalStateException("Output is closed.");
+            }
+
+            @Override
+            public void close() {
+                this.isClosed = true;
+            }
+        };
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("remove-while-writing")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .build();
+        configuration.addOutput(closingOutput);
+        Logger logger = configuration.getLogger("Orders");
+        CompletableFuture<Void> logging = CompletableFuture.runAsync(() -> logger.info("Message."));
+
+        isWriting.await();
+        Assertions.assertTrue(configuration.removeOutput(closingOutput));
+        isRemoved.countDown();
+        logging.get(5, TimeUnit.SECONDS); // Write to removed output is dropped;
+
+        configuration.addOutput(new LoggerOutput() {
+            @Override
+            public void out(String aMessage) {
+                throw new IllegalStateException("Output is broken.");
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        Assertions.assertThrows(IllegalStateException.class, () -> logger.info("Message.")); // Errors of current outputs are thrown;
+        configuration.close();
+    }
 }
@@ -0,0 +1,69 @@
+package me.saniukvyacheslav.logging.impl;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class GarbageFreeLoggingTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void garbageFreeLogging_fileOutput_shouldWriteSameMessages() throws IOException {
+        Path logFile = this.tempDir.resolve("garbage-free.log");
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("garbage-free-1")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput().ofFile(logFile.toFile(), false)
+                .enableGarbageFreeLogging(true)
+                .loggingMessagePattern("[%LEVEL%] %NAME%: %MSG%")
+                .build();
+        Logger logger = configuration.getLogger("GarbageFree");
+        logger.info("Hello world!");
+        logger.errorf("Formatted [%d];", 42);
+        logger.warn("Parameterized [{}] and [{}];", 42, "text");
+        configuration.close();
+
+        List<String> lines = Files.readAllLines(logFile);
+        Assertions.assertEquals("[INFO] GarbageFree: Hello world!", lines.get(0));
+        Assertions.assertEquals("[ERROR] GarbageFree: Formatted [42];", lines.get(1));
+        Assertions.assertEquals("[WARN] GarbageFree: Parameterized [42] and [text];", lines.get(2));
+    }
+
+    @Test
+    void garbageFreeLogging_steadyState_shouldNotAllocate() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("garbage-free-2")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput().ofFile(this.tempDir.resolve("steady-state.log").toFile(), false)
+                .enableGarbageFreeLogging(true)
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .build();
+        Logger logger = configuration.getLogger("GarbageFree");
+        for (int i = 0; i < 10_000; i++) logger.info("Warm up message;"); // Warm up buffers;
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        final int messagesCount = 100_000;
+        for (int i = 0; i < messagesCount; i++) logger.info("Steady state message;");
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        configuration.close();
+
+        // Less than one byte per message (only fixed allocations of measurement itself):
+        Assertions.assertTrue(allocated < messagesCount, "Allocated bytes: " +allocated);
+    }
+}
@@ -1,9 +1,21 @@
 package me.saniukvyacheslav.logging.impl;
 
+import me.saniukvyacheslav.Logger;
 import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.conf.LoggingConfiguration;
 import me.saniukvyacheslav.impl.LoggerImpl;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.message.LoggingMessageTemplate;
+import me.saniukvyacheslav.output.LoggerOutput;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 public class LoggerImplTests {
 
     @Test
@@ -23,4 +35,144 @@ public class LoggerImplTests {
 
         configuration.close();
     }
+
+    /**
+     * Output, which collects messages.
+     */
+    private static class CollectingOutput implements LoggerOutput {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void out(String aMessage) {
+            this.messages.add(aMessage);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void asyncLogging_enabled_shouldPrintMessagesInBackground() {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("async")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableAsyncLogging(true)
+                .asyncBufferSize(16)
+                .loggingMessagePattern("[%LEVEL%] %NAME%: %MSG%")
+                .build();
+        CollectingOutput output = new CollectingOutput();
+        configuration.addOutput(output);
+        Assertions.assertTrue(configuration.isAsyncLoggingEnabled());
+        LoggerImpl logger = (LoggerImpl) configuration.getLogger(LoggerImplTests.class);
+        for (int i = 0; i < 64; i++) logger.info("Async message #" + i);
+
+        configuration.close(); // Dispatch pending messages;
+        Assertions.assertEquals(64, output.messages.size());
+        for (int i = 0; i < 64; i++)
+            Assertions.assertEquals("[INFO] " + LoggerImplTests.class.getSimpleName() + ": Async message #" + i, output.messages.get(i));
+    }
+
+    @Test
+    void asyncLogging_closeWhilePublishing_shouldDeliverPublishedMessagesInOrderAndNotBlock() throws InterruptedException {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("asyncClose")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableAsyncLogging(true)
+                .asyncBufferSize(4)
+                .loggingMessagePattern("%NAME% %MSG%")
+                .build();
+        CollectingOutput output = new CollectingOutput();
+        configuration.addOutput(output);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            Logger logger = configuration.getLogger("producer" + p);
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) logger.info(String.valueOf(i));
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        Thread.sleep(50L);
+        configuration.close();
+        for (Thread producer : producers) {
+            producer.join(10_000L);
+            Assertions.assertFalse(producer.isAlive()); // Producers don't wait for stopped consumer;
+        }
+
+        Map<String, Integer> lastMessages = new HashMap<>();
+        for (String message : output.messages) {
+            String[] parts = message.split(" ");
+            int previous = lastMessages.getOrDefault(parts[0], -1);
+            Assertions.assertEquals(previous + 1, Integer.parseInt(parts[1]), message);
+            lastMessages.put(parts[0], previous + 1);
+        }
+    }
+
+    @Test
+    void isLevelEnabled_runtimeChanges_shouldBeVisibleToExistingLoggers() {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("levelThreshold")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .minimalLevelOfMessages(LoggingMessageLevel.INFO)
+                .build();
+        Logger logger = configuration.getLogger("levelThreshold");
+        Assertions.assertFalse(logger.isDebugEnabled());
+        Assertions.assertTrue(logger.isInfoEnabled());
+        Assertions.assertTrue(logger.isFatalEnabled());
+
+        configuration.setMinimalLevelOfMessages(LoggingMessageLevel.TRACE);
+        Assertions.assertTrue(logger.isTraceEnabled());
+
+        configuration.enableLoggers(false);
+        Assertions.assertFalse(logger.isFatalEnabled());
+        configuration.enableLoggers(true);
+        Assertions.assertTrue(logger.isWarnEnabled());
+
+        LoggingConfiguration.getInstance().enableLogging(false);
+        try {
+            Assertions.assertFalse(logger.isErrorEnabled());
+        } finally {
+            LoggingConfiguration.getInstance().enableLogging(true);
+        }
+        Assertions.assertTrue(logger.isErrorEnabled());
+        configuration.close();
+    }
+
+    @Test
+    void callerToken_shouldRenderLocationOfLoggerCaller() {
+        List<String> messages = new CopyOnWriteArrayList<>();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("caller")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableAsyncLogging(true)
+                .loggingMessagePattern("[%LEVEL%] %CALLER%: %MSG%")
+                .build();
+        configuration.addOutput(new LoggerOutput() {
+            @Override
+            public void out(String aMessage) {
+                messages.add(aMessage);
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        Assertions.assertTrue(configuration.getLogMessageTemplate().isCallerRequired());
+        Assertions.assertFalse(LoggingMessageTemplate.compile("[%LEVEL%] %NAME%: %MSG%").isCallerRequired());
+
+        Logger logger = configuration.getLogger(LoggerImplTests.class);
+        for (int i = 0; i < 2; i++) logger.info("Caller message #{}.", i);
+        logger.atWarn().with("orderId", 42L).log("Structured caller message.");
+        configuration.close(); // Dispatch pending messages;
+
+        String location = LoggerImplTests.class.getName() + ".callerToken_shouldRenderLocationOfLoggerCaller(LoggerImplTests.java:";
+        Assertions.assertEquals(3, messages.size());
+        Assertions.assertTrue(messages.get(0).startsWith("[INFO] " + location), messages.get(0));
+        Assertions.assertEquals(messages.get(0).replace("#0", "#1"), messages.get(1));
+        Assertions.assertTrue(messages.get(2).startsWith("[WARN] " + location), messages.get(2));
+        Assertions.assertTrue(messages.get(2).endsWith("): Structured caller message. orderId=42"), messages.get(2));
+    }
 }
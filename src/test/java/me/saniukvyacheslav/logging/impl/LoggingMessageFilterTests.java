@@ -0,0 +1,144 @@
+package me.saniukvyacheslav.logging.impl;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.filter.TokenBucket;
+import me.saniukvyacheslav.output.LoggerOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoggingMessageFilterTests {
+
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+
+    private LoggersConfiguration.LoggerConfigurationBuilder builder(String aName) {
+        return LoggersConfiguration.LoggerConfigurationBuilder.ofName(aName)
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new LoggerOutput() {
+                    @Override
+                    public void out(String aMessage) {
+                        LoggingMessageFilterTests.this.messages.add(aMessage);
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                })
+                .loggingMessagePattern("[%LEVEL%] %MSG%");
+    }
+
+    @Test
+    void suppressDuplicateMessages_identicalMessages_shouldBeCollapsed() {
+        LoggersConfiguration configuration = this.builder("duplicates").suppressDuplicateMessages(60_000L).build();
+        Logger logger = configuration.getLogger("Orders");
+        for (int i = 0; i < 1000; i++) logger.error("Connection to [{}] is refused.", "db");
+        logger.error("Connection to [{}] is refused.", "cache");
+        logger.warn("Connection to [{}] is refused.", "cache");
+        logger.warn("Connection to [{}] is refused.", "cache");
+        logger.info("Done.");
+        configuration.close();
+
+        Assertions.assertEquals(6, this.messages.size());
+        Assertions.assertEquals("[ERROR] Connection to [db] is refused.", this.messages.get(0));
+        Assertions.assertEquals("[ERROR] Previous message was repeated 999 times.", this.messages.get(1));
+        Assertions.assertEquals("[ERROR] Connection to [cache] is refused.", this.messages.get(2));
+        Assertions.assertEquals("[WARN] Connection to [cache] is refused.", this.messages.get(3));
+        Assertions.assertEquals("[WARN] Previous message was repeated 1 times.", this.messages.get(4));
+        Assertions.assertEquals("[INFO] Done.", this.messages.get(5));
+    }
+
+    @Test
+    void suppressDuplicateMessages_notPositiveInterval_shouldThrowExc() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.builder("duplicatesZero").suppressDuplicateMessages(0L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.builder("duplicatesNegative").suppressDuplicateMessages(-1L));
+    }
+
+    @Test
+    void suppressDuplicateMessages_rateLimitedMessages_shouldNotReportRepeats() {
+        LoggersConfiguration configuration = this.builder("duplicatesRateLimit")
+                .rateLimitPerLogger(0.001D, 1)
+                .suppressDuplicateMessages(60_000L)
+                .build();
+        Logger logger = configuration.getLogger("Orders");
+        logger.error("Written.");
+        for (int i = 0; i < 3; i++) logger.error("Dropped.");
+        configuration.close();
+
+        Assertions.assertEquals(1, this.messages.size());
+        Assertions.assertEquals("[ERROR] Written.", this.messages.get(0));
+    }
+
+    @Test
+    void rateLimitPerTemplate_flood_shouldDropMessagesOverBurst() throws InterruptedException {
+        LoggersConfiguration configuration = this.builder("templateRateLimit").rateLimitPerTemplate(0.001D, 10).build();
+        Logger logger = configuration.getLogger("Orders");
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) logger.error("Order [{}] is failed.", j);
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) thread.join();
+        logger.error("Other template.");
+        configuration.close();
+
+        Assertions.assertEquals(11, this.messages.size());
+        Assertions.assertEquals("[ERROR] Other template.", this.messages.get(10));
+    }
+
+    @Test
+    void rateLimitPerLogger_flood_shouldLimitEachLogger() {
+        LoggersConfiguration configuration = this.builder("loggerRateLimit").rateLimitPerLogger(0.001D, 5).build();
+        for (int i = 0; i < 100; i++) configuration.getLogger("Orders").info("Order [{}] is placed.", i);
+        for (int i = 0; i < 100; i++) configuration.getLogger("Payments").atInfo().with("id", i).log("Payment is done.");
+        configuration.close();
+
+        Assertions.assertEquals(10, this.messages.size());
+    }
+
+    @Test
+    void tryAcquire_time_shouldRefillBucket() {
+        TokenBucket bucket = new TokenBucket(10.0D, 2); // Token per 100 ms;
+        long start = -5_000_000_000L; // Time of System.nanoTime() may be negative;
+        Assertions.assertTrue(bucket.tryAcquire(start));
+        Assertions.assertTrue(bucket.tryAcquire(start));
+        Assertions.assertFalse(bucket.tryAcquire(start + 50_000_000L));
+        Assertions.assertTrue(bucket.tryAcquire(start + 100_000_000L));
+        Assertions.assertFalse(bucket.tryAcquire(start + 100_000_000L));
+
+        AtomicInteger acquired = new AtomicInteger();
+        for (int i = 0; i < 100; i++) if (bucket.tryAcquire(start + 1_000_000_000L)) acquired.incrementAndGet();
+        Assertions.assertEquals(2, acquired.get());
+    }
+
+    @Test
+    void suppressDuplicateMessages_burstAndSilence_shouldReportRepeatsAfterInterval() throws InterruptedException {
+        LoggersConfiguration configuration = this.builder("duplicatesSilence").suppressDuplicateMessages(50L).build();
+        Logger logger = configuration.getLogger("Orders");
+        for (int i = 0; i < 5; i++) logger.error("Failed.");
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (this.messages.size() < 2 && System.currentTimeMillis() < deadline) Thread.sleep(10L);
+
+        Assertions.assertEquals(2, this.messages.size());
+        Assertions.assertEquals("[ERROR] Previous message was repeated 4 times.", this.messages.get(1));
+        configuration.close();
+        Assertions.assertEquals(2, this.messages.size());
+    }
+
+    @Test
+    void suppressDuplicateMessages_closeAfterBurst_shouldReportRepeats() {
+        LoggersConfiguration configuration = this.builder("duplicatesClose").suppressDuplicateMessages(60_000L).build();
+        Logger logger = configuration.getLogger("Orders");
+        for (int i = 0; i < 3; i++) logger.warn("Slow.");
+        configuration.close();
+
+        Assertions.assertEquals(2, this.messages.size());
+        Assertions.assertEquals("[WARN] Previous message was repeated 2 times.", this.messages.get(1));
+    }
+}
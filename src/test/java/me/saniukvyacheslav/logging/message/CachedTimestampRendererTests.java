@@ -0,0 +1,44 @@
+package me.saniukvyacheslav.logging.message;
+
+import me.saniukvyacheslav.message.CachedTimestampRenderer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+public class CachedTimestampRendererTests {
+
+    private static final long TIME = 1_700_000_000_123L;
+
+    @Test
+    void getText_sameSecond_shouldReturnCachedText() {
+        CachedTimestampRenderer renderer = CachedTimestampRenderer.ofPattern("HH:mm:ss");
+        Assertions.assertEquals(1000L, renderer.getWindowMillis());
+        String text = renderer.getText(TIME);
+        Assertions.assertSame(text, renderer.getText(TIME + 500L));
+        Assertions.assertNotSame(text, renderer.getText(TIME + 1000L));
+    }
+
+    @Test
+    void getText_subSecondPattern_shouldRenderEachMillisecond() {
+        CachedTimestampRenderer renderer = CachedTimestampRenderer.ofPattern("HH:mm:ss.SSS 'Seconds'");
+        Assertions.assertEquals(1L, renderer.getWindowMillis());
+        String expected = DateTimeFormatter.ofPattern("HH:mm:ss.SSS 'Seconds'").withZone(ZoneId.systemDefault()).format(Instant.ofEpochMilli(TIME + 1L));
+        renderer.getText(TIME);
+        Assertions.assertEquals(expected, renderer.getText(TIME + 1L));
+    }
+
+    @Test
+    void getText_quotedFractionLetter_shouldRenderEachSecond() {
+        Assertions.assertEquals(1000L, CachedTimestampRenderer.ofPattern("HH:mm:ss 'S'").getWindowMillis());
+    }
+
+    @Test
+    void getText_epochMillis_shouldRenderMillis() {
+        CachedTimestampRenderer renderer = CachedTimestampRenderer.ofEpochMillis();
+        Assertions.assertEquals(String.valueOf(TIME), renderer.getText(TIME));
+        Assertions.assertEquals(String.valueOf(TIME + 1L), renderer.getText(TIME + 1L));
+    }
+}
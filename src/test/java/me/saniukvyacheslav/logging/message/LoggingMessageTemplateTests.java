@@ -0,0 +1,33 @@
+package me.saniukvyacheslav.logging.message;
+
+import me.saniukvyacheslav.message.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class LoggingMessageTemplateTests {
+
+    @Test
+    void compile_patternWithoutMessageToken_shouldThrowExc() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoggingMessageTemplate.compile("%NAME%", Collections.emptyList()));
+    }
+
+    @Test
+    void render_patternWithTokens_shouldReplaceTokens() {
+        LoggingMessageTemplate template = LoggingMessageTemplate.compile("[%LEVEL%] %NAME%: %MSG%;",
+                Arrays.asList(new PatternModifierName(), new PatternModifierLevel()));
+        Assertions.assertEquals(7, template.getSegments().size());
+
+        LoggingEvent event = new LoggingEvent().set("Logger", LoggingMessageLevel.WARN, "Hello world!", System.currentTimeMillis());
+        Assertions.assertEquals("[WARN] Logger: Hello world!;", template.render(event));
+    }
+
+    @Test
+    void render_messageWithRegexSpecialChars_shouldNotCorruptMessage() {
+        LoggingMessageTemplate template = LoggingMessageTemplate.compile("%NAME%: %MSG%", Collections.singletonList(new PatternModifierName()));
+        LoggingEvent event = new LoggingEvent().set("Logger", LoggingMessageLevel.INFO, "Price: $1 \\ $2", System.currentTimeMillis());
+        Assertions.assertEquals("Logger: Price: $1 \\ $2", template.render(event));
+    }
+}
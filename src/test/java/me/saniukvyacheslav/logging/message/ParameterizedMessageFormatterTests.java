@@ -0,0 +1,46 @@
+package me.saniukvyacheslav.logging.message;
+
+import me.saniukvyacheslav.message.ParameterizedMessageFormatter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParameterizedMessageFormatterTests {
+
+    @Test
+    void format_placeholdersAndArguments_shouldReplacePlaceholders() {
+        Assertions.assertEquals("Order [42] is placed by admin.", ParameterizedMessageFormatter.format("Order [{}] is placed by {}.", 42, "admin"));
+        Assertions.assertEquals("Values: [1, 2], null, true", ParameterizedMessageFormatter.format("Values: {}, {}, {}", new int[] {1, 2}, null, true));
+    }
+
+    @Test
+    void format_fewerArguments_shouldKeepRemainingPlaceholders() {
+        Assertions.assertEquals("a=1, b={}", ParameterizedMessageFormatter.format("a={}, b={}", 1));
+    }
+
+    @Test
+    void format_extraArguments_shouldIgnoreThem() {
+        Assertions.assertEquals("a=1, $ and \\ are kept", ParameterizedMessageFormatter.format("a={}, $ and \\ are kept", 1, 2));
+    }
+
+    @Test
+    void getPlaceholders_sameTemplate_shouldReturnCachedPositions() {
+        String template = "Cached {} template {}";
+        int[] placeholders = ParameterizedMessageFormatter.getPlaceholders(template);
+        Assertions.assertArrayEquals(new int[] {7, 19}, placeholders);
+        Assertions.assertSame(placeholders, ParameterizedMessageFormatter.getPlaceholders(template));
+    }
+
+    @Test
+    void getPlaceholders_manyDynamicTemplates_shouldKeepHotTemplateAndCacheNewTemplates() {
+        String hotTemplate = "Hot {} template";
+        int[] hotPlaceholders = ParameterizedMessageFormatter.getPlaceholders(hotTemplate);
+        for (int i = 0; i < 20_000; i++) {
+            ParameterizedMessageFormatter.getPlaceholders("Dynamic " + i + " template {}");
+            Assertions.assertSame(hotPlaceholders, ParameterizedMessageFormatter.getPlaceholders(hotTemplate));
+        }
+
+        String lateTemplate = "Late {} template";
+        int[] latePlaceholders = ParameterizedMessageFormatter.getPlaceholders(lateTemplate);
+        Assertions.assertSame(latePlaceholders, ParameterizedMessageFormatter.getPlaceholders(lateTemplate));
+    }
+}
@@ -0,0 +1,193 @@
+package me.saniukvyacheslav.logging.metrics;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.metrics.LatencyHistogram;
+import me.saniukvyacheslav.metrics.LoggingMetrics;
+import me.saniukvyacheslav.output.LoggerOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class LoggingMetricsTests {
+
+    @Test
+    void metrics_enabled_shouldBeReadableViaJmx() throws Exception {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("metrics-jmx")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new LoggerOutput() {
+                    @Override
+                    public void out(String aMessage) {
+                        if (aMessage.contains("broken")) throw new IllegalStateException("Output is broken.");
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                })
+                .loggingMessagePattern("%MSG%")
+                .minimalLevelOfMessages(LoggingMessageLevel.INFO)
+                .enableMetrics(true)
+                .build();
+        Logger logger = configuration.getLogger("Orders");
+        logger.info("12345");
+        logger.warn("{}", "678");
+        logger.debug("Suppressed.");
+        logger.trace("Suppressed.");
+        Assertions.assertThrows(IllegalStateException.class, () -> logger.error("broken"));
+        Assertions.assertFalse(logger.isDebugEnabled()); // Level checks aren't counted;
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = LoggingMetrics.objectName("metrics-jmx");
+        Assertions.assertTrue(server.isRegistered(name));
+        Assertions.assertEquals(3L, server.getAttribute(name, "LoggedMessagesCount"));
+        Assertions.assertEquals(2L, server.getAttribute(name, "SuppressedMessagesCount"));
+        Assertions.assertEquals(1L, server.getAttribute(name, "OutputErrorsCount"));
+        Assertions.assertEquals(1L, this.get((TabularData) server.getAttribute(name, "LoggedMessages"), "WARN"));
+        Assertions.assertEquals(1L, this.get((TabularData) server.getAttribute(name, "SuppressedMessages"), "TRACE"));
+        TabularData bytes = (TabularData) server.getAttribute(name, "OutputsBytes");
+        Assertions.assertEquals(8L, ((CompositeData) bytes.values().iterator().next()).get("value"));
+
+        configuration.close();
+        Assertions.assertFalse(server.isRegistered(name));
+    }
+
+    private long get(TabularData aData, String aKey) {
+        return (Long) aData.get(new Object[]{aKey}).get("value");
+    }
+
+    @Test
+    void metrics_garbageFreeLogging_shouldCountEncodedBytes() {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("metrics-encoded")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new LoggerOutput() {
+                    @Override
+                    public void out(String aMessage) {
+                    }
+
+                    @Override
+                    public void out(ByteBuffer aMessage, LoggingMessageLevel aLevel) {
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                })
+                .loggingMessagePattern("%MSG%")
+                .enableGarbageFreeLogging(true)
+                .enableMetrics(true)
+                .build();
+        for (int i = 0; i < 5000; i++) configuration.getLogger("Orders").info("1234");
+
+        LoggingMetrics metrics = configuration.getMetrics();
+        Assertions.assertEquals(20000L, metrics.getOutputsBytes().values().iterator().next());
+        Assertions.assertTrue(metrics.getFormatLatency().getCount() > 0L); // Latencies of sampled messages;
+        Assertions.assertEquals(metrics.getFormatLatency().getCount(), metrics.getWriteLatency().getCount());
+        configuration.close();
+    }
+
+    @Test
+    void metrics_nonAsciiAndJsonMessages_shouldCountBytes(@TempDir Path aTempDir) throws IOException {
+        String message = "Caf\u00e9 \u20ac \ud83d\ude00";
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("metrics-bytes")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput(() -> new LoggerOutput() {
+                    @Override
+                    public void out(String aMessage) {
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                })
+                .loggingMessagePattern("%MSG%")
+                .enableMetrics(true)
+                .build();
+        configuration.getLogger("Orders").info(message);
+        Assertions.assertEquals((long) message.getBytes(Charset.defaultCharset()).length, configuration.getMetrics().getOutputsBytes().values().iterator().next());
+        Assertions.assertEquals((long) message.getBytes(Charset.defaultCharset()).length, LoggingMetrics.encodedLength(message));
+        configuration.close();
+
+        File jsonFile = aTempDir.resolve("metrics.json").toFile();
+        configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("metrics-json-bytes")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput().ofJsonFile(jsonFile, false)
+                .enableMetrics(true)
+                .build();
+        for (int i = 0; i < 10; i++) configuration.getLogger("Orders").atInfo().with("orderId", i).log("Order is placed.");
+        long bytes = configuration.getMetrics().getOutputsBytes().values().iterator().next();
+        configuration.close();
+        Assertions.assertEquals(jsonFile.length() - 10L * System.lineSeparator().length(), bytes);
+    }
+
+    @Test
+    void metrics_writeToRemovedOutput_shouldNotRestoreOutputCounters() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch isRemoved = new CountDownLatch(1);
+        LoggerOutput removedOutput = new LoggerOutput() {
+            @Override
+            public void out(String aMessage) {
+                isWriting.countDown();
+                try {
+                    isRemoved.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("metrics-removed-output")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableMetrics(true)
+                .build();
+        configuration.addOutput(removedOutput);
+        Assertions.assertEquals(1, configuration.getMetrics().getOutputsBytes().size());
+        CompletableFuture<Void> logging = CompletableFuture.runAsync(() -> configuration.getLogger("Orders").info("Message."));
+
+        isWriting.await();
+        Assertions.assertTrue(configuration.removeOutput(removedOutput));
+        isRemoved.countDown();
+        logging.get(5, TimeUnit.SECONDS); // Thread writes to removed output by outdated snapshot;
+
+        Assertions.assertTrue(configuration.getMetrics().getOutputsBytes().isEmpty());
+        Assertions.assertTrue(configuration.getMetrics().getOutputsErrors().isEmpty());
+        configuration.close();
+    }
+
+    @Test
+    void getPercentile_recordedLatencies_shouldReturnBucketUpperBound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0L, histogram.getPercentile(99.0D));
+        for (int i = 0; i < 99; i++) histogram.record(100L); // Bucket [64, 128);
+        histogram.record(5000L); // Bucket [4096, 8192);
+
+        Assertions.assertEquals(127L, histogram.getPercentile(50.0D));
+        Assertions.assertEquals(127L, histogram.getPercentile(99.0D));
+        Assertions.assertEquals(8191L, histogram.getPercentile(100.0D));
+        Assertions.assertEquals(99L, histogram.toMap().get(">=64 ns"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101.0D));
+    }
+}
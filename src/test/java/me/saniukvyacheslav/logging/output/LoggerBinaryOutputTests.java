@@ -0,0 +1,96 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.message.LoggingEvent;
+import me.saniukvyacheslav.message.LoggingMessageTemplate;
+import me.saniukvyacheslav.output.LoggerBinaryReader;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class LoggerBinaryOutputTests {
+
+    private static final String PATTERN = "[%LEVEL%] %NAME%: %MSG%";
+
+    @TempDir
+    Path tempDir;
+
+    private void log(Logger aLogger, int aCount) {
+        for (int i = 0; i < aCount; i++) {
+            aLogger.info("Order [{}] is placed by [{}] for {} in {} ms.", 100_000 + i, "customer-" + (i % 10), 12.5 * i, i % 100 == 0);
+            aLogger.debug("Cache is refreshed.");
+            aLogger.atWarn().with("orderId", 100_000L + i).with("paid", i % 2 == 0).log("Order is delayed.");
+        }
+    }
+
+    private File write(String aName, boolean isBinary, int aCount) {
+        File file = this.tempDir.resolve(aName).toFile();
+        LoggersConfiguration.LoggerConfigurationBuilder builder = LoggersConfiguration.LoggerConfigurationBuilder.ofName(aName)
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern(PATTERN);
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(64 * 1024).build();
+        if (isBinary) builder.enableFileOutput().ofBinaryFile(file, false, policy);
+        else builder.enableFileOutput().ofFile(file, false, policy);
+        LoggersConfiguration configuration = builder.build();
+        this.log(configuration.getLogger("com.shop.Orders"), aCount);
+        configuration.close();
+        return file;
+    }
+
+    @Test
+    void render_binaryLog_shouldBeEqualToTextLog() throws IOException {
+        File textFile = this.write("text-decode.log", false, 100);
+        File binaryFile = this.write("binary-decode.log", true, 100);
+
+        StringBuilder rendered = new StringBuilder();
+        try (LoggerBinaryReader reader = new LoggerBinaryReader(binaryFile)) {
+            reader.render(rendered, LoggingMessageTemplate.compile(PATTERN));
+        }
+        List<String> expected = Files.readAllLines(textFile.toPath());
+        Assertions.assertEquals(300, expected.size());
+        Assertions.assertEquals(expected, Arrays.asList(rendered.toString().split(System.lineSeparator())));
+    }
+
+    @Test
+    void out_manyMessages_shouldWriteFewerBytesThanTextLog() {
+        File textFile = this.write("text-size.log", false, 10_000);
+        File binaryFile = this.write("binary-size.log", true, 10_000);
+        Assertions.assertTrue(binaryFile.length() * 2 < textFile.length(),
+                String.format("Binary log [%d] must be at least twice smaller than text log [%d].", binaryFile.length(), textFile.length()));
+    }
+
+    @Test
+    void next_appendedSessions_shouldReadAllEvents() throws IOException {
+        File file = this.tempDir.resolve("sessions.log").toFile();
+        for (int session = 0; session < 2; session++) {
+            LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("sessions-" + session)
+                    .enableLoggers(true)
+                    .enableConsoleOutput(false)
+                    .enableFileOutput().ofBinaryFile(file, true, OutputFlushPolicy.IMMEDIATE)
+                    .build();
+            configuration.getLogger("Session" + session).error("Session [{}] is started.", session);
+            configuration.close();
+        }
+
+        try (LoggerBinaryReader reader = new LoggerBinaryReader(file)) {
+            LoggingEvent event = new LoggingEvent();
+            for (int session = 0; session < 2; session++) {
+                Assertions.assertTrue(reader.next(event));
+                Assertions.assertEquals("Session" + session, event.getLoggerName());
+                Assertions.assertEquals("Session [" + session + "] is started.", event.getFormattedMessage());
+                Assertions.assertTrue(Math.abs(System.currentTimeMillis() - event.getTimeMillis()) < 60_000L);
+            }
+            Assertions.assertFalse(reader.next(event));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerBufferedConsoleOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoggerBufferedConsoleOutputTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void out_concurrentThreads_shouldKeepLinesAtomic() throws IOException, InterruptedException {
+        Path logFile = this.tempDir.resolve("console.log");
+        int threadsCount = 4;
+        int messagesCount = 2000;
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(8192).build();
+        try (FileOutputStream stream = new FileOutputStream(logFile.toFile());
+             LoggerBufferedConsoleOutput output = new LoggerBufferedConsoleOutput(stream.getChannel(), policy)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadsCount; t++) {
+                int threadIndex = t;
+                threads.add(new Thread(() -> {
+                    StringBuilder padding = new StringBuilder();
+                    for (int i = 0; i < messagesCount; i++) {
+                        padding.setLength(0);
+                        for (int j = 0; j < i % 100; j++) padding.append('x');
+                        String message = "thread-" + threadIndex + " message-" + i + " " + padding;
+                        if (i % 2 == 0) output.out(message, LoggingMessageLevel.INFO);
+                        else output.out(ByteBuffer.wrap(message.getBytes(Charset.defaultCharset())), LoggingMessageLevel.INFO);
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) thread.join();
+        }
+
+        List<String> lines = Files.readAllLines(logFile);
+        Assertions.assertEquals(threadsCount * messagesCount, lines.size());
+        int[] nextMessages = new int[threadsCount];
+        for (String line : lines) {
+            String[] parts = line.split(" ", -1);
+            Assertions.assertEquals(3, parts.length, line);
+            int threadIndex = Integer.parseInt(parts[0].substring("thread-".length()));
+            int messageIndex = Integer.parseInt(parts[1].substring("message-".length()));
+            Assertions.assertEquals(nextMessages[threadIndex]++, messageIndex, line);
+            Assertions.assertEquals(messageIndex % 100, parts[2].length(), line);
+        }
+    }
+
+    @Test
+    void out_messageLargerThanBuffer_shouldWriteMessageAfterBufferedMessages() throws IOException {
+        Path logFile = this.tempDir.resolve("large.log");
+        StringBuilder largeMessage = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) largeMessage.append('y');
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(8192).build();
+        try (FileOutputStream stream = new FileOutputStream(logFile.toFile());
+             LoggerBufferedConsoleOutput output = new LoggerBufferedConsoleOutput(stream.getChannel(), policy)) {
+            output.out("first");
+            Assertions.assertEquals(0L, Files.size(logFile));
+            output.out(largeMessage.toString());
+            output.out("last");
+        }
+
+        List<String> lines = Files.readAllLines(logFile);
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertEquals("first", lines.get(0));
+        Assertions.assertEquals(largeMessage.toString(), lines.get(1));
+        Assertions.assertEquals("last", lines.get(2));
+    }
+}
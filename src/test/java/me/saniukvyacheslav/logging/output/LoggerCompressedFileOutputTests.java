@@ -0,0 +1,134 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerCompressedFileOutput;
+import me.saniukvyacheslav.output.LoggerCompressedFileReader;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+public class LoggerCompressedFileOutputTests {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<String> readAll(LoggerCompressedFileReader aReader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = aReader.readLine()) != null) lines.add(line);
+        return lines;
+    }
+
+    @Test
+    void out_logMessages_shouldBeReadBackAndCompressed() throws IOException {
+        File file = this.tempDir.resolve("compressed.log").toFile();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("compressed-output")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("[%LEVEL%] %NAME%: %MSG%")
+                .enableFileOutput().ofCompressedFile(file, false, LoggerCompressedFileOutput.DEFAULT_FLUSH_POLICY, Deflater.BEST_SPEED)
+                .build();
+        Logger logger = configuration.getLogger("com.shop.orders.OrdersService");
+        for (int i = 0; i < 20000; i++) logger.info("Order [{}] is placed by customer [{}] in {} ms.", i, 4242, i % 17);
+        configuration.close();
+
+        long plainLength = 0L;
+        try (LoggerCompressedFileReader reader = new LoggerCompressedFileReader(file)) {
+            List<String> lines = readAll(reader);
+            Assertions.assertEquals(20000, lines.size());
+            Assertions.assertEquals("[INFO] com.shop.orders.OrdersService: Order [19999] is placed by customer [4242] in 7 ms.", lines.get(19999));
+            for (String line : lines) plainLength += line.length() + System.lineSeparator().length();
+            Assertions.assertFalse(reader.isTruncated());
+        }
+        Assertions.assertTrue(file.length() * 5 < plainLength, "Compression ratio is less than 5.");
+    }
+
+    @Test
+    void read_fromBlockOffsetAndTruncatedFile_shouldReadCompleteBlocks() throws IOException {
+        File file = this.tempDir.resolve("blocks.log").toFile();
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(1024).build();
+        try (LoggerCompressedFileOutput output = new LoggerCompressedFileOutput(file, false, policy, Deflater.BEST_COMPRESSION)) {
+            for (int i = 0; i < 1000; i++) output.out("Message number " +i, LoggingMessageLevel.INFO);
+        }
+
+        // Find offset of some block in the middle of file:
+        long blockOffset = -1L;
+        String firstLineOfBlock = null;
+        try (LoggerCompressedFileReader reader = new LoggerCompressedFileReader(file)) {
+            String line;
+            long previousOffset = 0L;
+            while ((line = reader.readLine()) != null) {
+                if (blockOffset < 0L && reader.getBlockOffset() != previousOffset && Integer.parseInt(line.substring(15)) > 500) {
+                    blockOffset = reader.getBlockOffset();
+                    firstLineOfBlock = line;
+                }
+                previousOffset = reader.getBlockOffset();
+            }
+        }
+        Assertions.assertTrue(blockOffset > 0L);
+        try (LoggerCompressedFileReader reader = new LoggerCompressedFileReader(file, blockOffset)) {
+            List<String> lines = readAll(reader);
+            Assertions.assertEquals(firstLineOfBlock, lines.get(0));
+            Assertions.assertEquals("Message number 999", lines.get(lines.size() - 1));
+        }
+
+        // Crash in the middle of last block loses only this block:
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(randomAccessFile.length() - 3);
+        }
+        try (LoggerCompressedFileReader reader = new LoggerCompressedFileReader(file)) {
+            List<String> lines = readAll(reader);
+            Assertions.assertTrue(reader.isTruncated());
+            Assertions.assertTrue(lines.size() > 900 && lines.size() < 1000);
+            Assertions.assertEquals("Message number " + (lines.size() - 1), lines.get(lines.size() - 1));
+        }
+    }
+
+    @Test
+    void out_appendAfterTornBlock_shouldTruncateIncompleteBlock() throws IOException {
+        File file = this.tempDir.resolve("torn.log").toFile();
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryBytes(1024).build();
+        try (LoggerCompressedFileOutput output = new LoggerCompressedFileOutput(file, false, policy, Deflater.BEST_SPEED)) {
+            for (int i = 0; i < 200; i++) output.out("Message number " +i, LoggingMessageLevel.INFO);
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) { // Crash in the middle of last block;
+            randomAccessFile.setLength(randomAccessFile.length() - 3);
+        }
+        int completeLines;
+        try (LoggerCompressedFileReader reader = new LoggerCompressedFileReader(file)) {
+            completeLines = readAll(reader).size();
+        }
+
+        try (LoggerCompressedFileOutput output = new LoggerCompressedFileOutput(file, true, policy, Deflater.BEST_SPEED)) {
+            output.out("Appended after torn data", LoggingMessageLevel.INFO);
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) { // Crash in the middle of block header;
+            randomAccessFile.seek(randomAccessFile.length());
+            randomAccessFile.write(LoggerCompressedFileOutput.BLOCK_MAGIC);
+            randomAccessFile.write(new byte[] {0, 0, 1});
+        }
+        try (LoggerCompressedFileOutput output = new LoggerCompressedFileOutput(file, true, policy, Deflater.BEST_SPEED)) {
+            output.out("Appended after torn header", LoggingMessageLevel.INFO);
+        }
+
+        try (LoggerCompressedFileReader reader = new LoggerCompressedFileReader(file)) {
+            List<String> lines = readAll(reader);
+            Assertions.assertFalse(reader.isTruncated());
+            Assertions.assertEquals(completeLines + 2, lines.size());
+            Assertions.assertEquals("Message number " + (completeLines - 1), lines.get(completeLines - 1));
+            Assertions.assertEquals("Appended after torn data", lines.get(completeLines));
+            Assertions.assertEquals("Appended after torn header", lines.get(completeLines + 1));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerConsoleOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class LoggerConsoleOutputTests {
+
+    @Test
+    void out_stringsAndLongEncodedMessages_shouldWriteWholeLines() throws InterruptedException {
+        StringBuilder longMessage = new StringBuilder();
+        for (int i = 0; i < 40_000; i++) longMessage.append('z');
+        int threadsCount = 4;
+        int messagesCount = 200;
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        PrintStream systemOut = System.out;
+        System.setOut(new PrintStream(console, true));
+        try {
+            LoggerConsoleOutput output = LoggerConsoleOutput.getInstance();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < threadsCount; t++) {
+                threads.add(new Thread(() -> {
+                    for (int i = 0; i < messagesCount; i++) {
+                        if (i % 10 == 0) output.out(ByteBuffer.wrap(longMessage.toString().getBytes(Charset.defaultCharset())), LoggingMessageLevel.INFO);
+                        else if (i % 2 == 0) output.out("short message " + i);
+                        else output.out(ByteBuffer.wrap(("encoded message " + i).getBytes(Charset.defaultCharset())), LoggingMessageLevel.INFO);
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread thread : threads) thread.join();
+        } finally {
+            System.setOut(systemOut);
+        }
+
+        List<String> lines = Arrays.asList(new String(console.toByteArray(), Charset.defaultCharset()).split(System.lineSeparator()));
+        Assertions.assertEquals(threadsCount * messagesCount, lines.size());
+        for (String line : lines) {
+            Assertions.assertTrue(line.equals(longMessage.toString()) || line.matches("(short|encoded) message \\d+"), line);
+        }
+    }
+}
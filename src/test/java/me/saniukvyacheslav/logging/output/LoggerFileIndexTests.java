@@ -0,0 +1,72 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerFileIndex;
+import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoggerFileIndexTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void find_errorsOfTimeRange_shouldReadOnlyIndexedBlocksWithErrors() throws Exception {
+        File logFile = this.tempDir.resolve("indexed.log").toFile();
+        long secondHalfStart;
+        try (LoggerFileOutput output = new LoggerFileOutput(logFile, false, OutputFlushPolicy.IMMEDIATE, 10, 60_000L)) {
+            for (int i = 0; i < 50; i++) output.out(i == 25 ? "Error #" + i : "Info #" + i, i == 25 ? LoggingMessageLevel.ERROR : LoggingMessageLevel.INFO);
+            Thread.sleep(20L);
+            secondHalfStart = System.currentTimeMillis();
+            for (int i = 50; i < 100; i++) output.out(i == 75 ? "Error #" + i : "Info #" + i, i == 75 ? LoggingMessageLevel.ERROR : LoggingMessageLevel.INFO);
+        }
+        LoggerFileIndex index = LoggerFileIndex.load(logFile);
+        Assertions.assertEquals(10, index.getEntriesCount());
+
+        List<String> lines = new ArrayList<>();
+        index.forEachLine(Long.MIN_VALUE, Long.MAX_VALUE, LoggingMessageLevel.ERROR, lines::add);
+        Assertions.assertEquals(20, lines.size()); // Two blocks with errors;
+        Assertions.assertTrue(lines.contains("Error #25") && lines.contains("Error #75"));
+
+        lines.clear();
+        index.forEachLine(secondHalfStart, Long.MAX_VALUE, LoggingMessageLevel.ERROR, lines::add);
+        Assertions.assertEquals(10, lines.size());
+        Assertions.assertEquals("Info #70", lines.get(0));
+        Assertions.assertTrue(lines.contains("Error #75"));
+
+        lines.clear();
+        index.forEachLine(Long.MIN_VALUE, secondHalfStart - 1L, null, lines::add);
+        Assertions.assertEquals(50, lines.size());
+        Assertions.assertTrue(index.find(Long.MIN_VALUE, Long.MAX_VALUE, LoggingMessageLevel.FATAL).isEmpty());
+    }
+
+    @Test
+    void find_notIndexedTail_shouldBeAlwaysIncluded() throws IOException {
+        File logFile = this.tempDir.resolve("tail.log").toFile();
+        try (LoggerFileOutput output = new LoggerFileOutput(logFile, false, OutputFlushPolicy.IMMEDIATE, 5, 60_000L)) {
+            for (int i = 0; i < 5; i++) output.out("Info #" + i, LoggingMessageLevel.INFO);
+        }
+        // Messages, which are appended without index (or after crash), aren't indexed:
+        Files.write(logFile.toPath(), ("Error #5" + System.lineSeparator()).getBytes(), StandardOpenOption.APPEND);
+
+        LoggerFileIndex index = LoggerFileIndex.load(logFile);
+        List<LoggerFileIndex.Region> regions = index.find(Long.MIN_VALUE, Long.MAX_VALUE, LoggingMessageLevel.ERROR);
+        Assertions.assertEquals(1, regions.size());
+        Assertions.assertEquals(logFile.length(), regions.get(0).getEnd());
+        List<String> lines = new ArrayList<>();
+        index.forEachLine(Long.MIN_VALUE, Long.MAX_VALUE, LoggingMessageLevel.ERROR, lines::add);
+        Assertions.assertEquals(1, lines.size());
+        Assertions.assertEquals("Error #5", lines.get(0));
+    }
+}
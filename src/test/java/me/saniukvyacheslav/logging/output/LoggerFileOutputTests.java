@@ -0,0 +1,58 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerFileOutput;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class LoggerFileOutputTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void out_immediatePolicy_shouldFlushEachMessage() throws IOException {
+        File logFile = this.tempDir.resolve("immediate.log").toFile();
+        try (LoggerFileOutput output = new LoggerFileOutput(logFile, false)) {
+            output.out("Hello world!");
+            Assertions.assertEquals(1, Files.readAllLines(logFile.toPath()).size());
+        }
+    }
+
+    @Test
+    void out_bytesPolicy_shouldCoalesceMessagesUntilThreshold() throws IOException {
+        File logFile = this.tempDir.resolve("bytes.log").toFile();
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create()
+                .flushEveryBytes(1024)
+                .flushImmediatelyAt(LoggingMessageLevel.ERROR)
+                .build();
+        try (LoggerFileOutput output = new LoggerFileOutput(logFile, false, policy)) {
+            output.out("Debug message", LoggingMessageLevel.DEBUG);
+            Assertions.assertEquals(0L, logFile.length());
+
+            output.out("Error message", LoggingMessageLevel.ERROR);
+            Assertions.assertEquals(2, Files.readAllLines(logFile.toPath()).size());
+        }
+    }
+
+    @Test
+    void out_timePolicy_shouldFlushInBackground() throws IOException, InterruptedException {
+        File logFile = this.tempDir.resolve("time.log").toFile();
+        OutputFlushPolicy policy = OutputFlushPolicy.OutputFlushPolicyBuilder.create()
+                .flushEveryMillis(10L)
+                .build();
+        try (LoggerFileOutput output = new LoggerFileOutput(logFile, false, policy)) {
+            output.out("Info message", LoggingMessageLevel.INFO);
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (logFile.length() == 0L && System.currentTimeMillis() < deadline) Thread.sleep(10L);
+            Assertions.assertEquals(1, Files.readAllLines(logFile.toPath()).size());
+        }
+    }
+}
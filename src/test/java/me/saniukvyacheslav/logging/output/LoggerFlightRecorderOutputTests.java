@@ -0,0 +1,115 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerFlightRecorderOutput;
+import me.saniukvyacheslav.output.LoggerOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+public class LoggerFlightRecorderOutputTests {
+
+    /**
+     * Output, which collects messages with their levels.
+     */
+    private static class CollectingOutput implements LoggerOutput {
+
+        private final List<String> messages = new ArrayList<>();
+        private final List<LoggingMessageLevel> levels = new ArrayList<>();
+
+        @Override
+        public void out(String aMessage) {
+            this.out(aMessage, null);
+        }
+
+        @Override
+        public void out(String aMessage, LoggingMessageLevel aLevel) {
+            this.messages.add(aMessage);
+            this.levels.add(aLevel);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void out_errorMessage_shouldDumpLastMessagesAndError() throws IOException {
+        CollectingOutput target = new CollectingOutput();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("flight-recorder")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("%MSG%")
+                .build();
+        configuration.addOutput(new LoggerFlightRecorderOutput(target, 3, 1024, LoggingMessageLevel.ERROR, true));
+        Logger logger = configuration.getLogger("Orders");
+        for (int i = 0; i < 10; i++) logger.debug("Step #{}.", i);
+        Assertions.assertTrue(target.messages.isEmpty());
+
+        logger.error("Failed.");
+        logger.debug("Step #10.");
+        configuration.close();
+
+        Assertions.assertEquals(4, target.messages.size());
+        Assertions.assertEquals("Step #7.", target.messages.get(0));
+        Assertions.assertEquals("Step #9.", target.messages.get(2));
+        Assertions.assertEquals(LoggingMessageLevel.DEBUG, target.levels.get(2));
+        Assertions.assertEquals("Failed.", target.messages.get(3));
+    }
+
+    @Test
+    void dump_recordedMessages_shouldWriteAndClearBuffer() {
+        CollectingOutput target = new CollectingOutput();
+        LoggerFlightRecorderOutput output = new LoggerFlightRecorderOutput(target, 8, 64, null, false);
+        output.out("First", LoggingMessageLevel.INFO);
+        output.out("", LoggingMessageLevel.INFO);
+        output.out("Third", LoggingMessageLevel.FATAL); // Dump level isn't set;
+        Assertions.assertEquals(3, output.getRecordedCount());
+
+        output.dump();
+        Assertions.assertEquals(0, output.getRecordedCount());
+        Assertions.assertEquals(3, target.messages.size());
+        Assertions.assertEquals("", target.messages.get(1));
+        Assertions.assertEquals(LoggingMessageLevel.FATAL, target.levels.get(2));
+        output.dump();
+        Assertions.assertEquals(3, target.messages.size());
+    }
+
+    @Test
+    void out_messagesOfRandomLengths_shouldKeepNewestMessagesWhichFitIntoBuffer() {
+        CollectingOutput target = new CollectingOutput();
+        int bufferSize = 100;
+        LoggerFlightRecorderOutput output = new LoggerFlightRecorderOutput(target, 6, bufferSize, LoggingMessageLevel.ERROR, false);
+        Random random = new Random(42L);
+        Deque<String> recorded = new ArrayDeque<>();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(60);
+            for (int j = 0; j < length; j++) builder.append((char) ('a' + (i + j) % 26));
+            String message = builder.toString();
+            output.out(message, LoggingMessageLevel.DEBUG);
+            recorded.addLast(message);
+
+            if (random.nextInt(50) == 0) {
+                target.messages.clear();
+                output.out("Error", LoggingMessageLevel.ERROR);
+                List<String> dumped = target.messages.subList(0, target.messages.size() - 1);
+                // Dumped messages are newest recorded messages in order of arrival:
+                List<String> expected = new ArrayList<>(recorded).subList(recorded.size() - dumped.size(), recorded.size());
+                Assertions.assertEquals(expected, dumped);
+                Assertions.assertTrue(dumped.size() >= 1 && dumped.size() <= 6);
+                Assertions.assertTrue(dumped.stream().mapToInt(String::length).sum() <= bufferSize);
+                recorded.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.extension.LoggingEventBuilder;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class LoggerJsonOutputTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void atInfo_structuredEvent_shouldWriteJsonLine() throws IOException {
+        this.assertJsonLines("json-sync", false);
+    }
+
+    @Test
+    void atInfo_asyncLogging_shouldWriteJsonLine() throws IOException {
+        this.assertJsonLines("json-async", true);
+    }
+
+    private void assertJsonLines(String aName, boolean isAsync) throws IOException {
+        File logFile = this.tempDir.resolve(aName + ".log").toFile();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName(aName)
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput().ofJsonFile(logFile, false)
+                .enableAsyncLogging(isAsync)
+                .minimalLevelOfMessages(LoggingMessageLevel.INFO)
+                .build();
+        Logger logger = configuration.getLogger("Orders");
+        logger.atInfo().with("orderId", 42).with("ms", 12.5).with("paid", true)
+                .with("customer", "A \"B\"\n\u00e9").with("note", (Object) null).log("Order is placed.");
+        logger.atDebug().with("orderId", 43).log("Skipped.");
+        logger.warn("Order [{}] is delayed.", 44L);
+        configuration.close();
+
+        List<String> lines = Files.readAllLines(logFile.toPath());
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertEquals("{\"timestamp\":0,\"level\":\"INFO\",\"logger\":\"Orders\",\"message\":\"Order is placed.\","
+                + "\"orderId\":42,\"ms\":12.5,\"paid\":true,\"customer\":\"A \\\"B\\\"\\n\\u00e9\",\"note\":null}", lines.get(0).replaceFirst("\\d+", "0"));
+        Assertions.assertEquals("{\"timestamp\":0,\"level\":\"WARN\",\"logger\":\"Orders\",\"message\":\"Order [44] is delayed.\"}",
+                lines.get(1).replaceFirst("\\d+", "0"));
+    }
+
+    @Test
+    void atInfo_textOutput_shouldAppendFieldsToMessage() throws IOException {
+        File logFile = this.tempDir.resolve("text.log").toFile();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("json-text")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput().ofFile(logFile, false)
+                .loggingMessagePattern("[%LEVEL%] %NAME%: %MSG%")
+                .build();
+        configuration.getLogger("Orders").atError().with("orderId", 42).with("reason", "timeout").log("Order is failed.");
+        configuration.close();
+
+        Assertions.assertEquals("[ERROR] Orders: Order is failed. orderId=42 reason=timeout", Files.readAllLines(logFile.toPath()).get(0));
+    }
+
+    @Test
+    void atInfo_reservedAndDuplicateKeys_shouldWriteUniqueKeys() throws IOException {
+        File logFile = this.tempDir.resolve("keys.log").toFile();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("json-keys")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput().ofJsonFile(logFile, false)
+                .build();
+        configuration.getLogger("Orders").atInfo().with("level", "custom").with("timestamp", 1L)
+                .with("orderId", 1).with("orderId", "42").log("Order is placed.");
+        configuration.close();
+
+        Assertions.assertEquals("{\"timestamp\":0,\"level\":\"INFO\",\"logger\":\"Orders\",\"message\":\"Order is placed.\","
+                + "\"field.level\":\"custom\",\"field.timestamp\":1,\"orderId\":\"42\"}", Files.readAllLines(logFile.toPath()).get(0).replaceFirst("\\d+", "0"));
+    }
+
+    @Test
+    void atInfo_abandonedBuilder_shouldNotLeakIntoNextEvents() throws IOException {
+        File logFile = this.tempDir.resolve("abandoned.log").toFile();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("json-abandoned")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .enableFileOutput().ofJsonFile(logFile, false)
+                .build();
+        Logger logger = configuration.getLogger("Orders");
+        logger.atInfo().with("abandoned", true);
+        LoggingEventBuilder first = logger.atInfo().with("orderId", 1);
+        first.log("First.");
+        LoggingEventBuilder second = logger.atInfo();
+        second.with("orderId", 2).log("Second.");
+        configuration.close();
+
+        Assertions.assertSame(first, second);
+        List<String> lines = Files.readAllLines(logFile.toPath());
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertTrue(lines.get(0).endsWith("\"message\":\"First.\",\"orderId\":1}"), lines.get(0));
+        Assertions.assertTrue(lines.get(1).endsWith("\"message\":\"Second.\",\"orderId\":2}"), lines.get(1));
+    }
+}
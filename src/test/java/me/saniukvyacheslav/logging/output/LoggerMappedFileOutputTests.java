@@ -0,0 +1,91 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.output.LoggerMappedFileOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+public class LoggerMappedFileOutputTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void out_messagesLargerThanChunk_shouldRemapAndTruncateOnClose() throws IOException {
+        File logFile = this.tempDir.resolve("mapped.log").toFile();
+        LoggerMappedFileOutput output = new LoggerMappedFileOutput(logFile, false, 64);
+        for (int i = 0; i < 100; i++) output.out("Message number " +i);
+        long length = output.getLength();
+        output.close();
+
+        Assertions.assertEquals(length, logFile.length());
+        List<String> lines = Files.readAllLines(logFile.toPath());
+        Assertions.assertEquals(100, lines.size());
+        Assertions.assertEquals("Message number 99", lines.get(99));
+    }
+
+    @Test
+    void out_appendToExistingFile_shouldKeepPreviousMessages() throws IOException {
+        File logFile = this.tempDir.resolve("append.log").toFile();
+        try (LoggerMappedFileOutput output = new LoggerMappedFileOutput(logFile, false, 1024)) {
+            output.out("First message");
+        }
+        try (LoggerMappedFileOutput output = new LoggerMappedFileOutput(logFile, true, 1024)) {
+            output.out("Second message");
+        }
+
+        List<String> lines = Files.readAllLines(logFile.toPath());
+        Assertions.assertEquals(2, lines.size());
+        Assertions.assertEquals("Second message", lines.get(1));
+    }
+
+    @Test
+    void out_appendAfterUncleanShutdown_shouldTruncateZeroFilledTail() throws IOException {
+        File logFile = this.tempDir.resolve("killed.log").toFile();
+        // File of killed process: messages and zero-filled unwritten part of the last mapped region;
+        byte[] messages = ("First message" + System.lineSeparator() + "Second message" + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        byte[] content = new byte[messages.length + 200_000];
+        System.arraycopy(messages, 0, content, 0, messages.length);
+        Files.write(logFile.toPath(), content);
+
+        try (LoggerMappedFileOutput output = new LoggerMappedFileOutput(logFile, true, 1024)) {
+            Assertions.assertEquals(messages.length, output.getLength());
+            output.out("Third message");
+        }
+
+        byte[] written = Files.readAllBytes(logFile.toPath());
+        for (byte b : written) Assertions.assertNotEquals(0, b);
+        List<String> lines = Files.readAllLines(logFile.toPath());
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertEquals("Third message", lines.get(2));
+    }
+
+    @Test
+    void out_afterClose_shouldDropMessages() throws IOException {
+        File logFile = this.tempDir.resolve("closed.log").toFile();
+        LoggerMappedFileOutput output = new LoggerMappedFileOutput(logFile, false, 4096);
+        output.out("Message before close");
+        output.close();
+        long length = logFile.length();
+
+        for (int i = 0; i < 1000; i++) { // Writes beyond truncated length mustn't touch unmapped file;
+            output.out("Message after close " + i);
+            output.out(ByteBuffer.wrap(("Encoded message after close " + i).getBytes(StandardCharsets.UTF_8)), LoggingMessageLevel.INFO);
+        }
+        output.flush();
+        output.close();
+
+        Assertions.assertEquals(length, logFile.length());
+        Assertions.assertEquals(Collections.singletonList("Message before close"), Files.readAllLines(logFile.toPath()));
+    }
+}
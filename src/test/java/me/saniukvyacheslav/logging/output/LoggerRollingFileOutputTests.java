@@ -0,0 +1,110 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.conf.LoggingConfiguration;
+import me.saniukvyacheslav.conf.LoggingErrorHandler;
+import me.saniukvyacheslav.output.LoggerRollingFileOutput;
+import me.saniukvyacheslav.output.RollingPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPInputStream;
+
+public class LoggerRollingFileOutputTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void out_sizeExceeded_shouldRotateAndKeepCompressedArchives() throws IOException {
+        File logFile = this.tempDir.resolve("rolling.log").toFile();
+        RollingPolicy policy = RollingPolicy.RollingPolicyBuilder.create()
+                .maxFileSize(100L)
+                .maxArchives(3)
+                .build();
+        LoggerRollingFileOutput output = new LoggerRollingFileOutput(logFile, policy);
+        for (int i = 0; i < 50; i++) output.out("Message number " +i);
+        output.close();
+
+        Assertions.assertTrue(logFile.length() <= 100L);
+        List<Path> archives = output.listArchives();
+        Assertions.assertEquals(3, archives.size());
+        for (Path archive : archives) {
+            Assertions.assertTrue(archive.getFileName().toString().endsWith(LoggerRollingFileOutput.COMPRESSED_ARCHIVE_SUFFIX));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(archive))))) {
+                Assertions.assertTrue(reader.readLine().startsWith("Message number "));
+            }
+        }
+        Assertions.assertEquals("Message number 49", Files.readAllLines(logFile.toPath()).get(Files.readAllLines(logFile.toPath()).size() - 1));
+    }
+
+    @Test
+    void out_compressionDisabled_shouldKeepPlainArchives() throws IOException {
+        File logFile = this.tempDir.resolve("plain.log").toFile();
+        RollingPolicy policy = RollingPolicy.RollingPolicyBuilder.create()
+                .maxFileSize(50L)
+                .maxArchives(10)
+                .compressArchives(false)
+                .build();
+        LoggerRollingFileOutput output = new LoggerRollingFileOutput(logFile, policy);
+        for (int i = 0; i < 6; i++) output.out("Message number " +i);
+        output.close();
+
+        List<Path> archives = output.listArchives();
+        Assertions.assertEquals(2, archives.size());
+        Assertions.assertEquals("Message number 0", Files.readAllLines(archives.get(0)).get(0));
+    }
+
+    @Test
+    void listArchives_sameModifiedTime_shouldOrderArchivesByCounterNumerically() throws IOException {
+        File logFile = this.tempDir.resolve("ordered.log").toFile();
+        RollingPolicy policy = RollingPolicy.RollingPolicyBuilder.create()
+                .maxFileSize(20L)
+                .maxArchives(20)
+                .compressArchives(false)
+                .build();
+        LoggerRollingFileOutput output = new LoggerRollingFileOutput(logFile, policy);
+        for (int i = 0; i < 13; i++) output.out("Message number " +i);
+        output.close();
+
+        List<Path> archives = output.listArchives();
+        Assertions.assertEquals(12, archives.size());
+        FileTime sameTime = FileTime.fromMillis(System.currentTimeMillis());
+        for (Path archive : archives) Files.setLastModifiedTime(archive, sameTime);
+
+        archives = output.listArchives();
+        for (int i = 0; i < archives.size(); i++) Assertions.assertEquals("Message number " +i, Files.readAllLines(archives.get(i)).get(0));
+    }
+
+    @Test
+    void out_fastRotationWithCompression_shouldNotDeletePendingArchives() throws IOException {
+        List<String> errors = new CopyOnWriteArrayList<>();
+        LoggingConfiguration.getInstance().setErrorHandler((aMessage, anError) -> errors.add(aMessage + ": " + anError));
+        try {
+            File logFile = this.tempDir.resolve("fast.log").toFile();
+            RollingPolicy policy = RollingPolicy.RollingPolicyBuilder.create()
+                    .maxFileSize(20L)
+                    .maxArchives(1)
+                    .build();
+            LoggerRollingFileOutput output = new LoggerRollingFileOutput(logFile, policy);
+            for (int i = 0; i < 200; i++) output.out("Message number " +i);
+            output.close();
+
+            Assertions.assertEquals(0, errors.size(), errors.toString());
+            List<Path> archives = output.listArchives();
+            Assertions.assertEquals(1, archives.size());
+            Assertions.assertTrue(archives.get(0).getFileName().toString().endsWith(LoggerRollingFileOutput.COMPRESSED_ARCHIVE_SUFFIX));
+        } finally {
+            LoggingConfiguration.getInstance().setErrorHandler(LoggingErrorHandler.STDERR);
+        }
+    }
+}
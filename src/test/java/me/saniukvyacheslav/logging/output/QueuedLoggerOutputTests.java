@@ -0,0 +1,184 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.output.LoggerOutput;
+import me.saniukvyacheslav.output.OutputOverflowPolicy;
+import me.saniukvyacheslav.output.QueuedLoggerOutput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class QueuedLoggerOutputTests {
+
+    /**
+     * Output, which collects messages, and may be blocked until latch is released.
+     */
+    private static class CollectingOutput implements LoggerOutput {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+
+        private CollectingOutput(CountDownLatch aLatch) {
+            this.latch = aLatch;
+        }
+
+        @Override
+        public void out(String aMessage) {
+            try {
+                if (this.latch != null) this.latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if ("interrupt".equals(aMessage)) Thread.currentThread().interrupt(); // Simulate interruption of worker;
+            this.messages.add(aMessage);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void out_slowOutput_shouldNotBlockOtherOutputs() throws IOException {
+        CountDownLatch latch = new CountDownLatch(1);
+        CollectingOutput slowOutput = new CollectingOutput(latch);
+        CollectingOutput fastOutput = new CollectingOutput(null);
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("queued-slow")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("%MSG%")
+                .build();
+        configuration.addOutput(slowOutput, 16, OutputOverflowPolicy.DROP_NEWEST);
+        configuration.addOutput(fastOutput);
+        Logger logger = configuration.getLogger("Orders");
+        for (int i = 0; i < 100; i++) logger.info("Message #{}.", i);
+
+        Assertions.assertEquals(100, fastOutput.messages.size()); // Logging isn't blocked by slow output;
+        Assertions.assertTrue(slowOutput.messages.isEmpty());
+        latch.countDown();
+        Assertions.assertTrue(configuration.removeOutput(slowOutput)); // Queued messages are out on closing;
+        Assertions.assertFalse(configuration.removeOutput(slowOutput));
+        Assertions.assertEquals(1, configuration.getLoggersOutputs().size());
+
+        Assertions.assertTrue(slowOutput.messages.size() >= 16 && slowOutput.messages.size() <= 18); // Queue and message in progress;
+        Assertions.assertEquals("Message #0.", slowOutput.messages.get(0));
+        Assertions.assertTrue(slowOutput.messages.get(slowOutput.messages.size() - 1).matches("\\d+ messages were dropped by overflow of output queue."));
+        configuration.close();
+    }
+
+    @Test
+    void out_dropOldestPolicy_shouldKeepNewestMessages() throws IOException {
+        CountDownLatch latch = new CountDownLatch(1);
+        CollectingOutput output = new CollectingOutput(latch);
+        QueuedLoggerOutput queuedOutput = QueuedLoggerOutput.of(output, 4, OutputOverflowPolicy.DROP_OLDEST);
+        queuedOutput.out("first"); // Taken by worker;
+        while (queuedOutput.getQueueSize() > 0) Thread.yield();
+        for (int i = 0; i < 10; i++) queuedOutput.out("message-" +i);
+        Assertions.assertEquals(6L, queuedOutput.getDroppedMessagesCount());
+        latch.countDown();
+        queuedOutput.flush();
+
+        Assertions.assertEquals("first", output.messages.get(0));
+        Assertions.assertEquals("message-6", output.messages.get(1));
+        Assertions.assertEquals("message-9", output.messages.get(4));
+        queuedOutput.close();
+    }
+
+    @Test
+    void addOutput_concurrentLogging_shouldBeSafe() throws Exception {
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("queued-runtime")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("%MSG%")
+                .queueOutputs(1024, OutputOverflowPolicy.BLOCK)
+                .build();
+        CollectingOutput permanentOutput = new CollectingOutput(null);
+        configuration.addOutput(permanentOutput);
+        Logger logger = configuration.getLogger("Orders");
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 5000; j++) logger.info("Message.");
+            });
+            threads[i].start();
+        }
+        for (int i = 0; i < 50; i++) { // Add and remove outputs while loggers iterate over them;
+            CollectingOutput output = new CollectingOutput(null);
+            configuration.addOutput(output);
+            configuration.removeOutput(output);
+        }
+        for (Thread thread : threads) thread.join(TimeUnit.SECONDS.toMillis(30));
+        configuration.close();
+
+        Assertions.assertEquals(20000, permanentOutput.messages.size()); // BLOCK policy doesn't lose messages;
+    }
+
+    @Test
+    void flush_flushRequestEvictedByDropOldest_shouldNotHang() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        CollectingOutput output = new CollectingOutput(latch);
+        QueuedLoggerOutput queuedOutput = QueuedLoggerOutput.of(output, 2, OutputOverflowPolicy.DROP_OLDEST);
+        queuedOutput.out("first"); // Taken by worker;
+        while (queuedOutput.getQueueSize() > 0) Thread.yield();
+        Thread flushThread = new Thread(() -> {
+            try {
+                queuedOutput.flush();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        flushThread.start();
+        while (queuedOutput.getQueueSize() == 0) Thread.yield();
+        for (int i = 0; i < 10; i++) queuedOutput.out("message-" +i); // Flush request is the oldest entry;
+        Assertions.assertEquals(8L, queuedOutput.getDroppedMessagesCount()); // Flush request isn't counted;
+        latch.countDown();
+        flushThread.join(TimeUnit.SECONDS.toMillis(5));
+
+        Assertions.assertFalse(flushThread.isAlive());
+        queuedOutput.close();
+        Assertions.assertEquals("message-9", output.messages.get(2));
+    }
+
+    @Test
+    void out_interruptedWorker_shouldKeepWritingMessages() throws IOException {
+        CollectingOutput output = new CollectingOutput(null);
+        QueuedLoggerOutput queuedOutput = QueuedLoggerOutput.of(output, 16, OutputOverflowPolicy.BLOCK);
+        queuedOutput.out("interrupt");
+        queuedOutput.flush();
+        queuedOutput.out("after interrupt");
+        queuedOutput.flush();
+
+        Assertions.assertEquals(2, output.messages.size());
+        Assertions.assertEquals("after interrupt", output.messages.get(1));
+        queuedOutput.close();
+    }
+
+    @Test
+    void close_concurrentBlockedProducers_shouldWriteOrDropEachMessage() throws Exception {
+        CollectingOutput output = new CollectingOutput(null);
+        QueuedLoggerOutput queuedOutput = QueuedLoggerOutput.of(output, 16, OutputOverflowPolicy.BLOCK);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) queuedOutput.out("Message.");
+            });
+            threads[i].start();
+        }
+        while (output.messages.size() < 1000) Thread.yield();
+        queuedOutput.close();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            Assertions.assertFalse(thread.isAlive()); // Producers aren't blocked by closed output;
+        }
+
+        long written = output.messages.stream().filter("Message."::equals).count();
+        Assertions.assertEquals(40_000L, written + queuedOutput.getDroppedMessagesCount());
+        Assertions.assertEquals(0, queuedOutput.getQueueSize());
+    }
+}
@@ -0,0 +1,121 @@
+package me.saniukvyacheslav.logging.search;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.message.LoggingMessageLevel;
+import me.saniukvyacheslav.search.LoggerFileSearcher;
+import me.saniukvyacheslav.search.LoggerSearchQuery;
+import me.saniukvyacheslav.search.LoggerSearchRecord;
+import me.saniukvyacheslav.search.LoggerSearchResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+public class LoggerFileSearcherTests {
+
+    @TempDir
+    Path tempDir;
+
+    private File writeLog(String aName) {
+        File logFile = this.tempDir.resolve(aName + ".log").toFile();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName(aName)
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .enableFileOutput().ofFile(logFile, false)
+                .build();
+        Logger orders = configuration.getLogger("com.shop.orders.OrdersService");
+        Logger db = configuration.getLogger("com.shop.db.Connection");
+        for (int i = 0; i < 1000; i++) {
+            orders.info("Order [{}] is placed.", i);
+            if (i % 100 == 0) db.error("Connection [{}] is lost: timeout.", i);
+            if (i % 250 == 0) orders.warn("Order [{}] is slow.", i);
+        }
+        configuration.close();
+        return logFile;
+    }
+
+    private static List<LoggerSearchRecord> readAll(LoggerSearchResult aResult) throws IOException {
+        List<LoggerSearchRecord> records = new ArrayList<>();
+        try (LoggerSearchResult result = aResult) {
+            while (result.hasNext()) records.add(result.next());
+        }
+        return records;
+    }
+
+    @Test
+    void search_smallChunks_shouldFindLinesInOrderOfFile() throws IOException {
+        File logFile = this.writeLog("search-order");
+        LoggerFileSearcher searcher = new LoggerFileSearcher("%TIME% [%LEVEL%] %NAME%: %MSG%", ForkJoinPool.commonPool(), 100);
+        List<LoggerSearchRecord> records = readAll(searcher.search(logFile, LoggerSearchQuery.ALL));
+
+        List<String> lines = Files.readAllLines(logFile.toPath());
+        Assertions.assertEquals(lines.size(), records.size());
+        for (int i = 0; i < lines.size(); i++) Assertions.assertEquals(lines.get(i), records.get(i).getLine());
+        Assertions.assertEquals(0L, records.get(0).getOffset());
+        Assertions.assertEquals("com.shop.orders.OrdersService", records.get(0).getLoggerName());
+        Assertions.assertEquals(LoggingMessageLevel.INFO, records.get(0).getLevel());
+        Assertions.assertEquals("Order [0] is placed.", records.get(0).getMessage());
+        Assertions.assertNotNull(records.get(0).getTime());
+    }
+
+    @Test
+    void search_linesLongerThanChunks_shouldReadWholeLines() throws IOException {
+        File logFile = this.tempDir.resolve("search-long.log").toFile();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("search-long")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .enableFileOutput().ofFile(logFile, false)
+                .build();
+        Logger logger = configuration.getLogger("Orders");
+        StringBuilder longMessage = new StringBuilder();
+        for (int i = 0; i < 150_000; i++) longMessage.append((char) ('a' + i % 26)); // Longer than mapped tail windows;
+        for (int i = 0; i < 20; i++) {
+            logger.info("Short message [{}].", i);
+            if (i % 5 == 0) logger.warn("Long message [{}]: {}", i, longMessage);
+        }
+        configuration.close();
+
+        LoggerFileSearcher searcher = new LoggerFileSearcher("%TIME% [%LEVEL%] %NAME%: %MSG%", ForkJoinPool.commonPool(), 1000);
+        List<LoggerSearchRecord> records = readAll(searcher.search(logFile, LoggerSearchQuery.ALL));
+        List<String> lines = Files.readAllLines(logFile.toPath());
+        Assertions.assertEquals(24, lines.size());
+        Assertions.assertEquals(lines.size(), records.size());
+        for (int i = 0; i < lines.size(); i++) Assertions.assertEquals(lines.get(i), records.get(i).getLine());
+    }
+
+    @Test
+    void search_query_shouldFilterByLevelLoggerAndText() throws IOException {
+        File logFile = this.writeLog("search-query");
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder.ofName("search-query-reader")
+                .loggingMessagePattern("%TIME% [%LEVEL%] %NAME%: %MSG%")
+                .build();
+        LoggerFileSearcher searcher = LoggerFileSearcher.of(configuration);
+        configuration.close();
+
+        List<LoggerSearchRecord> warnings = readAll(searcher.search(logFile, LoggerSearchQuery.LoggerSearchQueryBuilder.create()
+                .minimalLevel(LoggingMessageLevel.WARN).build()));
+        Assertions.assertEquals(14, warnings.size());
+
+        List<LoggerSearchRecord> dbErrors = readAll(searcher.search(logFile, LoggerSearchQuery.LoggerSearchQueryBuilder.create()
+                .minimalLevel(LoggingMessageLevel.ERROR).loggerName("com.shop.db").contains("timeout").build()));
+        Assertions.assertEquals(10, dbErrors.size());
+        Assertions.assertEquals("Connection [900] is lost: timeout.", dbErrors.get(9).getMessage());
+
+        List<LoggerSearchRecord> slowOrders = readAll(searcher.search(logFile, LoggerSearchQuery.LoggerSearchQueryBuilder.create()
+                .loggerName("com.shop").matches(Pattern.compile("Order \\[\\d*50] is slow")).build()));
+        Assertions.assertEquals(2, slowOrders.size());
+        Assertions.assertTrue(readAll(searcher.search(logFile, LoggerSearchQuery.LoggerSearchQueryBuilder.create()
+                .loggerName("com.sho").build())).isEmpty());
+    }
+}
@@ -0,0 +1,130 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measure availability of carrier threads for unrelated virtual threads, while 10 000 virtual threads log
+ * to {@link me.saniukvyacheslav.output.LoggerFileOutput} file output (immediate flush) or to
+ * {@link me.saniukvyacheslav.output.LoggerConsoleOutput} console output (System.out is redirected to pipe, as in
+ * {@link VirtualThreadPinningBenchmark} benchmark).
+ * Background platform thread starts 10 000 logging virtual threads again and again, each of them logs 10 messages.
+ * Benchmark measures latency of unrelated virtual thread, which doesn't log: time from its start to its end.
+ * Virtual thread, which is blocked on monitor of output, keeps its carrier thread, so unrelated virtual threads wait for free carrier,
+ * while virtual thread, which waits for lock of output, is unmounted. Count of logged messages is printed after each iteration.
+ * To compare monitor and lock guarded outputs, run benchmark with other versions of output classes ahead in class path.
+ * Benchmark requires Java 21 (src/test/java21, java21 maven profile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarrierAvailabilityBenchmark {
+
+    private static final int THREADS_COUNT = 10_000;
+    private static final int MESSAGES_PER_THREAD = 10;
+    private static final String MESSAGE = "Order [42] is placed.";
+
+    @Param({"file", "console"})
+    private String output;
+
+    private PrintStream systemOut;
+    private Pipe pipe;
+    private Thread drainer;
+    private File file;
+    private LoggersConfiguration configuration;
+    private Logger logger;
+    private volatile boolean isLoading;
+    private Thread loader;
+    private final AtomicLong loggedMessages = new AtomicLong();
+
+    @Setup
+    public void setup() throws IOException {
+        this.systemOut = System.out;
+        LoggersConfiguration.LoggerConfigurationBuilder builder = LoggersConfiguration.LoggerConfigurationBuilder
+                .ofName("carrier-availability-benchmark")
+                .enableLoggers(true);
+        if ("console".equals(this.output)) {
+            this.pipe = Pipe.open();
+            this.drainer = new Thread(() -> {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+                try {
+                    while (this.pipe.source().read(buffer) >= 0) buffer.clear();
+                } catch (IOException e) {
+                    // Pipe is closed;
+                }
+            }, "pipe-drainer");
+            this.drainer.start();
+            System.setOut(new PrintStream(Channels.newOutputStream(this.pipe.sink()), false));
+            builder.enableConsoleOutput(true);
+        } else {
+            this.file = File.createTempFile("carrier-availability-benchmark", ".log");
+            builder.enableConsoleOutput(false).enableFileOutput(this.file, false);
+        }
+        this.configuration = builder.build();
+        this.logger = this.configuration.getLogger(CarrierAvailabilityBenchmark.class);
+
+        this.isLoading = true;
+        this.loader = new Thread(this::load, "logging-load");
+        this.loader.start();
+    }
+
+    /**
+     * Start logging virtual threads, until benchmark is finished.
+     */
+    private void load() {
+        while (this.isLoading) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < THREADS_COUNT; i++) {
+                    executor.execute(() -> {
+                        for (int j = 0; j < MESSAGES_PER_THREAD; j++) this.logger.info(MESSAGE);
+                        this.loggedMessages.addAndGet(MESSAGES_PER_THREAD);
+                    });
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        this.isLoading = false;
+        this.loader.join();
+        this.configuration.close();
+        System.setOut(this.systemOut);
+        if (this.pipe != null) {
+            this.pipe.sink().close();
+            this.drainer.join();
+            this.pipe.source().close();
+        }
+        if (this.file != null && !this.file.delete()) this.file.deleteOnExit();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLoggedMessages() {
+        this.loggedMessages.set(0L);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printLoggedMessages() {
+        this.systemOut.printf("%n%s: %d messages logged by virtual threads.%n", this.output, this.loggedMessages.get());
+    }
+
+    @Benchmark
+    public void unrelatedVirtualThread() throws InterruptedException {
+        Thread.ofVirtual().start(() -> { }).join();
+    }
+}
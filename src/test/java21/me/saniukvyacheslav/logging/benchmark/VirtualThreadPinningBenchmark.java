@@ -0,0 +1,127 @@
+package me.saniukvyacheslav.logging.benchmark;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure logging of 10 000 concurrent virtual threads through {@link Logger} logger to
+ * {@link me.saniukvyacheslav.output.LoggerFileOutput} file output (immediate flush) and to
+ * {@link me.saniukvyacheslav.output.LoggerConsoleOutput} console output.
+ * System.out is redirected to pipe (as console of containers and services), which is drained by platform thread:
+ * when pipe is full, writer virtual thread parks. Virtual thread, which parks or waits for output under monitor,
+ * pins its carrier thread. Count of pinning ("jdk.VirtualThreadPinned" JFR events) is printed after each iteration
+ * (JFR records only virtual threads, which park while pinned; carriers, which are blocked on monitor enter, aren't counted).
+ * To compare with monitor guarded outputs, run benchmark with previous versions of output classes ahead in class path.
+ * Benchmark requires Java 21 (src/test/java21, java21 maven profile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VirtualThreadPinningBenchmark {
+
+    private static final int THREADS_COUNT = 10_000;
+    private static final int MESSAGES_PER_THREAD = 10;
+    private static final String MESSAGE = "Order [42] is placed.";
+
+    @Param({"file", "console"})
+    private String output;
+
+    private PrintStream systemOut;
+    private Pipe pipe;
+    private Thread drainer;
+    private File file;
+    private LoggersConfiguration configuration;
+    private Logger logger;
+    private Recording recording;
+    private int operations;
+
+    @Setup
+    public void setup() throws IOException {
+        this.systemOut = System.out;
+        LoggersConfiguration.LoggerConfigurationBuilder builder = LoggersConfiguration.LoggerConfigurationBuilder
+                .ofName("virtual-thread-pinning-benchmark")
+                .enableLoggers(true);
+        if ("console".equals(this.output)) {
+            this.pipe = Pipe.open();
+            this.drainer = new Thread(() -> {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+                try {
+                    while (this.pipe.source().read(buffer) >= 0) buffer.clear();
+                } catch (IOException e) {
+                    // Pipe is closed;
+                }
+            }, "pipe-drainer");
+            this.drainer.start();
+            System.setOut(new PrintStream(Channels.newOutputStream(this.pipe.sink()), false));
+            builder.enableConsoleOutput(true);
+        } else {
+            this.file = File.createTempFile("virtual-thread-pinning-benchmark", ".log");
+            builder.enableConsoleOutput(false).enableFileOutput(this.file, false);
+        }
+        this.configuration = builder.build();
+        this.logger = this.configuration.getLogger(VirtualThreadPinningBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        this.configuration.close();
+        System.setOut(this.systemOut);
+        if (this.pipe != null) {
+            this.pipe.sink().close();
+            this.drainer.join();
+            this.pipe.source().close();
+        }
+        if (this.file != null && !this.file.delete()) this.file.deleteOnExit();
+    }
+
+    @Setup(Level.Iteration)
+    public void startRecording() {
+        this.operations = 0;
+        this.recording = new Recording();
+        this.recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withoutStackTrace();
+        this.recording.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPinnedEvents() throws IOException {
+        this.recording.stop();
+        File dump = File.createTempFile("virtual-thread-pinning-benchmark", ".jfr");
+        try {
+            this.recording.dump(dump.toPath());
+            long pinnedEvents = RecordingFile.readAllEvents(dump.toPath()).size();
+            this.systemOut.printf("%n%s: %d pinned virtual threads in %d operations.%n", this.output, pinnedEvents, this.operations);
+        } finally {
+            this.recording.close();
+            if (!dump.delete()) dump.deleteOnExit();
+        }
+    }
+
+    @Benchmark
+    public void log() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < THREADS_COUNT; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < MESSAGES_PER_THREAD; j++) this.logger.info(MESSAGE);
+                });
+            }
+        }
+        this.operations++;
+    }
+}
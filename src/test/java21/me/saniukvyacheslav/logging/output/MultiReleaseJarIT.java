@@ -0,0 +1,129 @@
+package me.saniukvyacheslav.logging.output;
+
+import me.saniukvyacheslav.Logger;
+import me.saniukvyacheslav.conf.LoggersConfiguration;
+import me.saniukvyacheslav.output.LoggerConsoleOutput;
+import me.saniukvyacheslav.output.LoggerOutput;
+import me.saniukvyacheslav.output.LoggingThreads;
+import me.saniukvyacheslav.output.OutputFlushPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Integration tests of multi-release JAR. Run by failsafe plugin (java21 profile) against packaged JAR,
+ * so classes are loaded from META-INF/versions/9 and META-INF/versions/21 entries of JAR.
+ */
+public class MultiReleaseJarIT {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loggingThreads_java21_shouldCreateVirtualThreads() throws Exception {
+        Assertions.assertTrue(LoggingThreads.isVirtual());
+        CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+        Thread thread = LoggingThreads.newThread("irene-l-test", () -> isVirtual.complete(Thread.currentThread().isVirtual()));
+        Assertions.assertEquals("irene-l-test", thread.getName());
+        thread.start();
+        Assertions.assertTrue(isVirtual.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(LoggingThreads.newThreadFactory("irene-l-test").newThread(() -> {}).isVirtual());
+    }
+
+    @Test
+    void log_virtualThreadsToTimeFlushedFileOutput_shouldWriteAllMessages() throws IOException, InterruptedException {
+        Path logFile = this.tempDir.resolve("virtual.log");
+        int threadsCount = 1000;
+        int messagesCount = 10;
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder
+                .ofName("multi-release-jar-it")
+                .enableLoggers(true)
+                .enableFileOutput().ofFile(logFile.toFile(), false, OutputFlushPolicy.OutputFlushPolicyBuilder.create().flushEveryMillis(10L).build())
+                .build();
+        try {
+            Logger logger = configuration.getLogger(MultiReleaseJarIT.class);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int t = 0; t < threadsCount; t++) {
+                    int threadIndex = t;
+                    executor.execute(() -> {
+                        for (int i = 0; i < messagesCount; i++) logger.info("Thread [" +threadIndex +"] message [" +i +"];");
+                    });
+                }
+            }
+        } finally {
+            configuration.close();
+        }
+
+        List<String> lines = Files.readAllLines(logFile);
+        Assertions.assertEquals(threadsCount * messagesCount, lines.size());
+        lines.forEach(line -> Assertions.assertTrue(line.endsWith("];"), line));
+    }
+
+    @Test
+    void consoleOutput_java21_shouldWriteWholeLinesOfVirtualThreads() throws Exception {
+        Assertions.assertNotNull(LoggerConsoleOutput.class.getDeclaredField("lock"));
+        int threadsCount = 1000;
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        PrintStream systemOut = System.out;
+        System.setOut(new PrintStream(console, false));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threadsCount; t++) {
+                int threadIndex = t;
+                executor.execute(() -> LoggerConsoleOutput.getInstance().out("Thread [" +threadIndex +"];"));
+            }
+        } finally {
+            System.setOut(systemOut);
+        }
+
+        List<String> lines = console.toString().lines().toList();
+        Assertions.assertEquals(threadsCount, lines.size());
+        lines.forEach(line -> Assertions.assertTrue(line.startsWith("Thread [") && line.endsWith("];"), line));
+    }
+
+    @Test
+    void callerToken_java9_shouldLocateCallerByStackWalker() throws Exception {
+        Assertions.assertNotNull(Class.forName("me.saniukvyacheslav.impl.CallerLocator").getDeclaredField("WALKER"));
+        List<String> messages = new CopyOnWriteArrayList<>();
+        LoggersConfiguration configuration = LoggersConfiguration.LoggerConfigurationBuilder
+                .ofName("multi-release-jar-it-caller")
+                .enableLoggers(true)
+                .enableConsoleOutput(false)
+                .loggingMessagePattern("%CALLER%: %MSG%")
+                .build();
+        configuration.addOutput(new LoggerOutput() {
+            @Override
+            public void out(String aMessage) {
+                messages.add(aMessage);
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        try {
+            Logger logger = configuration.getLogger(MultiReleaseJarIT.class);
+            for (int i = 0; i < 2; i++) logger.info("First call site.");
+            logger.info("Second call site.");
+        } finally {
+            configuration.close();
+        }
+
+        String location = MultiReleaseJarIT.class.getName() + ".callerToken_java9_shouldLocateCallerByStackWalker(MultiReleaseJarIT.java:";
+        Assertions.assertEquals(3, messages.size());
+        messages.forEach(message -> Assertions.assertTrue(message.startsWith(location), message));
+        Assertions.assertEquals(messages.get(0), messages.get(1));
+        Assertions.assertNotEquals(messages.get(0).replace("First", "Second"), messages.get(2));
+    }
+}